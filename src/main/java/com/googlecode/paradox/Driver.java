@@ -22,7 +22,7 @@ import java.util.logging.Logger;
  * PARADOX JDBC Driver type 4.
  *
  * @author Leonardo Alves da Costa
- * @version 2.2
+ * @version 2.9
  * @since 1.0
  */
 public final class Driver implements IParadoxDriver {
@@ -58,7 +58,7 @@ public final class Driver implements IParadoxDriver {
     public Connection connect(final String url, final Properties info) throws SQLException {
         if (this.acceptsURL(url)) {
             final String dirName = url.substring(Constants.URL_PREFIX.length(), url.length());
-            return new ParadoxConnection(new File(dirName), url);
+            return new ParadoxConnection(new File(dirName), url, info);
         }
         return null;
     }
@@ -100,7 +100,65 @@ public final class Driver implements IParadoxDriver {
         passwordProp.required = false;
         passwordProp.description = "Password to use for authentication";
 
-        return new DriverPropertyInfo[] { dbProp, passwordProp };
+        final DriverPropertyInfo maxGroupsProp = new DriverPropertyInfo(Constants.PROPERTY_MAX_GROUPS_IN_MEMORY,
+                info.getProperty(Constants.PROPERTY_MAX_GROUPS_IN_MEMORY));
+        maxGroupsProp.required = false;
+        maxGroupsProp.description = "Maximum groups kept in memory by GROUP BY before using temporary files";
+
+        final DriverPropertyInfo threadsProp = new DriverPropertyInfo(Constants.PROPERTY_AGGREGATION_THREADS,
+                info.getProperty(Constants.PROPERTY_AGGREGATION_THREADS));
+        threadsProp.required = false;
+        threadsProp.description = "Maximum threads used to scan a table with aggregate functions";
+
+        final DriverPropertyInfo planCacheProp = new DriverPropertyInfo(Constants.PROPERTY_PLAN_CACHE_SIZE,
+                info.getProperty(Constants.PROPERTY_PLAN_CACHE_SIZE));
+        planCacheProp.required = false;
+        planCacheProp.description = "Maximum SQL texts with cached plans in each connection (0 disables the cache)";
+
+        final DriverPropertyInfo scanThreadsProp = new DriverPropertyInfo(Constants.PROPERTY_SCAN_THREADS,
+                info.getProperty(Constants.PROPERTY_SCAN_THREADS));
+        scanThreadsProp.required = false;
+        scanThreadsProp.description = "Threads decoding the blocks of unsorted scans ahead of the result set "
+                + "(0 disables the scan pipeline)";
+
+        final DriverPropertyInfo queueDepthProp = new DriverPropertyInfo(Constants.PROPERTY_SCAN_QUEUE_DEPTH,
+                info.getProperty(Constants.PROPERTY_SCAN_QUEUE_DEPTH));
+        queueDepthProp.required = false;
+        queueDepthProp.description = "Maximum blocks read ahead by the scan pipeline";
+
+        final DriverPropertyInfo lazyProp = new DriverPropertyInfo(Constants.PROPERTY_LAZY_DECODING,
+                info.getProperty(Constants.PROPERTY_LAZY_DECODING));
+        lazyProp.required = false;
+        lazyProp.description = "Decode the values of unsorted scans only when the application reads them";
+        lazyProp.choices = new String[] { "true", "false" };
+
+        final DriverPropertyInfo prefetchProp = new DriverPropertyInfo(Constants.PROPERTY_MEMO_PREFETCH,
+                info.getProperty(Constants.PROPERTY_MEMO_PREFETCH));
+        prefetchProp.required = false;
+        prefetchProp.description = "Read the memos of each batch of rows fetched in one pass over the MB file";
+        prefetchProp.choices = new String[] { "true", "false" };
+
+        final DriverPropertyInfo blobIndexProp = new DriverPropertyInfo(Constants.PROPERTY_BLOB_INDEX_DIR,
+                info.getProperty(Constants.PROPERTY_BLOB_INDEX_DIR));
+        blobIndexProp.required = false;
+        blobIndexProp.description = "Directory to keep the MB block directories, so memos are read without "
+                + "walking the MB files (may be the database directory)";
+
+        final DriverPropertyInfo fullTextProp = new DriverPropertyInfo(Constants.PROPERTY_FULL_TEXT_INDEX,
+                info.getProperty(Constants.PROPERTY_FULL_TEXT_INDEX));
+        fullTextProp.required = false;
+        fullTextProp.description = "Keep word indexes of the memo columns searched with LIKE in the blob index "
+                + "directory";
+        fullTextProp.choices = new String[] { "true", "false" };
+
+        final DriverPropertyInfo trigramProp = new DriverPropertyInfo(Constants.PROPERTY_TRIGRAM_INDEX,
+                info.getProperty(Constants.PROPERTY_TRIGRAM_INDEX));
+        trigramProp.required = false;
+        trigramProp.description = "Alpha columns, as table.column separated by commas, with trigram indexes kept "
+                + "next to the table file for LIKE searches";
+        
+        return new DriverPropertyInfo[] { dbProp, passwordProp, maxGroupsProp, threadsProp, planCacheProp,
+                scanThreadsProp, queueDepthProp, lazyProp, prefetchProp, blobIndexProp, fullTextProp, trigramProp };
     }
 
     /**
@@ -8,7 +8,15 @@
  */
 package com.googlecode.paradox;
 
+import com.googlecode.paradox.data.TableData;
+import com.googlecode.paradox.data.table.value.FieldValue;
 import com.googlecode.paradox.metadata.ParadoxDatabaseMetaData;
+import com.googlecode.paradox.metadata.ParadoxField;
+import com.googlecode.paradox.metadata.ParadoxTable;
+import com.googlecode.paradox.planner.PlanCache;
+import com.googlecode.paradox.results.Column;
+import com.googlecode.paradox.rowset.ParadoxRowId;
+import com.googlecode.paradox.utils.Constants;
 import com.googlecode.paradox.utils.SQLStates;
 import com.googlecode.paradox.utils.Utils;
 import java.io.File;
@@ -21,6 +29,7 @@ import java.sql.DatabaseMetaData;
 import java.sql.NClob;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.RowId;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
 import java.sql.SQLWarning;
@@ -29,6 +38,7 @@ import java.sql.Savepoint;
 import java.sql.Statement;
 import java.sql.Struct;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.Executor;
@@ -37,7 +47,7 @@ import java.util.concurrent.Executor;
  * JDBC Paradox connection implementation.
  *
  * @author Leonardo Alves da Costa
- * @version 1.0
+ * @version 1.9
  * @since 1.0
  */
 public final class ParadoxConnection implements Connection {
@@ -70,6 +80,16 @@ public final class ParadoxConnection implements Connection {
      * Default timeout.
      */
     private int networkTimeout;
+    /**
+     * The plans of recently used SQL texts.
+     */
+    private final PlanCache planCache;
+
+    /**
+     * The connection properties.
+     */
+    private final Properties properties;
+
     /**
      * If this connection is read only.
      */
@@ -106,13 +126,35 @@ public final class ParadoxConnection implements Connection {
      *             in any connection fault.
      */
     public ParadoxConnection(final File dir, final String url) throws SQLException {
+        this(dir, url, new Properties());
+    }
+
+    /**
+     * Creates a new paradox connection.
+     *
+     * @param dir
+     *            database directory.
+     * @param url
+     *            connect URL.
+     * @param info
+     *            the connection properties.
+     * @throws SQLException
+     *             in any connection fault.
+     */
+    public ParadoxConnection(final File dir, final String url, final Properties info) throws SQLException {
         this.url = url;
         this.dir = dir;
+        this.properties = new Properties();
+        if (info != null) {
+            this.properties.putAll(info);
+        }
 
         if (!dir.exists() && !dir.isDirectory()) {
             throw new SQLException("Directory not found.", SQLStates.DIR_NOT_FOUND.getValue());
         }
         this.catalog = dir.getName();
+        this.planCache = new PlanCache(this,
+                this.getIntProperty(Constants.PROPERTY_PLAN_CACHE_SIZE, Constants.DEFAULT_PLAN_CACHE_SIZE, 0));
     }
 
     /**
@@ -140,6 +182,7 @@ public final class ParadoxConnection implements Connection {
             stmt.close();
         }
         this.statements.clear();
+        this.planCache.clear();
         this.closed = true;
     }
 
@@ -275,6 +318,39 @@ public final class ParadoxConnection implements Connection {
         return this.holdability;
     }
 
+    /**
+     * Gets the maximum threads used to scan a table with aggregate functions.
+     *
+     * @return the maximum aggregation threads (default is the processor count).
+     * @throws SQLException
+     *             in case of invalid property value.
+     */
+    public int getAggregationThreads() throws SQLException {
+        return this.getIntProperty(Constants.PROPERTY_AGGREGATION_THREADS,
+                Runtime.getRuntime().availableProcessors(), 1);
+    }
+
+    /**
+     * Gets the maximum groups kept in memory by GROUP BY before using temporary files.
+     *
+     * @return the maximum groups kept in memory.
+     * @throws SQLException
+     *             in case of invalid property value.
+     */
+    public int getMaxGroupsInMemory() throws SQLException {
+        return this.getIntProperty(Constants.PROPERTY_MAX_GROUPS_IN_MEMORY, Constants.DEFAULT_MAX_GROUPS_IN_MEMORY,
+                1);
+    }
+
+    /**
+     * Gets the cache of parsed statements and plans.
+     *
+     * @return the plan cache.
+     */
+    public PlanCache getPlanCache() {
+        return this.planCache;
+    }
+
     /**
      * {@inheritDoc}.
      */
@@ -291,6 +367,49 @@ public final class ParadoxConnection implements Connection {
         return this.networkTimeout;
     }
 
+    /**
+     * Reads a row by its ROWID, reading only the data block that holds it.
+     * <p>
+     * Available through {@link #unwrap(Class)} with {@link ParadoxConnection}.
+     *
+     * @param rowId
+     *            the ROWID from {@link ResultSet#getRowId(int)}.
+     * @return a result set with all table columns and the row, or no rows if the row is not in use anymore.
+     * @throws SQLException
+     *             if the ROWID is not valid or in case of read errors.
+     */
+    public ResultSet getRow(final RowId rowId) throws SQLException {
+        final ParadoxRowId locator;
+        if (rowId instanceof ParadoxRowId) {
+            locator = (ParadoxRowId) rowId;
+        } else if (rowId != null) {
+            locator = ParadoxRowId.valueOf(rowId.getBytes());
+        } else {
+            throw new SQLException("Invalid ROWID.", SQLStates.INVALID_PARAMETER.getValue());
+        }
+
+        ParadoxTable table = null;
+        for (final ParadoxTable current : TableData.listTables(this, locator.getTableName())) {
+            if (current.getFile().getName().equalsIgnoreCase(locator.getTableName())) {
+                table = current;
+            }
+        }
+        if (table == null) {
+            throw new SQLException("Table not found: " + locator.getTableName(), SQLStates.INVALID_TABLE.getValue());
+        }
+
+        final List<List<FieldValue>> values = new ArrayList<>(1);
+        final List<FieldValue> row = TableData.loadRow(table, locator.getBlock(), locator.getSlot());
+        if (row != null) {
+            values.add(row);
+        }
+        final List<Column> columns = new ArrayList<>(table.getFields().size());
+        for (final ParadoxField field : table.getFields()) {
+            columns.add(new Column(field));
+        }
+        return new ParadoxResultSet(this, null, values, columns);
+    }
+
     /**
      * {@inheritDoc}.
      */
@@ -403,7 +522,9 @@ public final class ParadoxConnection implements Connection {
      */
     @Override
     public PreparedStatement prepareStatement(final String sql) throws SQLException {
-        throw new SQLException("No Prepared Statement");
+        final PreparedStatement stmt = new ParadoxPreparedStatement(this, sql);
+        this.statements.add(stmt);
+        return stmt;
     }
 
     /**
@@ -581,4 +702,118 @@ public final class ParadoxConnection implements Connection {
     public <T> T unwrap(final Class<T> iFace) throws SQLException {
         return Utils.unwrap(this, iFace);
     }
+
+    /**
+     * Gets the maximum blocks read ahead by a scan pipeline.
+     *
+     * @return the maximum blocks read ahead.
+     * @throws SQLException
+     *             in case of invalid property value.
+     */
+    public int getScanQueueDepth() throws SQLException {
+        return this.getIntProperty(Constants.PROPERTY_SCAN_QUEUE_DEPTH, Constants.DEFAULT_SCAN_QUEUE_DEPTH, 1);
+    }
+
+    /**
+     * Gets the decoder threads of unsorted scans.
+     *
+     * @return the decoder threads, zero to read and decode the blocks in the caller thread (default).
+     * @throws SQLException
+     *             in case of invalid property value.
+     */
+    public int getScanThreads() throws SQLException {
+        return this.getIntProperty(Constants.PROPERTY_SCAN_THREADS, 0, 0);
+    }
+
+    /**
+     * Gets if the values of unsorted scans are decoded only when read.
+     *
+     * @return true if the values are decoded only when read, false to decode whole rows (default).
+     */
+    public boolean isLazyDecoding() {
+        return Boolean.parseBoolean(this.properties.getProperty(Constants.PROPERTY_LAZY_DECODING));
+    }
+
+    /**
+     * Gets if the memos of each batch of rows fetched are read together, in MB file order.
+     *
+     * @return true if the memos are read by batch, false to read each memo when used (default).
+     */
+    public boolean isMemoPrefetch() {
+        return Boolean.parseBoolean(this.properties.getProperty(Constants.PROPERTY_MEMO_PREFETCH));
+    }
+
+    /**
+     * Gets the directory to keep the MB block directories.
+     *
+     * @return the index directory or <code>null</code> if the MB block directories are not kept (default).
+     */
+    public File getBlobIndexDir() {
+        final String dir = this.properties.getProperty(Constants.PROPERTY_BLOB_INDEX_DIR);
+        if ((dir == null) || dir.trim().isEmpty()) {
+            return null;
+        }
+        return new File(dir.trim());
+    }
+
+    /**
+     * Gets if the memo columns searched with LIKE have full-text indexes, kept in the blob index directory.
+     *
+     * @return true to keep full-text indexes, false to read all memos of each search (default).
+     */
+    public boolean isFullTextIndex() {
+        return Boolean.parseBoolean(this.properties.getProperty(Constants.PROPERTY_FULL_TEXT_INDEX));
+    }
+
+    /**
+     * Gets the columns of a table that keep trigram indexes, next to the table file.
+     *
+     * @param table
+     *            the table name.
+     * @return the column names, empty if the table has no trigram indexes (default).
+     */
+    public List<String> getTrigramColumns(final String table) {
+        final List<String> columns = new ArrayList<>();
+        final String value = this.properties.getProperty(Constants.PROPERTY_TRIGRAM_INDEX);
+        if (value != null) {
+            for (final String name : value.split(",")) {
+                final int dot = name.indexOf('.');
+                if ((dot > 0) && name.substring(0, dot).trim().equalsIgnoreCase(table)) {
+                    columns.add(name.substring(dot + 1).trim());
+                }
+            }
+        }
+        return columns;
+    }
+
+    /**
+     * Gets an integer connection property.
+     *
+     * @param name
+     *            the property name.
+     * @param defaultValue
+     *            the value used if the property is not set.
+     * @param minimum
+     *            the minimum valid value.
+     * @return the property value.
+     * @throws SQLException
+     *             in case of invalid property value.
+     */
+    private int getIntProperty(final String name, final int defaultValue, final int minimum) throws SQLException {
+        final String value = this.properties.getProperty(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            final int result = Integer.parseInt(value.trim());
+            if (result >= minimum) {
+                return result;
+            }
+        } catch (final NumberFormatException e) {
+            throw new SQLException(String.format("Invalid value for %s: '%s'", name, value),
+                    SQLStates.INVALID_PARAMETER.getValue(), e);
+        }
+        throw new SQLException(String.format("Invalid value for %s: '%s'", name, value),
+                SQLStates.INVALID_PARAMETER.getValue());
+    }
 }
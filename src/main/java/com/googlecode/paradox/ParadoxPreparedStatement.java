@@ -0,0 +1,612 @@
+/*
+ * ParadoxPreparedStatement.java 10/19/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software:
+ * you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free
+ * Software Foundation, either version 3 of the License, or (at your option) any later version. This program is
+ * distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should
+ * have received a copy of the GNU General Public License along with this program. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox;
+
+import com.googlecode.paradox.metadata.ParadoxResultSetMetaData;
+import com.googlecode.paradox.parser.nodes.SelectNode;
+import com.googlecode.paradox.parser.nodes.StatementNode;
+import com.googlecode.paradox.planner.Planner;
+import com.googlecode.paradox.planner.plan.SelectPlan;
+import com.googlecode.paradox.utils.SQLStates;
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.net.URL;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Date;
+import java.sql.NClob;
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
+import java.sql.Ref;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.RowId;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLXML;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.List;
+
+/**
+ * JDBC prepared statement implementation.
+ * <p>
+ * The SQL is parsed and planned once. Each execution only encodes the parameter values into the plan predicates, and
+ * the plan is created again only if the header of some table it reads changes.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4
+ */
+final class ParadoxPreparedStatement extends ParadoxStatement implements PreparedStatement {
+
+    /**
+     * The parsed SELECT statement.
+     */
+    private final SelectNode node;
+
+    /**
+     * If each parameter has a value.
+     */
+    private final boolean[] parameterSet;
+
+    /**
+     * The parameter values.
+     */
+    private final Object[] parameters;
+
+    /**
+     * The statement plan.
+     */
+    private SelectPlan plan;
+
+    /**
+     * Creates a prepared statement.
+     *
+     * @param conn
+     *            the paradox connection.
+     * @param sql
+     *            the SQL text.
+     * @throws SQLException
+     *             in case of syntax or plan errors.
+     */
+    ParadoxPreparedStatement(final ParadoxConnection conn, final String sql) throws SQLException {
+        super(conn);
+        final List<StatementNode> statements = conn.getPlanCache().parse(sql);
+        if ((statements.size() != 1) || !(statements.get(0) instanceof SelectNode)) {
+            throw new SQLFeatureNotSupportedException("Only a single SELECT statement can be prepared.",
+                    SQLStates.INVALID_SQL.getValue());
+        }
+        this.node = (SelectNode) statements.get(0);
+        this.parameters = new Object[this.node.getParameterCount()];
+        this.parameterSet = new boolean[this.parameters.length];
+        this.plan = (SelectPlan) new Planner(conn).create(this.node);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void addBatch() throws SQLException {
+        throw new SQLFeatureNotSupportedException();
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void clearParameters() {
+        Arrays.fill(this.parameters, null);
+        Arrays.fill(this.parameterSet, false);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public boolean execute() throws SQLException {
+        this.executeQuery();
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public boolean execute(final String sql) throws SQLException {
+        throw ParadoxPreparedStatement.notAllowed();
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public ResultSet executeQuery() throws SQLException {
+        this.closeResultSet();
+        for (int i = 0; i < this.parameterSet.length; i++) {
+            if (!this.parameterSet[i]) {
+                throw new SQLException(String.format("Parameter %d not set.", i + 1),
+                        SQLStates.INVALID_PARAMETER.getValue());
+            }
+        }
+        if (this.plan.isChanged()) {
+            this.plan = (SelectPlan) new Planner((ParadoxConnection) this.getConnection()).create(this.node);
+        }
+        this.executePlan(this.plan, this.parameters);
+        return this.getResultSet();
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public ResultSet executeQuery(final String sql) throws SQLException {
+        throw ParadoxPreparedStatement.notAllowed();
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public int executeUpdate() throws SQLException {
+        throw new SQLFeatureNotSupportedException();
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public int executeUpdate(final String sql) throws SQLException {
+        throw ParadoxPreparedStatement.notAllowed();
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public ResultSetMetaData getMetaData() {
+        return new ParadoxResultSetMetaData((ParadoxConnection) this.getConnection(), this.plan.getColumns());
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public ParameterMetaData getParameterMetaData() throws SQLException {
+        throw new SQLFeatureNotSupportedException();
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void setArray(final int parameterIndex, final Array x) throws SQLException {
+        throw new SQLFeatureNotSupportedException();
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void setAsciiStream(final int parameterIndex, final InputStream x) throws SQLException {
+        throw new SQLFeatureNotSupportedException();
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void setAsciiStream(final int parameterIndex, final InputStream x, final int length)
+            throws SQLException {
+        throw new SQLFeatureNotSupportedException();
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void setAsciiStream(final int parameterIndex, final InputStream x, final long length)
+            throws SQLException {
+        throw new SQLFeatureNotSupportedException();
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void setBigDecimal(final int parameterIndex, final BigDecimal x) throws SQLException {
+        this.setParameter(parameterIndex, x);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void setBinaryStream(final int parameterIndex, final InputStream x) throws SQLException {
+        throw new SQLFeatureNotSupportedException();
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void setBinaryStream(final int parameterIndex, final InputStream x, final int length)
+            throws SQLException {
+        throw new SQLFeatureNotSupportedException();
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void setBinaryStream(final int parameterIndex, final InputStream x, final long length)
+            throws SQLException {
+        throw new SQLFeatureNotSupportedException();
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void setBlob(final int parameterIndex, final Blob x) throws SQLException {
+        throw new SQLFeatureNotSupportedException();
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void setBlob(final int parameterIndex, final InputStream inputStream) throws SQLException {
+        throw new SQLFeatureNotSupportedException();
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void setBlob(final int parameterIndex, final InputStream inputStream, final long length)
+            throws SQLException {
+        throw new SQLFeatureNotSupportedException();
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void setBoolean(final int parameterIndex, final boolean x) throws SQLException {
+        this.setParameter(parameterIndex, x);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void setByte(final int parameterIndex, final byte x) throws SQLException {
+        this.setParameter(parameterIndex, x);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void setBytes(final int parameterIndex, final byte[] x) throws SQLException {
+        throw new SQLFeatureNotSupportedException();
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void setCharacterStream(final int parameterIndex, final Reader reader) throws SQLException {
+        throw new SQLFeatureNotSupportedException();
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void setCharacterStream(final int parameterIndex, final Reader reader, final int length)
+            throws SQLException {
+        throw new SQLFeatureNotSupportedException();
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void setCharacterStream(final int parameterIndex, final Reader reader, final long length)
+            throws SQLException {
+        throw new SQLFeatureNotSupportedException();
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void setClob(final int parameterIndex, final Clob x) throws SQLException {
+        throw new SQLFeatureNotSupportedException();
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void setClob(final int parameterIndex, final Reader reader) throws SQLException {
+        throw new SQLFeatureNotSupportedException();
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void setClob(final int parameterIndex, final Reader reader, final long length) throws SQLException {
+        throw new SQLFeatureNotSupportedException();
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void setDate(final int parameterIndex, final Date x) throws SQLException {
+        this.setParameter(parameterIndex, x);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void setDate(final int parameterIndex, final Date x, final Calendar cal) throws SQLException {
+        this.setParameter(parameterIndex, x);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void setDouble(final int parameterIndex, final double x) throws SQLException {
+        this.setParameter(parameterIndex, x);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void setFloat(final int parameterIndex, final float x) throws SQLException {
+        this.setParameter(parameterIndex, x);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void setInt(final int parameterIndex, final int x) throws SQLException {
+        this.setParameter(parameterIndex, x);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void setLong(final int parameterIndex, final long x) throws SQLException {
+        this.setParameter(parameterIndex, x);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void setNCharacterStream(final int parameterIndex, final Reader value) throws SQLException {
+        throw new SQLFeatureNotSupportedException();
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void setNCharacterStream(final int parameterIndex, final Reader value, final long length)
+            throws SQLException {
+        throw new SQLFeatureNotSupportedException();
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void setNClob(final int parameterIndex, final NClob value) throws SQLException {
+        throw new SQLFeatureNotSupportedException();
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void setNClob(final int parameterIndex, final Reader reader) throws SQLException {
+        throw new SQLFeatureNotSupportedException();
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void setNClob(final int parameterIndex, final Reader reader, final long length) throws SQLException {
+        throw new SQLFeatureNotSupportedException();
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void setNString(final int parameterIndex, final String value) throws SQLException {
+        this.setParameter(parameterIndex, value);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void setNull(final int parameterIndex, final int sqlType) throws SQLException {
+        this.setParameter(parameterIndex, null);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void setNull(final int parameterIndex, final int sqlType, final String typeName) throws SQLException {
+        this.setParameter(parameterIndex, null);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void setObject(final int parameterIndex, final Object x) throws SQLException {
+        this.setParameter(parameterIndex, x);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void setObject(final int parameterIndex, final Object x, final int targetSqlType) throws SQLException {
+        this.setParameter(parameterIndex, x);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void setObject(final int parameterIndex, final Object x, final int targetSqlType,
+            final int scaleOrLength) throws SQLException {
+        this.setParameter(parameterIndex, x);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void setRef(final int parameterIndex, final Ref x) throws SQLException {
+        throw new SQLFeatureNotSupportedException();
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void setRowId(final int parameterIndex, final RowId x) throws SQLException {
+        throw new SQLFeatureNotSupportedException();
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void setShort(final int parameterIndex, final short x) throws SQLException {
+        this.setParameter(parameterIndex, x);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void setSQLXML(final int parameterIndex, final SQLXML xmlObject) throws SQLException {
+        throw new SQLFeatureNotSupportedException();
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void setString(final int parameterIndex, final String x) throws SQLException {
+        this.setParameter(parameterIndex, x);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void setTime(final int parameterIndex, final Time x) throws SQLException {
+        this.setParameter(parameterIndex, x);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void setTime(final int parameterIndex, final Time x, final Calendar cal) throws SQLException {
+        this.setParameter(parameterIndex, x);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void setTimestamp(final int parameterIndex, final Timestamp x) throws SQLException {
+        this.setParameter(parameterIndex, x);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void setTimestamp(final int parameterIndex, final Timestamp x, final Calendar cal) throws SQLException {
+        this.setParameter(parameterIndex, x);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    @Deprecated
+    public void setUnicodeStream(final int parameterIndex, final InputStream x, final int length)
+            throws SQLException {
+        throw new SQLFeatureNotSupportedException();
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void setURL(final int parameterIndex, final URL x) throws SQLException {
+        throw new SQLFeatureNotSupportedException();
+    }
+
+    /**
+     * Creates the error of SQL text methods, not allowed in prepared statements.
+     *
+     * @return the error.
+     */
+    private static SQLException notAllowed() {
+        return new SQLException("SQL text not allowed in prepared statement.", SQLStates.INVALID_COMMAND.getValue());
+    }
+
+    /**
+     * Sets a parameter value.
+     *
+     * @param parameterIndex
+     *            the parameter index, starting at 1.
+     * @param value
+     *            the parameter value, <code>null</code> for <code>NULL</code>.
+     * @throws SQLException
+     *             in case of invalid parameter index.
+     */
+    private void setParameter(final int parameterIndex, final Object value) throws SQLException {
+        if ((parameterIndex < 1) || (parameterIndex > this.parameters.length)) {
+            throw new SQLException(String.format("Invalid parameter index: %d", parameterIndex),
+                    SQLStates.INVALID_PARAMETER.getValue());
+        }
+        this.parameters[parameterIndex - 1] = value;
+        this.parameterSet[parameterIndex - 1] = true;
+    }
+}
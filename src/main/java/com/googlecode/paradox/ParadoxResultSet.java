@@ -8,13 +8,18 @@
  */
 package com.googlecode.paradox;
 
+import com.googlecode.paradox.data.MemoPrefetch;
+import com.googlecode.paradox.data.table.value.BlobDescriptor;
 import com.googlecode.paradox.data.table.value.ClobDescriptor;
 import com.googlecode.paradox.data.table.value.FieldValue;
 import com.googlecode.paradox.metadata.ParadoxResultSetMetaData;
+import com.googlecode.paradox.planner.plan.RowStream;
 import com.googlecode.paradox.results.Column;
+import com.googlecode.paradox.rowset.ParadoxBlob;
 import com.googlecode.paradox.rowset.ParadoxClob;
 import com.googlecode.paradox.utils.SQLStates;
 import com.googlecode.paradox.utils.Utils;
+import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.io.Reader;
 import java.math.BigDecimal;
@@ -37,6 +42,8 @@ import java.sql.SQLXML;
 import java.sql.Statement;
 import java.sql.Time;
 import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Collections;
 import java.util.HashMap;
@@ -45,9 +52,12 @@ import java.util.Map;
 
 /**
  * JDBC ResultSet implementation.
+ * <p>
+ * Rows read on demand are kept from the first row read. If the rows can be read from any position, moving far from
+ * them reads only the rows around the new position.
  *
  * @author Leonardo Alves da Costa
- * @version 1.1
+ * @version 1.7
  * @since 1.0
  */
 public final class ParadoxResultSet implements ResultSet {
@@ -56,6 +66,11 @@ public final class ParadoxResultSet implements ResultSet {
      * If this connection is invalid.
      */
     private static final String ERROR_INVALID_COLUMN = "Invalid column.";
+
+    /**
+     * Invalid type conversion message error.
+     */
+    private static final String ERROR_INVALID_CONVERSION = "Invalid type conversion.";
     /**
      * Default fetch size.
      */
@@ -80,6 +95,10 @@ public final class ParadoxResultSet implements ResultSet {
      * The amount of rows fetched.
      */
     private int fetchSize = ParadoxResultSet.FETCH_SIZE;
+    /**
+     * The position of the first row in values.
+     */
+    private int firstRow;
     /**
      * Last got value.
      */
@@ -88,12 +107,24 @@ public final class ParadoxResultSet implements ResultSet {
      * Row position.
      */
     private int position = -1;
+    /**
+     * Number of rows in values with memos already read ahead.
+     */
+    private int prefetchedRows;
+    /**
+     * The ROWID of each row in values, <code>null</code> if the rows are not read from a table.
+     */
+    private final List<RowId> rowIds;
     /**
      * This {@link ResultSet} {@link Statement}.
      */
     private final ParadoxStatement statement;
     /**
-     * The list of all {@link ResultSet} rows.
+     * The rows still to read, <code>null</code> if all rows are in values.
+     */
+    private RowStream stream;
+    /**
+     * The {@link ResultSet} rows, starting in first row.
      */
     private final List<List<FieldValue>> values;
 
@@ -111,8 +142,34 @@ public final class ParadoxResultSet implements ResultSet {
      */
     public ParadoxResultSet(final ParadoxConnection conn, final ParadoxStatement statement,
             final List<List<FieldValue>> values, final List<Column> columns) {
+        this(conn, statement, values, columns, null);
+    }
+
+    /**
+     * Creates a new {@link ResultSet} with rows read on demand.
+     *
+     * @param conn
+     *            the database connection.
+     * @param statement
+     *            the {@link Statement} for this {@link ResultSet}.
+     * @param values
+     *            row and column values already read.
+     * @param columns
+     *            the columns name.
+     * @param stream
+     *            the rows still to read, <code>null</code> if all rows are in values.
+     */
+    public ParadoxResultSet(final ParadoxConnection conn, final ParadoxStatement statement,
+            final List<List<FieldValue>> values, final List<Column> columns, final RowStream stream) {
         this.statement = statement;
-        this.values = Collections.unmodifiableList(values);
+        this.stream = stream;
+        if (stream != null) {
+            this.values = new ArrayList<>(values);
+            this.rowIds = new ArrayList<>();
+        } else {
+            this.values = Collections.unmodifiableList(values);
+            this.rowIds = null;
+        }
         this.columns = Collections.unmodifiableList(columns);
         this.conn = conn;
 
@@ -128,18 +185,23 @@ public final class ParadoxResultSet implements ResultSet {
      * {@inheritDoc}.
      */
     @Override
-    public boolean absolute(final int row) {
+    public boolean absolute(final int row) throws SQLException {
         if (row < 0) {
-            if ((row + this.values.size()) < 0) {
+            final int count = this.getRowCount();
+            if ((row + count) < 0) {
                 return false;
             }
-            this.position = this.values.size() + row;
+            this.position = count + row;
+            this.loadRow(this.position);
+        } else if (row == 0) {
+            this.position = -1;
         } else {
-            if (row > this.values.size()) {
+            if (!this.loadRow(row - 1)) {
                 return false;
             }
             this.position = row - 1;
         }
+        this.clearClob();
         return true;
     }
 
@@ -147,8 +209,8 @@ public final class ParadoxResultSet implements ResultSet {
      * {@inheritDoc}.
      */
     @Override
-    public void afterLast() {
-        this.position = this.values.size();
+    public void afterLast() throws SQLException {
+        this.position = this.getRowCount();
     }
 
     /**
@@ -180,6 +242,10 @@ public final class ParadoxResultSet implements ResultSet {
      */
     @Override
     public void close() throws SQLException {
+        if (this.stream != null) {
+            this.stream.close();
+            this.stream = null;
+        }
         if (this.clobMap != null) {
             for (final Clob clob : this.clobMap.values()) {
                 clob.free();
@@ -214,8 +280,8 @@ public final class ParadoxResultSet implements ResultSet {
      * {@inheritDoc}.
      */
     @Override
-    public boolean first() {
-        if (this.values.isEmpty()) {
+    public boolean first() throws SQLException {
+        if (!this.loadRow(0)) {
             return false;
         }
         this.position = 0;
@@ -260,7 +326,15 @@ public final class ParadoxResultSet implements ResultSet {
      */
     @Override
     public BigDecimal getBigDecimal(final int columnIndex) throws SQLException {
-        throw new SQLFeatureNotSupportedException();
+        final Object value = this.getObject(columnIndex);
+        if ((value == null) || (value instanceof BigDecimal)) {
+            return (BigDecimal) value;
+        } else if ((value instanceof Double) || (value instanceof Float)) {
+            return BigDecimal.valueOf(((Number) value).doubleValue());
+        } else if (value instanceof Number) {
+            return BigDecimal.valueOf(((Number) value).longValue());
+        }
+        throw new SQLDataException(ParadoxResultSet.ERROR_INVALID_CONVERSION, SQLStates.INVALID_FIELD_VALUE.getValue());
     }
 
     /**
@@ -274,6 +348,9 @@ public final class ParadoxResultSet implements ResultSet {
         this.verifyRow();
 
         final BigDecimal value = this.getBigDecimal(columnIndex);
+        if (value == null) {
+            return null;
+        }
         return value.setScale(scale, RoundingMode.HALF_DOWN);
     }
 
@@ -300,8 +377,16 @@ public final class ParadoxResultSet implements ResultSet {
      * {@inheritDoc}.
      */
     @Override
-    public InputStream getBinaryStream(final int columnIndex) {
-        return null;
+    public InputStream getBinaryStream(final int columnIndex) throws SQLException {
+        final Object value = this.getObject(columnIndex);
+        if (value instanceof byte[]) {
+            return new ByteArrayInputStream((byte[]) value);
+        }
+        final Blob blob = this.getBlob(columnIndex);
+        if (blob == null) {
+            return null;
+        }
+        return blob.getBinaryStream();
     }
 
     /**
@@ -316,16 +401,24 @@ public final class ParadoxResultSet implements ResultSet {
      * {@inheritDoc}.
      */
     @Override
-    public Blob getBlob(final int columnIndex) {
-        return null;
+    public Blob getBlob(final int columnIndex) throws SQLException {
+        final Object value = this.getObject(columnIndex);
+        if (value == null) {
+            return null;
+        } else if (value instanceof byte[]) {
+            return new ParadoxBlob((byte[]) value);
+        } else if ((value instanceof BlobDescriptor) && !(value instanceof ClobDescriptor)) {
+            return new ParadoxBlob((BlobDescriptor) value);
+        }
+        throw new SQLException("Field isn't blob type", SQLStates.INVALID_FIELD_VALUE.getValue());
     }
 
     /**
      * {@inheritDoc}.
      */
     @Override
-    public Blob getBlob(final String columnLabel) {
-        return null;
+    public Blob getBlob(final String columnLabel) throws SQLException {
+        return this.getBlob(this.findColumn(columnLabel));
     }
 
     /**
@@ -335,7 +428,7 @@ public final class ParadoxResultSet implements ResultSet {
     public boolean getBoolean(final int columnIndex) throws SQLException {
         this.verifyRow();
 
-        final List<FieldValue> row = this.values.get(this.position);
+        final List<FieldValue> row = this.values.get(this.position - this.firstRow);
         if (columnIndex > row.size()) {
             throw new SQLException(ParadoxResultSet.ERROR_INVALID_COLUMN, SQLStates.INVALID_COLUMN.getValue());
         }
@@ -361,7 +454,7 @@ public final class ParadoxResultSet implements ResultSet {
     public byte getByte(final int columnIndex) throws SQLException {
         this.verifyRow();
 
-        final List<FieldValue> row = this.values.get(this.position);
+        final List<FieldValue> row = this.values.get(this.position - this.firstRow);
         if (columnIndex > row.size()) {
             throw new SQLException(ParadoxResultSet.ERROR_INVALID_COLUMN, SQLStates.INVALID_COLUMN.getValue());
         }
@@ -385,7 +478,15 @@ public final class ParadoxResultSet implements ResultSet {
      */
     @Override
     public byte[] getBytes(final int columnIndex) throws SQLException {
-        throw new SQLFeatureNotSupportedException();
+        final Object value = this.getObject(columnIndex);
+        if (value instanceof byte[]) {
+            return ((byte[]) value).clone();
+        }
+        final Blob blob = this.getBlob(columnIndex);
+        if (blob == null) {
+            return null;
+        }
+        return blob.getBytes(1, (int) blob.length());
     }
 
     /**
@@ -470,7 +571,7 @@ public final class ParadoxResultSet implements ResultSet {
     public Date getDate(final int columnIndex) throws SQLException {
         this.verifyRow();
 
-        final List<FieldValue> row = this.values.get(this.position);
+        final List<FieldValue> row = this.values.get(this.position - this.firstRow);
         if (columnIndex > row.size()) {
             throw new SQLException(ParadoxResultSet.ERROR_INVALID_COLUMN, SQLStates.INVALID_COLUMN.getValue());
         }
@@ -509,7 +610,7 @@ public final class ParadoxResultSet implements ResultSet {
     public double getDouble(final int columnIndex) throws SQLException {
         this.verifyRow();
 
-        final List<FieldValue> row = this.values.get(this.position);
+        final List<FieldValue> row = this.values.get(this.position - this.firstRow);
         if (columnIndex > row.size()) {
             throw new SQLException(ParadoxResultSet.ERROR_INVALID_COLUMN, SQLStates.INVALID_COLUMN.getValue());
         }
@@ -551,7 +652,7 @@ public final class ParadoxResultSet implements ResultSet {
     public float getFloat(final int columnIndex) throws SQLException {
         this.verifyRow();
 
-        final List<FieldValue> row = this.values.get(this.position);
+        final List<FieldValue> row = this.values.get(this.position - this.firstRow);
         if (columnIndex > row.size()) {
             throw new SQLException(ParadoxResultSet.ERROR_INVALID_COLUMN, SQLStates.INVALID_COLUMN.getValue());
         }
@@ -585,7 +686,7 @@ public final class ParadoxResultSet implements ResultSet {
     public int getInt(final int columnIndex) throws SQLException {
         this.verifyRow();
 
-        final List<FieldValue> row = this.values.get(this.position);
+        final List<FieldValue> row = this.values.get(this.position - this.firstRow);
         if (columnIndex > row.size()) {
             throw new SQLException(ParadoxResultSet.ERROR_INVALID_COLUMN, SQLStates.INVALID_COLUMN.getValue());
         }
@@ -611,7 +712,7 @@ public final class ParadoxResultSet implements ResultSet {
     public long getLong(final int columnIndex) throws SQLException {
         this.verifyRow();
 
-        final List<FieldValue> row = this.values.get(this.position);
+        final List<FieldValue> row = this.values.get(this.position - this.firstRow);
         if (columnIndex > row.size()) {
             throw new SQLException(ParadoxResultSet.ERROR_INVALID_COLUMN, SQLStates.INVALID_COLUMN.getValue());
         }
@@ -619,7 +720,15 @@ public final class ParadoxResultSet implements ResultSet {
         if (this.lastValue.isNull()) {
             return 0L;
         }
-        return this.lastValue.getNumber().longValue();
+        // Dates and times as milliseconds since January 1, 1970.
+        switch (this.lastValue.getType()) {
+            case Types.DATE:
+                return this.lastValue.getDate().getTime();
+            case Types.TIME:
+                return this.lastValue.getTime().getTime();
+            default:
+                return this.lastValue.getNumber().longValue();
+        }
     }
 
     /**
@@ -693,7 +802,7 @@ public final class ParadoxResultSet implements ResultSet {
     public Object getObject(final int columnIndex) throws SQLException {
         this.verifyRow();
 
-        final List<FieldValue> row = this.values.get(this.position);
+        final List<FieldValue> row = this.values.get(this.position - this.firstRow);
         if (columnIndex > row.size()) {
             throw new SQLException(ParadoxResultSet.ERROR_INVALID_COLUMN, SQLStates.INVALID_COLUMN.getValue());
         }
@@ -705,8 +814,20 @@ public final class ParadoxResultSet implements ResultSet {
      * {@inheritDoc}.
      */
     @Override
-    public <T> T getObject(final int columnIndex, final Class<T> type) {
-        throw new UnsupportedOperationException("Not supported yet.");
+    public <T> T getObject(final int columnIndex, final Class<T> type) throws SQLException {
+        final Object value = this.getObject(columnIndex);
+        if ((value == null) || type.isInstance(value)) {
+            return type.cast(value);
+        } else if (type == Blob.class) {
+            return type.cast(this.getBlob(columnIndex));
+        } else if (type == Long.class) {
+            return type.cast(this.getLong(columnIndex));
+        } else if (type == String.class) {
+            return type.cast(value.toString());
+        } else if ((type == Timestamp.class) && (value instanceof java.util.Date)) {
+            return type.cast(new Timestamp(((java.util.Date) value).getTime()));
+        }
+        throw new SQLDataException(ParadoxResultSet.ERROR_INVALID_CONVERSION, SQLStates.INVALID_FIELD_VALUE.getValue());
     }
 
     /**
@@ -729,8 +850,8 @@ public final class ParadoxResultSet implements ResultSet {
      * {@inheritDoc}.
      */
     @Override
-    public <T> T getObject(final String columnLabel, final Class<T> type) {
-        throw new UnsupportedOperationException("Not supported yet.");
+    public <T> T getObject(final String columnLabel, final Class<T> type) throws SQLException {
+        return this.getObject(this.findColumn(columnLabel), type);
     }
 
     /**
@@ -769,16 +890,25 @@ public final class ParadoxResultSet implements ResultSet {
      * {@inheritDoc}.
      */
     @Override
-    public RowId getRowId(final int columnIndex) {
-        return null;
+    public RowId getRowId(final int columnIndex) throws SQLException {
+        this.verifyRow();
+
+        if ((columnIndex < 1) || (columnIndex > this.columns.size())) {
+            throw new SQLException(ParadoxResultSet.ERROR_INVALID_COLUMN, SQLStates.INVALID_COLUMN.getValue());
+        }
+        // Only rows read straight from a table have a location.
+        if ((this.rowIds == null) || ((this.position - this.firstRow) >= this.rowIds.size())) {
+            return null;
+        }
+        return this.rowIds.get(this.position - this.firstRow);
     }
 
     /**
      * {@inheritDoc}.
      */
     @Override
-    public RowId getRowId(final String columnLabel) {
-        return null;
+    public RowId getRowId(final String columnLabel) throws SQLException {
+        return this.getRowId(this.findColumn(columnLabel));
     }
 
     /**
@@ -788,7 +918,7 @@ public final class ParadoxResultSet implements ResultSet {
     public short getShort(final int columnIndex) throws SQLException {
         this.verifyRow();
 
-        final List<FieldValue> row = this.values.get(this.position);
+        final List<FieldValue> row = this.values.get(this.position - this.firstRow);
         if (columnIndex > row.size()) {
             throw new SQLException(ParadoxResultSet.ERROR_INVALID_COLUMN, SQLStates.INVALID_COLUMN.getValue());
         }
@@ -838,7 +968,7 @@ public final class ParadoxResultSet implements ResultSet {
     public String getString(final int columnIndex) throws SQLException {
         this.verifyRow();
 
-        final List<FieldValue> row = this.values.get(this.position);
+        final List<FieldValue> row = this.values.get(this.position - this.firstRow);
         if (columnIndex > row.size()) {
             throw new SQLException(ParadoxResultSet.ERROR_INVALID_COLUMN, SQLStates.INVALID_COLUMN.getValue());
         }
@@ -865,7 +995,7 @@ public final class ParadoxResultSet implements ResultSet {
     public Time getTime(final int columnIndex) throws SQLException {
         this.verifyRow();
 
-        final List<FieldValue> row = this.values.get(this.position);
+        final List<FieldValue> row = this.values.get(this.position - this.firstRow);
         if (columnIndex > row.size()) {
             throw new SQLException(ParadoxResultSet.ERROR_INVALID_COLUMN, SQLStates.INVALID_COLUMN.getValue());
         }
@@ -901,15 +1031,21 @@ public final class ParadoxResultSet implements ResultSet {
      * {@inheritDoc}.
      */
     @Override
-    public Timestamp getTimestamp(final int columnIndex) {
-        return null;
+    public Timestamp getTimestamp(final int columnIndex) throws SQLException {
+        final Object value = this.getObject(columnIndex);
+        if ((value == null) || (value instanceof Timestamp)) {
+            return (Timestamp) value;
+        } else if (value instanceof java.util.Date) {
+            return new Timestamp(((java.util.Date) value).getTime());
+        }
+        throw new SQLDataException(ParadoxResultSet.ERROR_INVALID_CONVERSION, SQLStates.INVALID_FIELD_VALUE.getValue());
     }
 
     /**
      * {@inheritDoc}.
      */
     @Override
-    public Timestamp getTimestamp(final int columnIndex, final Calendar cal) {
+    public Timestamp getTimestamp(final int columnIndex, final Calendar cal) throws SQLException {
         return this.getTimestamp(columnIndex);
     }
 
@@ -979,8 +1115,12 @@ public final class ParadoxResultSet implements ResultSet {
      * Gets the all row values.
      *
      * @return the row values.
+     * @throws SQLException
+     *             in case of read errors.
      */
-    public List<List<FieldValue>> getValues() {
+    public List<List<FieldValue>> getValues() throws SQLException {
+        this.loadRow(0);
+        this.fetchRows(Integer.MAX_VALUE);
         return Collections.unmodifiableList(this.values);
     }
 
@@ -1004,8 +1144,8 @@ public final class ParadoxResultSet implements ResultSet {
      * {@inheritDoc}.
      */
     @Override
-    public boolean isAfterLast() {
-        return this.position >= this.values.size();
+    public boolean isAfterLast() throws SQLException {
+        return (this.position >= 0) && !this.loadRow(this.position);
     }
 
     /**
@@ -1036,8 +1176,9 @@ public final class ParadoxResultSet implements ResultSet {
      * {@inheritDoc}.
      */
     @Override
-    public boolean isLast() {
-        return (this.position + 1) == this.values.size();
+    public boolean isLast() throws SQLException {
+        // The next row must be read to know if the current row is the last one.
+        return (this.position >= 0) && this.loadRow(this.position) && !this.loadRow(this.position + 1);
     }
 
     /**
@@ -1052,11 +1193,13 @@ public final class ParadoxResultSet implements ResultSet {
      * {@inheritDoc}.
      */
     @Override
-    public boolean last() {
-        if (this.values.isEmpty()) {
+    public boolean last() throws SQLException {
+        final int count = this.getRowCount();
+        if (count == 0) {
             return false;
         }
-        this.position = this.values.size() - 1;
+        this.position = count - 1;
+        this.loadRow(this.position);
         this.clearClob();
         return true;
     }
@@ -1081,9 +1224,9 @@ public final class ParadoxResultSet implements ResultSet {
      * {@inheritDoc}.
      */
     @Override
-    public boolean next() {
+    public boolean next() throws SQLException {
         this.position++;
-        if (this.hasNext()) {
+        if (this.loadRow(this.position)) {
             this.clearClob();
             return true;
         }
@@ -1094,10 +1237,13 @@ public final class ParadoxResultSet implements ResultSet {
      * {@inheritDoc}.
      */
     @Override
-    public boolean previous() {
+    public boolean previous() throws SQLException {
         if (this.position > -1) {
             this.position--;
             this.clearClob();
+            if (this.position > -1) {
+                this.loadRow(this.position);
+            }
             return true;
         }
         return false;
@@ -1115,8 +1261,15 @@ public final class ParadoxResultSet implements ResultSet {
      * {@inheritDoc}.
      */
     @Override
-    public boolean relative(final int rows) {
-        return false;
+    public boolean relative(final int rows) throws SQLException {
+        final int row = this.position + rows;
+        if (row < 0) {
+            this.beforeFirst();
+            return false;
+        }
+        this.position = row;
+        this.clearClob();
+        return this.loadRow(row);
     }
 
     /**
@@ -1155,8 +1308,14 @@ public final class ParadoxResultSet implements ResultSet {
      * {@inheritDoc}.
      */
     @Override
-    public void setFetchSize(final int rows) {
-        this.fetchSize = rows;
+    public void setFetchSize(final int rows) throws SQLException {
+        if (rows < 0) {
+            throw new SQLException("Invalid fetch size.", SQLStates.INVALID_PARAMETER.getValue());
+        } else if (rows == 0) {
+            this.fetchSize = ParadoxResultSet.FETCH_SIZE;
+        } else {
+            this.fetchSize = rows;
+        }
     }
 
     /**
@@ -1851,8 +2010,99 @@ public final class ParadoxResultSet implements ResultSet {
         }
     }
 
+    /**
+     * Reads rows until a number of rows is available.
+     * <p>
+     * The rows are read in blocks of fetch size rows.
+     *
+     * @param count
+     *            the number of rows needed, counting from the first result row.
+     * @return true if there is at least count rows.
+     * @throws SQLException
+     *             in case of read errors.
+     */
+    private boolean fetchRows(final int count) throws SQLException {
+        while ((this.stream != null) && ((this.firstRow + this.values.size()) < count)) {
+            final int needed = count - this.firstRow - this.values.size();
+            if (!this.stream.fetch(this.values, this.rowIds, Math.max(needed, this.fetchSize))) {
+                // A seekable stream is kept to move back to rows already released.
+                if (!this.stream.isSeekable()) {
+                    this.stream = null;
+                }
+                break;
+            }
+        }
+        return (this.firstRow + this.values.size()) >= count;
+    }
+
+    /**
+     * Gets the number of rows in this result set.
+     *
+     * @return the number of rows.
+     * @throws SQLException
+     *             in case of read errors.
+     */
+    private int getRowCount() throws SQLException {
+        if ((this.stream != null) && this.stream.isSeekable()) {
+            return this.stream.getRowCount();
+        }
+        this.fetchRows(Integer.MAX_VALUE);
+        return this.firstRow + this.values.size();
+    }
+
+    /**
+     * Makes a row available in values.
+     * <p>
+     * If the stream can move to any row and the row is before the first row read or beyond the next fetch, the rows
+     * read are released and the stream moves straight to the row.
+     *
+     * @param row
+     *            the row position.
+     * @return true if the row exists.
+     * @throws SQLException
+     *             in case of read errors.
+     */
+    private boolean loadRow(final int row) throws SQLException {
+        if ((this.stream != null) && this.stream.isSeekable() && ((row < this.firstRow)
+                || (row > (this.firstRow + this.values.size() + this.fetchSize)))) {
+            this.stream.seek(row);
+            this.values.clear();
+            this.rowIds.clear();
+            this.firstRow = row;
+            this.prefetchedRows = 0;
+        }
+        if (!this.fetchRows(row + 1)) {
+            return false;
+        }
+        this.prefetchMemos(row);
+        return true;
+    }
+
+    /**
+     * Reads the memos of the next fetch size rows in one pass, if enabled in connection.
+     *
+     * @param row
+     *            the row position.
+     * @throws SQLException
+     *             in case of read errors.
+     */
+    private void prefetchMemos(final int row) throws SQLException {
+        final int start = row - this.firstRow;
+        if ((this.conn != null) && this.conn.isMemoPrefetch() && (start >= this.prefetchedRows)) {
+            final int end = Math.min(this.values.size(), start + this.fetchSize);
+            MemoPrefetch.prefetch(this.values.subList(start, end));
+            this.prefetchedRows = end;
+        }
+    }
+
+    /**
+     * Gets if the current position has a row.
+     *
+     * @return true if the current position has a row.
+     */
     private boolean hasNext() {
-        return (this.values != null) && (this.position < this.values.size());
+        return (this.values != null) && (this.position >= this.firstRow)
+                && (this.position < (this.firstRow + this.values.size()));
     }
 
     /**
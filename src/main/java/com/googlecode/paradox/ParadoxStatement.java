@@ -9,12 +9,12 @@
 package com.googlecode.paradox;
 
 import com.googlecode.paradox.data.table.value.FieldValue;
-import com.googlecode.paradox.parser.SQLParser;
 import com.googlecode.paradox.parser.nodes.SelectNode;
 import com.googlecode.paradox.parser.nodes.StatementNode;
-import com.googlecode.paradox.planner.Planner;
+import com.googlecode.paradox.planner.plan.RowStream;
 import com.googlecode.paradox.planner.plan.SelectPlan;
 import com.googlecode.paradox.results.Column;
+import com.googlecode.paradox.utils.Cancellation;
 import com.googlecode.paradox.utils.SQLStates;
 import com.googlecode.paradox.utils.Utils;
 import java.sql.Connection;
@@ -30,10 +30,15 @@ import java.util.List;
  * JDBC statement implementation.
  *
  * @author Leonardo Alves da Costa
- * @version 1.0
+ * @version 1.5
  * @since 1.0
  */
-final class ParadoxStatement implements Statement {
+class ParadoxStatement implements Statement {
+    
+    /**
+     * The cancellation of running operations and the query timeout.
+     */
+    private final Cancellation cancellation = new Cancellation();
     
     /**
      * If this statement is closed.
@@ -75,11 +80,6 @@ final class ParadoxStatement implements Statement {
      */
     private boolean poolable;
     
-    /**
-     * The query timeout.
-     */
-    private int queryTimeout = 20;
-    
     /**
      * The result set associated with this statement.
      */
@@ -108,7 +108,7 @@ final class ParadoxStatement implements Statement {
      */
     @Override
     public void cancel() {
-        throw new UnsupportedOperationException();
+        this.cancellation.cancel();
     }
     
     /**
@@ -132,9 +132,7 @@ final class ParadoxStatement implements Statement {
      */
     @Override
     public void close() throws SQLException {
-        if ((this.rs != null) && !this.rs.isClosed()) {
-            this.rs.close();
-        }
+        this.closeResultSet();
         this.closed = true;
     }
     
@@ -151,15 +149,12 @@ final class ParadoxStatement implements Statement {
      */
     @Override
     public boolean execute(final String sql) throws SQLException {
-        if ((this.rs != null) && !this.rs.isClosed()) {
-            this.rs.close();
-        }
+        this.closeResultSet();
         boolean select = false;
-        final SQLParser parser = new SQLParser(sql);
-        final List<StatementNode> statements = parser.parse();
+        final List<StatementNode> statements = this.conn.getPlanCache().parse(sql);
         for (final StatementNode statement : statements) {
             if (statement instanceof SelectNode) {
-                this.executeSelect((SelectNode) statement);
+                this.executeSelect(sql, (SelectNode) statement);
                 select = true;
             }
         }
@@ -203,11 +198,8 @@ final class ParadoxStatement implements Statement {
      */
     @Override
     public ResultSet executeQuery(final String sql) throws SQLException {
-        if ((this.rs != null) && !this.rs.isClosed()) {
-            this.rs.close();
-        }
-        final SQLParser parser = new SQLParser(sql);
-        final List<StatementNode> statementList = parser.parse();
+        this.closeResultSet();
+        final List<StatementNode> statementList = this.conn.getPlanCache().parse(sql);
         if (statementList.size() > 1) {
             throw new SQLFeatureNotSupportedException("Unsupported operation.", SQLStates.INVALID_SQL.getValue());
         }
@@ -215,7 +207,7 @@ final class ParadoxStatement implements Statement {
         if (!(node instanceof SelectNode)) {
             throw new SQLFeatureNotSupportedException("Not a SELECT statement.", SQLStates.INVALID_SQL.getValue());
         }
-        this.executeSelect((SelectNode) node);
+        this.executeSelect(sql, (SelectNode) node);
         return this.rs;
     }
     
@@ -320,7 +312,7 @@ final class ParadoxStatement implements Statement {
      */
     @Override
     public int getQueryTimeout() {
-        return this.queryTimeout;
+        return this.cancellation.getTimeout();
     }
     
     /**
@@ -435,7 +427,10 @@ final class ParadoxStatement implements Statement {
      * {@inheritDoc}.
      */
     @Override
-    public void setFetchSize(final int rows) {
+    public void setFetchSize(final int rows) throws SQLException {
+        if (rows < 0) {
+            throw new SQLException("Invalid fetch size.", SQLStates.INVALID_PARAMETER.getValue());
+        }
         this.fetchSize = rows;
     }
     
@@ -454,7 +449,10 @@ final class ParadoxStatement implements Statement {
      * {@inheritDoc}.
      */
     @Override
-    public void setMaxRows(final int max) {
+    public void setMaxRows(final int max) throws SQLException {
+        if (max < 0) {
+            throw new SQLException("Invalid max rows.", SQLStates.INVALID_PARAMETER.getValue());
+        }
         this.maxRows = max;
     }
     
@@ -470,8 +468,11 @@ final class ParadoxStatement implements Statement {
      * {@inheritDoc}.
      */
     @Override
-    public void setQueryTimeout(final int seconds) {
-        this.queryTimeout = seconds;
+    public void setQueryTimeout(final int seconds) throws SQLException {
+        if (seconds < 0) {
+            throw new SQLException("Invalid query timeout.", SQLStates.INVALID_PARAMETER.getValue());
+        }
+        this.cancellation.setTimeout(seconds);
     }
     
     /**
@@ -482,11 +483,62 @@ final class ParadoxStatement implements Statement {
         return Utils.unwrap(this, iFace);
     }
     
-    private void executeSelect(final SelectNode node) throws SQLException {
-        final Planner planner = new Planner(this.conn);
-        final SelectPlan plan = (SelectPlan) planner.create(node);
-        plan.execute();
-        this.rs = new ParadoxResultSet(this.conn, this, plan.getValues(), plan.getColumns());
+    /**
+     * Executes a SELECT statement, using the cached plan if possible.
+     *
+     * @param sql
+     *            the SQL text.
+     * @param node
+     *            the SELECT statement parsed from the SQL text.
+     * @throws SQLException
+     *             in case of plan or execution errors.
+     */
+    private void executeSelect(final String sql, final SelectNode node) throws SQLException {
+        this.executePlan(this.conn.getPlanCache().getPlan(sql, node), null);
+    }
+    
+    /**
+     * Closes the current result set, if any.
+     *
+     * @throws SQLException
+     *             in case of failures.
+     */
+    final void closeResultSet() throws SQLException {
+        if ((this.rs != null) && !this.rs.isClosed()) {
+            this.rs.close();
+        }
+    }
+    
+    /**
+     * Executes a SELECT plan and creates the result set.
+     *
+     * @param plan
+     *            the plan to execute.
+     * @param parameters
+     *            the parameter values, <code>null</code> if the statement has no parameters.
+     * @throws SQLException
+     *             in case of failures.
+     */
+    final void executePlan(final SelectPlan plan, final Object[] parameters) throws SQLException {
+        this.cancellation.reset();
+        this.cancellation.start();
+        try {
+            // Cached plans are shared by all statements of the connection.
+            synchronized (plan) {
+                if (parameters != null) {
+                    plan.setParameters(parameters);
+                }
+                plan.setMaxRows(this.maxRows);
+                plan.setCancellation(this.cancellation);
+                plan.execute();
+                // The stream must be taken before the values, or all rows are read now.
+                final RowStream stream = plan.getStream();
+                this.rs = new ParadoxResultSet(this.conn, this, plan.getValues(), plan.getColumns(), stream);
+                this.rs.setFetchSize(this.fetchSize);
+            }
+        } finally {
+            this.cancellation.stop();
+        }
     }
     
     /**
@@ -0,0 +1,232 @@
+/*
+ * BlockDirectory.java 10/19/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data;
+
+import com.googlecode.paradox.metadata.ParadoxTable;
+import com.googlecode.paradox.utils.SQLStates;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+/**
+ * Maps the live data blocks of a table to their file offsets and row numbers.
+ * <p>
+ * The directory is built with a single walk over the block headers and cached in the table, so a cursor can move to
+ * any row reading only the block that holds it.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.1
+ * @since 1.4
+ * @see ParadoxTable#getBlockDirectory()
+ */
+public final class BlockDirectory {
+
+    /**
+     * The row count of each block, indexed by block number.
+     */
+    private final int[] blockRows;
+
+    /**
+     * The blocks, in directory order.
+     */
+    private final int[] blocks;
+
+    /**
+     * The block size in bytes.
+     */
+    private final int blockSize;
+
+    /**
+     * The number of the first row of each block, followed by the total row count.
+     */
+    private final int[] firstRows;
+
+    /**
+     * The table header size in bytes.
+     */
+    private final int headerSize;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param headerSize
+     *            the table header size in bytes.
+     * @param blockSize
+     *            the block size in bytes.
+     * @param blocks
+     *            the blocks, in directory order.
+     * @param blockRows
+     *            the row count of each block, indexed by block number.
+     */
+    private BlockDirectory(final int headerSize, final int blockSize, final int[] blocks, final int[] blockRows) {
+        this.headerSize = headerSize;
+        this.blockSize = blockSize;
+        this.blocks = blocks;
+        this.blockRows = blockRows;
+        this.firstRows = new int[blocks.length + 1];
+        for (int i = 0; i < blocks.length; i++) {
+            this.firstRows[i + 1] = this.firstRows[i] + blockRows[blocks[i]];
+        }
+    }
+
+    /**
+     * Reads the directory of a table, following the block chain.
+     *
+     * @param table
+     *            the table to read.
+     * @return the block directory in chain order.
+     * @throws SQLException
+     *             in case of I/O errors.
+     */
+    public static BlockDirectory load(final ParadoxTable table) throws SQLException {
+        int[] blocks = new int[table.getUsedBlocks()];
+        int[] blockRows = new int[blocks.length + 1];
+        int count = 0;
+
+        if (table.getUsedBlocks() != 0) {
+            final ByteBuffer header = ByteBuffer.allocate(TableCursor.BLOCK_HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            try (FileInputStream stream = new FileInputStream(table.getFile())) {
+                final FileChannel channel = stream.getChannel();
+                int block = table.getFirstBlock() & 0xFFFF;
+                while (block != 0) {
+                    if (count == blocks.length) {
+                        blocks = Arrays.copyOf(blocks, blocks.length * 2);
+                    }
+                    if (block >= blockRows.length) {
+                        blockRows = Arrays.copyOf(blockRows, Math.max(block + 1, blockRows.length * 2));
+                    }
+                    blocks[count++] = block;
+                    header.clear();
+                    channel.read(header, table.getHeaderSize() + ((long) (block - 1) * table.getBlockSizeBytes()));
+                    header.flip();
+                    final int next = header.getShort() & 0xFFFF;
+                    // The previous block number.
+                    header.getShort();
+                    blockRows[block] = TableCursor.countRows(table, header.getShort());
+                    block = next;
+                }
+            } catch (final IOException e) {
+                throw new SQLException(e.getMessage(), SQLStates.INVALID_IO.getValue(), e);
+            }
+        }
+        return new BlockDirectory(table.getHeaderSize(), table.getBlockSizeBytes(), Arrays.copyOf(blocks, count),
+                blockRows);
+    }
+
+    /**
+     * Finds the block that holds a row.
+     *
+     * @param row
+     *            the row number, starting at zero.
+     * @return the block position in directory, or -1 if there is no such row.
+     */
+    public int find(final int row) {
+        if ((row < 0) || (row >= this.getRowCount())) {
+            return -1;
+        }
+        int index = Arrays.binarySearch(this.firstRows, row);
+        if (index < 0) {
+            index = -index - 2;
+        }
+        // Skip the empty blocks that start at the same row.
+        while (this.firstRows[index + 1] == row) {
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * Gets the block number in a directory position.
+     *
+     * @param index
+     *            the block position in directory.
+     * @return the block number.
+     */
+    public int getBlock(final int index) {
+        return this.blocks[index];
+    }
+
+    /**
+     * Gets the number of blocks in directory.
+     *
+     * @return the number of blocks.
+     */
+    public int getBlockCount() {
+        return this.blocks.length;
+    }
+
+    /**
+     * Gets the row count of a block.
+     *
+     * @param block
+     *            the block number.
+     * @return the block row count, zero if the block is not in use.
+     */
+    public int getBlockRows(final int block) {
+        if ((block < 0) || (block >= this.blockRows.length)) {
+            return 0;
+        }
+        return this.blockRows[block];
+    }
+
+    /**
+     * Gets the blocks, in directory order.
+     *
+     * @return a copy of the block numbers.
+     */
+    public int[] getBlocks() {
+        return this.blocks.clone();
+    }
+
+    /**
+     * Gets the number of the first row in a block.
+     *
+     * @param index
+     *            the block position in directory.
+     * @return the number of the first row, starting at zero.
+     */
+    public int getFirstRow(final int index) {
+        return this.firstRows[index];
+    }
+
+    /**
+     * Gets the file offset of a block.
+     *
+     * @param index
+     *            the block position in directory.
+     * @return the file offset in bytes.
+     */
+    public long getOffset(final int index) {
+        return this.headerSize + ((long) (this.blocks[index] - 1) * this.blockSize);
+    }
+
+    /**
+     * Gets the number of rows in all blocks.
+     *
+     * @return the row count.
+     */
+    public int getRowCount() {
+        return this.firstRows[this.blocks.length];
+    }
+
+    /**
+     * Creates a directory of the same table with the blocks in another order.
+     *
+     * @param order
+     *            the blocks, in the new order.
+     * @return the new directory.
+     */
+    public BlockDirectory reorder(final int[] order) {
+        return new BlockDirectory(this.headerSize, this.blockSize, order, this.blockRows);
+    }
+}
@@ -9,6 +9,9 @@
 package com.googlecode.paradox.data;
 
 import com.googlecode.paradox.data.field.AutoIncrementField;
+import com.googlecode.paradox.data.field.BcdField;
+import com.googlecode.paradox.data.field.BinaryField;
+import com.googlecode.paradox.data.field.BlobField;
 import com.googlecode.paradox.data.field.BooleanField;
 import com.googlecode.paradox.data.field.DateField;
 import com.googlecode.paradox.data.field.IntegerField;
@@ -16,6 +19,7 @@ import com.googlecode.paradox.data.field.LongField;
 import com.googlecode.paradox.data.field.MemoField;
 import com.googlecode.paradox.data.field.NumberField;
 import com.googlecode.paradox.data.field.TimeField;
+import com.googlecode.paradox.data.field.TimestampField;
 import com.googlecode.paradox.data.field.VarcharField;
 import com.googlecode.paradox.data.table.value.FieldValue;
 import com.googlecode.paradox.metadata.ParadoxField;
@@ -30,7 +34,7 @@ import java.util.List;
  * Handles field parsers.
  *
  * @author Leonardo Alves da Costa
- * @version 1.0
+ * @version 1.2
  * @since 1.3
  */
 public final class FieldFactory {
@@ -43,6 +47,9 @@ public final class FieldFactory {
     // Initialize the parsers.
     static {
         FieldFactory.ALL_PARSES.add(new AutoIncrementField());
+        FieldFactory.ALL_PARSES.add(new BcdField());
+        FieldFactory.ALL_PARSES.add(new BinaryField());
+        FieldFactory.ALL_PARSES.add(new BlobField());
         FieldFactory.ALL_PARSES.add(new BooleanField());
         FieldFactory.ALL_PARSES.add(new DateField());
         FieldFactory.ALL_PARSES.add(new IntegerField());
@@ -50,6 +57,7 @@ public final class FieldFactory {
         FieldFactory.ALL_PARSES.add(new MemoField());
         FieldFactory.ALL_PARSES.add(new NumberField());
         FieldFactory.ALL_PARSES.add(new TimeField());
+        FieldFactory.ALL_PARSES.add(new TimestampField());
         FieldFactory.ALL_PARSES.add(new VarcharField());
     }
 
@@ -60,6 +68,24 @@ public final class FieldFactory {
         // Utility class.
     }
 
+    /**
+     * Gets the parser of a field.
+     *
+     * @param field
+     *            the paradox field.
+     * @return the field parser.
+     * @throws SQLException
+     *             if the field type is not supported.
+     */
+    public static FieldParser getParser(final ParadoxField field) throws SQLException {
+        for (final FieldParser parser : FieldFactory.ALL_PARSES) {
+            if (parser.match(field.getType())) {
+                return parser;
+            }
+        }
+        throw new SQLException("Field type unsupported.", SQLStates.TYPE_NOT_FOUND.getValue());
+    }
+
     /**
      * Parses the filter;
      *
@@ -75,11 +101,6 @@ public final class FieldFactory {
      */
     public static FieldValue parse(final ParadoxTable table, final ByteBuffer buffer, final ParadoxField field)
             throws SQLException {
-        for (final FieldParser parser : FieldFactory.ALL_PARSES) {
-            if (parser.match(field.getType())) {
-                return parser.parse(table, buffer, field);
-            }
-        }
-        throw new SQLException("Field type unsupported.", SQLStates.TYPE_NOT_FOUND.getValue());
+        return FieldFactory.getParser(field).parse(table, buffer, field);
     }
 }
@@ -11,6 +11,7 @@ package com.googlecode.paradox.data;
 import com.googlecode.paradox.ParadoxConnection;
 import com.googlecode.paradox.metadata.ParadoxField;
 import com.googlecode.paradox.metadata.ParadoxIndex;
+import com.googlecode.paradox.metadata.ParadoxTable;
 import com.googlecode.paradox.utils.Utils;
 import com.googlecode.paradox.utils.filefilters.SecondaryIndexFilter;
 import java.io.File;
@@ -21,17 +22,28 @@ import java.nio.ByteOrder;
 import java.nio.channels.FileChannel;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 /**
  * Reads index data files.
  *
  * @author Leonardo Alves da Costa
- * @version 1.1
+ * @version 1.2
  * @since 1.0
  */
 public final class IndexData extends AbstractParadoxData {
 
+    /**
+     * Maintained secondary index (.Xnn) file type.
+     */
+    private static final int TYPE_MAINTAINED_INDEX = 0x05;
+
+    /**
+     * Maintained composite secondary index (.XGn) file type.
+     */
+    private static final int TYPE_MAINTAINED_COMPOSITE_INDEX = 0x08;
+
     /**
      * Utility class.
      */
@@ -39,6 +51,72 @@ public final class IndexData extends AbstractParadoxData {
         // Utility class.
     }
 
+    /**
+     * Finds a maintained secondary index whose first field is a table column.
+     * <p>
+     * The index file is loaded as a table: each record has the index fields, the table primary key fields and the
+     * block hint.
+     *
+     * @param table
+     *            the indexed table.
+     * @param field
+     *            the table column.
+     * @return the index file as a table, <code>null</code> if there is no index for this column.
+     * @throws SQLException
+     *             in case of reading failures.
+     */
+    public static ParadoxTable findSecondaryIndex(final ParadoxTable table, final ParadoxField field)
+            throws SQLException {
+        final String indexNamePattern = Utils.removeDb(table.getFile().getName()) + ".X??";
+        final File[] fileList = table.getFile().getParentFile().listFiles(new SecondaryIndexFilter(indexNamePattern));
+        if (fileList != null) {
+            for (final File file : fileList) {
+                final ParadoxTable index = TableData.loadTableHeader(file);
+                if (((index.getType() == IndexData.TYPE_MAINTAINED_INDEX)
+                        || (index.getType() == IndexData.TYPE_MAINTAINED_COMPOSITE_INDEX))
+                        && !index.getFields().isEmpty()) {
+                    final ParadoxField first = index.getFields().get(0);
+                    if (first.getName().equalsIgnoreCase(field.getName()) && (first.getType() == field.getType())
+                            && (first.getSize() == field.getSize())) {
+                        return index;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Lists the blocks of a secondary index file that can have records whose first field starts with any of the
+     * prefixes, using the index of the index file (.Ynn).
+     *
+     * @param index
+     *            the secondary index file, loaded as a table.
+     * @param prefixes
+     *            the first field prefixes, in the field raw format.
+     * @return the sorted block numbers or <code>null</code> if the index file can not be searched by key.
+     * @throws SQLException
+     *             in case of I/O errors.
+     */
+    public static int[] listIndexBlocks(final ParadoxTable index, final Collection<byte[]> prefixes)
+            throws SQLException {
+        final char[] name = index.getFile().getName().toCharArray();
+        final int extension = index.getFile().getName().lastIndexOf('.') + 1;
+        if ((extension <= 0) || (extension >= name.length)) {
+            return null;
+        }
+        if (name[extension] == 'X') {
+            name[extension] = 'Y';
+        } else {
+            name[extension] = 'y';
+        }
+        final File file = new File(index.getFile().getParentFile(), new String(name));
+        if (!file.isFile()) {
+            return null;
+        }
+        return PrimaryKeyData.listPrefixBlocks(index, file, prefixes);
+    }
+
     /**
      * List the indexes in a database file.
      *
@@ -0,0 +1,689 @@
+/*
+ * MemoIndex.java 10/19/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data;
+
+import com.googlecode.paradox.metadata.BlobTable;
+import com.googlecode.paradox.metadata.ParadoxField;
+import com.googlecode.paradox.metadata.ParadoxTable;
+import com.googlecode.paradox.utils.Utils;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.Charset;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Full-text index of a memo column, kept as a file in the blob index directory.
+ * <p>
+ * The index maps each word of the memos, in lower case, to the ROWIDs (block and slot) of the records that have it. It
+ * is built once by reading all memos and is valid while the table and the MB files have the same size and modification
+ * time. When they change, the memo descriptors of the table are read again and only the memos with a different
+ * descriptor are read from the MB file: the other records keep their words.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4
+ */
+public final class MemoIndex {
+
+    /**
+     * Index file identification ("PXFT").
+     */
+    private static final int MAGIC = 0x5058_4654;
+
+    /**
+     * Index file format version.
+     */
+    private static final int VERSION = 1;
+
+    /**
+     * Extension of the index file.
+     */
+    private static final String EXTENSION = ".fts";
+
+    /**
+     * Longest word kept in the index. Records with longer words are candidates of any search.
+     */
+    private static final int MAX_WORD_LENGTH = 0xFF;
+
+    /**
+     * Maximum memo bytes read in a single pass over the MB file.
+     */
+    private static final int READ_BATCH_SIZE = 0x40_0000;
+
+    /**
+     * The ROWIDs of the records with words longer than {@link #MAX_WORD_LENGTH}.
+     */
+    private int[] anyWord = new int[0];
+
+    /**
+     * The MB file length when the index was built.
+     */
+    private long blobLength;
+
+    /**
+     * The MB file modification time when the index was built.
+     */
+    private long blobModified;
+
+    /**
+     * The memo descriptor checksums, by record.
+     */
+    private int[] checks;
+
+    /**
+     * The memo lengths, by record.
+     */
+    private int[] lengths;
+
+    /**
+     * The memo MB offsets, by record.
+     */
+    private int[] offsets;
+
+    /**
+     * The ROWIDs of each word.
+     */
+    private final TreeMap<String, int[]> postings = new TreeMap<>();
+
+    /**
+     * Number of memos read to build the index.
+     */
+    private int readCount;
+
+    /**
+     * The record ROWIDs (block number in high 16 bits and slot in low 16 bits), sorted.
+     */
+    private int[] rows;
+
+    /**
+     * The table file length when the index was built.
+     */
+    private long tableLength;
+
+    /**
+     * The table file modification time when the index was built.
+     */
+    private long tableModified;
+
+    /**
+     * Creates a new instance.
+     */
+    private MemoIndex() {
+        super();
+    }
+
+    /**
+     * Opens the full-text index of a memo column, building or refreshing it if needed.
+     *
+     * @param table
+     *            the table.
+     * @param field
+     *            the memo column.
+     * @return the index, or <code>null</code> if the table has no blob index directory.
+     * @throws SQLException
+     *             in case of I/O errors.
+     */
+    public static MemoIndex open(final ParadoxTable table, final ParadoxField field) throws SQLException {
+        final File dir = table.getBlobIndexDir();
+        if (dir == null) {
+            return null;
+        }
+        final File file = new File(dir, MemoIndex.getIndexName(table, field));
+        final MemoIndex previous = MemoIndex.load(file);
+        if ((previous != null) && previous.isCurrent(table)) {
+            return previous;
+        }
+
+        final MemoIndex index = new MemoIndex();
+        index.build(table, field, previous);
+        try {
+            if (dir.isDirectory() || dir.mkdirs()) {
+                index.save(file);
+            }
+        } catch (final IOException ex) {
+            // The index is still used from memory if it can not be written.
+            if (!file.delete()) {
+                file.deleteOnExit();
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Splits a text in lower case words.
+     * <p>
+     * A word is a sequence of letters and digits.
+     *
+     * @param text
+     *            the text to split.
+     * @return the words, in text order.
+     */
+    public static List<String> getWords(final String text) {
+        final List<String> words = new ArrayList<>();
+        final StringBuilder word = new StringBuilder();
+        for (int i = 0; i <= text.length(); i++) {
+            if ((i < text.length()) && Character.isLetterOrDigit(text.charAt(i))) {
+                word.append(Character.toLowerCase(text.charAt(i)));
+            } else if (word.length() > 0) {
+                words.add(word.toString());
+                word.setLength(0);
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Gets if the index is valid for the current table and MB files.
+     *
+     * @param table
+     *            the table.
+     * @return true if the files did not change since the index was built.
+     * @throws SQLException
+     *             if the MB file does not exist.
+     */
+    public boolean isCurrent(final ParadoxTable table) throws SQLException {
+        final File blobFile = table.getBlobTable().getBlobFile();
+        return (this.tableLength == table.getFile().length()) && (this.tableModified == table.getFile().lastModified())
+                && (this.blobLength == blobFile.length()) && (this.blobModified == blobFile.lastModified());
+    }
+
+    /**
+     * Lists the blocks of the records that have, for each searched word, a word that contains it.
+     *
+     * @param words
+     *            the searched words, in lower case.
+     * @return the block numbers, sorted.
+     */
+    public int[] listBlocks(final Collection<String> words) {
+        int[] found = null;
+        for (final String word : words) {
+            final Set<Integer> rowIds = new HashSet<>();
+            for (final Map.Entry<String, int[]> entry : this.postings.entrySet()) {
+                if (entry.getKey().contains(word)) {
+                    MemoIndex.addAll(rowIds, entry.getValue());
+                }
+            }
+            MemoIndex.addAll(rowIds, this.anyWord);
+            if (found == null) {
+                found = MemoIndex.toSortedArray(rowIds);
+            } else {
+                found = MemoIndex.retain(found, rowIds);
+            }
+        }
+        if (found == null) {
+            found = this.rows.clone();
+        }
+
+        final int[] blocks = new int[found.length];
+        int count = 0;
+        for (final int rowId : found) {
+            blocks[count++] = rowId >>> 0x10;
+        }
+        Arrays.sort(blocks, 0, count);
+        int distinct = 0;
+        for (int i = 0; i < count; i++) {
+            if ((distinct == 0) || (blocks[distinct - 1] != blocks[i])) {
+                blocks[distinct++] = blocks[i];
+            }
+        }
+        return Arrays.copyOf(blocks, distinct);
+    }
+
+    /**
+     * Gets the number of memos read to build the index, zero if it was loaded from the index file.
+     *
+     * @return the number of memos read.
+     */
+    int getReadCount() {
+        return this.readCount;
+    }
+
+    /**
+     * Gets the number of distinct words.
+     *
+     * @return the number of words.
+     */
+    int getWordCount() {
+        return this.postings.size();
+    }
+
+    /**
+     * Builds the index, reusing the words of the records whose memo descriptor did not change.
+     *
+     * @param table
+     *            the table.
+     * @param field
+     *            the memo column.
+     * @param previous
+     *            the previous index, or <code>null</code> to read all memos.
+     * @throws SQLException
+     *             in case of I/O errors.
+     */
+    private void build(final ParadoxTable table, final ParadoxField field, final MemoIndex previous)
+            throws SQLException {
+        // Stamps are taken first, so changes made while reading are seen on the next use.
+        final File blobFile = table.getBlobTable().getBlobFile();
+        this.tableLength = table.getFile().length();
+        this.tableModified = table.getFile().lastModified();
+        this.blobLength = blobFile.length();
+        this.blobModified = blobFile.lastModified();
+
+        final int position = table.getFieldOffset(field);
+        final int leaderSize = field.getSize();
+        final TreeMap<Integer, int[]> descriptors = new TreeMap<>();
+        final Map<Integer, String> leaders = new HashMap<>();
+        try (TableCursor cursor = new TableCursor(table, Collections.<ParadoxField> emptyList())) {
+            while (cursor.next()) {
+                final ByteBuffer buffer = ByteBuffer.wrap(cursor.getBlockData()).order(ByteOrder.LITTLE_ENDIAN);
+                final int start = cursor.getRecordOffset() + position;
+                final int offset = buffer.getInt(start + leaderSize);
+                final int length = buffer.getInt(start + leaderSize + 4);
+                final int modifier = buffer.getShort(start + leaderSize + 8);
+                int check = modifier;
+                for (int i = 0; i < leaderSize; i++) {
+                    check = (check * 0x1F) + buffer.get(start + i);
+                }
+                final int rowId = (cursor.getBlock() << 0x10) | cursor.getSlot();
+                descriptors.put(rowId, new int[] { offset, length, check });
+                if (offset == 0) {
+                    leaders.put(rowId, MemoIndex.decode(cursor.getBlockData(), start, Math.min(length, leaderSize),
+                            table.getCharset()));
+                }
+            }
+        }
+
+        this.rows = new int[descriptors.size()];
+        this.offsets = new int[this.rows.length];
+        this.lengths = new int[this.rows.length];
+        this.checks = new int[this.rows.length];
+        final Set<Integer> kept = new HashSet<>();
+        final List<Integer> changed = new ArrayList<>();
+        int i = 0;
+        for (final Map.Entry<Integer, int[]> entry : descriptors.entrySet()) {
+            final int rowId = entry.getKey();
+            this.rows[i] = rowId;
+            this.offsets[i] = entry.getValue()[0];
+            this.lengths[i] = entry.getValue()[1];
+            this.checks[i] = entry.getValue()[2];
+            if ((previous != null) && previous.isSame(rowId, this.offsets[i], this.lengths[i], this.checks[i])) {
+                kept.add(rowId);
+            } else {
+                changed.add(i);
+            }
+            i++;
+        }
+
+        final Map<String, Set<Integer>> words = new HashMap<>();
+        final Set<Integer> longWords = new HashSet<>();
+        if (previous != null) {
+            for (final Map.Entry<String, int[]> entry : previous.postings.entrySet()) {
+                for (final int rowId : entry.getValue()) {
+                    if (kept.contains(rowId)) {
+                        MemoIndex.add(words, entry.getKey(), rowId);
+                    }
+                }
+            }
+            for (final int rowId : previous.anyWord) {
+                if (kept.contains(rowId)) {
+                    longWords.add(rowId);
+                }
+            }
+        }
+
+        final List<Integer> blobRows = new ArrayList<>();
+        for (final int row : changed) {
+            if (this.offsets[row] == 0) {
+                this.addWords(words, longWords, this.rows[row], leaders.get(this.rows[row]));
+            } else if (this.lengths[row] > 0) {
+                blobRows.add(row);
+            }
+        }
+        this.readBlobs(table, blobRows, words, longWords);
+
+        for (final Map.Entry<String, Set<Integer>> entry : words.entrySet()) {
+            this.postings.put(entry.getKey(), MemoIndex.toSortedArray(entry.getValue()));
+        }
+        this.anyWord = MemoIndex.toSortedArray(longWords);
+    }
+
+    /**
+     * Reads the memos of the changed records from the MB file, in batches read in MB file order.
+     *
+     * @param table
+     *            the table.
+     * @param blobRows
+     *            the records to read.
+     * @param words
+     *            the word postings to fill.
+     * @param longWords
+     *            the records with words too long to index.
+     * @throws SQLException
+     *             in case of I/O errors.
+     */
+    private void readBlobs(final ParadoxTable table, final List<Integer> blobRows,
+            final Map<String, Set<Integer>> words, final Set<Integer> longWords) throws SQLException {
+        Collections.sort(blobRows, new Comparator<Integer>() {
+            @Override
+            public int compare(final Integer first, final Integer second) {
+                return Long.compare(MemoIndex.this.offsets[first] & 0xFFFF_FF00L,
+                        MemoIndex.this.offsets[second] & 0xFFFF_FF00L);
+            }
+        });
+
+        final BlobTable blob = table.getBlobTable();
+        int start = 0;
+        while (start < blobRows.size()) {
+            int end = start;
+            long size = 0;
+            while ((end < blobRows.size()) && ((end == start) || (size < MemoIndex.READ_BATCH_SIZE))) {
+                size += this.lengths[blobRows.get(end)] & 0xFFFF_FFFFL;
+                end++;
+            }
+
+            final long[] batchOffsets = new long[end - start];
+            final byte[][] values = new byte[batchOffsets.length][];
+            for (int i = 0; i < batchOffsets.length; i++) {
+                final int row = blobRows.get(start + i);
+                batchOffsets[i] = this.offsets[row] & 0xFFFF_FFFFL;
+                values[i] = new byte[this.lengths[row]];
+            }
+            blob.read(batchOffsets, values);
+            for (int i = 0; i < values.length; i++) {
+                this.addWords(words, longWords, this.rows[blobRows.get(start + i)],
+                        MemoIndex.decode(values[i], 0, values[i].length, table.getCharset()));
+            }
+            this.readCount += values.length;
+            start = end;
+        }
+    }
+
+    /**
+     * Adds the words of a memo.
+     *
+     * @param words
+     *            the word postings to fill.
+     * @param longWords
+     *            the records with words too long to index.
+     * @param rowId
+     *            the record ROWID.
+     * @param text
+     *            the memo text.
+     */
+    private void addWords(final Map<String, Set<Integer>> words, final Set<Integer> longWords, final int rowId,
+            final String text) {
+        for (final String word : MemoIndex.getWords(text)) {
+            if (word.length() > MemoIndex.MAX_WORD_LENGTH) {
+                longWords.add(rowId);
+            } else {
+                MemoIndex.add(words, word, rowId);
+            }
+        }
+    }
+
+    /**
+     * Gets if a record has the same memo descriptor in this index.
+     *
+     * @param rowId
+     *            the record ROWID.
+     * @param offset
+     *            the memo MB offset.
+     * @param length
+     *            the memo length.
+     * @param check
+     *            the memo descriptor checksum.
+     * @return true if the record has the same memo.
+     */
+    private boolean isSame(final int rowId, final int offset, final int length, final int check) {
+        final int row = Arrays.binarySearch(this.rows, rowId);
+        return (row >= 0) && (this.offsets[row] == offset) && (this.lengths[row] == length)
+                && (this.checks[row] == check);
+    }
+
+    /**
+     * Saves the index.
+     *
+     * @param file
+     *            the index file.
+     * @throws IOException
+     *             in case of write errors.
+     */
+    private void save(final File file) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+            out.writeInt(MemoIndex.MAGIC);
+            out.writeInt(MemoIndex.VERSION);
+            out.writeLong(this.tableLength);
+            out.writeLong(this.tableModified);
+            out.writeLong(this.blobLength);
+            out.writeLong(this.blobModified);
+            out.writeInt(this.rows.length);
+            for (int i = 0; i < this.rows.length; i++) {
+                out.writeInt(this.rows[i]);
+                out.writeInt(this.offsets[i]);
+                out.writeInt(this.lengths[i]);
+                out.writeInt(this.checks[i]);
+            }
+            MemoIndex.writeRows(out, this.anyWord);
+            out.writeInt(this.postings.size());
+            for (final Map.Entry<String, int[]> entry : this.postings.entrySet()) {
+                out.writeUTF(entry.getKey());
+                MemoIndex.writeRows(out, entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Loads an index file.
+     *
+     * @param file
+     *            the index file.
+     * @return the index, or <code>null</code> if the file does not exist or is not valid.
+     */
+    private static MemoIndex load(final File file) {
+        if (!file.isFile()) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if ((in.readInt() != MemoIndex.MAGIC) || (in.readInt() != MemoIndex.VERSION)) {
+                return null;
+            }
+            final MemoIndex index = new MemoIndex();
+            index.tableLength = in.readLong();
+            index.tableModified = in.readLong();
+            index.blobLength = in.readLong();
+            index.blobModified = in.readLong();
+            final int count = in.readInt();
+            index.rows = new int[count];
+            index.offsets = new int[count];
+            index.lengths = new int[count];
+            index.checks = new int[count];
+            for (int i = 0; i < count; i++) {
+                index.rows[i] = in.readInt();
+                index.offsets[i] = in.readInt();
+                index.lengths[i] = in.readInt();
+                index.checks[i] = in.readInt();
+            }
+            index.anyWord = MemoIndex.readRows(in);
+            final int words = in.readInt();
+            for (int i = 0; i < words; i++) {
+                final String word = in.readUTF();
+                index.postings.put(word, MemoIndex.readRows(in));
+            }
+            return index;
+        } catch (final IOException ex) {
+            // A damaged index is built again.
+            return null;
+        }
+    }
+
+    /**
+     * Gets the index file name of a memo column.
+     *
+     * @param table
+     *            the table.
+     * @param field
+     *            the memo column.
+     * @return the index file name.
+     */
+    private static String getIndexName(final ParadoxTable table, final ParadoxField field) {
+        final StringBuilder name = new StringBuilder(Utils.removeDb(table.getFile().getName()));
+        name.append('.');
+        for (final char c : field.getName().toCharArray()) {
+            if (Character.isLetterOrDigit(c)) {
+                name.append(c);
+            } else {
+                name.append('_');
+            }
+        }
+        return name.append(MemoIndex.EXTENSION).toString();
+    }
+
+    /**
+     * Decodes a memo text, up to the first zero byte.
+     *
+     * @param data
+     *            the memo data.
+     * @param start
+     *            the text position in data.
+     * @param length
+     *            the maximum text length.
+     * @param charset
+     *            the table charset.
+     * @return the text.
+     */
+    private static String decode(final byte[] data, final int start, final int length, final Charset charset) {
+        int end = start;
+        while ((end < (start + length)) && (data[end] != 0)) {
+            end++;
+        }
+        return new String(data, start, end - start, charset);
+    }
+
+    /**
+     * Adds a record to the postings of a word.
+     *
+     * @param words
+     *            the word postings.
+     * @param word
+     *            the word.
+     * @param rowId
+     *            the record ROWID.
+     */
+    private static void add(final Map<String, Set<Integer>> words, final String word, final int rowId) {
+        Set<Integer> rowIds = words.get(word);
+        if (rowIds == null) {
+            rowIds = new HashSet<>();
+            words.put(word, rowIds);
+        }
+        rowIds.add(rowId);
+    }
+
+    /**
+     * Adds ROWIDs to a set.
+     *
+     * @param rowIds
+     *            the set to fill.
+     * @param values
+     *            the ROWIDs to add.
+     */
+    private static void addAll(final Set<Integer> rowIds, final int[] values) {
+        for (final int rowId : values) {
+            rowIds.add(rowId);
+        }
+    }
+
+    /**
+     * Keeps the ROWIDs that are in a set.
+     *
+     * @param values
+     *            the sorted ROWIDs.
+     * @param rowIds
+     *            the ROWIDs to keep.
+     * @return the ROWIDs kept, sorted.
+     */
+    private static int[] retain(final int[] values, final Set<Integer> rowIds) {
+        final int[] result = new int[values.length];
+        int count = 0;
+        for (final int rowId : values) {
+            if (rowIds.contains(rowId)) {
+                result[count++] = rowId;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    /**
+     * Converts a ROWID set to a sorted array.
+     *
+     * @param rowIds
+     *            the ROWIDs.
+     * @return the sorted ROWIDs.
+     */
+    private static int[] toSortedArray(final Set<Integer> rowIds) {
+        final int[] result = new int[rowIds.size()];
+        int i = 0;
+        for (final int rowId : rowIds) {
+            result[i++] = rowId;
+        }
+        Arrays.sort(result);
+        return result;
+    }
+
+    /**
+     * Reads a ROWID list.
+     *
+     * @param in
+     *            the input to read of.
+     * @return the ROWIDs.
+     * @throws IOException
+     *             in case of read errors.
+     */
+    private static int[] readRows(final DataInputStream in) throws IOException {
+        final int[] rowIds = new int[in.readInt()];
+        for (int i = 0; i < rowIds.length; i++) {
+            rowIds[i] = in.readInt();
+        }
+        return rowIds;
+    }
+
+    /**
+     * Writes a ROWID list.
+     *
+     * @param out
+     *            the output to write on.
+     * @param rowIds
+     *            the ROWIDs.
+     * @throws IOException
+     *             in case of write errors.
+     */
+    private static void writeRows(final DataOutputStream out, final int[] rowIds) throws IOException {
+        out.writeInt(rowIds.length);
+        for (final int rowId : rowIds) {
+            out.writeInt(rowId);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * MemoPrefetch.java 10/19/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data;
+
+import com.googlecode.paradox.data.table.value.ClobDescriptor;
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.metadata.BlobTable;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads the memos of a batch of rows in MB file order.
+ * <p>
+ * Reading each memo when used seeks back and forth over the MB file. The memos of a batch are sorted by block address
+ * and read in one ascending pass, so the blocks shared by many memos are read only once.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4
+ */
+public final class MemoPrefetch {
+    
+    /**
+     * Orders the memos by MB block address.
+     */
+    private static final Comparator<ClobDescriptor> BLOCK_ORDER = new Comparator<ClobDescriptor>() {
+        
+        /**
+         * {@inheritDoc}.
+         */
+        @Override
+        public int compare(final ClobDescriptor o1, final ClobDescriptor o2) {
+            return Long.compare(o1.getOffset() & 0xFFFF_FFFFL, o2.getOffset() & 0xFFFF_FFFFL);
+        }
+    };
+    
+    /**
+     * Utility class.
+     */
+    private MemoPrefetch() {
+        // Utility class.
+    }
+    
+    /**
+     * Reads the memos of rows not read yet and keeps the data in their descriptors.
+     *
+     * @param rows
+     *            the rows to read.
+     * @throws SQLException
+     *             in case of read errors.
+     */
+    public static void prefetch(final List<List<FieldValue>> rows) throws SQLException {
+        final Map<BlobTable, List<ClobDescriptor>> memos = new IdentityHashMap<>();
+        for (final List<FieldValue> row : rows) {
+            for (final FieldValue value : row) {
+                if (value == null) {
+                    continue;
+                }
+                final Object descriptor = value.getValue();
+                if (descriptor instanceof ClobDescriptor) {
+                    MemoPrefetch.add(memos, (ClobDescriptor) descriptor);
+                }
+            }
+        }
+        
+        for (final Map.Entry<BlobTable, List<ClobDescriptor>> entry : memos.entrySet()) {
+            final List<ClobDescriptor> descriptors = entry.getValue();
+            Collections.sort(descriptors, MemoPrefetch.BLOCK_ORDER);
+            
+            final long[] offsets = new long[descriptors.size()];
+            final byte[][] values = new byte[descriptors.size()][];
+            for (int i = 0; i < offsets.length; i++) {
+                offsets[i] = descriptors.get(i).getOffset() & 0xFFFF_FFFFL;
+                values[i] = new byte[(int) descriptors.get(i).getLength()];
+            }
+            entry.getKey().read(offsets, values);
+            for (int i = 0; i < offsets.length; i++) {
+                descriptors.get(i).setData(values[i]);
+            }
+        }
+    }
+    
+    /**
+     * Adds a memo to read, if stored in the MB file and not read yet.
+     *
+     * @param memos
+     *            the memos to read by MB file.
+     * @param descriptor
+     *            the memo descriptor.
+     */
+    private static void add(final Map<BlobTable, List<ClobDescriptor>> memos, final ClobDescriptor descriptor) {
+        if ((descriptor.getOffset() == 0) || (descriptor.getLength() <= 0) || (descriptor.getData() != null)
+                || (descriptor.getFile() == null)) {
+            return;
+        }
+        List<ClobDescriptor> list = memos.get(descriptor.getFile());
+        if (list == null) {
+            list = new ArrayList<>();
+            memos.put(descriptor.getFile(), list);
+        }
+        list.add(descriptor);
+    }
+}
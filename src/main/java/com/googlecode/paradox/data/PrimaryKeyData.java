@@ -9,8 +9,10 @@
 package com.googlecode.paradox.data;
 
 import com.googlecode.paradox.ParadoxConnection;
+import com.googlecode.paradox.metadata.ParadoxField;
 import com.googlecode.paradox.metadata.ParadoxPK;
 import com.googlecode.paradox.metadata.ParadoxTable;
+import com.googlecode.paradox.utils.SQLStates;
 import com.googlecode.paradox.utils.filefilters.PrimaryKeyFilter;
 import java.io.File;
 import java.io.FileInputStream;
@@ -19,16 +21,39 @@ import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.channels.FileChannel;
 import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 
 /**
  * Reads primary key data fields.
  *
  * @author Leonardo Alves da Costa
- * @version 1.1
+ * @version 1.4
  * @since 1.0
  */
 public final class PrimaryKeyData {
     
+    /**
+     * The index block header size.
+     */
+    private static final int BLOCK_HEADER_SIZE = 6;
+    
+    /**
+     * The sort order where alpha keys are sorted by their bytes.
+     */
+    private static final String BINARY_SORT_ORDER = "ascii";
+    
+    /**
+     * Alpha field type.
+     */
+    private static final int TYPE_ALPHA = 0x01;
+    
+    /**
+     * The size of the block pointer, record count and reserved values after the key in each index record.
+     */
+    private static final int RECORD_TRAILER_SIZE = 6;
+    
     /**
      * Utility class.
      */
@@ -48,12 +73,10 @@ public final class PrimaryKeyData {
      *             in case of load failures.
      */
     public static ParadoxPK getPrimaryKey(final ParadoxConnection conn, final ParadoxTable table) throws SQLException {
-        final String name = table.getName() + ".PX";
-        
-        final File[] fileList = conn.getDir().listFiles(new PrimaryKeyFilter(name));
-        if ((fileList != null) && (fileList.length > 0)) {
+        final File file = PrimaryKeyData.getFile(conn, table);
+        if (file != null) {
             try {
-                return PrimaryKeyData.loadPKHeader(fileList[0]);
+                return PrimaryKeyData.loadPKHeader(file);
             } catch (final IOException ex) {
                 throw new SQLException("Error loading Paradox tables.", ex);
             }
@@ -61,6 +84,270 @@ public final class PrimaryKeyData {
         return null;
     }
     
+    /**
+     * Gets the data block with the lowest or the highest keys of the table.
+     * <p>
+     * Only the index blocks in the path from the root to the first or last leaf record are read.
+     *
+     * @param conn
+     *            the database connection.
+     * @param table
+     *            the indexed table.
+     * @param last
+     *            true to get the block with the highest keys.
+     * @return the data block number or zero if the table is empty or has no usable index.
+     * @throws SQLException
+     *             in case of I/O errors.
+     */
+    public static int getKeyBlock(final ParadoxConnection conn, final ParadoxTable table, final boolean last)
+            throws SQLException {
+        final File file = PrimaryKeyData.getFile(conn, table);
+        if (file == null) {
+            return 0;
+        }
+        
+        try (final FileInputStream fs = new FileInputStream(file); FileChannel channel = fs.getChannel()) {
+            final ParadoxPK pk = PrimaryKeyData.loadPKHeader(file);
+            final int recordSize = pk.getRecordSize();
+            if ((pk.getRowCount() == 0) || (pk.getIndexLevels() <= 0) || (recordSize <= PrimaryKeyData.RECORD_TRAILER_SIZE)) {
+                return 0;
+            }
+            
+            final ByteBuffer buffer = ByteBuffer.allocate((pk.getBlockSize() & 0xFF) * 1_024);
+            int block = pk.getRootBlock();
+            for (int level = 0; (level < pk.getIndexLevels()) && (block > 0); level++) {
+                buffer.clear();
+                buffer.order(ByteOrder.LITTLE_ENDIAN);
+                channel.read(buffer, pk.getHeaderSize() + ((long) (block - 1) * buffer.capacity()));
+                
+                // The last record offset (negative if the block is empty).
+                final int addDataSize = buffer.getShort(4);
+                if (addDataSize < 0) {
+                    return 0;
+                }
+                int record = 0;
+                if (last) {
+                    record = addDataSize / recordSize;
+                }
+                
+                // Points to an index block or, in leaf level, to a data block.
+                buffer.order(ByteOrder.BIG_ENDIAN);
+                final int pointer = (PrimaryKeyData.BLOCK_HEADER_SIZE + ((record + 1) * recordSize))
+                        - PrimaryKeyData.RECORD_TRAILER_SIZE;
+                block = (buffer.getShort(pointer) ^ 0x8000) & 0xFFFF;
+            }
+            if (block > table.getTotalBlocks()) {
+                return 0;
+            }
+            return block;
+        } catch (final IOException e) {
+            throw new SQLException(e.getMessage(), SQLStates.INVALID_IO.getValue(), e);
+        }
+    }
+    
+    /**
+     * Lists the data blocks that can have records whose first key field starts with the prefix.
+     * <p>
+     * Only the index records around the prefix are visited, so a prefix search reads a small range of the table.
+     * Alpha keys are supported only in tables with the binary sort order, where the index order is the byte order of
+     * the keys.
+     *
+     * @param table
+     *            the indexed table.
+     * @param prefix
+     *            the first key field prefix, in the field raw format.
+     * @return the sorted data block numbers or <code>null</code> if the table index can not be used.
+     * @throws SQLException
+     *             in case of I/O errors.
+     */
+    public static int[] listPrefixBlocks(final ParadoxTable table, final byte[] prefix) throws SQLException {
+        return PrimaryKeyData.listPrefixBlocks(table, Collections.singleton(prefix));
+    }
+    
+    /**
+     * Lists the data blocks that can have records whose first key field starts with any of the prefixes.
+     * <p>
+     * The index file is opened once and each prefix is a descent from the root. A full key field value is an exact key
+     * lookup.
+     *
+     * @param table
+     *            the indexed table.
+     * @param prefixes
+     *            the first key field prefixes, in the field raw format.
+     * @return the sorted data block numbers or <code>null</code> if the table index can not be used.
+     * @throws SQLException
+     *             in case of I/O errors.
+     */
+    public static int[] listPrefixBlocks(final ParadoxTable table, final Collection<byte[]> prefixes)
+            throws SQLException {
+        if ((table.getPrimaryFieldCount() <= 0) || (table.getFile() == null)) {
+            return null;
+        }
+        return PrimaryKeyData.listPrefixBlocks(table,
+                PrimaryKeyData.getFile(table.getFile().getParentFile(), table), prefixes);
+    }
+    
+    /**
+     * Lists the blocks of an indexed file that can have records whose first key field starts with any of the
+     * prefixes.
+     *
+     * @param table
+     *            the indexed file (a table or a secondary index).
+     * @param file
+     *            the index file, <code>null</code> if it does not exist.
+     * @param prefixes
+     *            the first key field prefixes, in the field raw format.
+     * @return the sorted block numbers or <code>null</code> if the index can not be used.
+     * @throws SQLException
+     *             in case of I/O errors.
+     */
+    static int[] listPrefixBlocks(final ParadoxTable table, final File file, final Collection<byte[]> prefixes)
+            throws SQLException {
+        final ParadoxField field = table.getFields().get(0);
+        if ((file == null) || ((field.getType() == PrimaryKeyData.TYPE_ALPHA)
+                && !PrimaryKeyData.BINARY_SORT_ORDER.equalsIgnoreCase(table.getSortOrderID()))) {
+            return null;
+        }
+        
+        try (final FileInputStream fs = new FileInputStream(file); FileChannel channel = fs.getChannel()) {
+            final ParadoxPK pk = PrimaryKeyData.loadPKHeader(file);
+            if ((pk.getIndexLevels() <= 0) || (pk.getRecordSize() <= PrimaryKeyData.RECORD_TRAILER_SIZE)) {
+                return null;
+            }
+            if (pk.getRowCount() == 0) {
+                return new int[0];
+            }
+            
+            final boolean[] found = new boolean[table.getTotalBlocks() + 1];
+            for (final byte[] prefix : prefixes) {
+                final int length = Math.min(prefix.length, field.getSize());
+                PrimaryKeyData.listPrefixBlocks(channel, pk, pk.getRootBlock(), 1, prefix, length, found);
+            }
+            final int[] blocks = new int[found.length];
+            int count = 0;
+            for (int block = 1; block < found.length; block++) {
+                if (found[block]) {
+                    blocks[count++] = block;
+                }
+            }
+            return Arrays.copyOf(blocks, count);
+        } catch (final IOException e) {
+            throw new SQLException(e.getMessage(), SQLStates.INVALID_IO.getValue(), e);
+        }
+    }
+    
+    /**
+     * Lists the data blocks under an index block that can have keys starting with the prefix.
+     *
+     * @param channel
+     *            the index file.
+     * @param pk
+     *            the index header.
+     * @param block
+     *            the index block to read.
+     * @param level
+     *            the index block level, one for the root.
+     * @param prefix
+     *            the key prefix.
+     * @param length
+     *            the prefix length to compare.
+     * @param found
+     *            the data blocks found, by block number.
+     * @throws IOException
+     *             in case of I/O errors.
+     */
+    private static void listPrefixBlocks(final FileChannel channel, final ParadoxPK pk, final int block,
+            final int level, final byte[] prefix, final int length, final boolean[] found) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate((pk.getBlockSize() & 0xFF) * 1_024);
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        channel.read(buffer, pk.getHeaderSize() + ((long) (block - 1) * buffer.capacity()));
+        final byte[] data = buffer.array();
+        
+        final int addDataSize = buffer.getShort(4);
+        if (addDataSize < 0) {
+            return;
+        }
+        final int recordSize = pk.getRecordSize();
+        final int records = (addDataSize / recordSize) + 1;
+        
+        // Each record has the first key of its child block.
+        buffer.order(ByteOrder.BIG_ENDIAN);
+        for (int record = 0; record < records; record++) {
+            final int start = PrimaryKeyData.BLOCK_HEADER_SIZE + (record * recordSize);
+            if (PrimaryKeyData.compare(data, start, prefix, length) > 0) {
+                break;
+            }
+            if ((record < (records - 1)) && (PrimaryKeyData.compare(data, start + recordSize, prefix, length) < 0)) {
+                // The next child starts before the prefix.
+                continue;
+            }
+            
+            final int child = (buffer.getShort((start + recordSize) - PrimaryKeyData.RECORD_TRAILER_SIZE) ^ 0x8000)
+                    & 0xFFFF;
+            if (level < pk.getIndexLevels()) {
+                PrimaryKeyData.listPrefixBlocks(channel, pk, child, level + 1, prefix, length, found);
+            } else if ((child > 0) && (child < found.length)) {
+                found[child] = true;
+            }
+        }
+    }
+    
+    /**
+     * Compares the beginning of a key with a prefix, as unsigned bytes.
+     *
+     * @param data
+     *            the key data.
+     * @param start
+     *            the key position.
+     * @param prefix
+     *            the prefix.
+     * @param length
+     *            the number of bytes to compare.
+     * @return a negative number, zero or a positive number if the key is less than, starts with or is greater than
+     *         the prefix.
+     */
+    private static int compare(final byte[] data, final int start, final byte[] prefix, final int length) {
+        for (int i = 0; i < length; i++) {
+            final int diff = (data[start + i] & 0xFF) - (prefix[i] & 0xFF);
+            if (diff != 0) {
+                return diff;
+            }
+        }
+        return 0;
+    }
+    
+    /**
+     * Gets the primary key file of a table.
+     *
+     * @param conn
+     *            the database connection.
+     * @param table
+     *            the table.
+     * @return the primary key file or <code>null</code> if the table has no primary key.
+     */
+    private static File getFile(final ParadoxConnection conn, final ParadoxTable table) {
+        return PrimaryKeyData.getFile(conn.getDir(), table);
+    }
+    
+    /**
+     * Gets the primary key file of a table.
+     *
+     * @param dir
+     *            the table directory.
+     * @param table
+     *            the table.
+     * @return the primary key file or <code>null</code> if the table has no primary key.
+     */
+    private static File getFile(final File dir, final ParadoxTable table) {
+        final String name = table.getName() + ".PX";
+        
+        final File[] fileList = dir.listFiles(new PrimaryKeyFilter(name));
+        if ((fileList != null) && (fileList.length > 0)) {
+            return fileList[0];
+        }
+        return null;
+    }
+    
     /**
      * Gets the {@link ParadoxPK} from a PK file.
      *
@@ -93,6 +380,10 @@ public final class PrimaryKeyData {
             buffer.position(0x15);
             pk.setIndexFieldNumber(buffer.get());
             
+            buffer.position(0x1E);
+            pk.setRootBlock(buffer.getShort() & 0xFFFF);
+            pk.setIndexLevels(buffer.get());
+            
             buffer.position(0x38);
             pk.setWriteProtected(buffer.get());
             pk.setVersionId(buffer.get());
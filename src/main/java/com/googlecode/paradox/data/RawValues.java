@@ -0,0 +1,161 @@
+/*
+ * RawValues.java 10/19/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data;
+
+/**
+ * Reads numeric values directly from record bytes, without creating field values.
+ * <p>
+ * Paradox stores a blank (null) value as a field with all bytes zero.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4
+ */
+public final class RawValues {
+
+    /**
+     * Auto increment field type.
+     */
+    public static final int TYPE_AUTO_INCREMENT = 0x16;
+
+    /**
+     * Currency field type.
+     */
+    public static final int TYPE_CURRENCY = 0x05;
+
+    /**
+     * Long field type.
+     */
+    public static final int TYPE_LONG = 0x04;
+
+    /**
+     * Number field type.
+     */
+    public static final int TYPE_NUMBER = 0x06;
+
+    /**
+     * Short field type.
+     */
+    public static final int TYPE_SHORT = 0x03;
+
+    /**
+     * Utility class.
+     */
+    private RawValues() {
+        // Utility class.
+    }
+
+    /**
+     * Reads a floating point value.
+     *
+     * @param data
+     *            the record data.
+     * @param offset
+     *            the field position.
+     * @param type
+     *            the field type (number, currency or an integer type).
+     * @return the field value.
+     */
+    public static double getDouble(final byte[] data, final int offset, final int type) {
+        if ((type == RawValues.TYPE_NUMBER) || (type == RawValues.TYPE_CURRENCY)) {
+            long bits = RawValues.read(data, offset, 8);
+            if ((bits >>> 63) == 1) {
+                bits &= 0x7FFF_FFFF_FFFF_FFFFL;
+            } else {
+                bits = ~bits;
+            }
+            return Double.longBitsToDouble(bits);
+        }
+        return RawValues.getLong(data, offset, type);
+    }
+
+    /**
+     * Reads an integer value.
+     *
+     * @param data
+     *            the record data.
+     * @param offset
+     *            the field position.
+     * @param type
+     *            the field type (short, long or auto increment).
+     * @return the field value.
+     */
+    public static long getLong(final byte[] data, final int offset, final int type) {
+        switch (type) {
+            case TYPE_SHORT:
+                return (short) (RawValues.read(data, offset, 2) ^ 0x8000);
+            case TYPE_AUTO_INCREMENT:
+                return RawValues.read(data, offset, 4) & 0x0FFF_FFFF;
+            default:
+                return (int) (RawValues.read(data, offset, 4) ^ 0x8000_0000L);
+        }
+    }
+
+    /**
+     * Gets if a field type is stored as an integer value.
+     *
+     * @param type
+     *            the field type.
+     * @return true if the field type is an integer type.
+     */
+    public static boolean isInteger(final int type) {
+        return (type == RawValues.TYPE_SHORT) || (type == RawValues.TYPE_LONG)
+                || (type == RawValues.TYPE_AUTO_INCREMENT);
+    }
+
+    /**
+     * Gets if the field value is blank (null).
+     *
+     * @param data
+     *            the record data.
+     * @param offset
+     *            the field position.
+     * @param size
+     *            the field size.
+     * @return true if the field is null.
+     */
+    public static boolean isNull(final byte[] data, final int offset, final int size) {
+        for (int i = 0; i < size; i++) {
+            if (data[offset + i] != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets if a field type is stored as a numeric value.
+     *
+     * @param type
+     *            the field type.
+     * @return true if the field type is numeric.
+     */
+    public static boolean isNumeric(final int type) {
+        return RawValues.isInteger(type) || (type == RawValues.TYPE_NUMBER) || (type == RawValues.TYPE_CURRENCY);
+    }
+
+    /**
+     * Reads a big endian value.
+     *
+     * @param data
+     *            the record data.
+     * @param offset
+     *            the value position.
+     * @param bytes
+     *            the value size.
+     * @return the value read.
+     */
+    public static long read(final byte[] data, final int offset, final int bytes) {
+        long value = 0;
+        for (int i = 0; i < bytes; i++) {
+            value = (value << 8) | (data[offset + i] & 0xFF);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,516 @@
+/*
+ * TableCursor.java 10/19/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data;
+
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.metadata.ParadoxField;
+import com.googlecode.paradox.metadata.ParadoxTable;
+import com.googlecode.paradox.utils.Cancellation;
+import com.googlecode.paradox.utils.SQLStates;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Reads the table rows one by one following the data block chain.
+ * <p>
+ * Blocks are read only when the previous one is exhausted, so callers that stop early do not read the rest of the
+ * table. Rows are decoded only when requested, so records skipped by the caller are never decoded.
+ * <p>
+ * When reading a block list, adjacent blocks are read together in a single read of up to {@link #RUN_SIZE} bytes.
+ * The cursor can also move to any row with {@link #seek(int)}, reading only the block that holds it.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.8
+ * @since 1.4
+ */
+public final class TableCursor implements AutoCloseable {
+
+    /**
+     * Data block header size.
+     */
+    public static final int BLOCK_HEADER_SIZE = 6;
+
+    /**
+     * Maximum size of a read of adjacent blocks.
+     */
+    public static final int RUN_SIZE = 256 * 1024;
+
+    /**
+     * Next position in block list.
+     */
+    private int blockIndex;
+
+    /**
+     * The blocks to read, <code>null</code> to follow the block chain.
+     */
+    private final int[] blocks;
+
+    /**
+     * Copy of current block data shared by lazy rows, <code>null</code> if not copied yet.
+     */
+    private byte[] blockCopy;
+
+    /**
+     * The statement cancellation, <code>null</code> if the scan can't be canceled.
+     */
+    private Cancellation cancellation;
+
+    /**
+     * The block buffer.
+     */
+    private final ByteBuffer buffer;
+
+    /**
+     * The table file channel.
+     */
+    private final FileChannel channel;
+
+    /**
+     * The current block number.
+     */
+    private int currentBlock;
+
+    /**
+     * The directory of the blocks read, in reading order, <code>null</code> if not loaded yet.
+     */
+    private BlockDirectory directory;
+
+    /**
+     * The fields to read.
+     */
+    private final Collection<ParadoxField> fields;
+
+    /**
+     * The next block to read (zero if there is no more blocks).
+     */
+    private int nextBlock;
+
+    /**
+     * If the rows are decoded only when their values are read.
+     */
+    private boolean lazy;
+
+    /**
+     * If the cursor is on a row.
+     */
+    private boolean onRow;
+
+    /**
+     * The current row, <code>null</code> if not decoded yet.
+     */
+    private List<FieldValue> row;
+
+    /**
+     * Adjacent blocks read ahead, <code>null</code> if there was no run of adjacent blocks.
+     */
+    private ByteBuffer run;
+
+    /**
+     * Number of the first block in read ahead buffer.
+     */
+    private int runFirst;
+
+    /**
+     * Number of blocks in read ahead buffer.
+     */
+    private int runBlocks;
+
+    /**
+     * Next row index in current block.
+     */
+    private int rowInBlock;
+
+    /**
+     * Row count in current block.
+     */
+    private int rowsInBlock;
+
+    /**
+     * The table file stream.
+     */
+    private final FileInputStream stream;
+
+    /**
+     * The table to read.
+     */
+    private final ParadoxTable table;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param table
+     *            the table to read.
+     * @param fields
+     *            the fields to read (if empty, only the raw records are read).
+     * @throws SQLException
+     *             in case of I/O errors.
+     */
+    public TableCursor(final ParadoxTable table, final Collection<ParadoxField> fields) throws SQLException {
+        this(table, fields, null);
+    }
+
+    /**
+     * Creates a new instance that reads only some blocks.
+     *
+     * @param table
+     *            the table to read.
+     * @param fields
+     *            the fields to read (if empty, only the raw records are read).
+     * @param blocks
+     *            the blocks to read, in order, or <code>null</code> to follow the block chain.
+     * @throws SQLException
+     *             in case of I/O errors.
+     * @see #listBlocks(ParadoxTable)
+     */
+    public TableCursor(final ParadoxTable table, final Collection<ParadoxField> fields, final int[] blocks)
+            throws SQLException {
+        this.table = table;
+        this.fields = fields;
+        this.blocks = blocks;
+        this.buffer = ByteBuffer.allocate(table.getBlockSizeBytes());
+        try {
+            this.stream = new FileInputStream(table.getFile());
+        } catch (final IOException e) {
+            throw new SQLException(e.getMessage(), SQLStates.INVALID_IO.getValue(), e);
+        }
+        this.channel = this.stream.getChannel();
+        if (blocks != null) {
+            if (blocks.length > 0) {
+                this.nextBlock = blocks[0];
+            }
+        } else if (table.getUsedBlocks() != 0) {
+            this.nextBlock = table.getFirstBlock() & 0xFFFF;
+        }
+    }
+
+    /**
+     * Lists the table data blocks in chain order.
+     * <p>
+     * The blocks come from the table block directory, so only the block headers are read, once per table.
+     *
+     * @param table
+     *            the table to read.
+     * @return the block numbers.
+     * @throws SQLException
+     *             in case of I/O errors.
+     */
+    public static int[] listBlocks(final ParadoxTable table) throws SQLException {
+        return table.getBlockDirectory().getBlocks();
+    }
+
+    /**
+     * Lists the table data blocks in file order.
+     * <p>
+     * The block chain is used only to find the blocks in use, so a cursor over this list reads the file sequentially
+     * even if inserts and deletes scattered the chain. The rows are not in table order.
+     *
+     * @param table
+     *            the table to read.
+     * @return the block numbers in ascending file offset.
+     * @throws SQLException
+     *             in case of I/O errors.
+     */
+    public static int[] listBlocksByOffset(final ParadoxTable table) throws SQLException {
+        final int[] blocks = TableCursor.listBlocks(table);
+        Arrays.sort(blocks);
+        return blocks;
+    }
+
+    /**
+     * Counts the records in a block.
+     *
+     * @param table
+     *            the table of the block.
+     * @param lastRecordOffset
+     *            the last record offset in block header (negative if the block is empty).
+     * @return the number of records in block.
+     */
+    static int countRows(final ParadoxTable table, final int lastRecordOffset) {
+        if (lastRecordOffset < 0) {
+            return 0;
+        }
+        return (lastRecordOffset / table.getRecordSize()) + 1;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void close() throws SQLException {
+        try {
+            this.stream.close();
+        } catch (final IOException e) {
+            throw new SQLException(e.getMessage(), SQLStates.INVALID_IO.getValue(), e);
+        }
+    }
+
+    /**
+     * Sets the statement cancellation, checked before each block read.
+     *
+     * @param cancellation
+     *            the statement cancellation, <code>null</code> if the scan can't be canceled.
+     */
+    public void setCancellation(final Cancellation cancellation) {
+        this.cancellation = cancellation;
+    }
+
+    /**
+     * Sets if the rows are decoded only when their values are read.
+     * <p>
+     * Lazy rows keep a copy of their block data, so they stay valid after the cursor moves.
+     *
+     * @param lazy
+     *            true to decode the values when read.
+     */
+    public void setLazy(final boolean lazy) {
+        this.lazy = lazy;
+    }
+
+    /**
+     * Gets the current block number.
+     *
+     * @return the current block number.
+     */
+    public int getBlock() {
+        return this.currentBlock;
+    }
+
+    /**
+     * Gets the current block data, in table file format.
+     *
+     * @return the current block data.
+     * @see #getRecordOffset()
+     */
+    public byte[] getBlockData() {
+        return this.buffer.array();
+    }
+
+    /**
+     * Gets the number of records in current block.
+     *
+     * @return the number of records in current block.
+     */
+    public int getBlockRows() {
+        return this.rowsInBlock;
+    }
+
+    /**
+     * Gets the current record position in block data.
+     *
+     * @return the current record position in block data.
+     * @see #getBlockData()
+     */
+    public int getRecordOffset() {
+        return TableCursor.BLOCK_HEADER_SIZE + ((this.rowInBlock - 1) * this.table.getRecordSize());
+    }
+
+    /**
+     * Gets the current record position in block.
+     *
+     * @return the current record position in block, starting at zero.
+     */
+    public int getSlot() {
+        return this.rowInBlock - 1;
+    }
+
+    /**
+     * Gets the current row.
+     *
+     * @return the current row or <code>null</code> after the last row.
+     * @throws SQLException
+     *             in case of parse errors.
+     */
+    public List<FieldValue> getRow() throws SQLException {
+        if (this.onRow && (this.row == null)) {
+            if (this.fields.isEmpty()) {
+                this.row = Collections.emptyList();
+            } else if (this.lazy) {
+                if (this.blockCopy == null) {
+                    this.blockCopy = this.buffer.array().clone();
+                }
+                this.row = TableData.readLazyRow(this.table, this.fields, this.blockCopy, this.getRecordOffset());
+            } else {
+                this.buffer.position(this.getRecordOffset());
+                this.row = TableData.readRow(this.table, this.fields, this.buffer);
+            }
+        }
+        return this.row;
+    }
+
+    /**
+     * Moves to the next block, skipping the rows not read in current block.
+     * <p>
+     * The records of the block are in block data, starting at {@link #BLOCK_HEADER_SIZE}.
+     *
+     * @return true if there is a block to read.
+     * @throws SQLException
+     *             in case of I/O errors.
+     */
+    public boolean nextBlock() throws SQLException {
+        this.row = null;
+        this.onRow = false;
+        if (this.nextBlock == 0) {
+            this.rowInBlock = this.rowsInBlock;
+            return false;
+        }
+        this.readBlock();
+        return true;
+    }
+
+    /**
+     * Moves before a row, so the next call to {@link #next()} reads it.
+     * <p>
+     * The row number counts the rows of the blocks read by this cursor, in reading order.
+     *
+     * @param row
+     *            the row number, starting at zero.
+     * @return true if the row exists.
+     * @throws SQLException
+     *             in case of I/O errors.
+     */
+    public boolean seek(final int row) throws SQLException {
+        if (this.directory == null) {
+            this.directory = this.table.getBlockDirectory();
+            if (this.blocks != null) {
+                this.directory = this.directory.reorder(this.blocks);
+            }
+        }
+        this.row = null;
+        this.onRow = false;
+
+        final int index = this.directory.find(row);
+        if (index < 0) {
+            this.nextBlock = 0;
+            this.rowInBlock = this.rowsInBlock;
+            return false;
+        }
+        this.blockIndex = index;
+        this.nextBlock = this.directory.getBlock(index);
+        this.readBlock();
+        this.rowInBlock = row - this.directory.getFirstRow(index);
+        return true;
+    }
+
+    /**
+     * Moves to the next row.
+     *
+     * @return true if there is a row to read.
+     * @throws SQLException
+     *             in case of I/O or parse errors.
+     */
+    public boolean next() throws SQLException {
+        while (this.rowInBlock >= this.rowsInBlock) {
+            if (this.nextBlock == 0) {
+                this.row = null;
+                this.onRow = false;
+                return false;
+            }
+            this.readBlock();
+        }
+
+        this.row = null;
+        this.onRow = true;
+        this.rowInBlock++;
+        return true;
+    }
+
+    /**
+     * Reads the next block in chain.
+     *
+     * @throws SQLException
+     *             in case of I/O errors.
+     */
+    private void readBlock() throws SQLException {
+        if (this.cancellation != null) {
+            this.cancellation.check();
+        }
+        this.currentBlock = this.nextBlock;
+        this.blockCopy = null;
+        final int blockSize = this.table.getBlockSizeBytes();
+        try {
+            this.buffer.clear();
+            this.buffer.order(ByteOrder.LITTLE_ENDIAN);
+            if ((this.blocks != null) && this.readRun(blockSize)) {
+                final int start = (this.nextBlock - this.runFirst) * blockSize;
+                this.buffer.put(this.run.array(), start, Math.max(0, Math.min(blockSize, this.run.limit() - start)));
+            } else {
+                this.channel.position(this.table.getHeaderSize() + ((long) (this.nextBlock - 1) * blockSize));
+                this.channel.read(this.buffer);
+            }
+            this.buffer.flip();
+        } catch (final IOException e) {
+            throw new SQLException(e.getMessage(), SQLStates.INVALID_IO.getValue(), e);
+        }
+
+        this.nextBlock = this.buffer.getShort() & 0xFFFF;
+        if (this.blocks != null) {
+            this.blockIndex++;
+            if (this.blockIndex < this.blocks.length) {
+                this.nextBlock = this.blocks[this.blockIndex];
+            } else {
+                this.nextBlock = 0;
+            }
+        }
+        // The previous block number.
+        this.buffer.getShort();
+
+        // The last record offset (negative if the block is empty).
+        this.rowsInBlock = TableCursor.countRows(this.table, this.buffer.getShort());
+        this.rowInBlock = 0;
+
+        this.buffer.order(ByteOrder.BIG_ENDIAN);
+    }
+
+    /**
+     * Reads the next block and the adjacent blocks that follow it in block list.
+     *
+     * @param blockSize
+     *            the block size in bytes.
+     * @return true if the next block is in read ahead buffer.
+     * @throws IOException
+     *             in case of I/O errors.
+     */
+    private boolean readRun(final int blockSize) throws IOException {
+        if ((this.nextBlock >= this.runFirst) && (this.nextBlock < (this.runFirst + this.runBlocks))) {
+            return true;
+        }
+
+        final int maxBlocks = Math.min(TableCursor.RUN_SIZE / blockSize, this.blocks.length);
+        int count = 1;
+        while ((count < maxBlocks) && ((this.blockIndex + count) < this.blocks.length)
+                && (this.blocks[this.blockIndex + count] == (this.nextBlock + count))) {
+            count++;
+        }
+        if (count == 1) {
+            return false;
+        }
+
+        if (this.run == null) {
+            this.run = ByteBuffer.allocate(maxBlocks * blockSize);
+        }
+        this.run.clear();
+        this.run.limit(count * blockSize);
+        final long position = this.table.getHeaderSize() + ((long) (this.nextBlock - 1) * blockSize);
+        while (this.run.hasRemaining() && (this.channel.read(this.run, position + this.run.position()) >= 0)) {
+            // Reads until the run is full or the file ends.
+        }
+        this.run.flip();
+        this.runFirst = this.nextBlock;
+        this.runBlocks = count;
+        return true;
+    }
+}
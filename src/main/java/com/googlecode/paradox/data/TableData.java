@@ -12,6 +12,7 @@ import com.googlecode.paradox.ParadoxConnection;
 import com.googlecode.paradox.data.table.value.FieldValue;
 import com.googlecode.paradox.metadata.ParadoxField;
 import com.googlecode.paradox.metadata.ParadoxTable;
+import com.googlecode.paradox.utils.Cancellation;
 import com.googlecode.paradox.utils.SQLStates;
 import com.googlecode.paradox.utils.Utils;
 import com.googlecode.paradox.utils.filefilters.TableFilter;
@@ -23,6 +24,7 @@ import java.nio.ByteOrder;
 import java.nio.channels.FileChannel;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 
@@ -30,7 +32,7 @@ import java.util.List;
  * Utility class for loading table files.
  *
  * @author Leonardo Alves da Costa
- * @version 1.1
+ * @version 1.12
  * @since 1.0
  */
 public final class TableData extends AbstractParadoxData {
@@ -42,6 +44,29 @@ public final class TableData extends AbstractParadoxData {
         // Utility class.
     }
 
+    /**
+     * Checks if the table header in file differs from the header the table was loaded from.
+     *
+     * @param table
+     *            the table to check.
+     * @return true if the header changed or can not be read.
+     */
+    public static boolean isHeaderChanged(final ParadoxTable table) {
+        final byte[] header = table.getHeader();
+        if (header == null) {
+            return true;
+        }
+        final ByteBuffer buffer = ByteBuffer.allocate(header.length);
+        try (FileInputStream fs = new FileInputStream(table.getFile()); FileChannel channel = fs.getChannel()) {
+            while (buffer.hasRemaining() && (channel.read(buffer) >= 0)) {
+                // Reads the whole header.
+            }
+        } catch (final IOException e) {
+            return true;
+        }
+        return !Arrays.equals(header, buffer.array());
+    }
+
     /**
      * List all database tables.
      *
@@ -57,6 +82,9 @@ public final class TableData extends AbstractParadoxData {
         if (fileList != null) {
             for (final File file : fileList) {
                 final ParadoxTable table = TableData.loadTableHeader(file);
+                table.setBlobIndexDir(conn.getBlobIndexDir());
+                table.setFullTextIndex(conn.isFullTextIndex());
+                table.setTrigramColumns(conn.getTrigramColumns(table.getName()));
                 tables.add(table);
             }
         }
@@ -81,6 +109,9 @@ public final class TableData extends AbstractParadoxData {
         if (fileList != null) {
             for (final File file : fileList) {
                 final ParadoxTable table = TableData.loadTableHeader(file);
+                table.setBlobIndexDir(conn.getBlobIndexDir());
+                table.setFullTextIndex(conn.isFullTextIndex());
+                table.setTrigramColumns(conn.getTrigramColumns(table.getName()));
                 tables.add(table);
             }
         }
@@ -100,45 +131,65 @@ public final class TableData extends AbstractParadoxData {
      */
     public static List<List<FieldValue>> loadData(final ParadoxTable table, final Collection<ParadoxField> fields)
             throws SQLException {
-        final List<List<FieldValue>> ret = new ArrayList<>();
-
-        final int blockSize = table.getBlockSizeBytes();
-        final int recordSize = table.getRecordSize();
-        final int headerSize = table.getHeaderSize();
-        final ByteBuffer buffer = ByteBuffer.allocate(blockSize);
+        return TableData.loadData(table, fields, null);
+    }
 
-        try (FileInputStream fs = new FileInputStream(table.getFile()); FileChannel channel = fs.getChannel()) {
-            if (table.getUsedBlocks() == 0) {
-                return ret;
+    /**
+     * Load the table data from file, stopping if the statement is canceled.
+     *
+     * @param table
+     *            the table to read.
+     * @param fields
+     *            the fields to read.
+     * @param cancellation
+     *            the statement cancellation, <code>null</code> if the load can't be canceled.
+     * @return the row values.
+     * @throws SQLException
+     *             in case of failures or if the statement is canceled.
+     */
+    public static List<List<FieldValue>> loadData(final ParadoxTable table, final Collection<ParadoxField> fields,
+            final Cancellation cancellation) throws SQLException {
+        final List<List<FieldValue>> ret = new ArrayList<>();
+        try (TableCursor cursor = new TableCursor(table, fields)) {
+            cursor.setCancellation(cancellation);
+            while (cursor.next()) {
+                ret.add(cursor.getRow());
             }
-            long nextBlock = table.getFirstBlock();
-            do {
-                buffer.order(ByteOrder.LITTLE_ENDIAN);
-                channel.position(headerSize + ((nextBlock - 1) * blockSize));
-
-                buffer.clear();
-                channel.read(buffer);
-                buffer.flip();
-
-                nextBlock = buffer.getShort();
-                // The block number.
-                buffer.getShort();
-
-                final int addDataSize = buffer.getShort() & 0xFFFF;
-                final int rowsInBlock = (addDataSize / recordSize) + 1;
-
-                buffer.order(ByteOrder.BIG_ENDIAN);
-
-                for (int loop = 0; loop < rowsInBlock; loop++) {
-                    ret.add(TableData.readRow(table, fields, buffer));
-                }
-            } while (nextBlock != 0);
-        } catch (final IOException e) {
-            throw new SQLException(e.getMessage(), SQLStates.INVALID_IO.getValue(), e);
         }
         return ret;
     }
 
+    /**
+     * Loads a single row, reading only the block that holds it.
+     * <p>
+     * The rows in use come from the block header, so the block chain is not read.
+     *
+     * @param table
+     *            the table to read.
+     * @param block
+     *            the data block number.
+     * @param slot
+     *            the record position in block.
+     * @return the row values, or <code>null</code> if there is no such row in use.
+     * @throws SQLException
+     *             in case of failures.
+     */
+    public static List<FieldValue> loadRow(final ParadoxTable table, final int block, final int slot)
+            throws SQLException {
+        if ((block < 1) || (block > table.getTotalBlocks()) || (slot < 0)) {
+            return null;
+        }
+        try (TableCursor cursor = new TableCursor(table, table.getFields(), new int[] { block })) {
+            if (!cursor.nextBlock() || (slot >= cursor.getBlockRows())) {
+                return null;
+            }
+            for (int i = 0; i <= slot; i++) {
+                cursor.next();
+            }
+            return cursor.getRow();
+        }
+    }
+
     /**
      * Fix the buffer position based on file version ID.
      *
@@ -171,7 +222,7 @@ public final class TableData extends AbstractParadoxData {
      * @throws SQLException
      *             in case of reading errors.
      */
-    private static ParadoxTable loadTableHeader(final File file) throws SQLException {
+    static ParadoxTable loadTableHeader(final File file) throws SQLException {
         final ParadoxTable table = new ParadoxTable(file, file.getName());
         ByteBuffer buffer = ByteBuffer.allocate(2048);
         buffer.order(ByteOrder.LITTLE_ENDIAN);
@@ -213,12 +264,15 @@ public final class TableData extends AbstractParadoxData {
             channel.position(0);
             buffer = ByteBuffer.allocate(table.getHeaderSize());
             channel.read(buffer);
+            table.setHeader(buffer.array());
 
             TableData.fixTablePositionByVersion(table, buffer, fields.size());
 
             TableData.parseTableFieldsName(table, buffer, fields);
 
             TableData.parseTableFieldsOrder(table, buffer);
+
+            TableData.parseSortOrderID(table, buffer);
         } catch (final IOException e) {
             throw new SQLException(e.getMessage(), SQLStates.INVALID_IO.getValue(), e);
         }
@@ -294,6 +348,57 @@ public final class TableData extends AbstractParadoxData {
         table.setFieldsOrder(fieldsOrder);
     }
 
+    /**
+     * Parse the sort order ID, stored after the fields order.
+     *
+     * @param table
+     *            the Paradox table.
+     * @param buffer
+     *            the buffer to read of.
+     */
+    private static void parseSortOrderID(final ParadoxTable table, final ByteBuffer buffer) {
+        final ByteBuffer sortOrderID = ByteBuffer.allocate(26);
+        while (buffer.hasRemaining() && sortOrderID.hasRemaining()) {
+            final byte c = buffer.get();
+            if (c == 0) {
+                break;
+            }
+            sortOrderID.put(c);
+        }
+        sortOrderID.flip();
+        table.setSortOrderID(table.getCharset().decode(sortOrderID).toString());
+    }
+
+    /**
+     * Reads a row without decoding its values.
+     * <p>
+     * Each value keeps a reference to the block data and is decoded only when read.
+     *
+     * @param table
+     *            the table to read of.
+     * @param fields
+     *            the fields to read.
+     * @param data
+     *            the block data, not changed while the row is in use.
+     * @param offset
+     *            the record position in block data.
+     * @return the row.
+     * @throws SQLException
+     *             if a field type is not supported.
+     */
+    public static List<FieldValue> readLazyRow(final ParadoxTable table, final Collection<ParadoxField> fields,
+            final byte[] data, final int offset) throws SQLException {
+        final List<FieldValue> row = new ArrayList<>(fields.size());
+        int position = offset;
+        for (final ParadoxField field : table.getFields()) {
+            if (fields.contains(field)) {
+                row.add(new FieldValue(table, field, FieldFactory.getParser(field), data, position));
+            }
+            position += field.getPhysicsSize();
+        }
+        return row;
+    }
+
     /**
      * Read a entire row.
      *
@@ -307,7 +412,7 @@ public final class TableData extends AbstractParadoxData {
      * @throws SQLException
      *             in case of parse errors.
      */
-    private static List<FieldValue> readRow(final ParadoxTable table, final Collection<ParadoxField> fields,
+    public static List<FieldValue> readRow(final ParadoxTable table, final Collection<ParadoxField> fields,
             final ByteBuffer buffer) throws SQLException {
         final List<FieldValue> row = new ArrayList<>();
 
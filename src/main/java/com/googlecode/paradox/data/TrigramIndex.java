@@ -0,0 +1,440 @@
+/*
+ * TrigramIndex.java 10/19/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data;
+
+import com.googlecode.paradox.metadata.ParadoxField;
+import com.googlecode.paradox.metadata.ParadoxTable;
+import com.googlecode.paradox.utils.Utils;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Trigram index of an alpha column, kept as a file next to the table file.
+ * <p>
+ * The index maps each sequence of three chars of the column values to the ROWIDs (block and slot) of the records that
+ * have it, so a search for a substring only reads the blocks of the records with all the substring trigrams. It is
+ * built by a table scan and is valid while the table has the same header, size and modification time: any change
+ * builds it again.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.1
+ * @since 1.4
+ */
+public final class TrigramIndex {
+
+    /**
+     * Index file identification ("PXTG").
+     */
+    private static final int MAGIC = 0x5058_5447;
+
+    /**
+     * Index file format version.
+     */
+    private static final int VERSION = 1;
+
+    /**
+     * Extension of the index file.
+     */
+    private static final String EXTENSION = ".tri";
+
+    /**
+     * The number of chars in a trigram.
+     */
+    private static final int GRAM_LENGTH = 3;
+
+    /**
+     * The table header when the index was built.
+     */
+    private byte[] header;
+
+    /**
+     * The ROWIDs of each trigram, sorted.
+     */
+    private final Map<String, int[]> postings = new HashMap<>();
+
+    /**
+     * The table file length when the index was built.
+     */
+    private long tableLength;
+
+    /**
+     * The table file modification time when the index was built.
+     */
+    private long tableModified;
+
+    /**
+     * Creates a new instance.
+     */
+    private TrigramIndex() {
+        super();
+    }
+
+    /**
+     * Opens the trigram index of an alpha column, building it if needed.
+     *
+     * @param table
+     *            the table.
+     * @param field
+     *            the alpha column.
+     * @return the index.
+     * @throws SQLException
+     *             in case of I/O errors.
+     */
+    public static TrigramIndex open(final ParadoxTable table, final ParadoxField field) throws SQLException {
+        final File file = new File(table.getFile().getParentFile(), TrigramIndex.getIndexName(table, field));
+        final TrigramIndex previous = TrigramIndex.load(file);
+        if ((previous != null) && previous.isCurrent(table)) {
+            return previous;
+        }
+
+        final TrigramIndex index = new TrigramIndex();
+        index.build(table, field);
+        try {
+            index.save(file);
+        } catch (final IOException ex) {
+            // The index is still used from memory if it can not be written.
+            if (!file.delete()) {
+                file.deleteOnExit();
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Gets the trigrams a value must have to match a LIKE pattern.
+     * <p>
+     * These are the trigrams of the literal parts of the pattern, between <code>%</code> and <code>_</code> wildcards.
+     *
+     * @param pattern
+     *            the LIKE pattern.
+     * @return the trigrams, empty if the pattern has no literal part with three chars.
+     */
+    public static List<String> getGrams(final String pattern) {
+        final Set<String> grams = new LinkedHashSet<>();
+        int start = 0;
+        for (int i = 0; i <= pattern.length(); i++) {
+            if ((i == pattern.length()) || (pattern.charAt(i) == '%') || (pattern.charAt(i) == '_')) {
+                for (int j = start; (j + TrigramIndex.GRAM_LENGTH) <= i; j++) {
+                    grams.add(pattern.substring(j, j + TrigramIndex.GRAM_LENGTH));
+                }
+                start = i + 1;
+            }
+        }
+        return new ArrayList<>(grams);
+    }
+
+    /**
+     * Gets if the index is valid for the current table file.
+     *
+     * @param table
+     *            the table.
+     * @return true if the table did not change since the index was built.
+     */
+    public boolean isCurrent(final ParadoxTable table) {
+        return (this.tableLength == table.getFile().length()) && (this.tableModified == table.getFile().lastModified())
+                && Arrays.equals(this.header, table.getHeader());
+    }
+
+    /**
+     * Lists the blocks of the records that have all the trigrams.
+     *
+     * @param grams
+     *            the trigrams.
+     * @return the block numbers, sorted, or <code>null</code> if there are no trigrams to search.
+     */
+    public int[] listBlocks(final Collection<String> grams) {
+        if (grams.isEmpty()) {
+            return null;
+        }
+        int[] found = null;
+        for (final String gram : grams) {
+            final int[] rowIds = this.postings.get(gram);
+            if (rowIds == null) {
+                return new int[0];
+            } else if (found == null) {
+                found = rowIds;
+            } else {
+                found = TrigramIndex.intersect(found, rowIds);
+            }
+        }
+        return TrigramIndex.toBlocks(found);
+    }
+
+    /**
+     * Gets the distinct blocks of a ROWID list.
+     * <p>
+     * The ROWIDs are sorted as signed values, so the blocks from 0x8000 come first and must be sorted again.
+     *
+     * @param rowIds
+     *            the ROWIDs.
+     * @return the block numbers, sorted.
+     */
+    static int[] toBlocks(final int[] rowIds) {
+        final int[] blocks = new int[rowIds.length];
+        int count = 0;
+        for (final int rowId : rowIds) {
+            blocks[count++] = rowId >>> 0x10;
+        }
+        Arrays.sort(blocks, 0, count);
+        int distinct = 0;
+        for (int i = 0; i < count; i++) {
+            if ((distinct == 0) || (blocks[distinct - 1] != blocks[i])) {
+                blocks[distinct++] = blocks[i];
+            }
+        }
+        return Arrays.copyOf(blocks, distinct);
+    }
+
+    /**
+     * Gets the number of distinct trigrams.
+     *
+     * @return the number of trigrams.
+     */
+    int getGramCount() {
+        return this.postings.size();
+    }
+
+    /**
+     * Builds the index with a table scan.
+     *
+     * @param table
+     *            the table.
+     * @param field
+     *            the alpha column.
+     * @throws SQLException
+     *             in case of I/O errors.
+     */
+    private void build(final ParadoxTable table, final ParadoxField field) throws SQLException {
+        // Stamps are taken first, so changes made while reading are seen on the next use.
+        this.tableLength = table.getFile().length();
+        this.tableModified = table.getFile().lastModified();
+        if (table.getHeader() != null) {
+            this.header = table.getHeader();
+        } else {
+            this.header = new byte[0];
+        }
+
+        final int position = table.getFieldOffset(field);
+        final Map<String, RowList> grams = new HashMap<>();
+        try (TableCursor cursor = new TableCursor(table, Collections.<ParadoxField> emptyList())) {
+            while (cursor.next()) {
+                final String value = TrigramIndex.decode(cursor.getBlockData(),
+                        cursor.getRecordOffset() + position, field.getSize(), table.getCharset());
+                final int rowId = (cursor.getBlock() << 0x10) | cursor.getSlot();
+                for (int i = 0; (i + TrigramIndex.GRAM_LENGTH) <= value.length(); i++) {
+                    final String gram = value.substring(i, i + TrigramIndex.GRAM_LENGTH);
+                    RowList rows = grams.get(gram);
+                    if (rows == null) {
+                        rows = new RowList();
+                        grams.put(gram, rows);
+                    }
+                    rows.add(rowId);
+                }
+            }
+        }
+
+        for (final Map.Entry<String, RowList> entry : grams.entrySet()) {
+            this.postings.put(entry.getKey(), entry.getValue().toSortedArray());
+        }
+    }
+
+    /**
+     * Saves the index.
+     *
+     * @param file
+     *            the index file.
+     * @throws IOException
+     *             in case of write errors.
+     */
+    private void save(final File file) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+            out.writeInt(TrigramIndex.MAGIC);
+            out.writeInt(TrigramIndex.VERSION);
+            out.writeLong(this.tableLength);
+            out.writeLong(this.tableModified);
+            out.writeInt(this.header.length);
+            out.write(this.header);
+            out.writeInt(this.postings.size());
+            for (final Map.Entry<String, int[]> entry : this.postings.entrySet()) {
+                out.writeUTF(entry.getKey());
+                out.writeInt(entry.getValue().length);
+                for (final int rowId : entry.getValue()) {
+                    out.writeInt(rowId);
+                }
+            }
+        }
+    }
+
+    /**
+     * Loads an index file.
+     *
+     * @param file
+     *            the index file.
+     * @return the index, or <code>null</code> if the file does not exist or is not valid.
+     */
+    private static TrigramIndex load(final File file) {
+        if (!file.isFile()) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if ((in.readInt() != TrigramIndex.MAGIC) || (in.readInt() != TrigramIndex.VERSION)) {
+                return null;
+            }
+            final TrigramIndex index = new TrigramIndex();
+            index.tableLength = in.readLong();
+            index.tableModified = in.readLong();
+            index.header = new byte[in.readInt()];
+            in.readFully(index.header);
+            final int grams = in.readInt();
+            for (int i = 0; i < grams; i++) {
+                final String gram = in.readUTF();
+                final int[] rowIds = new int[in.readInt()];
+                for (int j = 0; j < rowIds.length; j++) {
+                    rowIds[j] = in.readInt();
+                }
+                index.postings.put(gram, rowIds);
+            }
+            return index;
+        } catch (final IOException ex) {
+            // A damaged index is built again.
+            return null;
+        }
+    }
+
+    /**
+     * Gets the index file name of an alpha column.
+     *
+     * @param table
+     *            the table.
+     * @param field
+     *            the alpha column.
+     * @return the index file name.
+     */
+    private static String getIndexName(final ParadoxTable table, final ParadoxField field) {
+        final StringBuilder name = new StringBuilder(Utils.removeDb(table.getFile().getName()));
+        name.append('.');
+        for (final char c : field.getName().toCharArray()) {
+            if (Character.isLetterOrDigit(c)) {
+                name.append(c);
+            } else {
+                name.append('_');
+            }
+        }
+        return name.append(TrigramIndex.EXTENSION).toString();
+    }
+
+    /**
+     * Decodes a value, up to the first zero byte.
+     *
+     * @param data
+     *            the block data.
+     * @param start
+     *            the value position in data.
+     * @param length
+     *            the maximum value length.
+     * @param charset
+     *            the table charset.
+     * @return the value.
+     */
+    private static String decode(final byte[] data, final int start, final int length, final Charset charset) {
+        int end = start;
+        while ((end < (start + length)) && (data[end] != 0)) {
+            end++;
+        }
+        return new String(data, start, end - start, charset);
+    }
+
+    /**
+     * Intersects two sorted ROWID lists.
+     *
+     * @param first
+     *            the first list.
+     * @param second
+     *            the second list.
+     * @return the ROWIDs in both lists, sorted.
+     */
+    private static int[] intersect(final int[] first, final int[] second) {
+        final int[] result = new int[Math.min(first.length, second.length)];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while ((i < first.length) && (j < second.length)) {
+            if (first[i] < second[j]) {
+                i++;
+            } else if (first[i] > second[j]) {
+                j++;
+            } else {
+                result[count++] = first[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    /**
+     * A growable list of the ROWIDs of a trigram.
+     */
+    private static final class RowList {
+
+        /**
+         * The ROWIDs.
+         */
+        private int[] rowIds = new int[4];
+
+        /**
+         * The number of ROWIDs.
+         */
+        private int size;
+
+        /**
+         * Adds a ROWID, once for each record.
+         *
+         * @param rowId
+         *            the record ROWID.
+         */
+        void add(final int rowId) {
+            if ((this.size > 0) && (this.rowIds[this.size - 1] == rowId)) {
+                return;
+            }
+            if (this.size == this.rowIds.length) {
+                this.rowIds = Arrays.copyOf(this.rowIds, this.size * 2);
+            }
+            this.rowIds[this.size++] = rowId;
+        }
+
+        /**
+         * Gets the ROWIDs sorted.
+         *
+         * @return the sorted ROWIDs.
+         */
+        int[] toSortedArray() {
+            final int[] result = Arrays.copyOf(this.rowIds, this.size);
+            Arrays.sort(result);
+            return result;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * BcdField.java 10/19/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data.field;
+
+import com.googlecode.paradox.data.FieldParser;
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.metadata.ParadoxField;
+import com.googlecode.paradox.metadata.ParadoxTable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.sql.Types;
+
+/**
+ * Parses BCD fields.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4
+ */
+public final class BcdField implements FieldParser {
+    
+    /**
+     * Digits stored in a BCD field.
+     */
+    private static final int DIGITS = 32;
+    
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public boolean match(final int type) {
+        return type == 0x17;
+    }
+    
+    /**
+     * {@inheritDoc}.
+     * <p>
+     * The first byte holds the sign in the high bit, set for positive values. The next 16 bytes holds 32 digits, one
+     * per nibble, the last field size digits being the decimals. Negative values have all bits inverted.
+     */
+    @Override
+    public FieldValue parse(final ParadoxTable table, final ByteBuffer buffer, final ParadoxField field) {
+        final byte sign = buffer.get();
+        final byte[] data = new byte[BcdField.DIGITS / 2];
+        buffer.get(data);
+        if (sign == 0) {
+            boolean empty = true;
+            for (final byte b : data) {
+                empty &= b == 0;
+            }
+            if (empty) {
+                return new FieldValue(Types.NUMERIC);
+            }
+        }
+        
+        final boolean negative = (sign & 0x80) == 0;
+        final char[] digits = new char[BcdField.DIGITS];
+        for (int i = 0; i < data.length; i++) {
+            int b = data[i];
+            if (negative) {
+                b = ~b;
+            }
+            digits[i * 2] = (char) ('0' + ((b >> 4) & 0x0F));
+            digits[(i * 2) + 1] = (char) ('0' + (b & 0x0F));
+        }
+        BigInteger unscaled = new BigInteger(new String(digits));
+        if (negative) {
+            unscaled = unscaled.negate();
+        }
+        return new FieldValue(new BigDecimal(unscaled, field.getSize()), Types.NUMERIC);
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * BinaryField.java 10/19/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data.field;
+
+import com.googlecode.paradox.data.FieldParser;
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.metadata.ParadoxField;
+import com.googlecode.paradox.metadata.ParadoxTable;
+import java.nio.ByteBuffer;
+import java.sql.Types;
+
+/**
+ * Parses binary fields stored in the record.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4
+ */
+public final class BinaryField implements FieldParser {
+    
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public boolean match(final int type) {
+        return type == 0x18;
+    }
+    
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public FieldValue parse(final ParadoxTable table, final ByteBuffer buffer, final ParadoxField field) {
+        final byte[] value = new byte[field.getSize()];
+        buffer.get(value);
+        for (final byte b : value) {
+            if (b != 0) {
+                return new FieldValue(value, Types.BINARY);
+            }
+        }
+        return new FieldValue(Types.BINARY);
+    }
+}
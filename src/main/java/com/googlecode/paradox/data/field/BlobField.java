@@ -0,0 +1,63 @@
+/*
+ * BlobField.java 10/19/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data.field;
+
+import com.googlecode.paradox.data.FieldParser;
+import com.googlecode.paradox.data.table.value.BlobDescriptor;
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.metadata.ParadoxField;
+import com.googlecode.paradox.metadata.ParadoxTable;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.sql.Types;
+
+/**
+ * Parses BLOB, OLE and graphic fields.
+ * <p>
+ * Only the blob reference is read; the data is read from the MB file when the blob is read.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4
+ */
+public final class BlobField implements FieldParser {
+    
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public boolean match(final int type) {
+        return (type == 0xD) || (type == 0xF) || (type == 0x10);
+    }
+    
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public FieldValue parse(final ParadoxTable table, final ByteBuffer buffer, final ParadoxField field) {
+        final byte[] leader = new byte[field.getSize()];
+        buffer.get(leader);
+        
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        final long offset = buffer.getInt() & 0xFFFF_FFFFL;
+        final long length = buffer.getInt() & 0xFFFF_FFFFL;
+        // Modifier
+        buffer.getShort();
+        buffer.order(ByteOrder.BIG_ENDIAN);
+        
+        if (length == 0) {
+            return new FieldValue(Types.BLOB);
+        }
+        final BlobDescriptor descriptor = new BlobDescriptor(table.getBlobTable());
+        descriptor.setLeaderData(leader);
+        descriptor.setOffset(offset);
+        descriptor.setLength(length);
+        return new FieldValue(descriptor, Types.BLOB);
+    }
+}
@@ -24,7 +24,7 @@ import java.util.Arrays;
  * Parses memo fields.
  *
  * @author Leonardo Alves da Costa
- * @version 1.0
+ * @version 1.2
  * @since 1.3
  */
 public final class MemoField implements FieldParser {
@@ -53,16 +53,17 @@ public final class MemoField implements FieldParser {
         
         buffer.order(ByteOrder.LITTLE_ENDIAN);
         final long offset = buffer.getInt();
-        // Length
-        buffer.getInt();
+        final long length = buffer.getInt() & 0xFFFF_FFFFL;
         // Modifier
         buffer.getShort();
         buffer.order(ByteOrder.BIG_ENDIAN);
         
         final ClobDescriptor descriptor = new ClobDescriptor(table.getBlobTable());
+        descriptor.setLeaderData(value.array());
         descriptor.setLeader(Utils.parseString(value, table.getCharset()));
         
         descriptor.setOffset(offset);
+        descriptor.setLength(length);
         
         return new FieldValue(descriptor, Types.CLOB);
     }
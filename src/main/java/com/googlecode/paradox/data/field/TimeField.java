@@ -12,17 +12,16 @@ import com.googlecode.paradox.data.FieldParser;
 import com.googlecode.paradox.data.table.value.FieldValue;
 import com.googlecode.paradox.metadata.ParadoxField;
 import com.googlecode.paradox.metadata.ParadoxTable;
+import com.googlecode.paradox.utils.DateUtils;
 import java.nio.ByteBuffer;
 import java.sql.Time;
 import java.sql.Types;
-import java.util.Calendar;
-import java.util.GregorianCalendar;
 
 /**
  * Parses time fields.
  *
  * @author Leonardo Alves da Costa
- * @version 1.0
+ * @version 1.1
  * @since 1.3
  */
 public final class TimeField implements FieldParser {
@@ -47,9 +46,7 @@ public final class TimeField implements FieldParser {
         final long timeInMillis = (a1 << 24) | (a2 << 16) | (a3 << 8) | a4;
         
         if (timeInMillis != 0) {
-            final Calendar calendar = new GregorianCalendar(1, 0, 0);
-            calendar.add(Calendar.MILLISECOND, (int) timeInMillis);
-            final Time time = new Time(calendar.getTimeInMillis());
+            final Time time = new Time(DateUtils.timeToMillis(timeInMillis));
             return new FieldValue(time, Types.TIME);
         }
         return new FieldValue(Types.TIME);
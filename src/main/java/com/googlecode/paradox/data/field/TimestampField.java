@@ -0,0 +1,65 @@
+/*
+ * TimestampField.java 10/19/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data.field;
+
+import com.googlecode.paradox.data.FieldParser;
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.metadata.ParadoxField;
+import com.googlecode.paradox.metadata.ParadoxTable;
+import com.googlecode.paradox.utils.DateUtils;
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.sql.Types;
+
+/**
+ * Parses timestamp fields.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.1
+ * @since 1.4
+ */
+public final class TimestampField implements FieldParser {
+    
+    /**
+     * Milliseconds in a day.
+     */
+    private static final long DAY_MILLIS = 86_400_000L;
+    
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public boolean match(final int type) {
+        return type == 0x15;
+    }
+    
+    /**
+     * {@inheritDoc}.
+     * <p>
+     * Timestamps are stored as the milliseconds since January 1, 0001 (day one), in the format of number fields. The
+     * time of day is a wall clock time.
+     */
+    @Override
+    public FieldValue parse(final ParadoxTable table, final ByteBuffer buffer, final ParadoxField field) {
+        long bits = buffer.getLong();
+        if (bits == 0) {
+            return new FieldValue(Types.TIMESTAMP);
+        }
+        if ((bits >>> 63) == 1) {
+            bits &= 0x7FFF_FFFF_FFFF_FFFFL;
+        } else {
+            bits = ~bits;
+        }
+        final long millis = (long) Double.longBitsToDouble(bits);
+        final long days = millis / TimestampField.DAY_MILLIS;
+        final Timestamp timestamp = new Timestamp(
+                DateUtils.sdnToMillis(days + 1_721_425, millis % TimestampField.DAY_MILLIS));
+        return new FieldValue(timestamp, Types.TIMESTAMP);
+    }
+}
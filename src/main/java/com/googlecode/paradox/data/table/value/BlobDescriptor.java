@@ -15,16 +15,31 @@ import com.googlecode.paradox.metadata.BlobTable;
  *
  * @author Leonardo Alves da Costa
  * @author Andre Mikhaylov
- * @version 1.1
+ * @version 1.3
  * @since 1.2
  */
-class BlobDescriptor {
+public class BlobDescriptor {
     
     /**
      * The blob table.
      */
     private final BlobTable file;
     
+    /**
+     * The blob data read ahead from the MB file, <code>null</code> if not read yet.
+     */
+    private byte[] data;
+    
+    /**
+     * The bytes stored in the record (the blob leader).
+     */
+    private byte[] leaderData;
+    
+    /**
+     * The blob length.
+     */
+    private long length;
+    
     /**
      * Blob file offset.
      */
@@ -36,10 +51,19 @@ class BlobDescriptor {
      * @param file
      *            the blob file reference.
      */
-    BlobDescriptor(final BlobTable file) {
+    public BlobDescriptor(final BlobTable file) {
         this.file = file;
     }
     
+    /**
+     * Gets the blob data read ahead from the MB file.
+     *
+     * @return the blob data or <code>null</code> if not read yet.
+     */
+    public final byte[] getData() {
+        return this.data;
+    }
+    
     /**
      * Gets the blob file.
      *
@@ -49,6 +73,24 @@ class BlobDescriptor {
         return this.file;
     }
     
+    /**
+     * Gets the bytes stored in the record (the blob leader).
+     *
+     * @return the blob leader.
+     */
+    public final byte[] getLeaderData() {
+        return this.leaderData;
+    }
+    
+    /**
+     * Gets the blob length.
+     *
+     * @return the blob length.
+     */
+    public final long getLength() {
+        return this.length;
+    }
+    
     /**
      * Gets the blob offset.
      *
@@ -58,6 +100,36 @@ class BlobDescriptor {
         return this.offset;
     }
     
+    /**
+     * Sets the blob data read ahead from the MB file.
+     *
+     * @param data
+     *            the blob data.
+     */
+    public final void setData(final byte[] data) {
+        this.data = data;
+    }
+    
+    /**
+     * Sets the bytes stored in the record (the blob leader).
+     *
+     * @param leaderData
+     *            the blob leader.
+     */
+    public final void setLeaderData(final byte[] leaderData) {
+        this.leaderData = leaderData;
+    }
+    
+    /**
+     * Sets the blob length.
+     *
+     * @param length
+     *            the blob length.
+     */
+    public final void setLength(final long length) {
+        this.length = length;
+    }
+    
     /**
      * Sets the blob offset.
      *
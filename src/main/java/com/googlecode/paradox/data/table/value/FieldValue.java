@@ -8,18 +8,24 @@
  */
 package com.googlecode.paradox.data.table.value;
 
+import com.googlecode.paradox.data.FieldParser;
 import com.googlecode.paradox.metadata.ParadoxField;
+import com.googlecode.paradox.metadata.ParadoxTable;
 import com.googlecode.paradox.utils.SQLStates;
+import java.nio.ByteBuffer;
 import java.sql.Date;
 import java.sql.SQLDataException;
+import java.sql.SQLException;
 import java.sql.Time;
 import java.sql.Types;
 
 /**
  * Stores the database values in Java format.
+ * <p>
+ * A value can also keep its record bytes and be decoded only when first read. Lazy values are not thread safe.
  *
  * @author Leonardo Alves da Costa
- * @version 1.0
+ * @version 1.2
  * @since 1.0
  */
 public final class FieldValue {
@@ -28,16 +34,32 @@ public final class FieldValue {
      * Invalid field message error.
      */
     private static final String ERROR_INVALID_TYPE = "Invalid field type.";
+    /**
+     * The block data of a value not decoded yet, <code>null</code> if already decoded.
+     */
+    private byte[] data;
     /**
      * Reference on field.
      */
     private ParadoxField field;
+    /**
+     * The value position in block data.
+     */
+    private int offset;
+    /**
+     * The parser of a value not decoded yet.
+     */
+    private FieldParser parser;
+    /**
+     * The table of a value not decoded yet.
+     */
+    private ParadoxTable table;
     /**
      * Value type in database.
      *
      * @see Types
      */
-    private final int type;
+    private int type;
     /**
      * Database value converted to Java.
      */
@@ -66,6 +88,29 @@ public final class FieldValue {
         this.value = value;
     }
     
+    /**
+     * Store a database value decoded only when first read.
+     *
+     * @param table
+     *            the value table.
+     * @param field
+     *            the value field.
+     * @param parser
+     *            the field parser.
+     * @param data
+     *            the block data, not changed while this value is in use.
+     * @param offset
+     *            the value position in block data.
+     */
+    public FieldValue(final ParadoxTable table, final ParadoxField field, final FieldParser parser, final byte[] data,
+            final int offset) {
+        this.table = table;
+        this.field = field;
+        this.parser = parser;
+        this.data = data;
+        this.offset = offset;
+    }
+    
     /**
      * Check for value type and return an Boolean value.
      *
@@ -74,6 +119,7 @@ public final class FieldValue {
      *             if this is not a Boolean value.
      */
     public Boolean getBoolean() throws SQLDataException {
+        this.decode();
         if (this.type != Types.BOOLEAN) {
             throw new SQLDataException(FieldValue.ERROR_INVALID_TYPE, SQLStates.INVALID_FIELD_VALUE.getValue());
         }
@@ -88,6 +134,7 @@ public final class FieldValue {
      *             if this is not a Date value.
      */
     public Date getDate() throws SQLDataException {
+        this.decode();
         if (this.type != Types.DATE) {
             throw new SQLDataException(FieldValue.ERROR_INVALID_TYPE, SQLStates.INVALID_FIELD_VALUE.getValue());
         }
@@ -111,10 +158,12 @@ public final class FieldValue {
      *             if this is not a numeric value.
      */
     public Number getNumber() throws SQLDataException {
+        this.decode();
         switch (this.type) {
             case Types.INTEGER:
             case Types.BIGINT:
             case Types.DOUBLE:
+            case Types.NUMERIC:
                 return (Number) this.value;
             default:
                 throw new SQLDataException(FieldValue.ERROR_INVALID_TYPE, SQLStates.INVALID_FIELD_VALUE.getValue());
@@ -129,6 +178,7 @@ public final class FieldValue {
      *             if this is not a Time value.
      */
     public Time getTime() throws SQLDataException {
+        this.decode();
         if (this.type != Types.TIME) {
             throw new SQLDataException(FieldValue.ERROR_INVALID_TYPE, SQLStates.INVALID_FIELD_VALUE.getValue());
         }
@@ -141,6 +191,7 @@ public final class FieldValue {
      * @return The Java {@link Types} value.
      */
     public int getType() {
+        this.decode();
         return this.type;
     }
     
@@ -150,6 +201,7 @@ public final class FieldValue {
      * @return the field value in Java format.
      */
     public Object getValue() {
+        this.decode();
         return this.value;
     }
     
@@ -159,9 +211,34 @@ public final class FieldValue {
      * @return true if this value is NULL.
      */
     public boolean isNull() {
+        this.decode();
         return this.value == null;
     }
     
+    /**
+     * Decodes a lazy value from its block data.
+     * <p>
+     * The parser was found when the value was created and the parsers only read the record bytes, so decoding can't
+     * fail for a supported field.
+     */
+    private void decode() {
+        if (this.data != null) {
+            final ByteBuffer buffer = ByteBuffer.wrap(this.data);
+            buffer.position(this.offset);
+            final FieldValue decoded;
+            try {
+                decoded = this.parser.parse(this.table, buffer, this.field);
+            } catch (final SQLException e) {
+                throw new IllegalStateException(e.getMessage(), e);
+            }
+            this.type = decoded.type;
+            this.value = decoded.value;
+            this.data = null;
+            this.parser = null;
+            this.table = null;
+        }
+    }
+    
     /**
      * Sets the Paradox field.
      *
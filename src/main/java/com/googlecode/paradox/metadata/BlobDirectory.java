@@ -0,0 +1,404 @@
+/*
+ * BlobDirectory.java 10/19/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.metadata;
+
+import com.googlecode.paradox.utils.SQLStates;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+/**
+ * Maps the blocks of a MB file to their type and the position of the blobs stored in them.
+ * <p>
+ * The directory is built with a single walk over the block headers and can be kept in an index file, valid while the
+ * MB file size and modification time are the same, so the blobs can be read without walking the MB file again.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4
+ */
+final class BlobDirectory {
+
+    /**
+     * Size of a MB block.
+     */
+    static final int BLOCK_SIZE = 0x1000;
+
+    /**
+     * Free block type.
+     */
+    static final byte FREE_BLOCK = 4;
+
+    /**
+     * Single block type.
+     */
+    static final byte SINGLE_BLOCK = 2;
+
+    /**
+     * Sub block type.
+     */
+    static final byte SUB_BLOCK = 3;
+
+    /**
+     * Index file identification ("PXMB").
+     */
+    private static final int MAGIC = 0x50584D42;
+
+    /**
+     * Size of a single block header: type, size, blob length and modifier.
+     */
+    private static final int SINGLE_BLOCK_HEADER = 9;
+
+    /**
+     * Number of blob pointers in a sub block.
+     */
+    private static final int SUB_BLOCK_SLOTS = 64;
+
+    /**
+     * Position of the blob pointer array in a sub block.
+     */
+    private static final int SUB_BLOCK_POINTERS = 12;
+
+    /**
+     * Size of a blob pointer in a sub block.
+     */
+    private static final int SUB_BLOCK_POINTER_SIZE = 5;
+
+    /**
+     * Index file format version.
+     */
+    private static final int VERSION = 1;
+
+    /**
+     * The block file offsets, in file order.
+     */
+    private final long[] addresses;
+
+    /**
+     * The blob length of each single block.
+     */
+    private final int[] lengths;
+
+    /**
+     * The data offset and length of each blob in a sub block, <code>null</code> for other blocks.
+     */
+    private final int[][] slots;
+
+    /**
+     * The block types.
+     */
+    private final byte[] types;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param addresses
+     *            the block file offsets, in file order.
+     * @param types
+     *            the block types.
+     * @param lengths
+     *            the blob length of each single block.
+     * @param slots
+     *            the data offset and length of each blob in sub blocks.
+     */
+    private BlobDirectory(final long[] addresses, final byte[] types, final int[] lengths, final int[][] slots) {
+        this.addresses = addresses;
+        this.types = types;
+        this.lengths = lengths;
+        this.slots = slots;
+    }
+
+    /**
+     * Builds the directory of a MB file, reading only the block headers.
+     *
+     * @param channel
+     *            the MB file channel.
+     * @return the MB block directory.
+     * @throws SQLException
+     *             in case of I/O errors or invalid MB file.
+     */
+    static BlobDirectory build(final FileChannel channel) throws SQLException {
+        int count = 0;
+        long[] addresses = new long[16];
+        byte[] types = new byte[16];
+        int[] lengths = new int[16];
+        int[][] slots = new int[16][];
+
+        try {
+            final long size = channel.size();
+            final ByteBuffer header = ByteBuffer.allocate(BlobDirectory.SINGLE_BLOCK_HEADER)
+                    .order(ByteOrder.LITTLE_ENDIAN);
+            final ByteBuffer pointers = ByteBuffer
+                    .allocate(BlobDirectory.SUB_BLOCK_SLOTS * BlobDirectory.SUB_BLOCK_POINTER_SIZE)
+                    .order(ByteOrder.LITTLE_ENDIAN);
+            long address = BlobDirectory.BLOCK_SIZE;
+            while (address < size) {
+                header.clear();
+                BlobDirectory.readFully(channel, header, address);
+                header.flip();
+                final byte type = header.get();
+                final int blocks = Math.max(1, header.getShort() & 0xFFFF);
+
+                if (count == addresses.length) {
+                    addresses = Arrays.copyOf(addresses, count * 2);
+                    types = Arrays.copyOf(types, count * 2);
+                    lengths = Arrays.copyOf(lengths, count * 2);
+                    slots = Arrays.copyOf(slots, count * 2);
+                }
+                addresses[count] = address;
+                types[count] = type;
+
+                if (type == BlobDirectory.SINGLE_BLOCK) {
+                    lengths[count] = header.getInt();
+                    address += (long) blocks * BlobDirectory.BLOCK_SIZE;
+                } else if (type == BlobDirectory.SUB_BLOCK) {
+                    pointers.clear();
+                    BlobDirectory.readFully(channel, pointers, address + BlobDirectory.SUB_BLOCK_POINTERS);
+                    pointers.flip();
+                    slots[count] = BlobDirectory.parseSlots(pointers);
+                    address += BlobDirectory.BLOCK_SIZE;
+                } else if (type == BlobDirectory.FREE_BLOCK) {
+                    address += (long) blocks * BlobDirectory.BLOCK_SIZE;
+                } else {
+                    throw new SQLException("Unsupported CLOB block type: " + type,
+                            SQLStates.TYPE_NOT_FOUND.getValue());
+                }
+                count++;
+            }
+        } catch (final IOException ex) {
+            throw new SQLException(ex.getMessage(), SQLStates.LOAD_DATA.getValue(), ex);
+        }
+        return new BlobDirectory(Arrays.copyOf(addresses, count), Arrays.copyOf(types, count),
+                Arrays.copyOf(lengths, count), Arrays.copyOf(slots, count));
+    }
+
+    /**
+     * Loads a directory from an index file.
+     *
+     * @param index
+     *            the index file.
+     * @param mb
+     *            the MB file indexed.
+     * @return the MB block directory or <code>null</code> if the index is missing, invalid or older than the MB file.
+     */
+    static BlobDirectory load(final File index, final File mb) {
+        if (!index.isFile()) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(index)))) {
+            if ((in.readInt() != BlobDirectory.MAGIC) || (in.readInt() != BlobDirectory.VERSION)
+                    || (in.readLong() != mb.length()) || (in.readLong() != mb.lastModified())) {
+                return null;
+            }
+            final int count = in.readInt();
+            final long[] addresses = new long[count];
+            final byte[] types = new byte[count];
+            final int[] lengths = new int[count];
+            final int[][] slots = new int[count][];
+            for (int i = 0; i < count; i++) {
+                addresses[i] = in.readLong();
+                types[i] = in.readByte();
+                if (types[i] == BlobDirectory.SINGLE_BLOCK) {
+                    lengths[i] = in.readInt();
+                } else if (types[i] == BlobDirectory.SUB_BLOCK) {
+                    slots[i] = new int[BlobDirectory.SUB_BLOCK_SLOTS * 2];
+                    for (int slot = 0; slot < slots[i].length; slot++) {
+                        slots[i][slot] = in.readInt();
+                    }
+                }
+            }
+            return new BlobDirectory(addresses, types, lengths, slots);
+        } catch (final IOException ex) {
+            // A damaged index is built again.
+            return null;
+        }
+    }
+
+    /**
+     * Parses the blob pointers of a sub block.
+     *
+     * @param pointers
+     *            the blob pointer array.
+     * @return the data offset and length of each blob, zero if there is no blob.
+     */
+    private static int[] parseSlots(final ByteBuffer pointers) {
+        final int[] slots = new int[BlobDirectory.SUB_BLOCK_SLOTS * 2];
+        for (int slot = 0; slot < BlobDirectory.SUB_BLOCK_SLOTS; slot++) {
+            // Data offset divided by 16.
+            final int offset = (pointers.get() & 0xFF) * 0x10;
+            // Data length divided by 16 (rounded up).
+            final int length = (pointers.get() & 0xFF) * 0x10;
+            pointers.getShort();
+            // Data length modulo 16.
+            final int modulo = pointers.get() & 0xFF;
+            // If offset is zero, then the blob was deleted.
+            if (offset != 0) {
+                slots[slot * 2] = offset;
+                slots[(slot * 2) + 1] = (length - 0x10) + modulo;
+            }
+        }
+        return slots;
+    }
+
+    /**
+     * Fills a buffer from a position in file.
+     *
+     * @param channel
+     *            the file channel.
+     * @param target
+     *            the buffer to fill.
+     * @param position
+     *            the file position.
+     * @throws IOException
+     *             in case of reading errors or end of file.
+     */
+    private static void readFully(final FileChannel channel, final ByteBuffer target, final long position)
+            throws IOException {
+        long start = position;
+        while (target.hasRemaining()) {
+            final int read = channel.read(target, start);
+            if (read < 0) {
+                throw new IOException("Unexpected end of MB file");
+            }
+            start += read;
+        }
+    }
+
+    /**
+     * Gets the block address of a block.
+     *
+     * @param index
+     *            the block position in directory.
+     * @return the block file offset.
+     */
+    long getAddress(final int index) {
+        return this.addresses[index];
+    }
+
+    /**
+     * Gets the number of blocks in directory.
+     *
+     * @return the number of blocks.
+     */
+    int getBlockCount() {
+        return this.addresses.length;
+    }
+
+    /**
+     * Gets the position of a blob data in the MB file.
+     *
+     * @param pOffset
+     *            offset of the blob's data block in the MB file and an index value.
+     * @return the data position or -1 if there is no such blob.
+     */
+    long getDataStart(final long pOffset) {
+        final int block = this.find(pOffset);
+        if (block < 0) {
+            return -1;
+        }
+        final int index = (int) (pOffset & 0xFF);
+        if (index == 0xFF) {
+            return this.addresses[block] + BlobDirectory.SINGLE_BLOCK_HEADER;
+        }
+        return this.addresses[block] + this.slots[block][index * 2];
+    }
+
+    /**
+     * Gets the length of a blob.
+     *
+     * @param pOffset
+     *            offset of the blob's data block in the MB file and an index value.
+     * @return the blob length or -1 if there is no such blob.
+     */
+    int getLength(final long pOffset) {
+        final int block = this.find(pOffset);
+        if (block < 0) {
+            return -1;
+        }
+        final int index = (int) (pOffset & 0xFF);
+        if (index == 0xFF) {
+            return this.lengths[block];
+        }
+        return this.slots[block][(index * 2) + 1];
+    }
+
+    /**
+     * Gets the type of a block.
+     *
+     * @param index
+     *            the block position in directory.
+     * @return the block type.
+     */
+    byte getType(final int index) {
+        return this.types[index];
+    }
+
+    /**
+     * Writes this directory to an index file.
+     *
+     * @param index
+     *            the index file.
+     * @param mb
+     *            the MB file indexed.
+     * @throws IOException
+     *             in case of writing errors.
+     */
+    void save(final File index, final File mb) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(index)))) {
+            out.writeInt(BlobDirectory.MAGIC);
+            out.writeInt(BlobDirectory.VERSION);
+            out.writeLong(mb.length());
+            out.writeLong(mb.lastModified());
+            out.writeInt(this.addresses.length);
+            for (int i = 0; i < this.addresses.length; i++) {
+                out.writeLong(this.addresses[i]);
+                out.writeByte(this.types[i]);
+                if (this.types[i] == BlobDirectory.SINGLE_BLOCK) {
+                    out.writeInt(this.lengths[i]);
+                } else if (this.types[i] == BlobDirectory.SUB_BLOCK) {
+                    for (final int value : this.slots[i]) {
+                        out.writeInt(value);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Finds the block of a blob.
+     *
+     * @param pOffset
+     *            offset of the blob's data block in the MB file and an index value.
+     * @return the block position in directory or -1 if the blob is not stored in a block.
+     */
+    private int find(final long pOffset) {
+        final int block = Arrays.binarySearch(this.addresses, pOffset & 0xFFFF_FF00L);
+        if (block < 0) {
+            return -1;
+        }
+        final int index = (int) (pOffset & 0xFF);
+        if (index == 0xFF) {
+            return this.types[block] == BlobDirectory.SINGLE_BLOCK ? block : -1;
+        } else if ((this.types[block] != BlobDirectory.SUB_BLOCK) || (index >= BlobDirectory.SUB_BLOCK_SLOTS)
+                || (this.slots[block][index * 2] == 0)) {
+            return -1;
+        }
+        return block;
+    }
+}
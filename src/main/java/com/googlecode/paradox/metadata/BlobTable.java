@@ -31,7 +31,7 @@ import java.util.List;
  *
  * @author Leonardo Alves da Costa
  * @author Andre Mikhaylov
- * @version 1.1
+ * @version 1.6
  * @since 1.2
  */
 public final class BlobTable extends ParadoxDataFile {
@@ -56,6 +56,31 @@ public final class BlobTable extends ParadoxDataFile {
      */
     private static final int SUB_BLOCK = 3;
     
+    /**
+     * Size of a single block header: type, size, blob length and modifier.
+     */
+    private static final int SINGLE_BLOCK_HEADER = 9;
+    
+    /**
+     * Position of the blob pointer array in a sub block.
+     */
+    private static final int SUB_BLOCK_POINTERS = 12;
+    
+    /**
+     * Size of a blob pointer in a sub block.
+     */
+    private static final int SUB_BLOCK_POINTER_SIZE = 5;
+    
+    /**
+     * Size of the window used to read many blobs in one pass.
+     */
+    private static final int WINDOW_SIZE = 0x10000;
+    
+    /**
+     * Extension of the MB block directory index file.
+     */
+    private static final String INDEX_EXTENSION = ".dir";
+    
     /**
      * Block cache.
      */
@@ -66,11 +91,21 @@ public final class BlobTable extends ParadoxDataFile {
      */
     private FileChannel channel;
     
+    /**
+     * The MB block directory, <code>null</code> if not used.
+     */
+    private BlobDirectory directory;
+    
     /**
      * This LOB {@link InputStream}.
      */
     private FileInputStream fs;
     
+    /**
+     * The directory to keep the MB block directory, <code>null</code> to walk the MB file instead.
+     */
+    private File indexDir;
+    
     /**
      * Number of LOB blocks.
      */
@@ -123,6 +158,10 @@ public final class BlobTable extends ParadoxDataFile {
      *             in case of I/O errors.
      */
     public void close() throws SQLException {
+        if (this.channel == null) {
+            // Never opened.
+            return;
+        }
         try {
             this.channel.close();
             this.fs.close();
@@ -131,6 +170,17 @@ public final class BlobTable extends ParadoxDataFile {
         }
     }
     
+    /**
+     * Gets the MB file of this table.
+     *
+     * @return the MB file.
+     * @throws SQLException
+     *             if the MB file does not exist.
+     */
+    public File getBlobFile() throws SQLException {
+        return this.openBlob();
+    }
+    
     /**
      * If this block is already parsed.
      *
@@ -140,6 +190,19 @@ public final class BlobTable extends ParadoxDataFile {
         return this.parsed;
     }
     
+    /**
+     * Sets the directory to keep the MB block directory.
+     * <p>
+     * With an index directory, the blob positions are read from the MB block directory, built once and kept there
+     * while the MB file does not change, instead of walking the MB file blocks until the blob.
+     *
+     * @param indexDir
+     *            the index directory or <code>null</code> to walk the MB file.
+     */
+    public void setIndexDir(final File indexDir) {
+        this.indexDir = indexDir;
+    }
+    
     /**
      * Read length bytes from offset position in MB file.
      *
@@ -151,6 +214,9 @@ public final class BlobTable extends ParadoxDataFile {
      *             in case of parse errors.
      */
     public byte[] read(final long pOffset) throws SQLException {
+        if (this.indexDir != null) {
+            return this.readIndexed(pOffset);
+        }
         final long offset = pOffset & 0xFF;
         
         final int blockNum = BlobTable.getBlockNum(pOffset);
@@ -161,6 +227,147 @@ public final class BlobTable extends ParadoxDataFile {
         return this.getData(blockNum, (int) offset);
     }
     
+    /**
+     * Reads part of a blob directly from the MB file, without loading the blob.
+     *
+     * @param pOffset
+     *            offset of the blob's data block in the MB file and an index value.
+     * @param position
+     *            the position in the blob, starting at zero.
+     * @param target
+     *            the buffer to fill, up to its limit.
+     * @return the number of bytes read, less than requested only at the end of file.
+     * @throws SQLException
+     *             in case of I/O errors.
+     */
+    public int read(final long pOffset, final long position, final ByteBuffer target) throws SQLException {
+        try {
+            this.open();
+            return this.readFully(target, this.getDataStart(pOffset) + position);
+        } catch (final IOException ex) {
+            throw new SQLException(ex.getMessage(), SQLStates.LOAD_DATA.getValue(), ex);
+        }
+    }
+    
+    /**
+     * Reads many blobs in one ascending pass over the MB file.
+     * <p>
+     * The MB file is read through a window: blobs stored in the blocks already in the window are copied from it, and
+     * only the data beyond the window is read straight into the blob array.
+     *
+     * @param offsets
+     *            the blobs offsets, sorted by block address (<code>offset &amp; 0xFFFFFF00</code>).
+     * @param values
+     *            the arrays to fill, one for each offset, sized to the blob length.
+     * @throws SQLException
+     *             in case of I/O errors or invalid MB file.
+     */
+    public void read(final long[] offsets, final byte[][] values) throws SQLException {
+        try {
+            this.open();
+            final ByteBuffer window = ByteBuffer.allocate(BlobTable.WINDOW_SIZE);
+            long windowStart = -1;
+            long windowEnd = -1;
+            for (int i = 0; i < offsets.length; i++) {
+                final long block = offsets[i] & 0xFFFF_FF00L;
+                final int index = (int) (offsets[i] & 0xFF);
+                final long pointer = block + BlobTable.SUB_BLOCK_POINTERS + (index * BlobTable.SUB_BLOCK_POINTER_SIZE);
+                final long needed;
+                if (index == 0xFF) {
+                    needed = block + BlobTable.SINGLE_BLOCK_HEADER;
+                } else {
+                    needed = pointer + 1;
+                }
+                if ((block < windowStart) || (needed > windowEnd)) {
+                    window.clear();
+                    windowStart = block;
+                    windowEnd = block + this.readFully(window, block);
+                    if (needed > windowEnd) {
+                        throw new SQLException("Block at " + block + " not found. Invalid mb file",
+                                SQLStates.LOAD_DATA.getValue());
+                    }
+                }
+                
+                final long start;
+                if (index == 0xFF) {
+                    start = needed;
+                } else {
+                    // Data offset divided by 16.
+                    start = block + ((window.get((int) (pointer - windowStart)) & 0xFF) * 0x10);
+                }
+                
+                final byte[] value = values[i];
+                int copied = 0;
+                if (start < windowEnd) {
+                    copied = (int) Math.min(value.length, windowEnd - start);
+                    System.arraycopy(window.array(), (int) (start - windowStart), value, 0, copied);
+                }
+                if ((copied < value.length) && (this.readFully(ByteBuffer.wrap(value, copied, value.length - copied),
+                        start + copied) < (value.length - copied))) {
+                    throw new SQLException("Blob at " + block + " truncated. Invalid mb file",
+                            SQLStates.LOAD_DATA.getValue());
+                }
+            }
+        } catch (final IOException ex) {
+            throw new SQLException(ex.getMessage(), SQLStates.LOAD_DATA.getValue(), ex);
+        }
+    }
+    
+    /**
+     * Fills a buffer from a position in the MB file.
+     *
+     * @param target
+     *            the buffer to fill, up to its limit.
+     * @param position
+     *            the file position.
+     * @return the number of bytes read, less than requested only at the end of file.
+     * @throws IOException
+     *             in case of reading errors.
+     */
+    private int readFully(final ByteBuffer target, final long position) throws IOException {
+        long start = position;
+        int total = 0;
+        while (target.hasRemaining()) {
+            final int read = this.channel.read(target, start);
+            if (read < 0) {
+                break;
+            }
+            start += read;
+            total += read;
+        }
+        return total;
+    }
+    
+    /**
+     * Gets the position of the blob data in the MB file.
+     * <p>
+     * The high bytes of MB_Offset locates the block and the low byte is MB_Index: FFh for a single block, or the
+     * blob pointer in a sub block.
+     *
+     * @param pOffset
+     *            offset of the blob's data block in the MB file and an index value.
+     * @return the data position.
+     * @throws IOException
+     *             in case of reading errors.
+     */
+    private long getDataStart(final long pOffset) throws IOException {
+        if (this.directory != null) {
+            final long start = this.directory.getDataStart(pOffset);
+            if (start >= 0) {
+                return start;
+            }
+        }
+        final long block = pOffset & 0xFFFF_FF00L;
+        final int index = (int) (pOffset & 0xFF);
+        if (index == 0xFF) {
+            return block + BlobTable.SINGLE_BLOCK_HEADER;
+        }
+        // Data offset divided by 16.
+        final ByteBuffer pointer = ByteBuffer.allocate(1);
+        this.channel.read(pointer, block + BlobTable.SUB_BLOCK_POINTERS + (index * BlobTable.SUB_BLOCK_POINTER_SIZE));
+        return block + ((pointer.get(0) & 0xFF) * 0x10);
+    }
+    
     /**
      * Gets the data from LOB file.
      *
@@ -186,19 +393,79 @@ public final class BlobTable extends ParadoxDataFile {
     }
     
     /**
-     * Open this LOB to reading.
+     * Open this LOB to reading, if not open yet.
      *
      * @throws SQLException
      *             in case of failures.
      */
-    private void open() throws SQLException {
+    private synchronized void open() throws SQLException {
+        if ((this.channel != null) && this.channel.isOpen()) {
+            return;
+        }
         try {
             final File blobFile = this.openBlob();
             this.fs = new FileInputStream(blobFile);
             this.channel = this.fs.getChannel();
+            if ((this.indexDir != null) && (this.directory == null)) {
+                this.loadDirectory(blobFile);
+            }
+        } catch (final IOException ex) {
+            throw new SQLException(ex.getMessage(), SQLStates.LOAD_DATA.getValue(), ex);
+        }
+    }
+    
+    /**
+     * Loads the MB block directory from the index directory, building it if missing or out of date.
+     *
+     * @param blobFile
+     *            the MB file.
+     * @throws SQLException
+     *             in case of invalid MB file.
+     */
+    private void loadDirectory(final File blobFile) throws SQLException {
+        final File index = new File(this.indexDir, blobFile.getName() + BlobTable.INDEX_EXTENSION);
+        this.directory = BlobDirectory.load(index, blobFile);
+        if (this.directory == null) {
+            this.directory = BlobDirectory.build(this.channel);
+            try {
+                if (this.indexDir.isDirectory() || this.indexDir.mkdirs()) {
+                    this.directory.save(index, blobFile);
+                }
+            } catch (final IOException ex) {
+                // The directory is still used from memory if the index can not be written.
+                if (!index.delete()) {
+                    index.deleteOnExit();
+                }
+            }
+        }
+        this.parsed = true;
+    }
+    
+    /**
+     * Reads a blob with a single read, located by the MB block directory.
+     *
+     * @param pOffset
+     *            offset of the blob's data block in the MB file and an index value.
+     * @return the data values.
+     * @throws SQLException
+     *             in case of I/O errors or invalid blob offset.
+     */
+    private byte[] readIndexed(final long pOffset) throws SQLException {
+        this.open();
+        final long start = this.directory.getDataStart(pOffset);
+        if (start < 0) {
+            throw new SQLException("Blob " + pOffset + " not found. Invalid mb file", SQLStates.LOAD_DATA.getValue());
+        }
+        final byte[] values = new byte[this.directory.getLength(pOffset)];
+        try {
+            if (this.readFully(ByteBuffer.wrap(values), start) < values.length) {
+                throw new SQLException("Blob " + pOffset + " truncated. Invalid mb file",
+                        SQLStates.LOAD_DATA.getValue());
+            }
         } catch (final IOException ex) {
             throw new SQLException(ex.getMessage(), SQLStates.LOAD_DATA.getValue(), ex);
         }
+        return values;
     }
     
     /**
@@ -335,13 +602,13 @@ public final class BlobTable extends ParadoxDataFile {
             this.channel.read(blockPointer);
             blockPointer.flip();
             // Data offset divided by 16.
-            final int offset = blockPointer.get() * 0x10;
+            final int offset = (blockPointer.get() & 0xFF) * 0x10;
             // Data length divided by 16 (rounded up).
-            int ln = blockPointer.get() * 0x10;
+            int ln = (blockPointer.get() & 0xFF) * 0x10;
             blockPointer.getShort();
             // This is reset to 1 by a table restructure.
             // Data length modulo 16.
-            final int mdl = blockPointer.get();
+            final int mdl = blockPointer.get() & 0xFF;
             // If offset is zero, then the blob was deleted and
             // the space has been reused for another blob.
             if (offset != 0) {
@@ -36,7 +36,7 @@ import java.util.List;
  * Creates an database metadata.
  *
  * @author Leonardo Alves da Costa
- * @version 1.1
+ * @version 1.2
  * @since 1.0
  */
 public final class ParadoxDatabaseMetaData implements DatabaseMetaData {
@@ -866,7 +866,8 @@ public final class ParadoxDatabaseMetaData implements DatabaseMetaData {
      */
     @Override
     public RowIdLifetime getRowIdLifetime() {
-        return RowIdLifetime.ROWID_UNSUPPORTED;
+        // Valid until the table is changed.
+        return RowIdLifetime.ROWID_VALID_OTHER;
     }
     
     /**
@@ -18,11 +18,16 @@ import java.util.Locale;
  * Stores a field from a table.
  *
  * @author Leonardo Alves da Costa
- * @version 1.0
+ * @version 1.2
  * @since 1.0
  */
 public final class ParadoxField {
     
+    /**
+     * BCD field size in record.
+     */
+    private static final int BCD_SIZE = 17;
+
     /**
      * Stores the field alias.
      */
@@ -279,6 +284,8 @@ public final class ParadoxField {
 
     /**
      * Sets the field size.
+     * <p>
+     * The size of BCD fields is their number of decimal digits, always stored in 17 bytes.
      *
      * @param size
      *            the size to set.
@@ -288,7 +295,10 @@ public final class ParadoxField {
     public void setSize(final int size) throws SQLException {
         this.physicsSize = size;
         int sqlType = this.getSqlType();
-        if ((sqlType == Types.CLOB) || (sqlType == Types.BLOB)) {
+        if (this.type == ParadoxFieldType.BCD.getType()) {
+            this.physicsSize = ParadoxField.BCD_SIZE;
+            this.size = size;
+        } else if ((sqlType == Types.CLOB) || (sqlType == Types.BLOB)) {
             this.size = size - 10;
         } else {
             this.size = size;
@@ -338,7 +348,7 @@ public final class ParadoxField {
      *
      * @return the file size in file.
      */
-    int getPhysicsSize() {
+    public int getPhysicsSize() {
         return this.physicsSize;
     }
 
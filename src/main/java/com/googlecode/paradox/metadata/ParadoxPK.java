@@ -12,7 +12,7 @@ package com.googlecode.paradox.metadata;
  * Stores a primary key definition..
  *
  * @author Leonardo Alves da Costa
- * @version 1.1
+ * @version 1.2
  * @since 1.0
  */
 public final class ParadoxPK extends ParadoxDataFile {
@@ -22,6 +22,16 @@ public final class ParadoxPK extends ParadoxDataFile {
      */
     private int indexFieldNumber;
     
+    /**
+     * The index level count.
+     */
+    private int indexLevels;
+    
+    /**
+     * The index root block.
+     */
+    private int rootBlock;
+    
     /**
      * Creates a new instance.
      */
@@ -47,6 +57,24 @@ public final class ParadoxPK extends ParadoxDataFile {
         return this.indexFieldNumber;
     }
     
+    /**
+     * Gets the index level count.
+     *
+     * @return the index level count.
+     */
+    public int getIndexLevels() {
+        return this.indexLevels;
+    }
+    
+    /**
+     * Gets the index root block.
+     *
+     * @return the index root block.
+     */
+    public int getRootBlock() {
+        return this.rootBlock;
+    }
+    
     /**
      * {@inheritDoc}.
      */
@@ -64,4 +92,24 @@ public final class ParadoxPK extends ParadoxDataFile {
     public void setIndexFieldNumber(final int indexFieldNumber) {
         this.indexFieldNumber = indexFieldNumber;
     }
+    
+    /**
+     * Sets the index level count.
+     *
+     * @param indexLevels
+     *            the index level count.
+     */
+    public void setIndexLevels(final int indexLevels) {
+        this.indexLevels = indexLevels;
+    }
+    
+    /**
+     * Sets the index root block.
+     *
+     * @param rootBlock
+     *            the index root block.
+     */
+    public void setRootBlock(final int rootBlock) {
+        this.rootBlock = rootBlock;
+    }
 }
@@ -8,15 +8,18 @@
  */
 package com.googlecode.paradox.metadata;
 
+import com.googlecode.paradox.data.BlockDirectory;
 import java.io.File;
+import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
  * Stores a table data file.
  *
  * @author Leonardo Alves da Costa
- * @version 1.2
+ * @version 1.9
  * @since 1.0
  */
 public final class ParadoxTable extends ParadoxDataFile {
@@ -26,6 +29,36 @@ public final class ParadoxTable extends ParadoxDataFile {
      */
     private BlobTable blobFile;
 
+    /**
+     * The directory to keep the MB block directory, <code>null</code> if not kept.
+     */
+    private File blobIndexDir;
+
+    /**
+     * The data block directory, <code>null</code> if not loaded yet.
+     */
+    private BlockDirectory blockDirectory;
+
+    /**
+     * If the memo columns searched with LIKE have full-text indexes.
+     */
+    private boolean fullTextIndex;
+
+    /**
+     * The header bytes this table was loaded from.
+     */
+    private byte[] header;
+
+    /**
+     * The sort order ID of the alpha keys, <code>null</code> if not stored.
+     */
+    private String sortOrderID;
+
+    /**
+     * The names of the columns with trigram indexes.
+     */
+    private List<String> trigramColumns = Collections.emptyList();
+
     /**
      * Creates a new instance.
      *
@@ -46,10 +79,36 @@ public final class ParadoxTable extends ParadoxDataFile {
     public BlobTable getBlobTable() {
         if (this.blobFile == null) {
             this.blobFile = new BlobTable(this.getFile(), this.getName());
+            this.blobFile.setIndexDir(this.blobIndexDir);
         }
         return this.blobFile;
     }
 
+    /**
+     * Gets the directory to keep the MB block directory.
+     *
+     * @return the index directory or <code>null</code> if not kept.
+     */
+    public File getBlobIndexDir() {
+        return this.blobIndexDir;
+    }
+
+    /**
+     * Gets the data block directory, read on first use.
+     * <p>
+     * The directory is valid while the table header is, so it is cached with it.
+     *
+     * @return the data block directory.
+     * @throws SQLException
+     *             in case of I/O errors.
+     */
+    public BlockDirectory getBlockDirectory() throws SQLException {
+        if (this.blockDirectory == null) {
+            this.blockDirectory = BlockDirectory.load(this);
+        }
+        return this.blockDirectory;
+    }
+
     /**
      * Return the block size in bytes.
      *
@@ -60,6 +119,117 @@ public final class ParadoxTable extends ParadoxDataFile {
         return this.getBlockSize() * 1_024;
     }
 
+    /**
+     * Gets the header bytes this table was loaded from.
+     *
+     * @return the header bytes.
+     */
+    public byte[] getHeader() {
+        return this.header;
+    }
+
+    /**
+     * Gets the sort order ID of the alpha keys.
+     *
+     * @return the sort order ID, <code>null</code> if not stored.
+     */
+    public String getSortOrderID() {
+        return this.sortOrderID;
+    }
+
+    /**
+     * Gets the field position in the table record.
+     *
+     * @param field
+     *            the field to locate.
+     * @return the field offset in bytes from the record start.
+     */
+    public int getFieldOffset(final ParadoxField field) {
+        int offset = 0;
+        for (final ParadoxField current : this.getFields()) {
+            if (current.getOrderNum() == field.getOrderNum()) {
+                break;
+            }
+            offset += current.getPhysicsSize();
+        }
+        return offset;
+    }
+
+    /**
+     * Gets if the memo columns searched with LIKE have full-text indexes, kept in the blob index directory.
+     *
+     * @return true if the memo columns have full-text indexes.
+     */
+    public boolean isFullTextIndex() {
+        return this.fullTextIndex && (this.blobIndexDir != null);
+    }
+
+    /**
+     * Sets if the memo columns searched with LIKE have full-text indexes.
+     *
+     * @param fullTextIndex
+     *            true to keep full-text indexes in the blob index directory.
+     */
+    public void setFullTextIndex(final boolean fullTextIndex) {
+        this.fullTextIndex = fullTextIndex;
+    }
+
+    /**
+     * Sets the directory to keep the MB block directory.
+     *
+     * @param blobIndexDir
+     *            the index directory or <code>null</code> to not keep it.
+     */
+    public void setBlobIndexDir(final File blobIndexDir) {
+        this.blobIndexDir = blobIndexDir;
+    }
+
+    /**
+     * Sets the header bytes this table was loaded from.
+     *
+     * @param header
+     *            the header bytes.
+     */
+    public void setHeader(final byte[] header) {
+        this.header = header;
+    }
+
+    /**
+     * Gets if a column keeps a trigram index.
+     *
+     * @param field
+     *            the column.
+     * @return true if the column keeps a trigram index.
+     */
+    public boolean isTrigramIndex(final ParadoxField field) {
+        for (final String name : this.trigramColumns) {
+            if (name.equalsIgnoreCase(field.getName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Sets the names of the columns with trigram indexes.
+     *
+     * @param trigramColumns
+     *            the column names.
+     */
+    public void setTrigramColumns(final List<String> trigramColumns) {
+        this.trigramColumns = trigramColumns;
+    }
+
+    /**
+     * Sets the sort order ID of the alpha keys.
+     *
+     * @param sortOrderID
+     *            the sort order ID.
+     */
+    public void setSortOrderID(final String sortOrderID) {
+        this.sortOrderID = sortOrderID;
+    }
+
     /**
      * Gets the table name.
      *
@@ -9,8 +9,11 @@
 package com.googlecode.paradox.parser;
 
 import com.googlecode.paradox.parser.nodes.FieldNode;
+import com.googlecode.paradox.parser.nodes.FunctionNode;
+import com.googlecode.paradox.parser.nodes.IdentifierNode;
 import com.googlecode.paradox.parser.nodes.JoinNode;
 import com.googlecode.paradox.parser.nodes.JoinType;
+import com.googlecode.paradox.parser.nodes.OrderType;
 import com.googlecode.paradox.parser.nodes.SQLNode;
 import com.googlecode.paradox.parser.nodes.SelectNode;
 import com.googlecode.paradox.parser.nodes.StatementNode;
@@ -18,7 +21,9 @@ import com.googlecode.paradox.parser.nodes.TableNode;
 import com.googlecode.paradox.parser.nodes.comparisons.BetweenNode;
 import com.googlecode.paradox.parser.nodes.comparisons.EqualsNode;
 import com.googlecode.paradox.parser.nodes.comparisons.GreaterThanNode;
+import com.googlecode.paradox.parser.nodes.comparisons.InNode;
 import com.googlecode.paradox.parser.nodes.comparisons.LessThanNode;
+import com.googlecode.paradox.parser.nodes.comparisons.LikeNode;
 import com.googlecode.paradox.parser.nodes.comparisons.NotEqualsNode;
 import com.googlecode.paradox.parser.nodes.conditional.ANDNode;
 import com.googlecode.paradox.parser.nodes.conditional.ExistsNode;
@@ -27,23 +32,31 @@ import com.googlecode.paradox.parser.nodes.conditional.ORNode;
 import com.googlecode.paradox.parser.nodes.conditional.XORNode;
 import com.googlecode.paradox.parser.nodes.values.AsteriskNode;
 import com.googlecode.paradox.parser.nodes.values.CharacterNode;
+import com.googlecode.paradox.parser.nodes.values.NullNode;
 import com.googlecode.paradox.parser.nodes.values.NumericNode;
+import com.googlecode.paradox.parser.nodes.values.ParameterNode;
 import com.googlecode.paradox.utils.Constants;
 import com.googlecode.paradox.utils.SQLStates;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 
 /**
  * Parses a SQL statement.
  *
  * @author Leonardo Alves da Costa
- * @version 1.2
+ * @version 1.6
  * @since 1.0
  */
 public final class SQLParser {
     
+    /**
+     * The number of parameter markers read.
+     */
+    private int parameterCount;
+    
     /**
      * The scanner used to read tokens.
      */
@@ -150,6 +163,29 @@ public final class SQLParser {
         }
     }
     
+    /**
+     * Checks if there is a current token to parse.
+     *
+     * @throws SQLException
+     *             in case of unexpected end of statement.
+     */
+    private void checkToken() throws SQLException {
+        if (this.token == null) {
+            throw new SQLException("Unexpected end of SELECT statement.", SQLStates.INVALID_SQL.getValue());
+        }
+    }
+    
+    /**
+     * Gets if the current token ends the table list in FROM.
+     *
+     * @return true if the current token ends the table list.
+     */
+    private boolean isTableListEnd() {
+        final TokenType type = this.token.getType();
+        return (type == TokenType.WHERE) || (type == TokenType.GROUP) || (type == TokenType.ORDER)
+                || (type == TokenType.LIMIT) || (type == TokenType.OFFSET);
+    }
+    
     /**
      * Parse the asterisk token.
      *
@@ -174,9 +210,10 @@ public final class SQLParser {
      */
     private BetweenNode parseBetween(final FieldNode field) throws SQLException {
         this.expect(TokenType.BETWEEN);
-        final FieldNode left = this.parseField();
+        final SQLNode left = this.parseValue();
+        this.checkToken();
         this.expect(TokenType.AND, "AND expected.");
-        final FieldNode right = this.parseField();
+        final SQLNode right = this.parseValue();
         return new BetweenNode(field, left, right);
     }
     
@@ -203,7 +240,29 @@ public final class SQLParser {
             fieldAlias = this.token.getValue();
             this.expect(TokenType.IDENTIFIER);
         }
-        select.addField(new CharacterNode(fieldName, fieldAlias));
+        select.addField(new CharacterNode(fieldName.toUpperCase(Locale.US), fieldAlias.toUpperCase(Locale.US)));
+    }
+    
+    /**
+     * Parses a column name, with an optional table name prefix.
+     *
+     * @return the column name.
+     * @throws SQLException
+     *             in case of parse errors.
+     */
+    private String parseColumnName() throws SQLException {
+        this.checkToken();
+        String name = this.token.getValue();
+        this.expect(TokenType.IDENTIFIER);
+        
+        // If it has a Table Name
+        if ((this.token != null) && (this.token.getType() == TokenType.PERIOD)) {
+            this.expect(TokenType.PERIOD);
+            this.checkToken();
+            name = name + '.' + this.token.getValue();
+            this.expect(TokenType.IDENTIFIER);
+        }
+        return name;
     }
     
     /**
@@ -215,6 +274,7 @@ public final class SQLParser {
      */
     private SQLNode parseCondition() throws SQLException {
         if (this.token.getType() == TokenType.NOT) {
+            this.expect(TokenType.NOT);
             return new NOTNode(this.parseCondition());
         } else if (this.token.isOperator()) {
             return this.parseOperators();
@@ -256,9 +316,9 @@ public final class SQLParser {
      * @throws SQLException
      *             in case of parse errors.
      */
-    private EqualsNode parseEquals(final FieldNode field) throws SQLException {
+    private EqualsNode parseEquals(final SQLNode field) throws SQLException {
         this.expect(TokenType.EQUALS);
-        final FieldNode value = this.parseField();
+        final SQLNode value = this.parseValue();
         return new EqualsNode(field, value);
     }
     
@@ -308,12 +368,16 @@ public final class SQLParser {
      *             in case of parse errors.
      */
     private SQLNode parseFieldNode() throws SQLException {
-        final FieldNode firstField = this.parseField();
+        final SQLNode firstField = this.parseValue();
         SQLNode node;
         
+        this.checkToken();
         switch (this.token.getType()) {
             case BETWEEN:
-                node = this.parseBetween(firstField);
+                if (!(firstField instanceof FieldNode)) {
+                    throw new SQLException("Column expected before BETWEEN.", SQLStates.INVALID_SQL.getValue());
+                }
+                node = this.parseBetween((FieldNode) firstField);
                 break;
             case EQUALS:
                 node = this.parseEquals(firstField);
@@ -330,6 +394,23 @@ public final class SQLParser {
             case MORE:
                 node = this.parseMore(firstField);
                 break;
+            case LIKE:
+                node = this.parseLike(firstField);
+                break;
+            case IN:
+                node = this.parseIn(firstField);
+                break;
+            case NOT:
+                this.expect(TokenType.NOT);
+                this.checkToken();
+                if (this.token.getType() == TokenType.LIKE) {
+                    node = new NOTNode(this.parseLike(firstField));
+                } else if (this.token.getType() == TokenType.IN) {
+                    node = new NOTNode(this.parseIn(firstField));
+                } else {
+                    throw new SQLException("LIKE or IN expected.", SQLStates.INVALID_SQL.getValue());
+                }
+                break;
             default:
                 throw new SQLException("Invalid operator.", SQLStates.INVALID_SQL.getValue());
         }
@@ -416,7 +497,7 @@ public final class SQLParser {
         this.expect(TokenType.FROM);
         boolean firstField = true;
         do {
-            if (this.token.getType() == TokenType.WHERE) {
+            if (this.isTableListEnd()) {
                 break;
             }
             if (!firstField) {
@@ -432,6 +513,73 @@ public final class SQLParser {
             this.expect(TokenType.WHERE);
             select.setConditions(this.parseConditionList());
         }
+        
+        if ((this.token != null) && (this.token.getType() == TokenType.GROUP)) {
+            this.parseGroupBy(select);
+        }
+        if ((this.token != null) && (this.token.getType() == TokenType.ORDER)) {
+            this.parseOrderBy(select);
+        }
+        this.parseLimit(select);
+    }
+    
+    /**
+     * Parses a function call in the field list.
+     *
+     * @param select
+     *            the select node.
+     * @param functionName
+     *            the function name.
+     * @throws SQLException
+     *             in case of parse errors.
+     */
+    private void parseFunction(final SelectNode select, final String functionName) throws SQLException {
+        this.expect(TokenType.LPAREN);
+        this.checkToken();
+        final SQLNode argument;
+        if (this.token.getType() == TokenType.ASTERISK) {
+            argument = new AsteriskNode();
+            this.expect(TokenType.ASTERISK);
+        } else {
+            argument = this.parseField();
+        }
+        this.checkToken();
+        this.expect(TokenType.RPAREN, "Right parenthesis expected.");
+        
+        String alias = functionName;
+        if ((this.token != null) && (this.token.getType() == TokenType.AS)) {
+            this.expect(TokenType.AS);
+            this.checkToken();
+            alias = this.token.getValue();
+            this.expect(TokenType.CHARACTER, TokenType.IDENTIFIER);
+        } else if ((this.token != null) && (this.token.getType() == TokenType.IDENTIFIER)) {
+            // Alias without AS.
+            alias = this.token.getValue();
+            this.expect(TokenType.IDENTIFIER);
+        }
+        select.addField(new FunctionNode(functionName, alias, argument));
+    }
+    
+    /**
+     * Parses the GROUP BY clause.
+     *
+     * @param select
+     *            the select node.
+     * @throws SQLException
+     *             in case of parse errors.
+     */
+    private void parseGroupBy(final SelectNode select) throws SQLException {
+        this.expect(TokenType.GROUP);
+        this.checkToken();
+        this.expect(TokenType.BY, "BY expected.");
+        boolean first = true;
+        do {
+            if (!first) {
+                this.expect(TokenType.COMMA);
+            }
+            select.addGroupBy(new IdentifierNode(this.parseColumnName()));
+            first = false;
+        } while ((this.token != null) && (this.token.getType() == TokenType.COMMA));
     }
     
     /**
@@ -453,6 +601,11 @@ public final class SQLParser {
         String newFieldName = fieldName;
         this.expect(TokenType.IDENTIFIER);
         
+        if ((this.token != null) && (this.token.getType() == TokenType.LPAREN)) {
+            this.parseFunction(select, fieldName);
+            return;
+        }
+        
         if ((this.token.getType() == TokenType.IDENTIFIER) || (this.token.getType() == TokenType.AS)
                 || (this.token.getType() == TokenType.PERIOD)) {
             // If it has a Table Name
@@ -489,8 +642,7 @@ public final class SQLParser {
      *             in case of errors.
      */
     private void parseJoin(final TableNode table) throws SQLException {
-        while (this.scanner.hasNext() && (this.token.getType() != TokenType.COMMA)
-                && (this.token.getType() != TokenType.WHERE)) {
+        while (this.scanner.hasNext() && (this.token.getType() != TokenType.COMMA) && !this.isTableListEnd()) {
             final JoinNode join = new JoinNode();
             
             // Inner join
@@ -544,6 +696,25 @@ public final class SQLParser {
         select.addTable(table);
     }
     
+    /**
+     * Parses the LIMIT and OFFSET clauses.
+     *
+     * @param select
+     *            the select node.
+     * @throws SQLException
+     *             in case of parse errors.
+     */
+    private void parseLimit(final SelectNode select) throws SQLException {
+        if ((this.token != null) && (this.token.getType() == TokenType.LIMIT)) {
+            this.expect(TokenType.LIMIT);
+            select.setLimit(this.parseRowCount());
+        }
+        if ((this.token != null) && (this.token.getType() == TokenType.OFFSET)) {
+            this.expect(TokenType.OFFSET);
+            select.setOffset(this.parseRowCount());
+        }
+    }
+    
     /**
      * Parses less token.
      *
@@ -553,12 +724,54 @@ public final class SQLParser {
      * @throws SQLException
      *             in case of parse errors.
      */
-    private LessThanNode parseLess(final FieldNode field) throws SQLException {
+    private LessThanNode parseLess(final SQLNode field) throws SQLException {
         this.expect(TokenType.LESS);
-        final FieldNode value = this.parseField();
+        final SQLNode value = this.parseValue();
         return new LessThanNode(field, value);
     }
     
+    /**
+     * Parses the IN value list.
+     *
+     * @param field
+     *            the left token field.
+     * @return the IN node.
+     * @throws SQLException
+     *             in case of parse errors.
+     */
+    private InNode parseIn(final SQLNode field) throws SQLException {
+        if (!(field instanceof FieldNode)) {
+            throw new SQLException("Column expected before IN.", SQLStates.INVALID_SQL.getValue());
+        }
+        this.expect(TokenType.IN);
+        this.expect(TokenType.LPAREN, "Left parenthesis expected.");
+        final List<SQLNode> values = new ArrayList<>();
+        values.add(this.parseValue());
+        this.checkToken();
+        while (this.token.getType() == TokenType.COMMA) {
+            this.expect(TokenType.COMMA);
+            values.add(this.parseValue());
+            this.checkToken();
+        }
+        this.expect(TokenType.RPAREN, "Right parenthesis expected.");
+        return new InNode((FieldNode) field, values);
+    }
+    
+    /**
+     * Parses like token.
+     *
+     * @param field
+     *            the left token field.
+     * @return the like node.
+     * @throws SQLException
+     *             in case of parse errors.
+     */
+    private LikeNode parseLike(final SQLNode field) throws SQLException {
+        this.expect(TokenType.LIKE);
+        final SQLNode pattern = this.parseValue();
+        return new LikeNode(field, pattern);
+    }
+    
     /**
      * Parses more token.
      *
@@ -568,9 +781,9 @@ public final class SQLParser {
      * @throws SQLException
      *             in case of parse errors.
      */
-    private GreaterThanNode parseMore(final FieldNode firstField) throws SQLException {
+    private GreaterThanNode parseMore(final SQLNode firstField) throws SQLException {
         this.expect(TokenType.MORE);
-        final FieldNode value = this.parseField();
+        final SQLNode value = this.parseValue();
         return new GreaterThanNode(firstField, value);
     }
     
@@ -583,9 +796,9 @@ public final class SQLParser {
      * @throws SQLException
      *             in case of parse errors.
      */
-    private NotEqualsNode parseNotEquals(final FieldNode firstField) throws SQLException {
+    private NotEqualsNode parseNotEquals(final SQLNode firstField) throws SQLException {
         this.expect(TokenType.NOTEQUALS);
-        final FieldNode value = this.parseField();
+        final SQLNode value = this.parseValue();
         return new NotEqualsNode(firstField, value);
     }
     
@@ -598,9 +811,9 @@ public final class SQLParser {
      * @throws SQLException
      *             in case of parse errors.
      */
-    private NotEqualsNode parseNotEqualsVariant(final FieldNode firstField) throws SQLException {
+    private NotEqualsNode parseNotEqualsVariant(final SQLNode firstField) throws SQLException {
         this.expect(TokenType.NOTEQUALS2);
-        final FieldNode value = this.parseField();
+        final SQLNode value = this.parseValue();
         return new NotEqualsNode(firstField, value);
     }
     
@@ -654,6 +867,55 @@ public final class SQLParser {
         }
     }
     
+    /**
+     * Parses the ORDER BY clause.
+     *
+     * @param select
+     *            the select node.
+     * @throws SQLException
+     *             in case of parse errors.
+     */
+    private void parseOrderBy(final SelectNode select) throws SQLException {
+        this.expect(TokenType.ORDER);
+        this.checkToken();
+        this.expect(TokenType.BY, "BY expected.");
+        boolean first = true;
+        do {
+            if (!first) {
+                this.expect(TokenType.COMMA);
+            }
+            final String name = this.parseColumnName();
+            
+            OrderType type = OrderType.ASC;
+            if ((this.token != null) && (this.token.getType() == TokenType.ASC)) {
+                this.expect(TokenType.ASC);
+            } else if ((this.token != null) && (this.token.getType() == TokenType.DESC)) {
+                type = OrderType.DESC;
+                this.expect(TokenType.DESC);
+            }
+            select.addOrderBy(new IdentifierNode(name), type);
+            first = false;
+        } while ((this.token != null) && (this.token.getType() == TokenType.COMMA));
+    }
+    
+    /**
+     * Parses a row count in LIMIT, OFFSET or TOP clauses.
+     *
+     * @return the row count.
+     * @throws SQLException
+     *             in case of parse errors.
+     */
+    private int parseRowCount() throws SQLException {
+        this.checkToken();
+        final String value = this.token.getValue();
+        this.expect(TokenType.NUMERIC, "Row count expected.");
+        try {
+            return Integer.parseInt(value);
+        } catch (final NumberFormatException e) {
+            throw new SQLException("Invalid row count: " + value, SQLStates.INVALID_SQL.getValue(), e);
+        }
+    }
+    
     /**
      * Parse a Select Statement.
      *
@@ -671,6 +933,11 @@ public final class SQLParser {
             this.expect(TokenType.DISTINCT);
         }
         
+        if (this.token.getType() == TokenType.TOP) {
+            this.expect(TokenType.TOP);
+            select.setLimit(this.parseRowCount());
+        }
+        
         // Field loop
         this.parseFields(select);
         
@@ -679,6 +946,42 @@ public final class SQLParser {
         } else {
             throw new SQLException("FROM expected.", SQLStates.INVALID_SQL.getValue());
         }
+        select.setParameterCount(this.parameterCount);
         return select;
     }
+    
+    /**
+     * Parses a value in conditions: a column, a literal or a parameter marker.
+     *
+     * @return the value node.
+     * @throws SQLException
+     *             in case of parse errors.
+     */
+    private SQLNode parseValue() throws SQLException {
+        this.checkToken();
+        final String value = this.token.getValue();
+        switch (this.token.getType()) {
+            case QUESTION_MARK:
+                this.expect(TokenType.QUESTION_MARK);
+                this.parameterCount++;
+                return new ParameterNode(this.parameterCount);
+            case CHARACTER:
+                this.expect(TokenType.CHARACTER);
+                return new CharacterNode(value, value);
+            case NUMERIC:
+                this.expect(TokenType.NUMERIC);
+                return new NumericNode(value, value);
+            case MINUS:
+                this.expect(TokenType.MINUS);
+                this.checkToken();
+                final String number = '-' + this.token.getValue();
+                this.expect(TokenType.NUMERIC, "Number expected.");
+                return new NumericNode(number, number);
+            case NULL:
+                this.expect(TokenType.NULL);
+                return new NullNode();
+            default:
+                return this.parseField();
+        }
+    }
 }
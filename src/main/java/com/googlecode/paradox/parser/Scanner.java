@@ -18,7 +18,7 @@ import java.util.Locale;
  * SQL Scanner (read tokens from SQL String).
  *
  * @author Leonardo Alves da Costa
- * @version 1.2
+ * @version 1.3
  * @since 1.0
  */
 public class Scanner {
@@ -31,7 +31,7 @@ public class Scanner {
     /**
      * Special chars.
      */
-    private static final char[] SPECIAL = { '(', ')', '+', '-', ',', '.', '=', ';' };
+    private static final char[] SPECIAL = { '(', ')', '+', '-', ',', '.', '=', ';', '?' };
 
     /**
      * Character buffer used to parse the SQL.
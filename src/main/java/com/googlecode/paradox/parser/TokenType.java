@@ -12,7 +12,7 @@ package com.googlecode.paradox.parser;
  * SQL Tokens
  *
  * @author Leonardo Alves da Costa
- * @version 1.2
+ * @version 1.6
  * @since 1.0
  */
 public enum TokenType {
@@ -26,6 +26,11 @@ public enum TokenType {
      */
     AS,
     
+    /**
+     * Ascending order token.
+     */
+    ASC,
+    
     /**
      * All fields token.
      */
@@ -56,6 +61,11 @@ public enum TokenType {
      */
     DELETE,
     
+    /**
+     * Descending order token.
+     */
+    DESC,
+    
     /**
      * Distinct token.
      */
@@ -76,6 +86,11 @@ public enum TokenType {
      */
     FROM,
     
+    /**
+     * Group token.
+     */
+    GROUP,
+    
     /**
      * Having token.
      */
@@ -86,6 +101,11 @@ public enum TokenType {
      */
     IDENTIFIER,
     
+    /**
+     * In token.
+     */
+    IN,
+    
     /**
      * Inner token.
      */
@@ -116,6 +136,16 @@ public enum TokenType {
      */
     LESS("<"),
     
+    /**
+     * Like token.
+     */
+    LIKE,
+    
+    /**
+     * Limit token.
+     */
+    LIMIT,
+    
     /**
      * Left parenthesis token.
      */
@@ -156,6 +186,11 @@ public enum TokenType {
      */
     NUMERIC(null),
     
+    /**
+     * Offset token.
+     */
+    OFFSET,
+    
     /**
      * ON token.
      */
@@ -186,6 +221,11 @@ public enum TokenType {
      */
     PLUS("+"),
     
+    /**
+     * Parameter marker token.
+     */
+    QUESTION_MARK("?"),
+    
     /**
      * Right token.
      */
@@ -206,6 +246,11 @@ public enum TokenType {
      */
     SEMI(";"),
     
+    /**
+     * Top token.
+     */
+    TOP,
+    
     /**
      * Update token.
      */
@@ -224,7 +269,8 @@ public enum TokenType {
     /**
      * Stores the conditional break values.
      */
-    private static final TokenType[] CONDITIONAL_BREAKS = { ORDER, HAVING, RPAREN, LEFT, RIGHT, OUTER, INNER, JOIN };
+    private static final TokenType[] CONDITIONAL_BREAKS = { ORDER, HAVING, RPAREN, LEFT, RIGHT, OUTER, INNER, JOIN,
+            LIMIT, OFFSET, GROUP };
     
     /**
      * Stores the operator values.
@@ -0,0 +1,69 @@
+/*
+ * FunctionNode.java 10/19/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.parser.nodes;
+
+/**
+ * Stores a function call in the field list, like <code>COUNT(*)</code> or <code>SUM(field)</code>.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4
+ */
+public final class FunctionNode extends SQLNode {
+
+    /**
+     * The function argument (a field or an asterisk).
+     */
+    private final SQLNode argument;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param name
+     *            the function name.
+     * @param alias
+     *            the result alias.
+     * @param argument
+     *            the function argument.
+     */
+    public FunctionNode(final String name, final String alias, final SQLNode argument) {
+        super(name, alias);
+        this.argument = argument;
+    }
+
+    /**
+     * Gets the function argument.
+     *
+     * @return the function argument.
+     */
+    public SQLNode getArgument() {
+        return this.argument;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder();
+        builder.append(this.getName());
+        builder.append('(');
+        if (this.argument instanceof FieldNode) {
+            builder.append(this.argument);
+        } else {
+            builder.append('*');
+        }
+        builder.append(')');
+        if ((this.alias != null) && !this.getName().equals(this.alias)) {
+            builder.append(" AS ");
+            builder.append(this.alias);
+        }
+        return builder.toString();
+    }
+}
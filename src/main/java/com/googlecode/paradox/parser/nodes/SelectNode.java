@@ -17,7 +17,7 @@ import java.util.List;
  * Stores a select node.
  *
  * @author Leonardo Alves da Costa
- * @version 1.1
+ * @version 1.3
  * @since 1.0
  */
 public final class SelectNode extends StatementNode {
@@ -38,10 +38,26 @@ public final class SelectNode extends StatementNode {
      * Group by values.
      */
     private final ArrayList<IdentifierNode> groups = new ArrayList<>();
+    /**
+     * The row limit (LIMIT or TOP), <code>null</code> if none.
+     */
+    private Integer limit;
+    /**
+     * The rows to skip (OFFSET), <code>null</code> if none.
+     */
+    private Integer offset;
     /**
      * Order by values.
      */
     private final ArrayList<IdentifierNode> order = new ArrayList<>();
+    /**
+     * Order by directions, in the same order of {@link #order}.
+     */
+    private final ArrayList<OrderType> orderTypes = new ArrayList<>();
+    /**
+     * The number of parameter markers.
+     */
+    private int parameterCount;
     /**
      * The tables in from token.
      */
@@ -95,6 +111,33 @@ public final class SelectNode extends StatementNode {
         return Collections.unmodifiableList(this.fields);
     }
     
+    /**
+     * Gets the row limit.
+     *
+     * @return the row limit or <code>null</code> if there is no limit.
+     */
+    public Integer getLimit() {
+        return this.limit;
+    }
+    
+    /**
+     * Gets the rows to skip.
+     *
+     * @return the rows to skip or <code>null</code> if there is no offset.
+     */
+    public Integer getOffset() {
+        return this.offset;
+    }
+    
+    /**
+     * Gets the number of parameter markers.
+     *
+     * @return the number of parameter markers.
+     */
+    public int getParameterCount() {
+        return this.parameterCount;
+    }
+    
     /**
      * Gets the order by list.
      *
@@ -104,6 +147,15 @@ public final class SelectNode extends StatementNode {
         return Collections.unmodifiableList(this.order);
     }
     
+    /**
+     * Gets the order by directions.
+     *
+     * @return the order by directions.
+     */
+    public List<OrderType> getOrderTypes() {
+        return Collections.unmodifiableList(this.orderTypes);
+    }
+    
     /**
      * Gets the table list.
      *
@@ -133,6 +185,36 @@ public final class SelectNode extends StatementNode {
         this.distinct = distinct;
     }
     
+    /**
+     * Sets the row limit.
+     *
+     * @param limit
+     *            the row limit.
+     */
+    public void setLimit(final Integer limit) {
+        this.limit = limit;
+    }
+    
+    /**
+     * Sets the number of parameter markers.
+     *
+     * @param parameterCount
+     *            the number of parameter markers.
+     */
+    public void setParameterCount(final int parameterCount) {
+        this.parameterCount = parameterCount;
+    }
+    
+    /**
+     * Sets the rows to skip.
+     *
+     * @param offset
+     *            the rows to skip.
+     */
+    public void setOffset(final Integer offset) {
+        this.offset = offset;
+    }
+    
     /**
      * Show this node SELECT.
      */
@@ -147,6 +229,7 @@ public final class SelectNode extends StatementNode {
         this.buildWhere(builder);
         this.buildGroupBy(builder);
         this.buildOrderBy(builder);
+        this.buildLimit(builder);
         return builder.toString();
     }
     
@@ -212,6 +295,23 @@ public final class SelectNode extends StatementNode {
         }
     }
     
+    /**
+     * Build the LIMIT and OFFSET clauses.
+     *
+     * @param builder
+     *            builder to LIMIT values.
+     */
+    private void buildLimit(final StringBuilder builder) {
+        if (this.limit != null) {
+            builder.append(" LIMIT ");
+            builder.append(this.limit);
+        }
+        if (this.offset != null) {
+            builder.append(" OFFSET ");
+            builder.append(this.offset);
+        }
+    }
+    
     /**
      * Build the fields order.
      *
@@ -223,13 +323,16 @@ public final class SelectNode extends StatementNode {
         if (!this.order.isEmpty()) {
             builder.append(" ORDER BY ");
             first = true;
-            for (final IdentifierNode identifier : this.order) {
+            for (int i = 0; i < this.order.size(); i++) {
                 if (first) {
                     first = false;
                 } else {
                     builder.append(", ");
                 }
-                builder.append(identifier);
+                builder.append(this.order.get(i));
+                if (this.orderTypes.get(i) == OrderType.DESC) {
+                    builder.append(" DESC");
+                }
             }
         }
     }
@@ -262,18 +365,31 @@ public final class SelectNode extends StatementNode {
      * @param identifier
      *            the group by identifier to add.
      */
-    void addGroupBy(final IdentifierNode identifier) {
+    public void addGroupBy(final IdentifierNode identifier) {
         this.groups.add(identifier);
     }
     
+    /**
+     * Adds the order by identifier in ascending order.
+     *
+     * @param identifier
+     *            the order by identifier to add.
+     */
+    public void addOrderBy(final IdentifierNode identifier) {
+        this.addOrderBy(identifier, OrderType.ASC);
+    }
+    
     /**
      * Adds the order by identifier.
      *
      * @param identifier
      *            the order by identifier to add.
+     * @param type
+     *            the order direction.
      */
-    void addOrderBy(final IdentifierNode identifier) {
+    public void addOrderBy(final IdentifierNode identifier, final OrderType type) {
         this.order.add(identifier);
+        this.orderTypes.add(type);
     }
     
     /**
@@ -281,7 +397,7 @@ public final class SelectNode extends StatementNode {
      *
      * @return the group list.
      */
-    List<IdentifierNode> getGroups() {
+    public List<IdentifierNode> getGroups() {
         return Collections.unmodifiableList(this.groups);
     }
     
@@ -290,7 +406,7 @@ public final class SelectNode extends StatementNode {
      *
      * @return true if this select has a distinct token.
      */
-    boolean isDistinct() {
+    public boolean isDistinct() {
         return this.distinct;
     }
 }
@@ -9,27 +9,26 @@
  */
 package com.googlecode.paradox.parser.nodes.comparisons;
 
-import com.googlecode.paradox.parser.nodes.FieldNode;
 import com.googlecode.paradox.parser.nodes.SQLNode;
 
 /**
  * Stores a abstract comparision node.
  *
  * @author Leonardo Alves da Costa
- * @version 1.1
+ * @version 1.2
  * @since 1.1
  */
-abstract class AbstractComparisonNode extends SQLNode {
+public abstract class AbstractComparisonNode extends SQLNode {
     
     /**
      * The first node.
      */
-    private final FieldNode first;
+    private final SQLNode first;
     
     /**
      * The last node.
      */
-    private final FieldNode last;
+    private final SQLNode last;
     
     /**
      * Creates a new instance.
@@ -41,7 +40,7 @@ abstract class AbstractComparisonNode extends SQLNode {
      * @param last
      *            the last node.
      */
-    AbstractComparisonNode(final String name, final FieldNode first, final FieldNode last) {
+    AbstractComparisonNode(final String name, final SQLNode first, final SQLNode last) {
         super(name);
         this.first = first;
         this.last = last;
@@ -52,7 +51,7 @@ abstract class AbstractComparisonNode extends SQLNode {
      *
      * @return the first node.
      */
-    public FieldNode getFirst() {
+    public SQLNode getFirst() {
         return this.first;
     }
     
@@ -61,7 +60,7 @@ abstract class AbstractComparisonNode extends SQLNode {
      *
      * @return the last node.
      */
-    public FieldNode getLast() {
+    public SQLNode getLast() {
         return this.last;
     }
     
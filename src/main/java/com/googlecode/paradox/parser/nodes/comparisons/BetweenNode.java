@@ -9,12 +9,13 @@
 package com.googlecode.paradox.parser.nodes.comparisons;
 
 import com.googlecode.paradox.parser.nodes.FieldNode;
+import com.googlecode.paradox.parser.nodes.SQLNode;
 
 /**
  * Stores the between node.
  *
  * @author Leonardo Alves da Costa
- * @version 1.1
+ * @version 1.2
  * @since 1.1
  */
 public final class BetweenNode extends AbstractComparisonNode {
@@ -34,7 +35,7 @@ public final class BetweenNode extends AbstractComparisonNode {
      * @param last
      *            the last node.
      */
-    public BetweenNode(final FieldNode field, final FieldNode first, final FieldNode last) {
+    public BetweenNode(final FieldNode field, final SQLNode first, final SQLNode last) {
         super("BETWEEN", first, last);
         this.field = field;
     }
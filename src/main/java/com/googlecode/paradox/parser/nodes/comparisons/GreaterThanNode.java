@@ -8,13 +8,13 @@
  */
 package com.googlecode.paradox.parser.nodes.comparisons;
 
-import com.googlecode.paradox.parser.nodes.FieldNode;
+import com.googlecode.paradox.parser.nodes.SQLNode;
 
 /**
  * Stores the greater than node.
  *
  * @author Leonardo Alves da Costa
- * @version 1.0
+ * @version 1.1
  * @since 1.1
  */
 public final class GreaterThanNode extends AbstractComparisonNode {
@@ -27,7 +27,7 @@ public final class GreaterThanNode extends AbstractComparisonNode {
      * @param last
      *            the last node.
      */
-    public GreaterThanNode(final FieldNode first, final FieldNode last) {
+    public GreaterThanNode(final SQLNode first, final SQLNode last) {
         super(">", first, last);
     }
     
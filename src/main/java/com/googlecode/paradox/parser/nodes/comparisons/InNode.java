@@ -0,0 +1,82 @@
+/*
+ * InNode.java 10/19/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.parser.nodes.comparisons;
+
+import com.googlecode.paradox.parser.nodes.FieldNode;
+import com.googlecode.paradox.parser.nodes.SQLNode;
+import java.util.List;
+
+/**
+ * Stores the IN node.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4
+ */
+public final class InNode extends SQLNode {
+    
+    /**
+     * The field node.
+     */
+    private final FieldNode field;
+    
+    /**
+     * The value list.
+     */
+    private final List<SQLNode> values;
+    
+    /**
+     * Create a new instance.
+     *
+     * @param field
+     *            the field node.
+     * @param values
+     *            the value list.
+     */
+    public InNode(final FieldNode field, final List<SQLNode> values) {
+        super("IN");
+        this.field = field;
+        this.values = values;
+    }
+    
+    /**
+     * Gets the field node.
+     *
+     * @return the field node.
+     */
+    public FieldNode getField() {
+        return this.field;
+    }
+    
+    /**
+     * Gets the value list.
+     *
+     * @return the value list.
+     */
+    public List<SQLNode> getValues() {
+        return this.values;
+    }
+    
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder();
+        builder.append(this.field).append(" IN (");
+        for (int i = 0; i < this.values.size(); i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            builder.append(this.values.get(i));
+        }
+        return builder.append(')').toString();
+    }
+    
+}
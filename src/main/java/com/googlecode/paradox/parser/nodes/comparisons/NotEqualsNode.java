@@ -8,13 +8,13 @@
  */
 package com.googlecode.paradox.parser.nodes.comparisons;
 
-import com.googlecode.paradox.parser.nodes.FieldNode;
+import com.googlecode.paradox.parser.nodes.SQLNode;
 
 /**
  * Stores the not equals node.
  *
  * @author Leonardo Alves da Costa
- * @version 1.0
+ * @version 1.1
  * @since 1.1
  */
 public final class NotEqualsNode extends AbstractComparisonNode {
@@ -27,7 +27,7 @@ public final class NotEqualsNode extends AbstractComparisonNode {
      * @param last
      *            the last node.
      */
-    public NotEqualsNode(final FieldNode first, final FieldNode last) {
+    public NotEqualsNode(final SQLNode first, final SQLNode last) {
         super("<>", first, last);
     }
 }
@@ -9,13 +9,12 @@
 package com.googlecode.paradox.parser.nodes.values;
 
 import com.googlecode.paradox.parser.nodes.SQLNode;
-import java.util.Locale;
 
 /**
  * Stores the character node.
  *
  * @author Leonardo Alves da Costa
- * @version 1.0
+ * @version 1.1
  * @since 1.1
  */
 public final class CharacterNode extends SQLNode {
@@ -29,7 +28,14 @@ public final class CharacterNode extends SQLNode {
      *            the characters alias.
      */
     public CharacterNode(final String value, final String alias) {
-        super(value.toUpperCase(Locale.US), alias.toUpperCase(Locale.US));
+        super(value, alias);
     }
     
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public String toString() {
+        return '\'' + this.getName().replace("'", "''") + '\'';
+    }
 }
@@ -14,7 +14,7 @@ import com.googlecode.paradox.parser.nodes.SQLNode;
  * Stores the NULL node.
  *
  * @author Leonardo Alves da Costa
- * @version 1.0
+ * @version 1.1
  * @since 1.1
  */
 public final class NullNode extends SQLNode {
@@ -25,4 +25,12 @@ public final class NullNode extends SQLNode {
     public NullNode() {
         super("NULL");
     }
+    
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public String toString() {
+        return this.getName();
+    }
 }
@@ -15,7 +15,7 @@ import com.googlecode.paradox.parser.nodes.SQLNode;
  *
  * @author Leonardo Alves da Costa
  * @since 1.1
- * @version 1.0
+ * @version 1.1
  */
 public class NumericNode extends SQLNode {
     
@@ -30,4 +30,12 @@ public class NumericNode extends SQLNode {
     public NumericNode(final String value, final String alias) {
         super(value, alias);
     }
+    
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public String toString() {
+        return this.getName();
+    }
 }
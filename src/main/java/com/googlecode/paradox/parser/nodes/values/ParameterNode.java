@@ -0,0 +1,54 @@
+/*
+ * ParameterNode.java 10/19/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.parser.nodes.values;
+
+import com.googlecode.paradox.parser.nodes.SQLNode;
+
+/**
+ * Stores a parameter marker (<code>?</code>), replaced by a value in each execution.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4
+ */
+public final class ParameterNode extends SQLNode {
+    
+    /**
+     * The parameter index, starting at 1.
+     */
+    private final int index;
+    
+    /**
+     * Create a new instance.
+     *
+     * @param index
+     *            the parameter index, starting at 1.
+     */
+    public ParameterNode(final int index) {
+        super("?");
+        this.index = index;
+    }
+    
+    /**
+     * Gets the parameter index.
+     *
+     * @return the parameter index, starting at 1.
+     */
+    public int getIndex() {
+        return this.index;
+    }
+    
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public String toString() {
+        return this.getName();
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * PlanCache.java 10/19/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner;
+
+import com.googlecode.paradox.ParadoxConnection;
+import com.googlecode.paradox.parser.SQLParser;
+import com.googlecode.paradox.parser.nodes.SelectNode;
+import com.googlecode.paradox.parser.nodes.StatementNode;
+import com.googlecode.paradox.planner.plan.SelectPlan;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps the parsed statements and the SELECT plans of the most recently used SQL texts.
+ * <p>
+ * A plan is created again when the header of any table it reads changes, so the table metadata in the plan is always
+ * the current one.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.1
+ * @since 1.4
+ */
+public final class PlanCache {
+
+    /**
+     * The database connection.
+     */
+    private final ParadoxConnection conn;
+
+    /**
+     * The cached SQL texts, in access order.
+     */
+    private final Map<String, CachedStatement> entries;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param conn
+     *            the database connection.
+     * @param capacity
+     *            the maximum SQL texts in cache (zero disables the cache).
+     */
+    public PlanCache(final ParadoxConnection conn, final int capacity) {
+        this.conn = conn;
+        this.entries = new LinkedHashMap<String, CachedStatement>(16, 0.75F, true) {
+
+            /**
+             * Serial version UID.
+             */
+            private static final long serialVersionUID = 1L;
+
+            /**
+             * {@inheritDoc}.
+             */
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, CachedStatement> eldest) {
+                return this.size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Removes all cached statements.
+     */
+    public synchronized void clear() {
+        this.entries.clear();
+    }
+
+    /**
+     * Gets the SELECT plan of a statement, creating it if it is not in cache or if some table changed.
+     * <p>
+     * The same plan instance is returned for the same statement, so the plan execution must be synchronized on it.
+     *
+     * @param sql
+     *            the SQL text.
+     * @param statement
+     *            the statement returned by {@link #parse(String)} for this text.
+     * @return the SELECT plan.
+     * @throws SQLException
+     *             in case of plan errors.
+     */
+    public SelectPlan getPlan(final String sql, final SelectNode statement) throws SQLException {
+        final CachedStatement entry;
+        synchronized (this) {
+            entry = this.entries.get(sql);
+        }
+        int index = -1;
+        if (entry != null) {
+            for (int i = 0; i < entry.statements.size(); i++) {
+                if (entry.statements.get(i) == statement) {
+                    index = i;
+                    break;
+                }
+            }
+        }
+        if (index < 0) {
+            return (SelectPlan) new Planner(this.conn).create(statement);
+        }
+
+        synchronized (entry) {
+            final SelectPlan cached = entry.plans[index];
+            if ((cached != null) && !cached.isChanged()) {
+                return cached;
+            }
+            entry.plans[index] = (SelectPlan) new Planner(this.conn).create(statement);
+            return entry.plans[index];
+        }
+    }
+
+    /**
+     * Parses a SQL text, using the cached statements if possible.
+     *
+     * @param sql
+     *            the SQL text.
+     * @return the statement list (not modifiable).
+     * @throws SQLException
+     *             in case of syntax errors.
+     */
+    public List<StatementNode> parse(final String sql) throws SQLException {
+        synchronized (this) {
+            final CachedStatement entry = this.entries.get(sql);
+            if (entry != null) {
+                return entry.statements;
+            }
+        }
+
+        final List<StatementNode> statements = Collections.unmodifiableList(new SQLParser(sql).parse());
+        synchronized (this) {
+            this.entries.put(sql, new CachedStatement(statements));
+        }
+        return statements;
+    }
+
+    /**
+     * Gets the number of SQL texts in cache.
+     *
+     * @return the number of SQL texts in cache.
+     */
+    public synchronized int size() {
+        return this.entries.size();
+    }
+
+    /**
+     * A cached SQL text.
+     *
+     * @author Leonardo Alves da Costa
+     * @version 1.0
+     * @since 1.4
+     */
+    private static final class CachedStatement {
+
+        /**
+         * The plan of each SELECT statement, created on first use.
+         */
+        private final SelectPlan[] plans;
+
+        /**
+         * The parsed statements.
+         */
+        private final List<StatementNode> statements;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param statements
+         *            the parsed statements.
+         */
+        CachedStatement(final List<StatementNode> statements) {
+            this.statements = statements;
+            this.plans = new SelectPlan[statements.size()];
+        }
+    }
+}
@@ -1,149 +1,289 @@
-/*
- * Planner.java 03/12/2009 Copyright (C) 2009 Leonardo Alves da Costa This program is free software: you can
- * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
- * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
- * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
- * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
- * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
- */
-package com.googlecode.paradox.planner;
-
-import com.googlecode.paradox.ParadoxConnection;
-import com.googlecode.paradox.data.TableData;
-import com.googlecode.paradox.metadata.ParadoxTable;
-import com.googlecode.paradox.parser.nodes.SQLNode;
-import com.googlecode.paradox.parser.nodes.SelectNode;
-import com.googlecode.paradox.parser.nodes.StatementNode;
-import com.googlecode.paradox.parser.nodes.TableNode;
-import com.googlecode.paradox.parser.nodes.values.AsteriskNode;
-import com.googlecode.paradox.planner.nodes.PlanTableNode;
-import com.googlecode.paradox.planner.plan.Plan;
-import com.googlecode.paradox.planner.plan.SelectPlan;
-import com.googlecode.paradox.utils.SQLStates;
-import java.sql.SQLException;
-import java.sql.SQLFeatureNotSupportedException;
-import java.util.List;
-
-/**
- * Creates a SQL execution plan.
- *
- * @author Leonardo Alves da Costa
- * @version 1.1
- * @since 1.1
- */
-public class Planner {
-    
-    /**
-     * The database connection.
-     */
-    private final ParadoxConnection conn;
-    
-    /**
-     * Create a new instance.
-     *
-     * @param conn
-     *            the database connection.
-     */
-    public Planner(final ParadoxConnection conn) {
-        this.conn = conn;
-    }
-    
-    /**
-     * Parses the table metadata.
-     *
-     * @param statement
-     *            the SELECT statement.
-     * @param plan
-     *            the select execution plan.
-     * @param paradoxTables
-     *            the tables list.
-     * @throws SQLException
-     *             in case of parse errors.
-     */
-    private static void parseTableMetaData(final SelectNode statement, final SelectPlan plan,
-            final List<ParadoxTable> paradoxTables) throws SQLException {
-        for (final TableNode table : statement.getTables()) {
-            final PlanTableNode node = new PlanTableNode();
-            for (final ParadoxTable paradoxTable : paradoxTables) {
-                if (paradoxTable.getName().equalsIgnoreCase(table.getName())) {
-                    node.setTable(paradoxTable);
-                    break;
-                }
-            }
-            if (node.getTable() == null) {
-                throw new SQLException("Table " + table.getName() + " not found.", SQLStates.INVALID_SQL.getValue());
-            }
-            if (!table.getName().equals(table.getAlias())) {
-                node.setAlias(table.getAlias());
-            }
-            plan.addTable(node);
-        }
-    }
-    
-    /**
-     * Create a plan from given statement.
-     *
-     * @param statement
-     *            the statement to plan.
-     * @return the execution plan.
-     * @throws SQLException
-     *             in case of plan errors.
-     */
-    public final Plan create(final StatementNode statement) throws SQLException {
-        if (statement instanceof SelectNode) {
-            return this.createSelect((SelectNode) statement);
-        } else {
-            throw new SQLFeatureNotSupportedException();
-        }
-    }
-    
-    /**
-     * Creates an SELECT plan.
-     *
-     * @param statement
-     *            the statement to parse.
-     * @return the SELECT plan.
-     * @throws SQLException
-     *             in case of syntax error.
-     */
-    private Plan createSelect(final SelectNode statement) throws SQLException {
-        final SelectPlan plan = new SelectPlan(this.conn);
-        final List<ParadoxTable> paradoxTables = TableData.listTables(this.conn);
-        
-        // Load the table metadata.
-        Planner.parseTableMetaData(statement, plan, paradoxTables);
-        this.parseColumns(statement, plan);
-        
-        if (plan.getColumns().isEmpty()) {
-            throw new SQLException("Empty column list.", SQLStates.INVALID_SQL.getValue());
-        }
-        
-        return plan;
-    }
-    
-    /**
-     * Parses the table columns.
-     *
-     * @param statement
-     *            the SELECT statement.
-     * @param plan
-     *            the SELECT execution plan.
-     * @throws SQLException
-     *             in case of parse errors.
-     */
-    private void parseColumns(final SelectNode statement, final SelectPlan plan) throws SQLException {
-        for (final SQLNode field : statement.getFields()) {
-            final String name = field.getName();
-            if (field instanceof AsteriskNode) {
-                for (final PlanTableNode table : plan.getTables()) {
-                    plan.addColumnFromTable(table.getTable());
-                }
-            } else {
-                if ((name == null) || name.isEmpty()) {
-                    throw new SQLException("Column name is empty.");
-                }
-                plan.addColumn(name);
-            }
-        }
-    }
-}
+/*
+ * Planner.java 03/12/2009 Copyright (C) 2009 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner;
+
+import com.googlecode.paradox.ParadoxConnection;
+import com.googlecode.paradox.data.TableData;
+import com.googlecode.paradox.metadata.ParadoxTable;
+import com.googlecode.paradox.parser.nodes.FieldNode;
+import com.googlecode.paradox.parser.nodes.FunctionNode;
+import com.googlecode.paradox.parser.nodes.IdentifierNode;
+import com.googlecode.paradox.parser.nodes.OrderType;
+import com.googlecode.paradox.parser.nodes.SQLNode;
+import com.googlecode.paradox.parser.nodes.SelectNode;
+import com.googlecode.paradox.parser.nodes.StatementNode;
+import com.googlecode.paradox.parser.nodes.TableNode;
+import com.googlecode.paradox.parser.nodes.values.AsteriskNode;
+import com.googlecode.paradox.planner.nodes.PlanTableNode;
+import com.googlecode.paradox.planner.plan.Plan;
+import com.googlecode.paradox.planner.plan.SelectPlan;
+import com.googlecode.paradox.planner.predicates.PredicateCompiler;
+import com.googlecode.paradox.procedures.AbstractCallableProcedure;
+import com.googlecode.paradox.procedures.ProcedureAS;
+import com.googlecode.paradox.procedures.math.AbstractAggregateProcedure;
+import com.googlecode.paradox.procedures.math.Average;
+import com.googlecode.paradox.utils.SQLStates;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.List;
+
+/**
+ * Creates a SQL execution plan.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.6
+ * @since 1.1
+ */
+public class Planner {
+    
+    /**
+     * The AVG function name.
+     */
+    private static final String AVG = "avg";
+    
+    /**
+     * The database connection.
+     */
+    private final ParadoxConnection conn;
+    
+    /**
+     * Create a new instance.
+     *
+     * @param conn
+     *            the database connection.
+     */
+    public Planner(final ParadoxConnection conn) {
+        this.conn = conn;
+    }
+    
+    /**
+     * Parses an aggregate function in the SELECT list.
+     *
+     * @param function
+     *            the function node.
+     * @param plan
+     *            the SELECT execution plan.
+     * @throws SQLException
+     *             in case of invalid function.
+     */
+    private static void parseFunction(final FunctionNode function, final SelectPlan plan) throws SQLException {
+        String name = function.getName();
+        if (Planner.AVG.equalsIgnoreCase(name)) {
+            name = new Average().getName();
+        }
+        final AbstractCallableProcedure procedure = ProcedureAS.getInstance().get(name);
+        if (!(procedure instanceof AbstractAggregateProcedure)) {
+            throw new SQLException(String.format("Invalid function: '%s'", function.getName()),
+                    SQLStates.INVALID_SQL.getValue());
+        }
+        
+        String fieldName = null;
+        if (function.getArgument() instanceof FieldNode) {
+            final FieldNode field = (FieldNode) function.getArgument();
+            fieldName = field.getName();
+            if (field.getTableName() != null) {
+                fieldName = field.getTableName() + '.' + fieldName;
+            }
+        }
+        plan.addAggregate((AbstractAggregateProcedure) procedure, fieldName, function.getAlias());
+    }
+    
+    /**
+     * Parses the GROUP BY columns.
+     *
+     * @param statement
+     *            the SELECT statement.
+     * @param plan
+     *            the SELECT execution plan.
+     * @throws SQLException
+     *             in case of invalid columns.
+     */
+    private static void parseGroupBy(final SelectNode statement, final SelectPlan plan) throws SQLException {
+        for (final IdentifierNode group : statement.getGroups()) {
+            plan.addGroupBy(group.getName());
+        }
+    }
+    
+    /**
+     * Compiles the WHERE conditions.
+     *
+     * @param statement
+     *            the SELECT statement.
+     * @param plan
+     *            the SELECT execution plan.
+     * @throws SQLException
+     *             in case of invalid or not supported conditions.
+     */
+    private static void parseConditions(final SelectNode statement, final SelectPlan plan) throws SQLException {
+        final List<SQLNode> conditions = statement.getConditions();
+        if ((conditions == null) || conditions.isEmpty()) {
+            return;
+        }
+        if (plan.getTables().size() != 1) {
+            throw new SQLFeatureNotSupportedException("WHERE is supported only in single table.",
+                    SQLStates.INVALID_SQL.getValue());
+        }
+        final PlanTableNode table = plan.getTables().get(0);
+        plan.setFilter(PredicateCompiler.compile(table.getTable(), table.getAlias(), conditions),
+                statement.getParameterCount());
+    }
+    
+    /**
+     * Parses the LIMIT and OFFSET values.
+     *
+     * @param statement
+     *            the SELECT statement.
+     * @param plan
+     *            the SELECT execution plan.
+     * @throws SQLException
+     *             in case of invalid values.
+     */
+    private static void parseLimit(final SelectNode statement, final SelectPlan plan) throws SQLException {
+        final Integer limit = statement.getLimit();
+        final Integer offset = statement.getOffset();
+        if ((limit != null) && (limit < 0)) {
+            throw new SQLException("Invalid row limit: " + limit, SQLStates.INVALID_SQL.getValue());
+        }
+        if ((offset != null) && (offset < 0)) {
+            throw new SQLException("Invalid row offset: " + offset, SQLStates.INVALID_SQL.getValue());
+        }
+        if (limit != null) {
+            plan.setLimit(limit);
+        }
+        if (offset != null) {
+            plan.setOffset(offset);
+        }
+    }
+    
+    /**
+     * Parses the ORDER BY columns.
+     *
+     * @param statement
+     *            the SELECT statement.
+     * @param plan
+     *            the SELECT execution plan.
+     * @throws SQLException
+     *             in case of invalid columns.
+     */
+    private static void parseOrderBy(final SelectNode statement, final SelectPlan plan) throws SQLException {
+        final List<IdentifierNode> order = statement.getOrder();
+        final List<OrderType> types = statement.getOrderTypes();
+        for (int i = 0; i < order.size(); i++) {
+            plan.addOrderBy(order.get(i).getName(), types.get(i));
+        }
+    }
+    
+    /**
+     * Parses the table metadata.
+     *
+     * @param statement
+     *            the SELECT statement.
+     * @param plan
+     *            the select execution plan.
+     * @param paradoxTables
+     *            the tables list.
+     * @throws SQLException
+     *             in case of parse errors.
+     */
+    private static void parseTableMetaData(final SelectNode statement, final SelectPlan plan,
+            final List<ParadoxTable> paradoxTables) throws SQLException {
+        for (final TableNode table : statement.getTables()) {
+            final PlanTableNode node = new PlanTableNode();
+            for (final ParadoxTable paradoxTable : paradoxTables) {
+                if (paradoxTable.getName().equalsIgnoreCase(table.getName())) {
+                    node.setTable(paradoxTable);
+                    break;
+                }
+            }
+            if (node.getTable() == null) {
+                throw new SQLException("Table " + table.getName() + " not found.", SQLStates.INVALID_SQL.getValue());
+            }
+            if (!table.getName().equals(table.getAlias())) {
+                node.setAlias(table.getAlias());
+            }
+            plan.addTable(node);
+        }
+    }
+    
+    /**
+     * Create a plan from given statement.
+     *
+     * @param statement
+     *            the statement to plan.
+     * @return the execution plan.
+     * @throws SQLException
+     *             in case of plan errors.
+     */
+    public final Plan create(final StatementNode statement) throws SQLException {
+        if (statement instanceof SelectNode) {
+            return this.createSelect((SelectNode) statement);
+        } else {
+            throw new SQLFeatureNotSupportedException();
+        }
+    }
+    
+    /**
+     * Creates an SELECT plan.
+     *
+     * @param statement
+     *            the statement to parse.
+     * @return the SELECT plan.
+     * @throws SQLException
+     *             in case of syntax error.
+     */
+    private Plan createSelect(final SelectNode statement) throws SQLException {
+        final SelectPlan plan = new SelectPlan(this.conn);
+        final List<ParadoxTable> paradoxTables = TableData.listTables(this.conn);
+        
+        // Load the table metadata.
+        Planner.parseTableMetaData(statement, plan, paradoxTables);
+        plan.setDistinct(statement.isDistinct());
+        Planner.parseGroupBy(statement, plan);
+        this.parseColumns(statement, plan);
+        
+        if (plan.getColumns().isEmpty()) {
+            throw new SQLException("Empty column list.", SQLStates.INVALID_SQL.getValue());
+        }
+        plan.checkGroupBy();
+        plan.checkDistinct();
+        
+        Planner.parseOrderBy(statement, plan);
+        Planner.parseLimit(statement, plan);
+        Planner.parseConditions(statement, plan);
+        return plan;
+    }
+    
+    /**
+     * Parses the table columns.
+     *
+     * @param statement
+     *            the SELECT statement.
+     * @param plan
+     *            the SELECT execution plan.
+     * @throws SQLException
+     *             in case of parse errors.
+     */
+    private void parseColumns(final SelectNode statement, final SelectPlan plan) throws SQLException {
+        for (final SQLNode field : statement.getFields()) {
+            final String name = field.getName();
+            if (field instanceof AsteriskNode) {
+                for (final PlanTableNode table : plan.getTables()) {
+                    plan.addColumnFromTable(table.getTable());
+                }
+            } else if (field instanceof FunctionNode) {
+                Planner.parseFunction((FunctionNode) field, plan);
+            } else {
+                if ((name == null) || name.isEmpty()) {
+                    throw new SQLException("Column name is empty.");
+                }
+                plan.addColumn(name);
+            }
+        }
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * AbstractAccumulator.java 10/19/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.aggregation;
+
+import com.googlecode.paradox.data.RawValues;
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.metadata.ParadoxField;
+import java.sql.SQLException;
+
+/**
+ * Keeps the state of an aggregate function for all groups.
+ * <p>
+ * The state is stored in primitive arrays indexed by group number and values are read directly from the record bytes,
+ * so no object is created per row.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.1
+ * @since 1.4
+ */
+public abstract class AbstractAccumulator {
+
+    /**
+     * Initial group capacity.
+     */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * The argument field, <code>null</code> to count all rows.
+     */
+    protected final ParadoxField field;
+
+    /**
+     * The current group capacity.
+     */
+    private int capacity;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param field
+     *            the argument field, <code>null</code> to count all rows.
+     */
+    protected AbstractAccumulator(final ParadoxField field) {
+        this.field = field;
+    }
+
+    /**
+     * Adds a value to a group.
+     *
+     * @param group
+     *            the group number.
+     * @param data
+     *            the record data.
+     * @param offset
+     *            the argument value position in data.
+     */
+    public abstract void add(int group, byte[] data, int offset);
+
+    /**
+     * Gets the result value of a group.
+     *
+     * @param group
+     *            the group number.
+     * @return the group result.
+     * @throws SQLException
+     *             in case of decoding errors.
+     */
+    public abstract FieldValue getValue(int group) throws SQLException;
+
+    /**
+     * Gets the result SQL type.
+     *
+     * @return the result SQL type.
+     */
+    public abstract int getSqlType();
+
+    /**
+     * Merges the state of a group from another accumulator of the same function.
+     *
+     * @param group
+     *            the group number to update.
+     * @param other
+     *            the accumulator to read.
+     * @param otherGroup
+     *            the group number in other accumulator.
+     */
+    public abstract void merge(int group, AbstractAccumulator other, int otherGroup);
+
+    /**
+     * Grows the state arrays.
+     *
+     * @param newCapacity
+     *            the new group capacity.
+     */
+    protected abstract void grow(int newCapacity);
+
+    /**
+     * Ensures the state can store a number of groups.
+     *
+     * @param groups
+     *            the group count.
+     */
+    public final void ensureCapacity(final int groups) {
+        if (groups > this.capacity) {
+            final int newCapacity = Math.max(groups, Math.max(this.capacity * 2, AbstractAccumulator.INITIAL_CAPACITY));
+            this.grow(newCapacity);
+            this.capacity = newCapacity;
+        }
+    }
+
+    /**
+     * Gets the argument size in record.
+     *
+     * @return the argument size in record, zero if there is no argument.
+     */
+    public final int getArgumentSize() {
+        if (this.field == null) {
+            return 0;
+        }
+        return this.field.getPhysicsSize();
+    }
+
+    /**
+     * Gets the argument field.
+     *
+     * @return the argument field, <code>null</code> if all rows are counted.
+     */
+    public final ParadoxField getField() {
+        return this.field;
+    }
+
+    /**
+     * Gets if the argument value is blank.
+     *
+     * @param data
+     *            the record data.
+     * @param offset
+     *            the argument value position in data.
+     * @return true if the argument value is blank.
+     */
+    protected final boolean isNull(final byte[] data, final int offset) {
+        return (this.field != null) && RawValues.isNull(data, offset, this.field.getPhysicsSize());
+    }
+}
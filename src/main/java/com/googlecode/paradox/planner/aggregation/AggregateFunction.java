@@ -0,0 +1,93 @@
+/*
+ * AggregateFunction.java 10/19/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.aggregation;
+
+import com.googlecode.paradox.metadata.ParadoxField;
+import com.googlecode.paradox.procedures.math.AbstractAggregateProcedure;
+import java.sql.SQLException;
+
+/**
+ * An aggregate function call in the SELECT list.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4
+ */
+public final class AggregateFunction {
+
+    /**
+     * The argument field, <code>null</code> for all rows.
+     */
+    private final ParadoxField field;
+
+    /**
+     * The function procedure.
+     */
+    private final AbstractAggregateProcedure procedure;
+
+    /**
+     * The result SQL type.
+     */
+    private final int sqlType;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param procedure
+     *            the function procedure.
+     * @param field
+     *            the argument field, <code>null</code> for all rows.
+     * @throws SQLException
+     *             if the argument is invalid for the function.
+     */
+    public AggregateFunction(final AbstractAggregateProcedure procedure, final ParadoxField field)
+            throws SQLException {
+        this.procedure = procedure;
+        this.field = field;
+        this.sqlType = procedure.createAccumulator(field).getSqlType();
+    }
+
+    /**
+     * Creates a new accumulator for this function.
+     *
+     * @return a new accumulator.
+     * @throws SQLException
+     *             if the argument is invalid for the function.
+     */
+    public AbstractAccumulator createAccumulator() throws SQLException {
+        return this.procedure.createAccumulator(this.field);
+    }
+
+    /**
+     * Gets the argument field.
+     *
+     * @return the argument field, <code>null</code> for all rows.
+     */
+    public ParadoxField getField() {
+        return this.field;
+    }
+
+    /**
+     * Gets the aggregate procedure.
+     *
+     * @return the aggregate procedure.
+     */
+    public AbstractAggregateProcedure getProcedure() {
+        return this.procedure;
+    }
+
+    /**
+     * Gets the result SQL type.
+     *
+     * @return the result SQL type.
+     */
+    public int getSqlType() {
+        return this.sqlType;
+    }
+}
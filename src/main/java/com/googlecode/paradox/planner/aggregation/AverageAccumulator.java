@@ -0,0 +1,100 @@
+/*
+ * AverageAccumulator.java 10/19/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.aggregation;
+
+import com.googlecode.paradox.data.RawValues;
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.metadata.ParadoxField;
+import java.sql.Types;
+import java.util.Arrays;
+
+/**
+ * Computes the average of the non blank values of each group.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4
+ */
+public final class AverageAccumulator extends AbstractAccumulator {
+
+    /**
+     * The value count of each group.
+     */
+    private long[] counts = new long[0];
+
+    /**
+     * The value sum of each group.
+     */
+    private double[] sums = new double[0];
+
+    /**
+     * The field type.
+     */
+    private final int type;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param field
+     *            the numeric field.
+     */
+    public AverageAccumulator(final ParadoxField field) {
+        super(field);
+        this.type = field.getType();
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void add(final int group, final byte[] data, final int offset) {
+        if (!this.isNull(data, offset)) {
+            this.sums[group] += RawValues.getDouble(data, offset, this.type);
+            this.counts[group]++;
+        }
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public FieldValue getValue(final int group) {
+        if (this.counts[group] == 0) {
+            return new FieldValue(Types.DOUBLE);
+        }
+        return new FieldValue(this.sums[group] / this.counts[group], Types.DOUBLE);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public int getSqlType() {
+        return Types.DOUBLE;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void merge(final int group, final AbstractAccumulator other, final int otherGroup) {
+        final AverageAccumulator average = (AverageAccumulator) other;
+        this.sums[group] += average.sums[otherGroup];
+        this.counts[group] += average.counts[otherGroup];
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    protected void grow(final int newCapacity) {
+        this.counts = Arrays.copyOf(this.counts, newCapacity);
+        this.sums = Arrays.copyOf(this.sums, newCapacity);
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * CountAccumulator.java 10/19/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.aggregation;
+
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.metadata.ParadoxField;
+import java.sql.Types;
+import java.util.Arrays;
+
+/**
+ * Counts the rows (or the non blank values) of each group.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4
+ */
+public final class CountAccumulator extends AbstractAccumulator {
+
+    /**
+     * The row count of each group.
+     */
+    private long[] counts = new long[0];
+
+    /**
+     * Creates a new instance.
+     *
+     * @param field
+     *            the field to count, <code>null</code> to count all rows.
+     */
+    public CountAccumulator(final ParadoxField field) {
+        super(field);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void add(final int group, final byte[] data, final int offset) {
+        if (!this.isNull(data, offset)) {
+            this.counts[group]++;
+        }
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public FieldValue getValue(final int group) {
+        return new FieldValue(this.counts[group], Types.BIGINT);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public int getSqlType() {
+        return Types.BIGINT;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void merge(final int group, final AbstractAccumulator other, final int otherGroup) {
+        this.counts[group] += ((CountAccumulator) other).counts[otherGroup];
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    protected void grow(final int newCapacity) {
+        this.counts = Arrays.copyOf(this.counts, newCapacity);
+    }
+}
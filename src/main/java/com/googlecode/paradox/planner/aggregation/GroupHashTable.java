@@ -0,0 +1,237 @@
+/*
+ * GroupHashTable.java 10/19/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.aggregation;
+
+import java.util.Arrays;
+
+/**
+ * Open addressing hash table of fixed width byte keys.
+ * <p>
+ * Each distinct key gets a sequential group number and all keys are packed in a single byte array, so the table does
+ * not create objects per key.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4
+ */
+final class GroupHashTable {
+
+    /**
+     * Initial slot count.
+     */
+    private static final int INITIAL_SLOTS = 64;
+
+    /**
+     * The hash of each group key.
+     */
+    private int[] hashes = new int[GroupHashTable.INITIAL_SLOTS / 2];
+
+    /**
+     * The key width.
+     */
+    private final int keyWidth;
+
+    /**
+     * The packed group keys.
+     */
+    private byte[] keys;
+
+    /**
+     * The maximum group count.
+     */
+    private final int maxGroups;
+
+    /**
+     * The group count.
+     */
+    private int size;
+
+    /**
+     * The hash slots (group number plus one, zero if empty).
+     */
+    private int[] slots = new int[GroupHashTable.INITIAL_SLOTS];
+
+    /**
+     * Creates a new instance.
+     *
+     * @param keyWidth
+     *            the key width.
+     * @param maxGroups
+     *            the maximum group count.
+     */
+    GroupHashTable(final int keyWidth, final int maxGroups) {
+        this.keyWidth = keyWidth;
+        this.maxGroups = maxGroups;
+        this.keys = new byte[this.hashes.length * keyWidth];
+    }
+
+    /**
+     * Computes the hash of a key.
+     *
+     * @param key
+     *            the key buffer.
+     * @param offset
+     *            the key position in buffer.
+     * @param width
+     *            the key width.
+     * @param seed
+     *            the hash seed.
+     * @return the key hash.
+     */
+    static int hash(final byte[] key, final int offset, final int width, final int seed) {
+        // FNV-1a with a final avalanche.
+        int hash = 0x811C_9DC5 ^ (seed * 0x9E37_79B9);
+        for (int i = 0; i < width; i++) {
+            hash = (hash ^ (key[offset + i] & 0xFF)) * 0x0100_0193;
+        }
+        hash ^= hash >>> 16;
+        hash *= 0x85EB_CA6B;
+        hash ^= hash >>> 13;
+        hash *= 0xC2B2_AE35;
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Adds a key that is not in table.
+     *
+     * @param key
+     *            the key buffer.
+     * @param offset
+     *            the key position in buffer.
+     * @param hash
+     *            the key hash.
+     * @return the new group number or -1 if the table is full.
+     */
+    int add(final byte[] key, final int offset, final int hash) {
+        if (this.size >= this.maxGroups) {
+            return -1;
+        }
+        return this.insert(key, offset, hash);
+    }
+
+    /**
+     * Adds a key that is not in table, even if the table is full.
+     *
+     * @param key
+     *            the key buffer.
+     * @param offset
+     *            the key position in buffer.
+     * @param hash
+     *            the key hash.
+     * @return the new group number.
+     */
+    int insert(final byte[] key, final int offset, final int hash) {
+        if ((this.size * 2) >= this.slots.length) {
+            this.rehash();
+        }
+
+        final int group = this.size++;
+        if (group >= this.hashes.length) {
+            this.hashes = Arrays.copyOf(this.hashes, this.hashes.length * 2);
+            this.keys = Arrays.copyOf(this.keys, this.hashes.length * this.keyWidth);
+        }
+        this.hashes[group] = hash;
+        System.arraycopy(key, offset, this.keys, group * this.keyWidth, this.keyWidth);
+
+        final int mask = this.slots.length - 1;
+        int slot = hash & mask;
+        while (this.slots[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        this.slots[slot] = group + 1;
+        return group;
+    }
+
+    /**
+     * Finds the group of a key.
+     *
+     * @param key
+     *            the key buffer.
+     * @param offset
+     *            the key position in buffer.
+     * @param hash
+     *            the key hash.
+     * @return the group number or -1 if the key is not in table.
+     */
+    int find(final byte[] key, final int offset, final int hash) {
+        final int mask = this.slots.length - 1;
+        int slot = hash & mask;
+        while (this.slots[slot] != 0) {
+            final int group = this.slots[slot] - 1;
+            if ((this.hashes[group] == hash) && this.matches(group, key, offset)) {
+                return group;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Gets the packed group keys.
+     *
+     * @return the packed group keys.
+     */
+    byte[] getKeys() {
+        return this.keys;
+    }
+
+    /**
+     * Gets the key width.
+     *
+     * @return the key width.
+     */
+    int getKeyWidth() {
+        return this.keyWidth;
+    }
+
+    /**
+     * Gets the group count.
+     *
+     * @return the group count.
+     */
+    int size() {
+        return this.size;
+    }
+
+    /**
+     * Compares a group key with a key.
+     *
+     * @param group
+     *            the group number.
+     * @param key
+     *            the key buffer.
+     * @param offset
+     *            the key position in buffer.
+     * @return true if the keys are equal.
+     */
+    private boolean matches(final int group, final byte[] key, final int offset) {
+        final int start = group * this.keyWidth;
+        for (int i = 0; i < this.keyWidth; i++) {
+            if (this.keys[start + i] != key[offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Doubles the slot count.
+     */
+    private void rehash() {
+        this.slots = new int[this.slots.length * 2];
+        final int mask = this.slots.length - 1;
+        for (int group = 0; group < this.size; group++) {
+            int slot = this.hashes[group] & mask;
+            while (this.slots[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            this.slots[slot] = group + 1;
+        }
+    }
+}
@@ -0,0 +1,370 @@
+/*
+ * HashAggregator.java 10/19/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.aggregation;
+
+import com.googlecode.paradox.data.FieldFactory;
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.metadata.ParadoxField;
+import com.googlecode.paradox.metadata.ParadoxTable;
+import java.nio.ByteBuffer;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming hash aggregation for GROUP BY.
+ * <p>
+ * Records are read in table format and grouped by the raw bytes of the GROUP BY fields. When the group count reaches
+ * the memory budget, the records of new groups are written to temporary partition files (only the group key and the
+ * function arguments) and each partition is aggregated later, with the same budget.
+ * <p>
+ * The result rows have the GROUP BY values followed by the function results.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.2
+ * @since 1.4
+ */
+public final class HashAggregator implements AutoCloseable {
+
+    /**
+     * Recursion level where the memory budget is no longer applied.
+     */
+    private static final int MAX_LEVEL = 4;
+
+    /**
+     * Partition count for spilled records.
+     */
+    private static final int PARTITIONS = 16;
+
+    /**
+     * The function accumulators.
+     */
+    private final AbstractAccumulator[] accumulators;
+
+    /**
+     * The argument positions in input record (-1 if there is no argument).
+     */
+    private final int[] argumentOffsets;
+
+    /**
+     * The aggregate functions.
+     */
+    private final List<AggregateFunction> functions;
+
+    /**
+     * The GROUP BY fields.
+     */
+    private final List<ParadoxField> groupFields;
+
+    /**
+     * The groups in memory.
+     */
+    private final GroupHashTable groups;
+
+    /**
+     * The current record key.
+     */
+    private final byte[] key;
+
+    /**
+     * The GROUP BY field positions in input record.
+     */
+    private final int[] keyOffsets;
+
+    /**
+     * The GROUP BY field positions in key.
+     */
+    private final int[] keyPositions;
+
+    /**
+     * The recursion level.
+     */
+    private final int level;
+
+    /**
+     * The maximum group count in memory.
+     */
+    private final int maxGroups;
+
+    /**
+     * Partition files of spilled records.
+     */
+    private final SpillFile[] partitions = new SpillFile[HashAggregator.PARTITIONS];
+
+    /**
+     * Spilled record buffer.
+     */
+    private final byte[] spillRecord;
+
+    /**
+     * The table read.
+     */
+    private final ParadoxTable table;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param table
+     *            the table to read.
+     * @param groupFields
+     *            the GROUP BY fields.
+     * @param functions
+     *            the aggregate functions.
+     * @param maxGroups
+     *            the maximum group count in memory.
+     * @throws SQLException
+     *             in case of invalid function arguments.
+     */
+    public HashAggregator(final ParadoxTable table, final List<ParadoxField> groupFields,
+            final List<AggregateFunction> functions, final int maxGroups) throws SQLException {
+        this(table, groupFields, functions, maxGroups, 0);
+        for (int i = 0; i < this.keyOffsets.length; i++) {
+            this.keyOffsets[i] = table.getFieldOffset(groupFields.get(i));
+        }
+        for (int i = 0; i < this.argumentOffsets.length; i++) {
+            final ParadoxField field = functions.get(i).getField();
+            if (field != null) {
+                this.argumentOffsets[i] = table.getFieldOffset(field);
+            }
+        }
+    }
+
+    /**
+     * Creates a new instance reading spilled records (the group key followed by the function arguments).
+     *
+     * @param table
+     *            the table to read.
+     * @param groupFields
+     *            the GROUP BY fields.
+     * @param functions
+     *            the aggregate functions.
+     * @param maxGroups
+     *            the maximum group count in memory.
+     * @param level
+     *            the recursion level.
+     * @throws SQLException
+     *             in case of invalid function arguments.
+     */
+    HashAggregator(final ParadoxTable table, final List<ParadoxField> groupFields,
+            final List<AggregateFunction> functions, final int maxGroups, final int level) throws SQLException {
+        this.table = table;
+        this.groupFields = groupFields;
+        this.functions = functions;
+        this.level = level;
+        if (level < HashAggregator.MAX_LEVEL) {
+            this.maxGroups = Math.max(1, maxGroups);
+        } else {
+            this.maxGroups = Integer.MAX_VALUE;
+        }
+
+        // Spilled record layout: key and then all function arguments.
+        this.keyPositions = new int[groupFields.size()];
+        int position = 0;
+        for (int i = 0; i < this.keyPositions.length; i++) {
+            this.keyPositions[i] = position;
+            position += groupFields.get(i).getPhysicsSize();
+        }
+        this.keyOffsets = this.keyPositions.clone();
+        this.key = new byte[position];
+
+        this.accumulators = new AbstractAccumulator[functions.size()];
+        this.argumentOffsets = new int[functions.size()];
+        for (int i = 0; i < this.accumulators.length; i++) {
+            this.accumulators[i] = functions.get(i).createAccumulator();
+            if (this.accumulators[i].getField() == null) {
+                this.argumentOffsets[i] = -1;
+            } else {
+                this.argumentOffsets[i] = position;
+                position += this.accumulators[i].getArgumentSize();
+            }
+        }
+        this.spillRecord = new byte[position];
+        this.groups = new GroupHashTable(this.key.length, this.maxGroups);
+    }
+
+    /**
+     * Adds a record.
+     *
+     * @param data
+     *            the record data.
+     * @param recordOffset
+     *            the record position in data.
+     * @throws SQLException
+     *             in case of I/O errors.
+     */
+    public void add(final byte[] data, final int recordOffset) throws SQLException {
+        for (int i = 0; i < this.keyOffsets.length; i++) {
+            System.arraycopy(data, recordOffset + this.keyOffsets[i], this.key, this.keyPositions[i],
+                    this.groupFields.get(i).getPhysicsSize());
+        }
+        final int hash = GroupHashTable.hash(this.key, 0, this.key.length, this.level);
+        int group = this.groups.find(this.key, 0, hash);
+        if (group < 0) {
+            group = this.groups.add(this.key, 0, hash);
+            if (group < 0) {
+                this.spill(data, recordOffset, hash);
+                return;
+            }
+            for (final AbstractAccumulator accumulator : this.accumulators) {
+                accumulator.ensureCapacity(group + 1);
+            }
+        }
+        for (int i = 0; i < this.accumulators.length; i++) {
+            this.accumulators[i].add(group, data, recordOffset + this.argumentOffsets[i]);
+        }
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void close() throws SQLException {
+        for (int i = 0; i < this.partitions.length; i++) {
+            if (this.partitions[i] != null) {
+                this.partitions[i].close();
+                this.partitions[i] = null;
+            }
+        }
+    }
+
+    /**
+     * Gets the result rows, aggregating the spilled records if needed.
+     *
+     * @return the result rows.
+     * @throws SQLException
+     *             in case of I/O or decoding errors.
+     */
+    public List<List<FieldValue>> getRows() throws SQLException {
+        if (this.groupFields.isEmpty() && (this.groups.size() == 0)) {
+            // Aggregates without GROUP BY always have one row.
+            this.groups.add(this.key, 0, GroupHashTable.hash(this.key, 0, 0, this.level));
+            for (final AbstractAccumulator accumulator : this.accumulators) {
+                accumulator.ensureCapacity(1);
+            }
+        }
+
+        final List<List<FieldValue>> rows = new ArrayList<>(this.groups.size());
+        final byte[] keys = this.groups.getKeys();
+        final int keyWidth = this.groups.getKeyWidth();
+        for (int group = 0; group < this.groups.size(); group++) {
+            final List<FieldValue> row = new ArrayList<>(this.groupFields.size() + this.accumulators.length);
+            for (int i = 0; i < this.groupFields.size(); i++) {
+                final ParadoxField field = this.groupFields.get(i);
+                final ByteBuffer buffer = ByteBuffer.wrap(keys, (group * keyWidth) + this.keyPositions[i],
+                        field.getPhysicsSize());
+                row.add(FieldFactory.parse(this.table, buffer, field));
+            }
+            for (final AbstractAccumulator accumulator : this.accumulators) {
+                row.add(accumulator.getValue(group));
+            }
+            rows.add(row);
+        }
+
+        for (int i = 0; i < this.partitions.length; i++) {
+            final SpillFile partition = this.partitions[i];
+            if (partition != null) {
+                try (HashAggregator aggregator = new HashAggregator(this.table, this.groupFields, this.functions,
+                        this.maxGroups, this.level + 1)) {
+                    while (partition.read(this.spillRecord)) {
+                        aggregator.add(this.spillRecord, 0);
+                    }
+                    rows.addAll(aggregator.getRows());
+                } finally {
+                    partition.close();
+                    this.partitions[i] = null;
+                }
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Merges the groups in memory of another aggregator of the same functions.
+     * <p>
+     * The groups are merged even over the memory budget. All partial groups must be merged before any call to
+     * {@link #mergeSpilled(HashAggregator)}, otherwise a group could be both in memory and spilled.
+     *
+     * @param other
+     *            the aggregator to merge.
+     */
+    void mergeGroups(final HashAggregator other) {
+        final byte[] keys = other.groups.getKeys();
+        final int keyWidth = other.groups.getKeyWidth();
+        for (int otherGroup = 0; otherGroup < other.groups.size(); otherGroup++) {
+            final int offset = otherGroup * keyWidth;
+            final int hash = GroupHashTable.hash(keys, offset, keyWidth, this.level);
+            int group = this.groups.find(keys, offset, hash);
+            if (group < 0) {
+                group = this.groups.insert(keys, offset, hash);
+                for (final AbstractAccumulator accumulator : this.accumulators) {
+                    accumulator.ensureCapacity(group + 1);
+                }
+            }
+            for (int i = 0; i < this.accumulators.length; i++) {
+                this.accumulators[i].merge(group, other.accumulators[i], otherGroup);
+            }
+        }
+    }
+
+    /**
+     * Adds the spilled records of another aggregator of the same functions as new records, so this instance must read
+     * spilled records.
+     *
+     * @param other
+     *            the aggregator to merge.
+     * @throws SQLException
+     *             in case of I/O errors.
+     */
+    void mergeSpilled(final HashAggregator other) throws SQLException {
+        for (int i = 0; i < other.partitions.length; i++) {
+            final SpillFile partition = other.partitions[i];
+            if (partition != null) {
+                try {
+                    while (partition.read(this.spillRecord)) {
+                        this.add(this.spillRecord, 0);
+                    }
+                } finally {
+                    partition.close();
+                    other.partitions[i] = null;
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes a record of a group that does not fit in memory to its partition file.
+     *
+     * @param data
+     *            the record data.
+     * @param recordOffset
+     *            the record position in data.
+     * @param hash
+     *            the key hash.
+     * @throws SQLException
+     *             in case of I/O errors.
+     */
+    private void spill(final byte[] data, final int recordOffset, final int hash) throws SQLException {
+        // Use other hash bits than the ones used by the next level table.
+        final int partition = (hash >>> 28) & (HashAggregator.PARTITIONS - 1);
+        if (this.partitions[partition] == null) {
+            this.partitions[partition] = new SpillFile(this.spillRecord.length);
+        }
+
+        System.arraycopy(this.key, 0, this.spillRecord, 0, this.key.length);
+        int position = this.key.length;
+        for (int i = 0; i < this.accumulators.length; i++) {
+            final int size = this.accumulators[i].getArgumentSize();
+            if (size > 0) {
+                System.arraycopy(data, recordOffset + this.argumentOffsets[i], this.spillRecord, position, size);
+                position += size;
+            }
+        }
+        this.partitions[partition].write(this.spillRecord, 0);
+    }
+}
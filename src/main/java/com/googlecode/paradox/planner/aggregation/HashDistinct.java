@@ -0,0 +1,246 @@
+/*
+ * HashDistinct.java 10/19/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.aggregation;
+
+import com.googlecode.paradox.data.FieldFactory;
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.metadata.ParadoxField;
+import com.googlecode.paradox.metadata.ParadoxTable;
+import java.nio.ByteBuffer;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming hash set for SELECT DISTINCT.
+ * <p>
+ * Records are read in table format and compared by the raw bytes of the selected fields. A row is returned as soon as
+ * its key is seen the first time. When the key count reaches the memory budget, the keys not in memory are written to
+ * temporary partition files and each partition is read later, with the same budget, because a key can only be in one
+ * partition.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.1
+ * @since 1.4
+ */
+public final class HashDistinct implements AutoCloseable {
+
+    /**
+     * Recursion level where the memory budget is no longer applied.
+     */
+    private static final int MAX_LEVEL = 4;
+
+    /**
+     * Partition count for spilled keys.
+     */
+    private static final int PARTITIONS = 16;
+
+    /**
+     * The partition being read.
+     */
+    private HashDistinct child;
+
+    /**
+     * The distinct fields.
+     */
+    private final List<ParadoxField> fields;
+
+    /**
+     * The current record key.
+     */
+    private final byte[] key;
+
+    /**
+     * The field positions in input record.
+     */
+    private final int[] keyOffsets;
+
+    /**
+     * The field positions in key.
+     */
+    private final int[] keyPositions;
+
+    /**
+     * The keys in memory.
+     */
+    private final GroupHashTable keys;
+
+    /**
+     * The recursion level.
+     */
+    private final int level;
+
+    /**
+     * The maximum key count in memory.
+     */
+    private final int maxKeys;
+
+    /**
+     * The partition index being read.
+     */
+    private int partition;
+
+    /**
+     * Partition files of spilled keys.
+     */
+    private final SpillFile[] partitions = new SpillFile[HashDistinct.PARTITIONS];
+
+    /**
+     * The table read.
+     */
+    private final ParadoxTable table;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param table
+     *            the table to read.
+     * @param fields
+     *            the distinct fields.
+     * @param maxKeys
+     *            the maximum key count in memory.
+     */
+    public HashDistinct(final ParadoxTable table, final List<ParadoxField> fields, final int maxKeys) {
+        this(table, fields, maxKeys, 0);
+        for (int i = 0; i < this.keyOffsets.length; i++) {
+            this.keyOffsets[i] = table.getFieldOffset(fields.get(i));
+        }
+    }
+
+    /**
+     * Creates a new instance reading spilled keys.
+     *
+     * @param table
+     *            the table to read.
+     * @param fields
+     *            the distinct fields.
+     * @param maxKeys
+     *            the maximum key count in memory.
+     * @param level
+     *            the recursion level.
+     */
+    private HashDistinct(final ParadoxTable table, final List<ParadoxField> fields, final int maxKeys,
+            final int level) {
+        this.table = table;
+        this.fields = fields;
+        this.level = level;
+        if (level < HashDistinct.MAX_LEVEL) {
+            this.maxKeys = Math.max(1, maxKeys);
+        } else {
+            this.maxKeys = Integer.MAX_VALUE;
+        }
+
+        this.keyPositions = new int[fields.size()];
+        int position = 0;
+        for (int i = 0; i < this.keyPositions.length; i++) {
+            this.keyPositions[i] = position;
+            position += fields.get(i).getPhysicsSize();
+        }
+        this.keyOffsets = this.keyPositions.clone();
+        this.key = new byte[position];
+        this.keys = new GroupHashTable(this.key.length, this.maxKeys);
+    }
+
+    /**
+     * Adds a record.
+     *
+     * @param data
+     *            the record data.
+     * @param recordOffset
+     *            the record position in data.
+     * @return the distinct field values if the key is new, <code>null</code> if the key was already returned or was
+     *         spilled.
+     * @throws SQLException
+     *             in case of I/O or decoding errors.
+     */
+    public List<FieldValue> add(final byte[] data, final int recordOffset) throws SQLException {
+        for (int i = 0; i < this.keyOffsets.length; i++) {
+            System.arraycopy(data, recordOffset + this.keyOffsets[i], this.key, this.keyPositions[i],
+                    this.fields.get(i).getPhysicsSize());
+        }
+        final int hash = GroupHashTable.hash(this.key, 0, this.key.length, this.level);
+        if (this.keys.find(this.key, 0, hash) >= 0) {
+            return null;
+        }
+        if (this.keys.add(this.key, 0, hash) < 0) {
+            // Use other hash bits than the ones used by the next level table.
+            final int index = (hash >>> 28) & (HashDistinct.PARTITIONS - 1);
+            if (this.partitions[index] == null) {
+                this.partitions[index] = new SpillFile(this.key.length);
+            }
+            this.partitions[index].write(this.key, 0);
+            return null;
+        }
+
+        final List<FieldValue> row = new ArrayList<>(this.fields.size());
+        for (int i = 0; i < this.keyPositions.length; i++) {
+            final ParadoxField field = this.fields.get(i);
+            row.add(FieldFactory.parse(this.table,
+                    ByteBuffer.wrap(this.key, this.keyPositions[i], field.getPhysicsSize()), field));
+        }
+        return row;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void close() throws SQLException {
+        try {
+            if (this.child != null) {
+                this.child.close();
+                this.child = null;
+            }
+        } finally {
+            for (int i = 0; i < this.partitions.length; i++) {
+                if (this.partitions[i] != null) {
+                    this.partitions[i].close();
+                    this.partitions[i] = null;
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the next distinct row from the spilled keys.
+     * <p>
+     * Must be called after all records are added.
+     *
+     * @return the next row or <code>null</code> if there are no more rows.
+     * @throws SQLException
+     *             in case of I/O or decoding errors.
+     */
+    public List<FieldValue> nextSpilled() throws SQLException {
+        while (this.partition < this.partitions.length) {
+            final SpillFile current = this.partitions[this.partition];
+            if (current != null) {
+                if (this.child == null) {
+                    this.child = new HashDistinct(this.table, this.fields, this.maxKeys, this.level + 1);
+                }
+                while (current.read(this.key)) {
+                    final List<FieldValue> row = this.child.add(this.key, 0);
+                    if (row != null) {
+                        return row;
+                    }
+                }
+                final List<FieldValue> row = this.child.nextSpilled();
+                if (row != null) {
+                    return row;
+                }
+
+                this.child.close();
+                this.child = null;
+                current.close();
+                this.partitions[this.partition] = null;
+            }
+            this.partition++;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * MinMaxAccumulator.java 10/19/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.aggregation;
+
+import com.googlecode.paradox.data.FieldFactory;
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.metadata.ParadoxField;
+import com.googlecode.paradox.planner.sorting.SortKeyEncoder;
+import com.googlecode.paradox.utils.SQLStates;
+import java.nio.ByteBuffer;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+/**
+ * Keeps the minimum or maximum non blank value of each group.
+ * <p>
+ * Values are compared by their sort keys and only the raw bytes of the best value are kept, so the value is decoded
+ * once per group.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.1
+ * @since 1.4
+ */
+public final class MinMaxAccumulator extends AbstractAccumulator {
+
+    /**
+     * The field key encoder.
+     */
+    private final SortKeyEncoder encoder;
+
+    /**
+     * If the group has some value.
+     */
+    private boolean[] hasValue = new boolean[0];
+
+    /**
+     * The key width.
+     */
+    private final int keyWidth;
+
+    /**
+     * The sort key of the best value of each group.
+     */
+    private byte[] keys = new byte[0];
+
+    /**
+     * If this keeps the maximum value.
+     */
+    private final boolean maximum;
+
+    /**
+     * Buffer for the current value key.
+     */
+    private final byte[] scratch;
+
+    /**
+     * The field size.
+     */
+    private final int size;
+
+    /**
+     * The result SQL type.
+     */
+    private final int sqlType;
+
+    /**
+     * The raw best value of each group.
+     */
+    private byte[] values = new byte[0];
+
+    /**
+     * Creates a new instance.
+     *
+     * @param field
+     *            the field to compare.
+     * @param maximum
+     *            true to keep the maximum value, false to keep the minimum one.
+     * @throws SQLException
+     *             if the field type can not be compared.
+     */
+    public MinMaxAccumulator(final ParadoxField field, final boolean maximum) throws SQLException {
+        super(field);
+        this.encoder = SortKeyEncoder.create(field, field.getTable().getCharset());
+        if (this.encoder == null) {
+            throw new SQLException(String.format("Invalid field type for %s: '%s'", maximum ? "MAX" : "MIN",
+                    field.getName()), SQLStates.INVALID_COLUMN.getValue());
+        }
+        this.maximum = maximum;
+        this.size = field.getPhysicsSize();
+        this.sqlType = field.getColumn().getType();
+        this.keyWidth = this.encoder.getKeyWidth();
+        this.scratch = new byte[this.keyWidth];
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void add(final int group, final byte[] data, final int offset) {
+        if (this.isNull(data, offset)) {
+            return;
+        }
+        this.encoder.encode(data, offset, this.scratch, 0);
+        if (this.isBetter(group, this.scratch, 0)) {
+            System.arraycopy(this.scratch, 0, this.keys, group * this.keyWidth, this.keyWidth);
+            System.arraycopy(data, offset, this.values, group * this.size, this.size);
+            this.hasValue[group] = true;
+        }
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public FieldValue getValue(final int group) throws SQLException {
+        if (!this.hasValue[group]) {
+            return new FieldValue(this.getSqlType());
+        }
+        final ByteBuffer buffer = ByteBuffer.wrap(this.values, group * this.size, this.size);
+        return FieldFactory.parse(this.field.getTable(), buffer, this.field);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public int getSqlType() {
+        return this.sqlType;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void merge(final int group, final AbstractAccumulator other, final int otherGroup) {
+        final MinMaxAccumulator minMax = (MinMaxAccumulator) other;
+        if (minMax.hasValue[otherGroup] && this.isBetter(group, minMax.keys, otherGroup * this.keyWidth)) {
+            System.arraycopy(minMax.keys, otherGroup * this.keyWidth, this.keys, group * this.keyWidth,
+                    this.keyWidth);
+            System.arraycopy(minMax.values, otherGroup * this.size, this.values, group * this.size, this.size);
+            this.hasValue[group] = true;
+        }
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    protected void grow(final int newCapacity) {
+        this.hasValue = Arrays.copyOf(this.hasValue, newCapacity);
+        this.keys = Arrays.copyOf(this.keys, newCapacity * this.keyWidth);
+        this.values = Arrays.copyOf(this.values, newCapacity * this.size);
+    }
+
+    /**
+     * Gets if a key is better than the group current value.
+     *
+     * @param group
+     *            the group number.
+     * @param key
+     *            the key buffer.
+     * @param keyOffset
+     *            the key position in buffer.
+     * @return true if the key is better than the group current value.
+     */
+    private boolean isBetter(final int group, final byte[] key, final int keyOffset) {
+        if (!this.hasValue[group]) {
+            return true;
+        }
+        final int start = group * this.keyWidth;
+        for (int i = 0; i < this.keyWidth; i++) {
+            final int diff = (key[keyOffset + i] & 0xFF) - (this.keys[start + i] & 0xFF);
+            if (diff != 0) {
+                return this.maximum ? (diff > 0) : (diff < 0);
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,272 @@
+/*
+ * ParallelAggregator.java 10/19/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.aggregation;
+
+import com.googlecode.paradox.data.TableCursor;
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.metadata.ParadoxField;
+import com.googlecode.paradox.metadata.ParadoxTable;
+import com.googlecode.paradox.planner.predicates.AbstractPredicate;
+import com.googlecode.paradox.utils.Cancellation;
+import com.googlecode.paradox.utils.SQLStates;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Aggregates a table splitting its data blocks between worker threads.
+ * <p>
+ * Each worker reads a contiguous range of blocks into its own {@link HashAggregator}, so the workers do not share any
+ * state while scanning. The partial groups are merged in the end. Small tables are read by the calling thread.
+ * <p>
+ * The groups don't depend on the row order, so the blocks are read in file order.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.3
+ * @since 1.4
+ */
+public final class ParallelAggregator {
+
+    /**
+     * Default minimum blocks read by each worker.
+     */
+    private static final int MIN_BLOCKS_PER_WORKER = 16;
+
+    /**
+     * The statement cancellation, <code>null</code> if the scan can't be canceled.
+     */
+    private Cancellation cancellation;
+
+    /**
+     * The WHERE predicate, <code>null</code> to read all records.
+     */
+    private final AbstractPredicate filter;
+
+    /**
+     * The aggregate functions.
+     */
+    private final List<AggregateFunction> functions;
+
+    /**
+     * The GROUP BY fields.
+     */
+    private final List<ParadoxField> groupFields;
+
+    /**
+     * The maximum group count in memory.
+     */
+    private final int maxGroups;
+
+    /**
+     * Minimum blocks read by each worker.
+     */
+    private final int minBlocksPerWorker;
+
+    /**
+     * The table to read.
+     */
+    private final ParadoxTable table;
+
+    /**
+     * The maximum worker count.
+     */
+    private final int threads;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param table
+     *            the table to read.
+     * @param groupFields
+     *            the GROUP BY fields.
+     * @param functions
+     *            the aggregate functions.
+     * @param maxGroups
+     *            the maximum group count in memory.
+     * @param threads
+     *            the maximum worker count.
+     * @param filter
+     *            the WHERE predicate, <code>null</code> to read all records.
+     */
+    public ParallelAggregator(final ParadoxTable table, final List<ParadoxField> groupFields,
+            final List<AggregateFunction> functions, final int maxGroups, final int threads,
+            final AbstractPredicate filter) {
+        this(table, groupFields, functions, maxGroups, threads, filter, ParallelAggregator.MIN_BLOCKS_PER_WORKER);
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param table
+     *            the table to read.
+     * @param groupFields
+     *            the GROUP BY fields.
+     * @param functions
+     *            the aggregate functions.
+     * @param maxGroups
+     *            the maximum group count in memory.
+     * @param threads
+     *            the maximum worker count.
+     * @param filter
+     *            the WHERE predicate, <code>null</code> to read all records.
+     * @param minBlocksPerWorker
+     *            minimum blocks read by each worker.
+     */
+    ParallelAggregator(final ParadoxTable table, final List<ParadoxField> groupFields,
+            final List<AggregateFunction> functions, final int maxGroups, final int threads,
+            final AbstractPredicate filter, final int minBlocksPerWorker) {
+        this.table = table;
+        this.filter = filter;
+        this.groupFields = groupFields;
+        this.functions = functions;
+        this.maxGroups = maxGroups;
+        this.threads = threads;
+        this.minBlocksPerWorker = minBlocksPerWorker;
+    }
+
+    /**
+     * Closes all aggregators.
+     *
+     * @param aggregators
+     *            the aggregators to close.
+     * @throws SQLException
+     *             in case of I/O errors.
+     */
+    private static void close(final List<HashAggregator> aggregators) throws SQLException {
+        for (final HashAggregator aggregator : aggregators) {
+            aggregator.close();
+        }
+    }
+
+    /**
+     * Gets the aggregated rows.
+     *
+     * @return the rows with the GROUP BY values followed by the function results.
+     * @throws SQLException
+     *             in case of read errors.
+     */
+    public List<List<FieldValue>> execute() throws SQLException {
+        final int[] blocks = TableCursor.listBlocksByOffset(this.table);
+        final int workers = Math.min(this.threads, blocks.length / this.minBlocksPerWorker);
+        if (workers <= 1) {
+            try (HashAggregator aggregator = new HashAggregator(this.table, this.groupFields, this.functions,
+                    this.maxGroups)) {
+                ParallelAggregator.scan(this.table, this.filter, this.cancellation, aggregator, blocks);
+                return aggregator.getRows();
+            }
+        }
+
+        final List<HashAggregator> partials = new ArrayList<>(workers);
+        try {
+            final List<Callable<Void>> tasks = new ArrayList<>(workers);
+            for (int i = 0; i < workers; i++) {
+                final HashAggregator aggregator = new HashAggregator(this.table, this.groupFields, this.functions,
+                        Math.max(1, this.maxGroups / workers));
+                partials.add(aggregator);
+                final int[] range = Arrays.copyOfRange(blocks, (int) (((long) blocks.length * i) / workers),
+                        (int) (((long) blocks.length * (i + 1)) / workers));
+                tasks.add(new Callable<Void>() {
+                    @Override
+                    public Void call() throws SQLException {
+                        ParallelAggregator.scan(ParallelAggregator.this.table, ParallelAggregator.this.filter,
+                                ParallelAggregator.this.cancellation, aggregator, range);
+                        return null;
+                    }
+                });
+            }
+            ParallelAggregator.run(tasks);
+
+            try (HashAggregator merged = new HashAggregator(this.table, this.groupFields, this.functions,
+                    this.maxGroups, 0)) {
+                for (final HashAggregator partial : partials) {
+                    merged.mergeGroups(partial);
+                }
+                for (final HashAggregator partial : partials) {
+                    merged.mergeSpilled(partial);
+                }
+                return merged.getRows();
+            }
+        } finally {
+            ParallelAggregator.close(partials);
+        }
+    }
+
+    /**
+     * Sets the statement cancellation, checked by the workers before each block read.
+     *
+     * @param cancellation
+     *            the statement cancellation, <code>null</code> if the scan can't be canceled.
+     */
+    public void setCancellation(final Cancellation cancellation) {
+        this.cancellation = cancellation;
+    }
+
+    /**
+     * Runs the worker tasks and waits for all of them.
+     *
+     * @param tasks
+     *            the tasks to run.
+     * @throws SQLException
+     *             in case of task errors.
+     */
+    private static void run(final List<Callable<Void>> tasks) throws SQLException {
+        final ExecutorService executor = Executors.newFixedThreadPool(tasks.size());
+        try {
+            for (final Future<Void> future : executor.invokeAll(tasks)) {
+                future.get();
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException(e.getMessage(), SQLStates.INVALID_STATE.getValue(), e);
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof SQLException) {
+                throw (SQLException) e.getCause();
+            }
+            throw new SQLException(e.getMessage(), SQLStates.INVALID_STATE.getValue(), e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Reads table records into an aggregator.
+     *
+     * @param table
+     *            the table to read.
+     * @param filter
+     *            the WHERE predicate, <code>null</code> to read all records.
+     * @param cancellation
+     *            the statement cancellation, <code>null</code> if the scan can't be canceled.
+     * @param aggregator
+     *            the aggregator.
+     * @param blocks
+     *            the blocks to read or <code>null</code> for all blocks.
+     * @throws SQLException
+     *             in case of read errors.
+     */
+    private static void scan(final ParadoxTable table, final AbstractPredicate filter,
+            final Cancellation cancellation, final HashAggregator aggregator, final int[] blocks)
+            throws SQLException {
+        try (TableCursor cursor = new TableCursor(table, Collections.<ParadoxField> emptyList(), blocks)) {
+            cursor.setCancellation(cancellation);
+            while (cursor.next()) {
+                if ((filter == null) || filter.test(cursor.getBlockData(), cursor.getRecordOffset())) {
+                    aggregator.add(cursor.getBlockData(), cursor.getRecordOffset());
+                }
+            }
+        }
+    }
+}
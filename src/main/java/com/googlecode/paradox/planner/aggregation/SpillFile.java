@@ -0,0 +1,138 @@
+/*
+ * SpillFile.java 10/19/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.aggregation;
+
+import com.googlecode.paradox.utils.SQLStates;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.SQLException;
+
+/**
+ * Temporary file of fixed size records, written once and read back in the same order.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4
+ */
+final class SpillFile implements AutoCloseable {
+
+    /**
+     * The temporary file.
+     */
+    private final File file;
+
+    /**
+     * The reading stream, after all records are written.
+     */
+    private DataInputStream input;
+
+    /**
+     * The writing stream.
+     */
+    private OutputStream output;
+
+    /**
+     * The record size.
+     */
+    private final int recordSize;
+
+    /**
+     * Creates a new temporary file.
+     *
+     * @param recordSize
+     *            the record size.
+     * @throws SQLException
+     *             in case of I/O errors.
+     */
+    SpillFile(final int recordSize) throws SQLException {
+        this.recordSize = recordSize;
+        try {
+            this.file = File.createTempFile("paradox", ".spill");
+            this.file.deleteOnExit();
+            this.output = new BufferedOutputStream(new FileOutputStream(this.file));
+        } catch (final IOException e) {
+            throw new SQLException(e.getMessage(), SQLStates.INVALID_IO.getValue(), e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void close() throws SQLException {
+        try {
+            if (this.output != null) {
+                this.output.close();
+                this.output = null;
+            }
+            if (this.input != null) {
+                this.input.close();
+                this.input = null;
+            }
+        } catch (final IOException e) {
+            throw new SQLException(e.getMessage(), SQLStates.INVALID_IO.getValue(), e);
+        } finally {
+            if (!this.file.delete()) {
+                this.file.deleteOnExit();
+            }
+        }
+    }
+
+    /**
+     * Reads the next record.
+     * <p>
+     * The first read ends the writing.
+     *
+     * @param record
+     *            the record buffer.
+     * @return true if a record was read, false in the end of file.
+     * @throws SQLException
+     *             in case of I/O errors.
+     */
+    boolean read(final byte[] record) throws SQLException {
+        try {
+            if (this.input == null) {
+                this.output.close();
+                this.output = null;
+                this.input = new DataInputStream(new BufferedInputStream(new FileInputStream(this.file)));
+            }
+            this.input.readFully(record, 0, this.recordSize);
+            return true;
+        } catch (final EOFException e) {
+            return false;
+        } catch (final IOException e) {
+            throw new SQLException(e.getMessage(), SQLStates.INVALID_IO.getValue(), e);
+        }
+    }
+
+    /**
+     * Writes a record.
+     *
+     * @param data
+     *            the record buffer.
+     * @param offset
+     *            the record position in buffer.
+     * @throws SQLException
+     *             in case of I/O errors.
+     */
+    void write(final byte[] data, final int offset) throws SQLException {
+        try {
+            this.output.write(data, offset, this.recordSize);
+        } catch (final IOException e) {
+            throw new SQLException(e.getMessage(), SQLStates.INVALID_IO.getValue(), e);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * SumAccumulator.java 10/19/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.aggregation;
+
+import com.googlecode.paradox.data.RawValues;
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.metadata.ParadoxField;
+import java.sql.Types;
+import java.util.Arrays;
+
+/**
+ * Sums the non blank values of each group.
+ * <p>
+ * Integer fields are summed as long values and the other numeric fields as double values.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4
+ */
+public final class SumAccumulator extends AbstractAccumulator {
+
+    /**
+     * The double sum of each group.
+     */
+    private double[] doubleSums = new double[0];
+
+    /**
+     * If the group has some value.
+     */
+    private boolean[] hasValue = new boolean[0];
+
+    /**
+     * If the field is an integer field.
+     */
+    private final boolean integer;
+
+    /**
+     * The long sum of each group.
+     */
+    private long[] longSums = new long[0];
+
+    /**
+     * The field type.
+     */
+    private final int type;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param field
+     *            the numeric field to sum.
+     */
+    public SumAccumulator(final ParadoxField field) {
+        super(field);
+        this.type = field.getType();
+        this.integer = RawValues.isInteger(this.type);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void add(final int group, final byte[] data, final int offset) {
+        if (this.isNull(data, offset)) {
+            return;
+        }
+        if (this.integer) {
+            this.longSums[group] += RawValues.getLong(data, offset, this.type);
+        } else {
+            this.doubleSums[group] += RawValues.getDouble(data, offset, this.type);
+        }
+        this.hasValue[group] = true;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public FieldValue getValue(final int group) {
+        if (!this.hasValue[group]) {
+            return new FieldValue(this.getSqlType());
+        } else if (this.integer) {
+            return new FieldValue(this.longSums[group], Types.BIGINT);
+        }
+        return new FieldValue(this.doubleSums[group], Types.DOUBLE);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public int getSqlType() {
+        if (this.integer) {
+            return Types.BIGINT;
+        }
+        return Types.DOUBLE;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void merge(final int group, final AbstractAccumulator other, final int otherGroup) {
+        final SumAccumulator sum = (SumAccumulator) other;
+        if (!sum.hasValue[otherGroup]) {
+            return;
+        }
+        if (this.integer) {
+            this.longSums[group] += sum.longSums[otherGroup];
+        } else {
+            this.doubleSums[group] += sum.doubleSums[otherGroup];
+        }
+        this.hasValue[group] = true;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    protected void grow(final int newCapacity) {
+        if (this.integer) {
+            this.longSums = Arrays.copyOf(this.longSums, newCapacity);
+        } else {
+            this.doubleSums = Arrays.copyOf(this.doubleSums, newCapacity);
+        }
+        this.hasValue = Arrays.copyOf(this.hasValue, newCapacity);
+    }
+}
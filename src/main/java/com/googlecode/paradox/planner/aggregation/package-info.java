@@ -0,0 +1,6 @@
+/**
+ * Package for the GROUP BY aggregation and DISTINCT operators.
+ *
+ * @since 1.4
+ */
+package com.googlecode.paradox.planner.aggregation;
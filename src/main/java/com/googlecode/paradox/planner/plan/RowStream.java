@@ -0,0 +1,465 @@
+/*
+ * RowStream.java 10/19/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.plan;
+
+import com.googlecode.paradox.data.TableCursor;
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.metadata.ParadoxTable;
+import com.googlecode.paradox.planner.predicates.AbstractPredicate;
+import com.googlecode.paradox.results.Column;
+import com.googlecode.paradox.rowset.ParadoxRowId;
+import com.googlecode.paradox.utils.Cancellation;
+import java.sql.RowId;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads the result rows of an unsorted SELECT on demand.
+ * <p>
+ * The table cursor stays open between fetches, so only the rows read by the result set are decoded, and the table file
+ * is closed as soon as the last row or the row limit is reached. The rows can also come from a {@link ScanPipeline},
+ * which reads and decodes the blocks ahead in other threads.
+ * <p>
+ * Without a WHERE clause, each result row is a table row, so the stream can move to any row through the table block
+ * directory, reopening the table file if needed.
+ * <p>
+ * The stream also knows the block and slot of each row read, so it can give their ROWID.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.5
+ * @since 1.4
+ */
+public final class RowStream implements AutoCloseable {
+
+    /**
+     * The current pipeline block, <code>null</code> if no block was read.
+     */
+    private ScanPipeline.Block batch;
+
+    /**
+     * The next row position in current pipeline block.
+     */
+    private int batchIndex;
+
+    /**
+     * The blocks to read, <code>null</code> to follow the block chain.
+     */
+    private final int[] blocks;
+
+    /**
+     * The statement cancellation, <code>null</code> if the reads can't be canceled.
+     */
+    private final Cancellation cancellation;
+
+    /**
+     * If the cursor is closed.
+     */
+    private boolean closed;
+
+    /**
+     * The result column indexes in table row.
+     */
+    private final int[] columnIndexes;
+
+    /**
+     * The result columns.
+     */
+    private final List<Column> columns;
+
+    /**
+     * The table cursor, <code>null</code> if the rows come from a pipeline.
+     */
+    private TableCursor cursor;
+
+    /**
+     * The WHERE predicate, <code>null</code> if there is no WHERE clause.
+     */
+    private final AbstractPredicate filter;
+
+    /**
+     * If the cursor values are decoded only when read.
+     */
+    private boolean lazy;
+
+    /**
+     * The row limit or {@link SelectPlan#NO_LIMIT}.
+     */
+    private final int limit;
+
+    /**
+     * The rows to skip before the first result row.
+     */
+    private final int offset;
+
+    /**
+     * The scan pipeline, <code>null</code> if the rows come from a cursor.
+     */
+    private final ScanPipeline pipeline;
+
+    /**
+     * The block of the last row read.
+     */
+    private int rowBlock;
+
+    /**
+     * The slot in block of the last row read.
+     */
+    private int rowSlot;
+
+    /**
+     * The rows still to read, or {@link SelectPlan#NO_LIMIT}.
+     */
+    private int remaining;
+
+    /**
+     * The rows still to skip.
+     */
+    private int skip;
+
+    /**
+     * The table to read.
+     */
+    private final ParadoxTable table;
+
+    /**
+     * Creates a new instance reading from a table cursor.
+     *
+     * @param table
+     *            the table to read.
+     * @param blocks
+     *            the blocks to read, in order, or <code>null</code> to follow the block chain.
+     * @param filter
+     *            the WHERE predicate, <code>null</code> if there is no WHERE clause.
+     * @param cancellation
+     *            the statement cancellation, <code>null</code> if the reads can't be canceled.
+     * @param columnIndexes
+     *            the result column indexes in table row.
+     * @param columns
+     *            the result columns.
+     * @param offset
+     *            the rows to skip.
+     * @param limit
+     *            the row limit or {@link SelectPlan#NO_LIMIT}.
+     * @param lazy
+     *            true to decode the values only when read.
+     * @throws SQLException
+     *             in case of I/O errors.
+     */
+    RowStream(final ParadoxTable table, final int[] blocks, final AbstractPredicate filter,
+            final Cancellation cancellation, final int[] columnIndexes, final List<Column> columns, final int offset,
+            final int limit, final boolean lazy) throws SQLException {
+        this(table, blocks, null, filter, cancellation, columnIndexes, columns, offset, limit);
+        this.lazy = lazy;
+        this.cursor = this.openCursor();
+    }
+
+    /**
+     * Creates a new instance reading from a pipeline.
+     *
+     * @param pipeline
+     *            the scan pipeline, already filtering the rows and owned by this stream.
+     * @param cancellation
+     *            the statement cancellation, <code>null</code> if the reads can't be canceled.
+     * @param columnIndexes
+     *            the result column indexes in table row.
+     * @param columns
+     *            the result columns.
+     * @param offset
+     *            the rows to skip.
+     * @param limit
+     *            the row limit or {@link SelectPlan#NO_LIMIT}.
+     */
+    RowStream(final ScanPipeline pipeline, final Cancellation cancellation, final int[] columnIndexes,
+            final List<Column> columns, final int offset, final int limit) {
+        this(pipeline.getTable(), null, pipeline, null, cancellation, columnIndexes, columns, offset, limit);
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param table
+     *            the table to read.
+     * @param blocks
+     *            the blocks to read, in order, or <code>null</code> to follow the block chain.
+     * @param pipeline
+     *            the scan pipeline, <code>null</code> if the rows come from a cursor.
+     * @param filter
+     *            the WHERE predicate, <code>null</code> if there is no WHERE clause.
+     * @param cancellation
+     *            the statement cancellation, <code>null</code> if the reads can't be canceled.
+     * @param columnIndexes
+     *            the result column indexes in table row.
+     * @param columns
+     *            the result columns.
+     * @param offset
+     *            the rows to skip.
+     * @param limit
+     *            the row limit or {@link SelectPlan#NO_LIMIT}.
+     */
+    private RowStream(final ParadoxTable table, final int[] blocks, final ScanPipeline pipeline,
+            final AbstractPredicate filter, final Cancellation cancellation, final int[] columnIndexes,
+            final List<Column> columns, final int offset, final int limit) {
+        this.table = table;
+        this.blocks = blocks;
+        this.pipeline = pipeline;
+        this.filter = filter;
+        this.cancellation = cancellation;
+        this.columnIndexes = columnIndexes;
+        this.columns = columns;
+        this.offset = offset;
+        this.limit = limit;
+        this.skip = offset;
+        this.remaining = limit;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void close() throws SQLException {
+        if (!this.closed) {
+            this.closed = true;
+            if (this.pipeline != null) {
+                this.pipeline.close();
+            } else {
+                this.cursor.close();
+            }
+        }
+    }
+
+    /**
+     * Gets the number of result rows, without reading them.
+     *
+     * @return the number of result rows.
+     * @throws SQLException
+     *             in case of I/O errors.
+     * @see #isSeekable()
+     */
+    public int getRowCount() throws SQLException {
+        final int count = Math.max(0, this.table.getBlockDirectory().getRowCount() - this.offset);
+        if (this.limit == SelectPlan.NO_LIMIT) {
+            return count;
+        }
+        return Math.min(count, this.limit);
+    }
+
+    /**
+     * Gets if this stream can move to any row.
+     *
+     * @return true if the result rows are table rows read by a cursor.
+     */
+    public boolean isSeekable() {
+        return (this.pipeline == null) && (this.filter == null);
+    }
+
+    /**
+     * Moves the stream so the next row read is a given result row.
+     * <p>
+     * Only the block that holds the row is read. The table file is reopened if the stream was already closed.
+     *
+     * @param row
+     *            the result row number, starting at zero.
+     * @throws SQLException
+     *             in case of I/O errors.
+     * @see #isSeekable()
+     */
+    public void seek(final int row) throws SQLException {
+        if (this.closed) {
+            this.cursor = this.openCursor();
+            this.closed = false;
+        }
+        this.skip = 0;
+        if (this.limit == SelectPlan.NO_LIMIT) {
+            this.remaining = SelectPlan.NO_LIMIT;
+        } else {
+            this.remaining = Math.max(0, this.limit - row);
+        }
+
+        if (this.cancellation != null) {
+            this.cancellation.start();
+        }
+        try {
+            if (this.cancellation != null) {
+                this.cancellation.check();
+            }
+            if ((this.remaining == 0) || !this.cursor.seek(this.offset + row)) {
+                this.close();
+            }
+        } finally {
+            if (this.cancellation != null) {
+                this.cancellation.stop();
+            }
+        }
+    }
+
+    /**
+     * Reads the next rows.
+     * <p>
+     * Each fetch is a statement operation, so the query timeout applies to it.
+     *
+     * @param rows
+     *            the list to add the rows read.
+     * @param count
+     *            the maximum number of rows to read.
+     * @return true if there may be more rows to read.
+     * @throws SQLException
+     *             in case of read errors.
+     */
+    public boolean fetch(final List<List<FieldValue>> rows, final int count) throws SQLException {
+        return this.fetch(rows, null, count);
+    }
+
+    /**
+     * Reads the next rows with their ROWID.
+     * <p>
+     * Each fetch is a statement operation, so the query timeout applies to it. A fetch after the statement was canceled
+     * fails, even if the rows are already buffered.
+     *
+     * @param rows
+     *            the list to add the rows read.
+     * @param rowIds
+     *            the list to add the ROWID of each row read, <code>null</code> if not needed.
+     * @param count
+     *            the maximum number of rows to read.
+     * @return true if there may be more rows to read.
+     * @throws SQLException
+     *             in case of read errors.
+     */
+    public boolean fetch(final List<List<FieldValue>> rows, final List<RowId> rowIds, final int count)
+            throws SQLException {
+        if (this.cancellation == null) {
+            return this.read(rows, rowIds, count);
+        }
+        this.cancellation.start();
+        try {
+            this.cancellation.check();
+            return this.read(rows, rowIds, count);
+        } finally {
+            this.cancellation.stop();
+        }
+    }
+
+    /**
+     * Reads the next rows.
+     *
+     * @param rows
+     *            the list to add the rows read.
+     * @param rowIds
+     *            the list to add the ROWID of each row read, <code>null</code> if not needed.
+     * @param count
+     *            the maximum number of rows to read.
+     * @return true if there may be more rows to read.
+     * @throws SQLException
+     *             in case of read errors.
+     */
+    private boolean read(final List<List<FieldValue>> rows, final List<RowId> rowIds, final int count)
+            throws SQLException {
+        int fetched = 0;
+        while (!this.closed && (fetched < count)) {
+            List<FieldValue> row = null;
+            if (this.remaining != 0) {
+                row = this.nextRow();
+            }
+            if (row == null) {
+                this.close();
+                break;
+            }
+            rows.add(this.createRow(row));
+            if (rowIds != null) {
+                rowIds.add(new ParadoxRowId(this.table.getFile().getName(), this.rowBlock, this.rowSlot));
+            }
+            fetched++;
+            if (this.remaining > 0) {
+                this.remaining--;
+            }
+        }
+        if (this.remaining == 0) {
+            this.close();
+        }
+        return !this.closed;
+    }
+
+    /**
+     * Gets the next table row after the skipped rows.
+     *
+     * @return the next table row, <code>null</code> after the last row.
+     * @throws SQLException
+     *             in case of read errors.
+     */
+    private List<FieldValue> nextRow() throws SQLException {
+        if (this.pipeline != null) {
+            while (true) {
+                while ((this.batch == null) || (this.batchIndex >= this.batch.getRows().size())) {
+                    this.batch = this.pipeline.next();
+                    if (this.batch == null) {
+                        return null;
+                    }
+                    this.batchIndex = 0;
+                }
+                final int index = this.batchIndex++;
+                if (this.skip > 0) {
+                    this.skip--;
+                } else {
+                    this.rowBlock = this.batch.getNumber();
+                    this.rowSlot = this.batch.getSlot(index);
+                    return this.batch.getRows().get(index);
+                }
+            }
+        }
+        while (this.cursor.next()) {
+            if ((this.filter != null)
+                    && !this.filter.test(this.cursor.getBlockData(), this.cursor.getRecordOffset())) {
+                continue;
+            }
+            // Skipped rows are never decoded.
+            if (this.skip > 0) {
+                this.skip--;
+                continue;
+            }
+            this.rowBlock = this.cursor.getBlock();
+            this.rowSlot = this.cursor.getSlot();
+            return this.cursor.getRow();
+        }
+        return null;
+    }
+
+    /**
+     * Opens a cursor over the table.
+     *
+     * @return the table cursor.
+     * @throws SQLException
+     *             in case of I/O errors.
+     */
+    private TableCursor openCursor() throws SQLException {
+        final TableCursor tableCursor = new TableCursor(this.table, this.table.getFields(), this.blocks);
+        tableCursor.setCancellation(this.cancellation);
+        tableCursor.setLazy(this.lazy);
+        return tableCursor;
+    }
+
+    /**
+     * Creates a result row from a table row.
+     *
+     * @param row
+     *            the table row.
+     * @return the result row.
+     */
+    private List<FieldValue> createRow(final List<FieldValue> row) {
+        final List<FieldValue> result = new ArrayList<>(this.columnIndexes.length);
+        for (int i = 0; i < this.columnIndexes.length; i++) {
+            FieldValue value = row.get(this.columnIndexes[i]);
+            if (value == null) {
+                value = new FieldValue(this.columns.get(i).getType());
+            }
+            result.add(value);
+        }
+        return result;
+    }
+}
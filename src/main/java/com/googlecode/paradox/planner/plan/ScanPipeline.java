@@ -0,0 +1,356 @@
+/*
+ * ScanPipeline.java 10/19/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.plan;
+
+import com.googlecode.paradox.data.TableCursor;
+import com.googlecode.paradox.data.TableData;
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.metadata.ParadoxTable;
+import com.googlecode.paradox.planner.predicates.AbstractPredicate;
+import com.googlecode.paradox.utils.Cancellation;
+import com.googlecode.paradox.utils.SQLStates;
+import java.nio.ByteBuffer;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Scans a table with separated I/O, decoding and consumer stages.
+ * <p>
+ * A reader thread follows the block chain, or reads a block list, and copies each block to a bounded queue, while a
+ * pool of decoder threads filters and decodes the queued blocks. The consumer takes the decoded blocks in reading
+ * order, so it only waits when the stages ahead of it are slower.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.4
+ * @since 1.4
+ */
+final class ScanPipeline implements AutoCloseable {
+
+    /**
+     * The decoder thread pool.
+     */
+    private final ExecutorService decoders;
+
+    /**
+     * The WHERE predicate, <code>null</code> if there is no WHERE clause.
+     */
+    private final AbstractPredicate filter;
+
+    /**
+     * If the last block was taken.
+     */
+    private boolean finished;
+
+    /**
+     * If the values are decoded only when read.
+     */
+    private final boolean lazy;
+
+    /**
+     * The decoded blocks, in table order.
+     */
+    private final BlockingQueue<Future<Block>> queue;
+
+    /**
+     * The block reader thread.
+     */
+    private final Thread reader;
+
+    /**
+     * The table to read.
+     */
+    private final ParadoxTable table;
+
+    /**
+     * Creates and starts a pipeline.
+     *
+     * @param table
+     *            the table to read.
+     * @param filter
+     *            the WHERE predicate, <code>null</code> if there is no WHERE clause.
+     * @param cancellation
+     *            the statement cancellation, <code>null</code> if the scan can't be canceled.
+     * @param blocks
+     *            the blocks to read, in order, or <code>null</code> to follow the block chain.
+     * @param queueDepth
+     *            the maximum blocks read ahead of the consumer.
+     * @param threads
+     *            the decoder thread count.
+     * @param lazy
+     *            true to decode the values only when read.
+     * @throws SQLException
+     *             in case of I/O errors.
+     */
+    ScanPipeline(final ParadoxTable table, final AbstractPredicate filter, final Cancellation cancellation,
+            final int[] blocks, final int queueDepth, final int threads, final boolean lazy) throws SQLException {
+        this.table = table;
+        this.filter = filter;
+        this.lazy = lazy;
+        this.queue = new ArrayBlockingQueue<>(queueDepth);
+
+        // Initialized here, because the decoders can't create it concurrently.
+        table.getBlobTable();
+
+        final TableCursor cursor = new TableCursor(table, table.getFields(), blocks);
+        cursor.setCancellation(cancellation);
+        this.decoders = Executors.newFixedThreadPool(threads, ScanPipeline.createThreadFactory("decoder"));
+        this.reader = ScanPipeline.createThreadFactory("reader").newThread(new Runnable() {
+            @Override
+            public void run() {
+                ScanPipeline.this.read(cursor);
+            }
+        });
+        this.reader.start();
+    }
+
+    /**
+     * Creates a factory of daemon threads.
+     *
+     * @param stage
+     *            the pipeline stage name.
+     * @return the thread factory.
+     */
+    private static ThreadFactory createThreadFactory(final String stage) {
+        return new ThreadFactory() {
+            @Override
+            public Thread newThread(final Runnable runnable) {
+                final Thread thread = new Thread(runnable, "Paradox scan " + stage);
+                thread.setDaemon(true);
+                return thread;
+            }
+        };
+    }
+
+    /**
+     * Creates an already finished task.
+     *
+     * @param callable
+     *            the task result.
+     * @return the finished task.
+     */
+    private static FutureTask<Block> createDone(final Callable<Block> callable) {
+        final FutureTask<Block> task = new FutureTask<>(callable);
+        task.run();
+        return task;
+    }
+
+    /**
+     * Gets the table read.
+     *
+     * @return the table read.
+     */
+    ParadoxTable getTable() {
+        return this.table;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void close() {
+        this.finished = true;
+        this.reader.interrupt();
+        this.decoders.shutdownNow();
+        this.queue.clear();
+    }
+
+    /**
+     * Gets the next decoded block.
+     *
+     * @return the next block, or <code>null</code> after the last block.
+     * @throws SQLException
+     *             in case of read errors.
+     */
+    Block next() throws SQLException {
+        if (this.finished) {
+            return null;
+        }
+        try {
+            final Block block = this.queue.take().get();
+            if (block == null) {
+                this.close();
+            }
+            return block;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException(e.getMessage(), SQLStates.INVALID_STATE.getValue(), e);
+        } catch (final ExecutionException e) {
+            this.close();
+            if (e.getCause() instanceof SQLException) {
+                throw (SQLException) e.getCause();
+            }
+            throw new SQLException(e.getMessage(), SQLStates.INVALID_STATE.getValue(), e.getCause());
+        }
+    }
+
+    /**
+     * Decodes the records of a block.
+     *
+     * @param number
+     *            the block number.
+     * @param data
+     *            the block data.
+     * @param records
+     *            the number of records in block.
+     * @return the decoded block.
+     * @throws SQLException
+     *             in case of parse errors.
+     */
+    private Block decode(final int number, final byte[] data, final int records) throws SQLException {
+        final List<List<FieldValue>> rows = new ArrayList<>(records);
+        final int[] slots = new int[records];
+        final ByteBuffer buffer = ByteBuffer.wrap(data);
+        for (int i = 0; i < records; i++) {
+            final int offset = TableCursor.BLOCK_HEADER_SIZE + (i * this.table.getRecordSize());
+            if ((this.filter == null) || this.filter.test(data, offset)) {
+                slots[rows.size()] = i;
+                if (this.lazy) {
+                    rows.add(TableData.readLazyRow(this.table, this.table.getFields(), data, offset));
+                } else {
+                    buffer.position(offset);
+                    rows.add(TableData.readRow(this.table, this.table.getFields(), buffer));
+                }
+            }
+        }
+        return new Block(number, rows, slots);
+    }
+
+    /**
+     * Reads the blocks to the queue, running in reader thread.
+     *
+     * @param cursor
+     *            the table cursor, closed at the end.
+     */
+    private void read(final TableCursor cursor) {
+        FutureTask<Block> end;
+        try (TableCursor blocks = cursor) {
+            while (blocks.nextBlock()) {
+                final int number = blocks.getBlock();
+                final byte[] data = blocks.getBlockData().clone();
+                final int records = blocks.getBlockRows();
+                this.queue.put(this.decoders.submit(new Callable<Block>() {
+                    @Override
+                    public Block call() throws SQLException {
+                        return ScanPipeline.this.decode(number, data, records);
+                    }
+                }));
+            }
+            end = ScanPipeline.createDone(new Callable<Block>() {
+                @Override
+                public Block call() {
+                    return null;
+                }
+            });
+        } catch (final SQLException e) {
+            end = ScanPipeline.createDone(new Callable<Block>() {
+                @Override
+                public Block call() throws SQLException {
+                    throw e;
+                }
+            });
+        } catch (final InterruptedException | RejectedExecutionException e) {
+            // Closed by the consumer.
+            return;
+        } catch (final RuntimeException e) {
+            // A damaged block must end the scan, or the consumer waits forever.
+            end = ScanPipeline.createDone(new Callable<Block>() {
+                @Override
+                public Block call() throws SQLException {
+                    throw new SQLException(e.getMessage(), SQLStates.INVALID_STATE.getValue(), e);
+                }
+            });
+        }
+        try {
+            this.queue.put(end);
+        } catch (final InterruptedException e) {
+            // Closed by the consumer.
+        }
+    }
+
+    /**
+     * The rows decoded from a data block.
+     *
+     * @author Leonardo Alves da Costa
+     * @version 1.0
+     * @since 1.4
+     */
+    static final class Block {
+
+        /**
+         * The block number.
+         */
+        private final int number;
+
+        /**
+         * The rows that match the filter.
+         */
+        private final List<List<FieldValue>> rows;
+
+        /**
+         * The record position in block of each row.
+         */
+        private final int[] slots;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param number
+         *            the block number.
+         * @param rows
+         *            the rows that match the filter.
+         * @param slots
+         *            the record position in block of each row.
+         */
+        Block(final int number, final List<List<FieldValue>> rows, final int[] slots) {
+            this.number = number;
+            this.rows = rows;
+            this.slots = slots;
+        }
+
+        /**
+         * Gets the block number.
+         *
+         * @return the block number.
+         */
+        int getNumber() {
+            return this.number;
+        }
+
+        /**
+         * Gets the rows that match the filter.
+         *
+         * @return the rows that match the filter.
+         */
+        List<List<FieldValue>> getRows() {
+            return this.rows;
+        }
+
+        /**
+         * Gets the record position in block of a row.
+         *
+         * @param index
+         *            the row index.
+         * @return the record position in block.
+         */
+        int getSlot(final int index) {
+            return this.slots[index];
+        }
+    }
+}
@@ -1,257 +1,1223 @@
-/*
- * SelectPlan.java 03/14/2009 Copyright (C) 2009 Leonardo Alves da Costa This program is free software: you can
- * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
- * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
- * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
- * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
- * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
- */
-package com.googlecode.paradox.planner.plan;
-
-import com.googlecode.paradox.ParadoxConnection;
-import com.googlecode.paradox.data.TableData;
-import com.googlecode.paradox.data.table.value.FieldValue;
-import com.googlecode.paradox.metadata.ParadoxField;
-import com.googlecode.paradox.metadata.ParadoxTable;
-import com.googlecode.paradox.planner.nodes.PlanTableNode;
-import com.googlecode.paradox.results.Column;
-import com.googlecode.paradox.utils.SQLStates;
-import java.sql.SQLException;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-
-/**
- * Creates a SELECT plan for execution.
- *
- * @author Leonardo Alves da Costa
- * @version 1.1
- * @since 1.1
- */
-public final class SelectPlan implements Plan {
-    
-    /**
-     * The columns in this plan.
-     */
-    private final List<Column> columns = new ArrayList<>();
-    
-    /**
-     * The tables in this plan.
-     */
-    private final List<PlanTableNode> tables = new ArrayList<>();
-    
-    /**
-     * The data values.
-     */
-    private final List<List<FieldValue>> values = new ArrayList<>();
-    
-    /**
-     * Creates a SELECT plan.
-     *
-     * @param conn
-     *            the Paradox connection.
-     */
-    public SelectPlan(final ParadoxConnection conn) {
-    }
-    
-    /**
-     * Add column from select list.
-     *
-     * @param name
-     *            column name.
-     * @throws SQLException
-     *             search column exception.
-     */
-    public void addColumn(final String name) throws SQLException {
-        final ParadoxField field = this.findField(name);
-        if (field == null) {
-            throw new SQLException(String.format("Invalid column name: '%s'", name),
-                    SQLStates.INVALID_COLUMN.getValue());
-        }
-        this.columns.add(field.getColumn());
-    }
-    
-    /**
-     * Associate all columns from a table.
-     *
-     * @param table
-     *            the table to scan.
-     * @throws SQLException
-     *             in case of wrong SQL type.
-     */
-    public void addColumnFromTable(final ParadoxTable table) throws SQLException {
-        for (final ParadoxField field : table.getFields()) {
-            this.columns.add(field.getColumn());
-        }
-    }
-    
-    /**
-     * Adds a table to this plan.
-     *
-     * @param table
-     *            the table.
-     */
-    public void addTable(final PlanTableNode table) {
-        this.tables.add(table);
-    }
-    
-    /**
-     * {@inheritDoc}.
-     */
-    @Override
-    public void execute() throws SQLException {
-        if (this.columns.isEmpty() || this.tables.isEmpty()) {
-            return;
-        }
-        
-        for (final Column column : this.columns) {
-            for (final PlanTableNode table : this.tables) {
-                final ParadoxTable pTable = table.getTable();
-                if (column.getTableName().equalsIgnoreCase(pTable.getName())) {
-                    this.loadTableData(column, pTable);
-                }
-            }
-        }
-    }
-    
-    /**
-     * Gets the columns in SELECT statement.
-     *
-     * @return the columns in SELECT statement.
-     */
-    public List<Column> getColumns() {
-        return Collections.unmodifiableList(this.columns);
-    }
-    
-    /**
-     * Gets the tables in this plan.
-     *
-     * @return the tables in this plan.
-     */
-    public List<PlanTableNode> getTables() {
-        return Collections.unmodifiableList(this.tables);
-    }
-    
-    /**
-     * Values from tables in column order.
-     *
-     * @return array of array of values/ Can be null (empty result set);
-     */
-    public List<List<FieldValue>> getValues() {
-        return Collections.unmodifiableList(this.values);
-    }
-    
-    /**
-     * Fill the result row with a field order.
-     *
-     * @param tableData
-     *            the table data load from.
-     * @param fieldOrder
-     *            the field order.
-     */
-    private void fillResultValues(final List<List<FieldValue>> tableData, final int fieldOrder) {
-        for (int j = 0; j < tableData.size(); j++) {
-            List<FieldValue> resultRow;
-            if (j == this.values.size()) {
-                resultRow = new ArrayList<>();
-                this.values.add(resultRow);
-            } else {
-                resultRow = this.values.get(j);
-            }
-            resultRow.add(tableData.get(j).get(fieldOrder));
-        }
-    }
-    
-    /**
-     * Finds a single column in the table list.
-     *
-     * @param fieldName
-     *            the field name.
-     * @param fields
-     *            the field list.
-     * @param prefix
-     *            the field prefix.
-     * @throws SQLException
-     *             in case of parse errors.
-     */
-    private void findColumn(final String fieldName, final List<ParadoxField> fields, final String prefix)
-            throws SQLException {
-        for (final PlanTableNode table : this.tables) {
-            if (table.getTable() == null) {
-                throw new SQLException("Empty table", SQLStates.INVALID_TABLE.getValue());
-            }
-            
-            if ((prefix != null) && (table.getAlias() != null) && !prefix.equalsIgnoreCase(table.getAlias())) {
-                continue;
-            }
-            
-            for (final ParadoxField field : table.getTable().getFields()) {
-                if (field.getName().equalsIgnoreCase(fieldName)) {
-                    fields.add(field);
-                    // Unique column in table
-                    break;
-                }
-            }
-        }
-    }
-    
-    /**
-     * Find a paradox field by its name.
-     *
-     * @param name
-     *            the field name.
-     * @return the paradox field.
-     * @throws SQLException
-     *             in case of find errors.
-     */
-    private ParadoxField findField(final String name) throws SQLException {
-        String newName = name;
-        final List<ParadoxField> fields = new ArrayList<>(1);
-        String prefix = null;
-        final int p = newName.indexOf('.');
-        if (p > -1) {
-            prefix = newName.substring(0, p);
-            newName = newName.substring(p + 1);
-        }
-        
-        this.findColumn(newName, fields, prefix);
-        if (!fields.isEmpty()) {
-            if (fields.size() > 1) {
-                throw new SQLException("Column '" + newName + "' ambiguously defined",
-                        SQLStates.COLUMN_AMBIQUOUS.getValue());
-            } else {
-                return fields.get(0);
-            }
-        }
-        
-        return null;
-    }
-    
-    /**
-     * Load the table data form a table.
-     *
-     * @param column
-     *            the column to load.
-     * @param table
-     *            the table to load.
-     * @throws SQLException
-     *             in case of execution errors.
-     */
-    private void loadTableData(final Column column, final ParadoxTable table) throws SQLException {
-        final ParadoxField field = table.findField(column.getName());
-        if (field == null) {
-            throw new SQLException("Column '" + column.getName() + "' not found in table '" + table.getName(),
-                    SQLStates.INVALID_FIELD_VALUE.getValue());
-        }
-        // load table data
-        final List<List<FieldValue>> tableData = TableData.loadData(table, table.getFields());
-        // search column index
-        if ((field.getOrderNum() > table.getFields().size()) || (field.getOrderNum() < 1)) {
-            System.out.println(column.getName() + " " + field.getOrderNum() + " " + tableData.size());
-            throw new SQLException("Invalid column position", SQLStates.INVALID_FIELD_VALUE.getValue());
-        }
-        
-        final int p = field.getOrderNum() - 1;
-        this.fillResultValues(tableData, p);
-    }
-}
+/*
+ * SelectPlan.java 03/14/2009 Copyright (C) 2009 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.plan;
+
+import com.googlecode.paradox.ParadoxConnection;
+import com.googlecode.paradox.data.FieldFactory;
+import com.googlecode.paradox.data.PrimaryKeyData;
+import com.googlecode.paradox.data.RawValues;
+import com.googlecode.paradox.data.TableCursor;
+import com.googlecode.paradox.data.TableData;
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.metadata.ParadoxField;
+import com.googlecode.paradox.metadata.ParadoxTable;
+import com.googlecode.paradox.parser.nodes.OrderType;
+import com.googlecode.paradox.planner.aggregation.AggregateFunction;
+import com.googlecode.paradox.planner.aggregation.HashDistinct;
+import com.googlecode.paradox.planner.aggregation.ParallelAggregator;
+import com.googlecode.paradox.planner.nodes.PlanTableNode;
+import com.googlecode.paradox.planner.predicates.AbstractPredicate;
+import com.googlecode.paradox.planner.sorting.RadixSorter;
+import com.googlecode.paradox.planner.sorting.RowComparator;
+import com.googlecode.paradox.planner.sorting.SortKeyEncoder;
+import com.googlecode.paradox.planner.sorting.TopNHeap;
+import com.googlecode.paradox.procedures.math.AbstractAggregateProcedure;
+import com.googlecode.paradox.procedures.math.Count;
+import com.googlecode.paradox.procedures.math.Max;
+import com.googlecode.paradox.procedures.math.Min;
+import com.googlecode.paradox.results.Column;
+import com.googlecode.paradox.results.ParadoxFieldType;
+import com.googlecode.paradox.utils.Cancellation;
+import com.googlecode.paradox.utils.Constants;
+import com.googlecode.paradox.utils.SQLStates;
+import java.nio.ByteBuffer;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Creates a SELECT plan for execution.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.16
+ * @since 1.1
+ */
+public final class SelectPlan implements Plan {
+    
+    /**
+     * Value used when there is no row limit.
+     */
+    public static final int NO_LIMIT = -1;
+    
+    /**
+     * The aggregate functions in SELECT list.
+     */
+    private final List<AggregateFunction> aggregates = new ArrayList<>();
+    
+    /**
+     * The statement cancellation, <code>null</code> if the execution can't be canceled.
+     */
+    private Cancellation cancellation;
+    
+    /**
+     * The columns in this plan.
+     */
+    private final List<Column> columns = new ArrayList<>();
+    
+    /**
+     * The Paradox connection.
+     */
+    private final ParadoxConnection conn;
+    
+    /**
+     * If the duplicated rows are removed.
+     */
+    private boolean distinct;
+    
+    /**
+     * The DISTINCT fields.
+     */
+    private final List<ParadoxField> distinctFields = new ArrayList<>();
+    
+    /**
+     * The WHERE predicate, <code>null</code> if there is no WHERE clause.
+     */
+    private AbstractPredicate filter;
+    
+    /**
+     * The GROUP BY fields.
+     */
+    private final List<ParadoxField> groupFields = new ArrayList<>();
+    
+    /**
+     * The row limit.
+     */
+    private int limit = SelectPlan.NO_LIMIT;
+    
+    /**
+     * The statement row limit, zero if there is no limit.
+     */
+    private int maxRows;
+    
+    /**
+     * The rows to skip.
+     */
+    private int offset;
+    
+    /**
+     * The ORDER BY fields.
+     */
+    private final List<ParadoxField> orderFields = new ArrayList<>();
+    
+    /**
+     * The ORDER BY positions in aggregated rows.
+     */
+    private final List<Integer> orderIndexes = new ArrayList<>();
+    
+    /**
+     * The ORDER BY directions.
+     */
+    private final List<OrderType> orderTypes = new ArrayList<>();
+    
+    /**
+     * The number of parameter markers.
+     */
+    private int parameterCount;
+    
+    /**
+     * If the parameter values are bound.
+     */
+    private boolean parametersBound;
+    
+    /**
+     * The rows of last execution still to read, <code>null</code> if all rows are in values.
+     */
+    private RowStream stream;
+    
+    /**
+     * The tables in this plan.
+     */
+    private final List<PlanTableNode> tables = new ArrayList<>();
+    
+    /**
+     * The data values.
+     */
+    private List<List<FieldValue>> values = new ArrayList<>();
+    
+    /**
+     * Creates a SELECT plan.
+     *
+     * @param conn
+     *            the Paradox connection.
+     */
+    public SelectPlan(final ParadoxConnection conn) {
+        this.conn = conn;
+    }
+    
+    /**
+     * Adds an aggregate function to the select list.
+     *
+     * @param procedure
+     *            the function procedure.
+     * @param fieldName
+     *            the argument field name, <code>null</code> for all rows (<code>*</code>).
+     * @param alias
+     *            the result column name.
+     * @throws SQLException
+     *             in case of invalid argument.
+     */
+    public void addAggregate(final AbstractAggregateProcedure procedure, final String fieldName, final String alias)
+            throws SQLException {
+        ParadoxField field = null;
+        if (fieldName != null) {
+            field = this.getField(fieldName);
+        }
+        final AggregateFunction function = new AggregateFunction(procedure, field);
+        this.aggregates.add(function);
+        this.columns.add(new Column(alias, function.getSqlType()));
+    }
+    
+    /**
+     * Add column from select list.
+     *
+     * @param name
+     *            column name.
+     * @throws SQLException
+     *             search column exception.
+     */
+    public void addColumn(final String name) throws SQLException {
+        this.columns.add(this.getField(name).getColumn());
+    }
+    
+    /**
+     * Associate all columns from a table.
+     *
+     * @param table
+     *            the table to scan.
+     * @throws SQLException
+     *             in case of wrong SQL type.
+     */
+    public void addColumnFromTable(final ParadoxTable table) throws SQLException {
+        for (final ParadoxField field : table.getFields()) {
+            this.columns.add(field.getColumn());
+        }
+    }
+    
+    /**
+     * Adds an ORDER BY column.
+     *
+     * @param name
+     *            the column name.
+     * @param type
+     *            the order direction.
+     * @throws SQLException
+     *             in case of invalid column.
+     */
+    public void addOrderBy(final String name, final OrderType type) throws SQLException {
+        if (this.isAggregate()) {
+            this.orderIndexes.add(this.getAggregatedIndex(name));
+        } else if (this.distinct) {
+            final int index = SelectPlan.indexOf(this.distinctFields, this.getField(name));
+            if (index < 0) {
+                throw new SQLException(String.format("ORDER BY column '%s' must be in select list", name),
+                        SQLStates.INVALID_COLUMN.getValue());
+            }
+            this.orderIndexes.add(index);
+        } else {
+            this.orderFields.add(this.getField(name));
+        }
+        this.orderTypes.add(type);
+    }
+    
+    /**
+     * Adds a GROUP BY column.
+     *
+     * @param name
+     *            the column name.
+     * @throws SQLException
+     *             in case of invalid column.
+     */
+    public void addGroupBy(final String name) throws SQLException {
+        final ParadoxField field = this.getField(name);
+        if (!SelectPlan.isComparable(field)) {
+            throw new SQLException(String.format("Invalid GROUP BY column: '%s'", name),
+                    SQLStates.INVALID_COLUMN.getValue());
+        }
+        this.groupFields.add(field);
+    }
+    
+    /**
+     * Checks the SELECT list of a DISTINCT plan.
+     *
+     * @throws SQLException
+     *             if some column can not be compared.
+     */
+    public void checkDistinct() throws SQLException {
+        if (!this.distinct) {
+            return;
+        }
+        if (this.isAggregate()) {
+            // The rows are already unique if all groups are in the SELECT list.
+            for (final ParadoxField field : this.groupFields) {
+                boolean found = false;
+                for (final Column column : this.columns) {
+                    found |= column.getField() == field;
+                }
+                if (!found) {
+                    throw new SQLFeatureNotSupportedException("DISTINCT requires all GROUP BY columns in select list.",
+                            SQLStates.INVALID_SQL.getValue());
+                }
+            }
+            return;
+        }
+        for (final Column column : this.columns) {
+            final ParadoxField field = column.getField();
+            if (!SelectPlan.isComparable(field)) {
+                throw new SQLException(String.format("Invalid DISTINCT column: '%s'", column.getName()),
+                        SQLStates.INVALID_COLUMN.getValue());
+            }
+            if (SelectPlan.indexOf(this.distinctFields, field) < 0) {
+                this.distinctFields.add(field);
+            }
+        }
+    }
+    
+    /**
+     * Checks if all columns in SELECT list are grouped, when using aggregate functions.
+     *
+     * @throws SQLException
+     *             if there is a column outside the GROUP BY.
+     */
+    public void checkGroupBy() throws SQLException {
+        if (!this.isAggregate()) {
+            return;
+        }
+        for (final Column column : this.columns) {
+            if ((column.getField() != null) && (this.getGroupIndex(column.getField()) < 0)) {
+                throw new SQLException(String.format("Column '%s' must be in GROUP BY", column.getName()),
+                        SQLStates.INVALID_COLUMN.getValue());
+            }
+        }
+    }
+    
+    /**
+     * Adds a table to this plan.
+     *
+     * @param table
+     *            the table.
+     */
+    public void addTable(final PlanTableNode table) {
+        this.tables.add(table);
+    }
+    
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void execute() throws SQLException {
+        if (this.stream != null) {
+            this.stream.close();
+            this.stream = null;
+        }
+        this.values = new ArrayList<>();
+        if ((this.parameterCount > 0) && !this.parametersBound) {
+            throw new SQLException("Parameter values not set.", SQLStates.INVALID_PARAMETER.getValue());
+        }
+        if (this.columns.isEmpty() || this.tables.isEmpty()) {
+            return;
+        }
+        if (this.isAggregate()) {
+            this.executeAggregate();
+            return;
+        } else if (this.distinct) {
+            this.executeDistinct();
+            return;
+        }
+        
+        final int[] columnIndexes = new int[this.columns.size()];
+        for (int i = 0; i < columnIndexes.length; i++) {
+            final Column column = this.columns.get(i);
+            columnIndexes[i] = this.getRowIndex(column.getTableName(), column.getName());
+        }
+        
+        Comparator<List<FieldValue>> comparator = null;
+        if (!this.orderFields.isEmpty()) {
+            final int[] orderIndexes = new int[this.orderFields.size()];
+            for (int i = 0; i < orderIndexes.length; i++) {
+                final ParadoxField field = this.orderFields.get(i);
+                orderIndexes[i] = this.getRowIndex(field.getTableName(), field.getName());
+            }
+            comparator = new RowComparator(orderIndexes,
+                    this.orderTypes.toArray(new OrderType[this.orderTypes.size()]));
+        }
+        
+        if (this.tables.size() == 1) {
+            final ParadoxTable table = this.tables.get(0).getTable();
+            if (comparator == null) {
+                // Unsorted rows are read only when the result set needs them.
+                int scanThreads = 0;
+                boolean lazy = false;
+                if (this.conn != null) {
+                    scanThreads = this.conn.getScanThreads();
+                    lazy = this.conn.isLazyDecoding();
+                }
+                final int[] blocks = this.listScanBlocks(table);
+                if (scanThreads > 0) {
+                    final ScanPipeline pipeline = new ScanPipeline(table, this.filter, this.cancellation, blocks,
+                            this.conn.getScanQueueDepth(), scanThreads, lazy);
+                    this.stream = new RowStream(pipeline, this.cancellation, columnIndexes, this.columns, this.offset,
+                            this.getRowLimit());
+                } else {
+                    this.stream = new RowStream(table, blocks, this.filter, this.cancellation, columnIndexes,
+                            this.columns, this.offset, this.getRowLimit(), lazy);
+                }
+                return;
+            }
+            
+            RadixSorter sorter = null;
+            if (this.getRowLimit() == SelectPlan.NO_LIMIT) {
+                // Fixed width keys are sorted by the raw record bytes.
+                final SortKeyEncoder encoder = SortKeyEncoder.create(table, this.orderFields, this.orderTypes);
+                if (encoder != null) {
+                    sorter = new RadixSorter(encoder);
+                    comparator = null;
+                }
+            }
+            
+            final RowCollector collector = new RowCollector(columnIndexes, comparator);
+            try (TableCursor cursor = new TableCursor(table, table.getFields(), this.listScanBlocks(table))) {
+                cursor.setCancellation(this.cancellation);
+                while (collector.isOpen() && cursor.next()) {
+                    if ((this.filter != null) && !this.filter.test(cursor.getBlockData(), cursor.getRecordOffset())) {
+                        continue;
+                    }
+                    if (sorter != null) {
+                        sorter.add(cursor.getRow(), cursor.getBlockData(), cursor.getRecordOffset());
+                    } else {
+                        collector.add(cursor.getRow());
+                    }
+                }
+            }
+            if (sorter != null) {
+                this.checkCanceled();
+                for (final List<FieldValue> row : sorter.getRows()) {
+                    collector.add(row);
+                }
+            }
+            collector.finish();
+        } else {
+            final RowCollector collector = new RowCollector(columnIndexes, comparator);
+            this.collectJoinedRows(collector);
+            collector.finish();
+        }
+    }
+    
+    /**
+     * Executes the GROUP BY plan with a hash aggregation over the raw records.
+     *
+     * @throws SQLException
+     *             in case of read errors.
+     */
+    private void executeAggregate() throws SQLException {
+        if (this.tables.size() != 1) {
+            throw new SQLFeatureNotSupportedException("Aggregate functions are supported only in single table.",
+                    SQLStates.INVALID_SQL.getValue());
+        }
+        
+        // Aggregated rows have the GROUP BY values and then the function results.
+        final int[] columnIndexes = new int[this.columns.size()];
+        int aggregate = 0;
+        for (int i = 0; i < columnIndexes.length; i++) {
+            final ParadoxField field = this.columns.get(i).getField();
+            if (field == null) {
+                columnIndexes[i] = this.groupFields.size() + aggregate;
+                aggregate++;
+            } else {
+                columnIndexes[i] = this.getGroupIndex(field);
+            }
+        }
+        final Comparator<List<FieldValue>> comparator = this.createIndexComparator();
+        
+        int threads = 1;
+        if (this.conn != null) {
+            threads = this.conn.getAggregationThreads();
+        }
+        
+        final ParadoxTable table = this.tables.get(0).getTable();
+        List<List<FieldValue>> rows = null;
+        if (this.groupFields.isEmpty() && (this.filter == null)) {
+            final List<FieldValue> row = this.readMetadataRow(table);
+            if (row != null) {
+                rows = Collections.singletonList(row);
+            }
+        }
+        if (rows == null) {
+            final ParallelAggregator aggregator = new ParallelAggregator(table, this.groupFields, this.aggregates,
+                    this.getMaxGroupsInMemory(), threads, this.filter);
+            aggregator.setCancellation(this.cancellation);
+            rows = aggregator.execute();
+        }
+        
+        final RowCollector collector = new RowCollector(columnIndexes, comparator);
+        for (int i = 0; (i < rows.size()) && collector.isOpen(); i++) {
+            collector.add(rows.get(i));
+        }
+        collector.finish();
+    }
+    
+    /**
+     * Executes the DISTINCT plan with a streaming hash set over the raw records.
+     *
+     * @throws SQLException
+     *             in case of read errors.
+     */
+    private void executeDistinct() throws SQLException {
+        if (this.tables.size() != 1) {
+            throw new SQLFeatureNotSupportedException("DISTINCT is supported only in single table.",
+                    SQLStates.INVALID_SQL.getValue());
+        }
+        
+        // Distinct rows have the values of the distinct fields.
+        final int[] columnIndexes = new int[this.columns.size()];
+        for (int i = 0; i < columnIndexes.length; i++) {
+            columnIndexes[i] = SelectPlan.indexOf(this.distinctFields, this.columns.get(i).getField());
+        }
+        
+        final ParadoxTable table = this.tables.get(0).getTable();
+        final RowCollector collector = new RowCollector(columnIndexes, this.createIndexComparator());
+        try (HashDistinct distinctRows = new HashDistinct(table, this.distinctFields, this.getMaxGroupsInMemory());
+                TableCursor cursor = new TableCursor(table, Collections.<ParadoxField> emptyList(),
+                        this.listScanBlocks(table))) {
+            cursor.setCancellation(this.cancellation);
+            while (collector.isOpen() && cursor.next()) {
+                if ((this.filter != null) && !this.filter.test(cursor.getBlockData(), cursor.getRecordOffset())) {
+                    continue;
+                }
+                final List<FieldValue> row = distinctRows.add(cursor.getBlockData(), cursor.getRecordOffset());
+                if (row != null) {
+                    collector.add(row);
+                }
+            }
+            while (collector.isOpen()) {
+                final List<FieldValue> row = distinctRows.nextSpilled();
+                if (row == null) {
+                    break;
+                }
+                collector.add(row);
+            }
+        }
+        collector.finish();
+    }
+    
+    /**
+     * Gets the columns in SELECT statement.
+     *
+     * @return the columns in SELECT statement.
+     */
+    public List<Column> getColumns() {
+        return Collections.unmodifiableList(this.columns);
+    }
+    
+    /**
+     * Gets the tables in this plan.
+     *
+     * @return the tables in this plan.
+     */
+    public List<PlanTableNode> getTables() {
+        return Collections.unmodifiableList(this.tables);
+    }
+    
+    /**
+     * Gets the row limit.
+     *
+     * @return the row limit or {@link #NO_LIMIT}.
+     */
+    public int getLimit() {
+        return this.limit;
+    }
+    
+    /**
+     * Gets the rows to skip.
+     *
+     * @return the rows to skip.
+     */
+    public int getOffset() {
+        return this.offset;
+    }
+    
+    /**
+     * Sets the row limit.
+     *
+     * @param limit
+     *            the row limit or {@link #NO_LIMIT}.
+     */
+    public void setLimit(final int limit) {
+        this.limit = limit;
+    }
+    
+    /**
+     * Sets the statement cancellation for the next executions.
+     *
+     * @param cancellation
+     *            the statement cancellation, <code>null</code> if the execution can't be canceled.
+     */
+    public void setCancellation(final Cancellation cancellation) {
+        this.cancellation = cancellation;
+    }
+    
+    /**
+     * Sets the statement row limit for the next executions.
+     *
+     * @param maxRows
+     *            the maximum number of rows, zero if there is no limit.
+     */
+    public void setMaxRows(final int maxRows) {
+        this.maxRows = maxRows;
+    }
+    
+    /**
+     * Sets if the duplicated rows are removed.
+     *
+     * @param distinct
+     *            true to remove the duplicated rows.
+     */
+    public void setDistinct(final boolean distinct) {
+        this.distinct = distinct;
+    }
+    
+    /**
+     * Sets the WHERE predicate.
+     *
+     * @param filter
+     *            the WHERE predicate, <code>null</code> if there is no WHERE clause.
+     * @param parameterCount
+     *            the number of parameter markers in the predicate.
+     */
+    public void setFilter(final AbstractPredicate filter, final int parameterCount) {
+        this.filter = filter;
+        this.parameterCount = parameterCount;
+    }
+    
+    /**
+     * Sets the parameter values used by the next executions.
+     * <p>
+     * The values are encoded once here, so the records are tested without converting the values again.
+     *
+     * @param parameters
+     *            the parameter values, in parameter order.
+     * @throws SQLException
+     *             in case of invalid parameter values.
+     */
+    public void setParameters(final Object[] parameters) throws SQLException {
+        if (parameters.length != this.parameterCount) {
+            throw new SQLException(String.format("Expected %d parameters, got %d.", this.parameterCount,
+                    parameters.length), SQLStates.INVALID_PARAMETER.getValue());
+        }
+        if (this.filter != null) {
+            this.filter.bind(parameters);
+        }
+        this.parametersBound = true;
+    }
+    
+    /**
+     * Checks if the header of some table read by this plan changed since the plan was created.
+     *
+     * @return true if some table changed.
+     */
+    public boolean isChanged() {
+        for (final PlanTableNode table : this.tables) {
+            if (TableData.isHeaderChanged(table.getTable())) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Sets the rows to skip.
+     *
+     * @param offset
+     *            the rows to skip.
+     */
+    public void setOffset(final int offset) {
+        this.offset = offset;
+    }
+    
+    /**
+     * Gets the rows of last execution still to read.
+     * <p>
+     * After this call the caller owns the stream, and {@link #getValues()} returns only the rows already read.
+     *
+     * @return the rows still to read, <code>null</code> if all rows are in values.
+     */
+    public RowStream getStream() {
+        final RowStream result = this.stream;
+        this.stream = null;
+        return result;
+    }
+    
+    /**
+     * Values from tables in column order.
+     *
+     * @return array of array of values/ Can be null (empty result set);
+     * @throws SQLException
+     *             in case of read errors.
+     */
+    public List<List<FieldValue>> getValues() throws SQLException {
+        if (this.stream != null) {
+            this.stream.fetch(this.values, Integer.MAX_VALUE);
+            this.stream = null;
+        }
+        return Collections.unmodifiableList(this.values);
+    }
+    
+    /**
+     * Reads the rows of all tables, joined by row position.
+     *
+     * @param collector
+     *            the row collector.
+     * @throws SQLException
+     *             in case of read errors.
+     */
+    private void collectJoinedRows(final RowCollector collector) throws SQLException {
+        final List<List<List<FieldValue>>> tableData = new ArrayList<>(this.tables.size());
+        int rowCount = 0;
+        for (final PlanTableNode node : this.tables) {
+            final ParadoxTable table = node.getTable();
+            final List<List<FieldValue>> data = TableData.loadData(table, table.getFields(), this.cancellation);
+            rowCount = Math.max(rowCount, data.size());
+            tableData.add(data);
+        }
+        
+        for (int i = 0; (i < rowCount) && collector.isOpen(); i++) {
+            final List<FieldValue> row = new ArrayList<>();
+            for (int t = 0; t < this.tables.size(); t++) {
+                final List<List<FieldValue>> data = tableData.get(t);
+                if (i < data.size()) {
+                    row.addAll(data.get(i));
+                } else {
+                    row.addAll(Collections.<FieldValue> nCopies(this.tables.get(t).getTable().getFields().size(),
+                            null));
+                }
+            }
+            collector.add(row);
+        }
+    }
+    
+    /**
+     * Finds a single column in the table list.
+     *
+     * @param fieldName
+     *            the field name.
+     * @param fields
+     *            the field list.
+     * @param prefix
+     *            the field prefix.
+     * @throws SQLException
+     *             in case of parse errors.
+     */
+    private void findColumn(final String fieldName, final List<ParadoxField> fields, final String prefix)
+            throws SQLException {
+        for (final PlanTableNode table : this.tables) {
+            if (table.getTable() == null) {
+                throw new SQLException("Empty table", SQLStates.INVALID_TABLE.getValue());
+            }
+            
+            if ((prefix != null) && (table.getAlias() != null) && !prefix.equalsIgnoreCase(table.getAlias())) {
+                continue;
+            }
+            
+            for (final ParadoxField field : table.getTable().getFields()) {
+                if (field.getName().equalsIgnoreCase(fieldName)) {
+                    fields.add(field);
+                    // Unique column in table
+                    break;
+                }
+            }
+        }
+    }
+    
+    /**
+     * Find a paradox field by its name.
+     *
+     * @param name
+     *            the field name.
+     * @return the paradox field.
+     * @throws SQLException
+     *             in case of find errors.
+     */
+    private ParadoxField findField(final String name) throws SQLException {
+        String newName = name;
+        final List<ParadoxField> fields = new ArrayList<>(1);
+        String prefix = null;
+        final int p = newName.indexOf('.');
+        if (p > -1) {
+            prefix = newName.substring(0, p);
+            newName = newName.substring(p + 1);
+        }
+        
+        this.findColumn(newName, fields, prefix);
+        if (!fields.isEmpty()) {
+            if (fields.size() > 1) {
+                throw new SQLException("Column '" + newName + "' ambiguously defined",
+                        SQLStates.COLUMN_AMBIQUOUS.getValue());
+            } else {
+                return fields.get(0);
+            }
+        }
+        
+        return null;
+    }
+    
+    /**
+     * Gets the position of a column in the aggregated rows.
+     * <p>
+     * Aggregate functions are found by their result name and other columns must be in GROUP BY.
+     *
+     * @param name
+     *            the column name.
+     * @return the column position in aggregated rows.
+     * @throws SQLException
+     *             in case of invalid column.
+     */
+    private int getAggregatedIndex(final String name) throws SQLException {
+        int aggregate = 0;
+        for (final Column column : this.columns) {
+            if (column.getField() == null) {
+                if (column.getName().equalsIgnoreCase(name)) {
+                    return this.groupFields.size() + aggregate;
+                }
+                aggregate++;
+            }
+        }
+        final int index = this.getGroupIndex(this.getField(name));
+        if (index < 0) {
+            throw new SQLException(String.format("Column '%s' must be in GROUP BY", name),
+                    SQLStates.INVALID_COLUMN.getValue());
+        }
+        return index;
+    }
+    
+    /**
+     * Finds a field, checking if it exists.
+     *
+     * @param name
+     *            the field name.
+     * @return the paradox field.
+     * @throws SQLException
+     *             in case of invalid column.
+     */
+    private ParadoxField getField(final String name) throws SQLException {
+        final ParadoxField field = this.findField(name);
+        if (field == null) {
+            throw new SQLException(String.format("Invalid column name: '%s'", name),
+                    SQLStates.INVALID_COLUMN.getValue());
+        }
+        return field;
+    }
+    
+    /**
+     * Gets the position of a field in GROUP BY.
+     *
+     * @param field
+     *            the field to find.
+     * @return the field position or -1 if the field is not in GROUP BY.
+     */
+    private int getGroupIndex(final ParadoxField field) {
+        return SelectPlan.indexOf(this.groupFields, field);
+    }
+    
+    /**
+     * Checks if the statement was canceled.
+     *
+     * @throws SQLException
+     *             if the statement was canceled or timed out.
+     */
+    private void checkCanceled() throws SQLException {
+        if (this.cancellation != null) {
+            this.cancellation.check();
+        }
+    }
+    
+    /**
+     * Gets the blocks to scan.
+     * <p>
+     * Without ORDER BY, LIMIT and OFFSET any row order is a valid result, so the blocks are read in file order. If the
+     * filter lists candidate blocks from an index, only them are read.
+     *
+     * @param table
+     *            the table to scan.
+     * @return the blocks to read, or <code>null</code> to follow the block chain.
+     * @throws SQLException
+     *             in case of I/O errors.
+     */
+    private int[] listScanBlocks(final ParadoxTable table) throws SQLException {
+        int[] blocks = null;
+        if (this.orderFields.isEmpty() && (this.offset == 0) && (this.getRowLimit() == SelectPlan.NO_LIMIT)) {
+            blocks = TableCursor.listBlocksByOffset(table);
+        }
+        if (this.filter != null) {
+            final int[] candidates = this.filter.listCandidateBlocks();
+            if (candidates != null) {
+                if (blocks == null) {
+                    blocks = TableCursor.listBlocks(table);
+                }
+                int count = 0;
+                for (final int block : blocks) {
+                    if (Arrays.binarySearch(candidates, block) >= 0) {
+                        blocks[count++] = block;
+                    }
+                }
+                blocks = Arrays.copyOf(blocks, count);
+            }
+        }
+        return blocks;
+    }
+    
+    /**
+     * Gets the row limit of the LIMIT clause and the statement maximum rows.
+     *
+     * @return the row limit or {@link #NO_LIMIT}.
+     */
+    private int getRowLimit() {
+        if ((this.maxRows > 0) && ((this.limit == SelectPlan.NO_LIMIT) || (this.maxRows < this.limit))) {
+            return this.maxRows;
+        }
+        return this.limit;
+    }
+    
+    /**
+     * Gets the memory budget of hash operators.
+     *
+     * @return the maximum group count in memory.
+     * @throws SQLException
+     *             in case of invalid connection property.
+     */
+    private int getMaxGroupsInMemory() throws SQLException {
+        if (this.conn != null) {
+            return this.conn.getMaxGroupsInMemory();
+        }
+        return Constants.DEFAULT_MAX_GROUPS_IN_MEMORY;
+    }
+    
+    /**
+     * Creates the ORDER BY comparator for rows built by this plan.
+     *
+     * @return the row comparator or <code>null</code> if there is no ORDER BY.
+     */
+    private Comparator<List<FieldValue>> createIndexComparator() {
+        if (this.orderIndexes.isEmpty()) {
+            return null;
+        }
+        final int[] indexes = new int[this.orderIndexes.size()];
+        for (int i = 0; i < indexes.length; i++) {
+            indexes[i] = this.orderIndexes.get(i);
+        }
+        return new RowComparator(indexes, this.orderTypes.toArray(new OrderType[this.orderTypes.size()]));
+    }
+    
+    /**
+     * Gets the position of a field in a field list, comparing by identity.
+     *
+     * @param fields
+     *            the field list.
+     * @param field
+     *            the field to find.
+     * @return the field position or -1 if the field is not in the list.
+     */
+    private static int indexOf(final List<ParadoxField> fields, final ParadoxField field) {
+        for (int i = 0; i < fields.size(); i++) {
+            if (fields.get(i) == field) {
+                return i;
+            }
+        }
+        return -1;
+    }
+    
+    /**
+     * Gets if the field values can be compared by the record bytes.
+     *
+     * @param field
+     *            the field.
+     * @return true if the field is not a memo or BLOB field.
+     */
+    private static boolean isComparable(final ParadoxField field) {
+        final int type = field.getType();
+        // Memo and BLOB fields store only a reference to the value.
+        return (type != ParadoxFieldType.CLOB.getType()) && (type != ParadoxFieldType.BLOB.getType())
+                && (type != ParadoxFieldType.BLOB2.getType()) && (type != ParadoxFieldType.GRAPHIC.getType());
+    }
+    
+    /**
+     * Reads the lowest or the highest value of the first primary key field, using the primary key index.
+     *
+     * @param table
+     *            the table to read.
+     * @param field
+     *            the first primary key field.
+     * @param last
+     *            true to read the highest value.
+     * @return the field value or <code>null</code> if the index can not answer.
+     * @throws SQLException
+     *             in case of read errors.
+     */
+    private FieldValue readKeyBound(final ParadoxTable table, final ParadoxField field, final boolean last)
+            throws SQLException {
+        final int block = PrimaryKeyData.getKeyBlock(this.conn, table, last);
+        if (block == 0) {
+            return null;
+        }
+        
+        byte[] data = null;
+        int recordOffset = 0;
+        try (TableCursor cursor = new TableCursor(table, Collections.<ParadoxField> emptyList(), new int[] { block })) {
+            while (cursor.next()) {
+                data = cursor.getBlockData();
+                recordOffset = cursor.getRecordOffset();
+                if (!last) {
+                    break;
+                }
+            }
+            if (data == null) {
+                return null;
+            }
+            
+            final int offset = recordOffset + table.getFieldOffset(field);
+            if (RawValues.isNull(data, offset, field.getPhysicsSize())) {
+                // Blank keys are sorted first, but are ignored by MIN and MAX.
+                return null;
+            }
+            return FieldFactory.parse(table, ByteBuffer.wrap(data, offset, field.getPhysicsSize()), field);
+        }
+    }
+    
+    /**
+     * Answers the aggregate functions without reading the table data, when possible.
+     * <p>
+     * COUNT(*) is the header row count and MIN or MAX of the first primary key field are in the first or the last
+     * data block of the primary key index.
+     *
+     * @param table
+     *            the table to read.
+     * @return the aggregated row or <code>null</code> if some function needs a table scan.
+     * @throws SQLException
+     *             in case of read errors.
+     */
+    private List<FieldValue> readMetadataRow(final ParadoxTable table) throws SQLException {
+        final List<FieldValue> row = new ArrayList<>(this.aggregates.size());
+        for (final AggregateFunction function : this.aggregates) {
+            final AbstractAggregateProcedure procedure = function.getProcedure();
+            final ParadoxField field = function.getField();
+            FieldValue value = null;
+            if ((procedure instanceof Count) && (field == null)) {
+                value = new FieldValue((long) table.getRowCount(), Types.BIGINT);
+            } else if (((procedure instanceof Min) || (procedure instanceof Max)) && this.isKeyPrefix(table, field)) {
+                value = this.readKeyBound(table, field, procedure instanceof Max);
+            }
+            if (value == null) {
+                return null;
+            }
+            row.add(value);
+        }
+        return row;
+    }
+    
+    /**
+     * Gets if the field is the first primary key field and the index order is the field value order.
+     *
+     * @param table
+     *            the table.
+     * @param field
+     *            the field.
+     * @return true if the primary key index can find the field bounds.
+     */
+    private boolean isKeyPrefix(final ParadoxTable table, final ParadoxField field) {
+        // Alpha keys are sorted by the table sort order, that may differ from the driver collation.
+        return (this.conn != null) && (table.getPrimaryFieldCount() > 0) && (field != null)
+                && (table.getFields().get(0) == field) && (field.getType() != ParadoxFieldType.VARCHAR.getType());
+    }
+    
+    /**
+     * Gets if this plan groups the rows.
+     *
+     * @return true if this plan has GROUP BY or aggregate functions.
+     */
+    private boolean isAggregate() {
+        return !this.groupFields.isEmpty() || !this.aggregates.isEmpty();
+    }
+    
+    /**
+     * Gets the index of a table column in the rows read by this plan.
+     * <p>
+     * Rows have all fields of the plan tables, in the table order.
+     *
+     * @param tableName
+     *            the table name.
+     * @param columnName
+     *            the column name.
+     * @return the column index in row.
+     * @throws SQLException
+     *             in case of column not found.
+     */
+    private int getRowIndex(final String tableName, final String columnName) throws SQLException {
+        int tableOffset = 0;
+        for (final PlanTableNode node : this.tables) {
+            final ParadoxTable table = node.getTable();
+            if (table.getName().equalsIgnoreCase(tableName)) {
+                final ParadoxField field = table.findField(columnName);
+                if (field == null) {
+                    throw new SQLException("Column '" + columnName + "' not found in table '" + table.getName(),
+                            SQLStates.INVALID_FIELD_VALUE.getValue());
+                }
+                if ((field.getOrderNum() > table.getFields().size()) || (field.getOrderNum() < 1)) {
+                    throw new SQLException("Invalid column position", SQLStates.INVALID_FIELD_VALUE.getValue());
+                }
+                return (tableOffset + field.getOrderNum()) - 1;
+            }
+            tableOffset += table.getFields().size();
+        }
+        throw new SQLException("Table '" + tableName + "' not found", SQLStates.INVALID_TABLE.getValue());
+    }
+    
+    /**
+     * Applies ORDER BY, OFFSET and LIMIT to the rows read and projects the result columns.
+     *
+     * @author Leonardo Alves da Costa
+     * @version 1.0
+     * @since 1.4
+     */
+    private final class RowCollector {
+        
+        /**
+         * The result column indexes in row.
+         */
+        private final int[] columnIndexes;
+        
+        /**
+         * The row comparator, <code>null</code> if unsorted.
+         */
+        private final Comparator<List<FieldValue>> comparator;
+        
+        /**
+         * Top N heap, if sorted with a limit.
+         */
+        private final TopNHeap heap;
+        
+        /**
+         * The rows still to skip.
+         */
+        private int skip = SelectPlan.this.offset;
+        
+        /**
+         * All rows to sort, if sorted without limit.
+         */
+        private final List<List<FieldValue>> sortBuffer;
+        
+        /**
+         * Creates a new instance.
+         *
+         * @param columnIndexes
+         *            the result column indexes in row.
+         * @param comparator
+         *            the row comparator, <code>null</code> if unsorted.
+         */
+        RowCollector(final int[] columnIndexes, final Comparator<List<FieldValue>> comparator) {
+            this.columnIndexes = columnIndexes;
+            this.comparator = comparator;
+            final int rowLimit = SelectPlan.this.getRowLimit();
+            if ((comparator != null) && (rowLimit != SelectPlan.NO_LIMIT)) {
+                // Only the first offset + limit rows can be in result.
+                final long capacity = (long) SelectPlan.this.offset + rowLimit;
+                this.heap = new TopNHeap((int) Math.min(capacity, Integer.MAX_VALUE), comparator);
+                this.sortBuffer = null;
+            } else if (comparator != null) {
+                this.heap = null;
+                this.sortBuffer = new ArrayList<>();
+            } else {
+                this.heap = null;
+                this.sortBuffer = null;
+            }
+        }
+        
+        /**
+         * Adds a row read from tables.
+         *
+         * @param row
+         *            the row to add.
+         */
+        void add(final List<FieldValue> row) {
+            if (this.heap != null) {
+                this.heap.add(row);
+            } else if (this.sortBuffer != null) {
+                this.sortBuffer.add(row);
+            } else {
+                this.emit(row);
+            }
+        }
+        
+        /**
+         * Send the sorted rows to the result.
+         *
+         * @throws SQLException
+         *             if the statement is canceled.
+         */
+        void finish() throws SQLException {
+            List<List<FieldValue>> rows = null;
+            if (this.heap != null) {
+                rows = this.heap.getRows();
+            } else if (this.sortBuffer != null) {
+                SelectPlan.this.checkCanceled();
+                Collections.sort(this.sortBuffer, this.comparator);
+                rows = this.sortBuffer;
+            }
+            if (rows != null) {
+                for (int i = 0; (i < rows.size()) && this.isOpen(); i++) {
+                    this.emit(rows.get(i));
+                }
+            }
+        }
+        
+        /**
+         * Gets if this collector still needs rows.
+         *
+         * @return true if this collector still needs rows.
+         */
+        boolean isOpen() {
+            final int rowLimit = SelectPlan.this.getRowLimit();
+            return (rowLimit == SelectPlan.NO_LIMIT) || (SelectPlan.this.values.size() < rowLimit);
+        }
+        
+        /**
+         * Sends a row to the result, if not skipped.
+         *
+         * @param row
+         *            the row to send.
+         */
+        private void emit(final List<FieldValue> row) {
+            if (this.skip > 0) {
+                this.skip--;
+                return;
+            }
+            final List<FieldValue> result = new ArrayList<>(this.columnIndexes.length);
+            for (int i = 0; i < this.columnIndexes.length; i++) {
+                FieldValue value = row.get(this.columnIndexes[i]);
+                if (value == null) {
+                    value = new FieldValue(SelectPlan.this.columns.get(i).getType());
+                }
+                result.add(value);
+            }
+            SelectPlan.this.values.add(result);
+        }
+    }
+}
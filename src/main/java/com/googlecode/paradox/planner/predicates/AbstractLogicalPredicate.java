@@ -0,0 +1,48 @@
+/*
+ * AbstractLogicalPredicate.java 10/19/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software:
+ * you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free
+ * Software Foundation, either version 3 of the License, or (at your option) any later version. This program is
+ * distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should
+ * have received a copy of the GNU General Public License along with this program. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.predicates;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Combines other predicates.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4
+ */
+abstract class AbstractLogicalPredicate extends AbstractPredicate {
+
+    /**
+     * The combined predicates.
+     */
+    protected final AbstractPredicate[] children;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param children
+     *            the predicates to combine.
+     */
+    AbstractLogicalPredicate(final List<AbstractPredicate> children) {
+        this.children = children.toArray(new AbstractPredicate[children.size()]);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public final void bind(final Object[] parameters) throws SQLException {
+        for (final AbstractPredicate child : this.children) {
+            child.bind(parameters);
+        }
+    }
+}
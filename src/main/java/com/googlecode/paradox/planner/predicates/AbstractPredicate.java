@@ -0,0 +1,61 @@
+/*
+ * AbstractPredicate.java 10/19/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.predicates;
+
+import java.sql.SQLException;
+
+/**
+ * A WHERE condition evaluated directly over the record bytes.
+ * <p>
+ * Constant values are encoded once, when the plan is created, and parameter values once per execution, so testing a
+ * record creates no objects. After binding, a predicate is not changed and can be tested by many threads.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.1
+ * @since 1.4
+ */
+public abstract class AbstractPredicate {
+
+    /**
+     * Encodes the parameter values used by this predicate.
+     *
+     * @param parameters
+     *            the parameter values, in parameter order.
+     * @throws SQLException
+     *             in case of invalid parameter values.
+     */
+    public abstract void bind(Object[] parameters) throws SQLException;
+
+    /**
+     * Lists the blocks that may have records selected by this predicate.
+     * <p>
+     * It is called on each execution, after binding. A predicate that can use an index returns the candidate blocks,
+     * so the other blocks are not read. The records of the candidate blocks are still tested.
+     *
+     * @return the candidate block numbers, sorted, or <code>null</code> if any block may have selected records.
+     * @throws SQLException
+     *             in case of I/O errors.
+     */
+    public int[] listCandidateBlocks() throws SQLException {
+        return null;
+    }
+
+    /**
+     * Tests a record.
+     *
+     * @param data
+     *            the block data.
+     * @param recordOffset
+     *            the record position in data.
+     * @return true if the record is selected.
+     * @throws SQLException
+     *             in case of I/O errors reading values stored outside the record.
+     */
+    public abstract boolean test(byte[] data, int recordOffset) throws SQLException;
+}
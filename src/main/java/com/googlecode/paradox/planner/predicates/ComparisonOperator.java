@@ -0,0 +1,115 @@
+/*
+ * ComparisonOperator.java 10/19/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.predicates;
+
+/**
+ * Comparison operators of WHERE conditions.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4
+ */
+public enum ComparisonOperator {
+
+    /**
+     * Equals (=).
+     */
+    EQUALS,
+
+    /**
+     * Greater than (&gt;).
+     */
+    GREATER,
+
+    /**
+     * Greater than or equals (&gt;=).
+     */
+    GREATER_EQUALS,
+
+    /**
+     * Less than (&lt;).
+     */
+    LESS,
+
+    /**
+     * Less than or equals (&lt;=).
+     */
+    LESS_EQUALS,
+
+    /**
+     * Not equals (&lt;&gt;).
+     */
+    NOT_EQUALS;
+
+    /**
+     * Gets if a comparison result satisfies this operator.
+     *
+     * @param result
+     *            the comparison result (negative, zero or positive).
+     * @return true if the result satisfies this operator.
+     */
+    public boolean matches(final int result) {
+        switch (this) {
+            case EQUALS:
+                return result == 0;
+            case GREATER:
+                return result > 0;
+            case GREATER_EQUALS:
+                return result >= 0;
+            case LESS:
+                return result < 0;
+            case LESS_EQUALS:
+                return result <= 0;
+            default:
+                return result != 0;
+        }
+    }
+
+    /**
+     * Gets the operator that gives the opposite result.
+     *
+     * @return the negated operator.
+     */
+    public ComparisonOperator negate() {
+        switch (this) {
+            case EQUALS:
+                return NOT_EQUALS;
+            case GREATER:
+                return LESS_EQUALS;
+            case GREATER_EQUALS:
+                return LESS;
+            case LESS:
+                return GREATER_EQUALS;
+            case LESS_EQUALS:
+                return GREATER;
+            default:
+                return EQUALS;
+        }
+    }
+
+    /**
+     * Gets the operator to use when the operands are swapped.
+     *
+     * @return the swapped operator.
+     */
+    public ComparisonOperator swap() {
+        switch (this) {
+            case GREATER:
+                return LESS;
+            case GREATER_EQUALS:
+                return LESS_EQUALS;
+            case LESS:
+                return GREATER;
+            case LESS_EQUALS:
+                return GREATER_EQUALS;
+            default:
+                return this;
+        }
+    }
+}
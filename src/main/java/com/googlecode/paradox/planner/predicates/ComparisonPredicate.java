@@ -0,0 +1,341 @@
+/*
+ * ComparisonPredicate.java 10/19/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.predicates;
+
+import com.googlecode.paradox.data.RawValues;
+import com.googlecode.paradox.metadata.ParadoxField;
+import com.googlecode.paradox.metadata.ParadoxTable;
+import com.googlecode.paradox.planner.sorting.SortKeyEncoder;
+import com.googlecode.paradox.utils.DateUtils;
+import com.googlecode.paradox.utils.SQLStates;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Locale;
+
+/**
+ * Compares a column with a constant or a parameter value.
+ * <p>
+ * Numeric columns are read as double values. The other columns are compared by their raw bytes with the value encoded
+ * in the column format: string columns use the collation of the table charset and date columns the day number. A blank
+ * column or a <code>NULL</code> value never satisfies the comparison.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.1
+ * @since 1.4
+ */
+public final class ComparisonPredicate extends AbstractPredicate {
+
+    /**
+     * Alpha field type.
+     */
+    private static final int TYPE_ALPHA = 0x01;
+
+    /**
+     * Boolean field type.
+     */
+    private static final int TYPE_BOOLEAN = 0x09;
+
+    /**
+     * Date field type.
+     */
+    private static final int TYPE_DATE = 0x02;
+
+    /**
+     * Raw value of boolean false.
+     */
+    private static final int BOOLEAN_FALSE = 0x80;
+
+    /**
+     * Raw value of boolean true.
+     */
+    private static final int BOOLEAN_TRUE = 0x81;
+
+    /**
+     * Serial day number of the first Paradox date (01/01/0001).
+     */
+    private static final long SDN_FIRST_DAY = 1_721_425L;
+
+    /**
+     * The table charset.
+     */
+    private final Charset charset;
+
+    /**
+     * The string collation (only for alpha fields).
+     */
+    private final byte[] collation;
+
+    /**
+     * The column to compare.
+     */
+    private final ParadoxField field;
+
+    /**
+     * The value encoded as string ranks (only for alpha fields).
+     */
+    private byte[] key;
+
+    /**
+     * If the value is <code>NULL</code>.
+     */
+    private boolean nullValue = true;
+
+    /**
+     * The value as number (only for numeric fields).
+     */
+    private double number;
+
+    /**
+     * The column position in record.
+     */
+    private final int offset;
+
+    /**
+     * The comparison operator (column operator value).
+     */
+    private final ComparisonOperator operator;
+
+    /**
+     * If the string value is longer than the field.
+     */
+    private boolean overflow;
+
+    /**
+     * The parameter index, zero if the value is a constant.
+     */
+    private final int parameter;
+
+    /**
+     * The value in raw format (boolean and date fields).
+     */
+    private long raw;
+
+    /**
+     * The column size.
+     */
+    private final int size;
+
+    /**
+     * The column type.
+     */
+    private final int type;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param table
+     *            the table.
+     * @param field
+     *            the column to compare.
+     * @param operator
+     *            the comparison operator.
+     * @param parameter
+     *            the parameter index, zero if the value is a constant.
+     * @throws SQLException
+     *             if the column type can not be compared.
+     */
+    public ComparisonPredicate(final ParadoxTable table, final ParadoxField field, final ComparisonOperator operator,
+            final int parameter) throws SQLException {
+        this.charset = table.getCharset();
+        this.field = field;
+        this.offset = table.getFieldOffset(field);
+        this.operator = operator;
+        this.parameter = parameter;
+        this.size = field.getSize();
+        this.type = field.getType();
+
+        if (this.type == ComparisonPredicate.TYPE_ALPHA) {
+            this.collation = SortKeyEncoder.createCollation(this.charset);
+            if (this.collation == null) {
+                throw new SQLFeatureNotSupportedException(
+                        String.format("Column '%s' charset can not be compared.", field.getName()),
+                        SQLStates.INVALID_COLUMN.getValue());
+            }
+        } else if (RawValues.isNumeric(this.type) || (this.type == ComparisonPredicate.TYPE_BOOLEAN)
+                || (this.type == ComparisonPredicate.TYPE_DATE)) {
+            this.collation = null;
+        } else {
+            throw new SQLFeatureNotSupportedException(
+                    String.format("Column '%s' type can not be compared.", field.getName()),
+                    SQLStates.INVALID_COLUMN.getValue());
+        }
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void bind(final Object[] parameters) throws SQLException {
+        if (this.parameter > 0) {
+            if ((parameters == null) || (parameters.length < this.parameter)) {
+                throw new SQLException(String.format("Parameter %d not set.", this.parameter),
+                        SQLStates.INVALID_PARAMETER.getValue());
+            }
+            this.setValue(parameters[this.parameter - 1]);
+        }
+    }
+
+    /**
+     * Sets the value to compare with.
+     *
+     * @param value
+     *            the value, <code>null</code> for <code>NULL</code>.
+     * @throws SQLException
+     *             if the value can not be converted to the column type.
+     */
+    public void setValue(final Object value) throws SQLException {
+        this.nullValue = value == null;
+        if (this.nullValue) {
+            return;
+        }
+        try {
+            if (this.type == ComparisonPredicate.TYPE_ALPHA) {
+                this.encodeString(value.toString());
+            } else if (this.type == ComparisonPredicate.TYPE_BOOLEAN) {
+                this.raw = ComparisonPredicate.BOOLEAN_FALSE;
+                if (ComparisonPredicate.toBoolean(value)) {
+                    this.raw = ComparisonPredicate.BOOLEAN_TRUE;
+                }
+            } else if (this.type == ComparisonPredicate.TYPE_DATE) {
+                this.raw = ComparisonPredicate.toDays(value);
+            } else if (value instanceof Number) {
+                this.number = ((Number) value).doubleValue();
+            } else {
+                this.number = Double.parseDouble(value.toString().trim());
+            }
+        } catch (final IllegalArgumentException | CharacterCodingException e) {
+            throw new SQLException(String.format("Invalid value '%s' for column '%s'.", value, this.field.getName()),
+                    SQLStates.INVALID_FIELD_VALUE.getValue(), e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public boolean test(final byte[] data, final int recordOffset) {
+        final int position = recordOffset + this.offset;
+        if (this.nullValue || RawValues.isNull(data, position, this.size)) {
+            return false;
+        }
+
+        final int result;
+        if (this.type == ComparisonPredicate.TYPE_ALPHA) {
+            result = this.compareString(data, position);
+        } else if (this.type == ComparisonPredicate.TYPE_BOOLEAN) {
+            result = (data[position] & 0xFF) - (int) this.raw;
+        } else if (this.type == ComparisonPredicate.TYPE_DATE) {
+            result = Long.compare(RawValues.read(data, position, 4) & 0x0FFF_FFFFL, this.raw);
+        } else {
+            final double value = RawValues.getDouble(data, position, this.type);
+            if (value < this.number) {
+                result = -1;
+            } else if (value > this.number) {
+                result = 1;
+            } else {
+                result = 0;
+            }
+        }
+        return this.operator.matches(result);
+    }
+
+    /**
+     * Compares a string column with the value, using the charset collation.
+     *
+     * @param data
+     *            the block data.
+     * @param position
+     *            the column position in data.
+     * @return the comparison result.
+     */
+    private int compareString(final byte[] data, final int position) {
+        for (int i = 0; i < this.size; i++) {
+            final int diff = (this.collation[data[position + i] & 0xFF] & 0xFF) - (this.key[i] & 0xFF);
+            if (diff != 0) {
+                return diff;
+            }
+        }
+        if (this.overflow) {
+            return -1;
+        }
+        return 0;
+    }
+
+    /**
+     * Encodes a string value as column ranks.
+     *
+     * @param value
+     *            the value to encode.
+     * @throws CharacterCodingException
+     *             if the value has chars not in the table charset.
+     */
+    private void encodeString(final String value) throws CharacterCodingException {
+        final CharsetEncoder encoder = this.charset.newEncoder();
+        final ByteBuffer bytes = encoder.encode(CharBuffer.wrap(value));
+        this.key = new byte[this.size];
+        final int length = Math.min(bytes.remaining(), this.size);
+        for (int i = 0; i < length; i++) {
+            this.key[i] = this.collation[bytes.get() & 0xFF];
+        }
+        this.overflow = bytes.hasRemaining();
+    }
+
+    /**
+     * Converts a value to boolean.
+     *
+     * @param value
+     *            the value to convert.
+     * @return the boolean value.
+     */
+    static boolean toBoolean(final Object value) {
+        if (value instanceof Boolean) {
+            return (Boolean) value;
+        } else if (value instanceof Number) {
+            return ((Number) value).doubleValue() != 0;
+        }
+        final String text = value.toString().trim().toLowerCase(Locale.US);
+        if ("true".equals(text) || "1".equals(text)) {
+            return true;
+        } else if ("false".equals(text) || "0".equals(text)) {
+            return false;
+        }
+        throw new IllegalArgumentException(text);
+    }
+
+    /**
+     * Converts a value to the Paradox day number.
+     *
+     * @param value
+     *            a date or a string in <code>yyyy-mm-dd</code> format.
+     * @return the day number.
+     */
+    static long toDays(final Object value) {
+        final Date date;
+        if (value instanceof Date) {
+            date = (Date) value;
+        } else {
+            date = java.sql.Date.valueOf(value.toString().trim());
+        }
+        final Calendar calendar = Calendar.getInstance();
+        calendar.setTime(date);
+        final long sdn = DateUtils.gregorianToSdn(calendar.get(Calendar.YEAR), calendar.get(Calendar.MONTH) + 1,
+                calendar.get(Calendar.DAY_OF_MONTH));
+        if (sdn <= 0) {
+            throw new IllegalArgumentException(value.toString());
+        }
+        return sdn - ComparisonPredicate.SDN_FIRST_DAY;
+    }
+}
@@ -0,0 +1,562 @@
+/*
+ * InPredicate.java 10/19/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.predicates;
+
+import com.googlecode.paradox.data.IndexData;
+import com.googlecode.paradox.data.PrimaryKeyData;
+import com.googlecode.paradox.data.RawValues;
+import com.googlecode.paradox.data.TableCursor;
+import com.googlecode.paradox.metadata.ParadoxField;
+import com.googlecode.paradox.metadata.ParadoxTable;
+import com.googlecode.paradox.planner.sorting.SortKeyEncoder;
+import com.googlecode.paradox.utils.SQLStates;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Tests if a column is equal to a value of a list.
+ * <p>
+ * The values are encoded once in the column format and kept in a hash table, so each row is tested with a single
+ * probe: string columns are hashed by their collation ranks, the other columns by their numeric value. If the column is
+ * the first primary key field, or the first field of a maintained secondary index, the candidate blocks are found by
+ * index lookups of each value. A blank column never satisfies the comparison and a <code>NULL</code> value in the list
+ * is never equal to the column.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4
+ */
+public final class InPredicate extends AbstractPredicate {
+
+    /**
+     * Alpha field type.
+     */
+    private static final int TYPE_ALPHA = 0x01;
+
+    /**
+     * Boolean field type.
+     */
+    private static final int TYPE_BOOLEAN = 0x09;
+
+    /**
+     * Date field type.
+     */
+    private static final int TYPE_DATE = 0x02;
+
+    /**
+     * Raw value of boolean false.
+     */
+    private static final int BOOLEAN_FALSE = 0x80;
+
+    /**
+     * Raw value of boolean true.
+     */
+    private static final int BOOLEAN_TRUE = 0x81;
+
+    /**
+     * The sign bit of a raw integer.
+     */
+    private static final long SIGN_BIT = 0x8000_0000L;
+
+    /**
+     * The table charset.
+     */
+    private final Charset charset;
+
+    /**
+     * The string collation (only for alpha fields).
+     */
+    private final byte[] collation;
+
+    /**
+     * The column to test.
+     */
+    private final ParadoxField field;
+
+    /**
+     * The hash table of the values encoded as string ranks (only for alpha fields).
+     */
+    private byte[][] keys;
+
+    /**
+     * The hash table mask.
+     */
+    private int mask;
+
+    /**
+     * If the comparison is negated (NOT IN).
+     */
+    private final boolean negate;
+
+    /**
+     * If the list has a <code>NULL</code> value.
+     */
+    private boolean nullValue;
+
+    /**
+     * The hash table of the values as numbers or raw values (other fields).
+     */
+    private long[] numbers;
+
+    /**
+     * The column position in record.
+     */
+    private final int offset;
+
+    /**
+     * The parameter index of each value, zero if the value is a constant.
+     */
+    private final int[] parameters;
+
+    /**
+     * The values in the column raw format, used as index keys.
+     */
+    private List<byte[]> rawKeys;
+
+    /**
+     * The column size.
+     */
+    private final int size;
+
+    /**
+     * The table.
+     */
+    private final ParadoxTable table;
+
+    /**
+     * The column type.
+     */
+    private final int type;
+
+    /**
+     * The used slots of the numbers hash table.
+     */
+    private boolean[] used;
+
+    /**
+     * The value list.
+     */
+    private final Object[] values;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param table
+     *            the table.
+     * @param field
+     *            the column to test.
+     * @param negate
+     *            if the comparison is negated (NOT IN).
+     * @param values
+     *            the constant values, <code>null</code> for <code>NULL</code> and parameters.
+     * @param parameters
+     *            the parameter index of each value, zero if the value is a constant.
+     * @throws SQLException
+     *             if the column type can not be compared or a value can not be converted to it.
+     */
+    public InPredicate(final ParadoxTable table, final ParadoxField field, final boolean negate,
+            final Object[] values, final int[] parameters) throws SQLException {
+        this.table = table;
+        this.charset = table.getCharset();
+        this.field = field;
+        this.negate = negate;
+        this.offset = table.getFieldOffset(field);
+        this.parameters = parameters;
+        this.size = field.getSize();
+        this.type = field.getType();
+        this.values = values;
+
+        if (this.type == InPredicate.TYPE_ALPHA) {
+            this.collation = SortKeyEncoder.createCollation(this.charset);
+            if (this.collation == null) {
+                throw new SQLFeatureNotSupportedException(
+                        String.format("Column '%s' charset can not be compared.", field.getName()),
+                        SQLStates.INVALID_COLUMN.getValue());
+            }
+        } else if (RawValues.isNumeric(this.type) || (this.type == InPredicate.TYPE_BOOLEAN)
+                || (this.type == InPredicate.TYPE_DATE)) {
+            this.collation = null;
+        } else {
+            throw new SQLFeatureNotSupportedException(
+                    String.format("Column '%s' type can not be compared.", field.getName()),
+                    SQLStates.INVALID_COLUMN.getValue());
+        }
+        this.prepare();
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void bind(final Object[] parameters) throws SQLException {
+        boolean changed = false;
+        for (int i = 0; i < this.parameters.length; i++) {
+            final int parameter = this.parameters[i];
+            if (parameter > 0) {
+                if ((parameters == null) || (parameters.length < parameter)) {
+                    throw new SQLException(String.format("Parameter %d not set.", parameter),
+                            SQLStates.INVALID_PARAMETER.getValue());
+                }
+                this.values[i] = parameters[parameter - 1];
+                changed = true;
+            }
+        }
+        if (changed) {
+            this.prepare();
+        }
+    }
+
+    /**
+     * {@inheritDoc}.
+     * <p>
+     * The candidates are found by a primary key lookup of each value. If the column is the first field of a maintained
+     * secondary index, the index records of the values give the primary keys to look up.
+     */
+    @Override
+    public int[] listCandidateBlocks() throws SQLException {
+        if (this.negate) {
+            return null;
+        } else if (this.rawKeys.isEmpty()) {
+            return new int[0];
+        } else if ((this.table.getPrimaryFieldCount() <= 0) || (this.rawKeys.size() > this.table.getTotalBlocks())) {
+            // More lookups than a table scan.
+            return null;
+        }
+
+        if (this.table.getFields().get(0) == this.field) {
+            final int[] blocks = PrimaryKeyData.listPrefixBlocks(this.table, this.rawKeys);
+            if (blocks != null) {
+                return blocks;
+            }
+        }
+        return this.listSecondaryBlocks();
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public boolean test(final byte[] data, final int recordOffset) {
+        final int position = recordOffset + this.offset;
+        if (RawValues.isNull(data, position, this.size) || (this.negate && this.nullValue)) {
+            return false;
+        }
+        return this.contains(data, position) != this.negate;
+    }
+
+    /**
+     * Lists the candidate blocks using a secondary index of the column.
+     *
+     * @return the sorted block numbers or <code>null</code> if there is no usable index.
+     * @throws SQLException
+     *             in case of I/O errors.
+     */
+    private int[] listSecondaryBlocks() throws SQLException {
+        final ParadoxTable index = IndexData.findSecondaryIndex(this.table, this.field);
+        if (index == null) {
+            return null;
+        }
+        final ParadoxField key = this.table.getFields().get(0);
+        final ParadoxField indexKey = index.findField(key.getName());
+        if ((indexKey == null) || (indexKey.getSize() != key.getSize())) {
+            return null;
+        }
+
+        final int keyOffset = index.getFieldOffset(indexKey);
+        final Set<ByteBuffer> primaryKeys = new LinkedHashSet<>();
+        try (TableCursor cursor = new TableCursor(index, Collections.<ParadoxField> emptyList(),
+                IndexData.listIndexBlocks(index, this.rawKeys))) {
+            while (cursor.next()) {
+                // The column is the first index field.
+                final byte[] data = cursor.getBlockData();
+                final int position = cursor.getRecordOffset();
+                if (!RawValues.isNull(data, position, this.size) && this.contains(data, position)) {
+                    primaryKeys.add(ByteBuffer.wrap(Arrays.copyOfRange(data, position + keyOffset,
+                            position + keyOffset + key.getSize())));
+                    if (primaryKeys.size() > this.table.getTotalBlocks()) {
+                        return null;
+                    }
+                }
+            }
+        }
+        if (primaryKeys.isEmpty()) {
+            return new int[0];
+        }
+
+        final List<byte[]> lookups = new ArrayList<>(primaryKeys.size());
+        for (final ByteBuffer primaryKey : primaryKeys) {
+            lookups.add(primaryKey.array());
+        }
+        return PrimaryKeyData.listPrefixBlocks(this.table, lookups);
+    }
+
+    /**
+     * Encodes the values in the hash table.
+     *
+     * @throws SQLException
+     *             if a value can not be converted to the column type.
+     */
+    private void prepare() throws SQLException {
+        final int capacity = Integer.highestOneBit((this.values.length * 2) | 1) << 1;
+        this.mask = capacity - 1;
+        this.nullValue = false;
+        this.rawKeys = new ArrayList<>();
+        if (this.type == InPredicate.TYPE_ALPHA) {
+            this.keys = new byte[capacity][];
+        } else {
+            this.numbers = new long[capacity];
+            this.used = new boolean[capacity];
+        }
+
+        for (final Object value : this.values) {
+            if (value == null) {
+                this.nullValue = true;
+                continue;
+            }
+            try {
+                if (this.type == InPredicate.TYPE_ALPHA) {
+                    this.addString(value.toString());
+                } else if (this.type == InPredicate.TYPE_BOOLEAN) {
+                    int raw = InPredicate.BOOLEAN_FALSE;
+                    if (ComparisonPredicate.toBoolean(value)) {
+                        raw = InPredicate.BOOLEAN_TRUE;
+                    }
+                    this.addNumber(raw);
+                    this.rawKeys.add(new byte[] { (byte) raw });
+                } else if (this.type == InPredicate.TYPE_DATE) {
+                    final long days = ComparisonPredicate.toDays(value);
+                    this.addNumber(days);
+                    this.rawKeys.add(InPredicate.toBytes(days | InPredicate.SIGN_BIT, 4));
+                } else if (value instanceof Number) {
+                    this.addDouble(((Number) value).doubleValue());
+                } else {
+                    this.addDouble(Double.parseDouble(value.toString().trim()));
+                }
+            } catch (final IllegalArgumentException | CharacterCodingException e) {
+                throw new SQLException(
+                        String.format("Invalid value '%s' for column '%s'.", value, this.field.getName()),
+                        SQLStates.INVALID_FIELD_VALUE.getValue(), e);
+            }
+        }
+    }
+
+    /**
+     * Adds a string value.
+     *
+     * @param value
+     *            the value.
+     * @throws CharacterCodingException
+     *             if the value has chars not in the table charset.
+     */
+    private void addString(final String value) throws CharacterCodingException {
+        final ByteBuffer bytes = this.charset.newEncoder().encode(CharBuffer.wrap(value));
+        if (bytes.remaining() > this.size) {
+            // Longer than the column: never equal.
+            return;
+        }
+        final byte[] raw = new byte[this.size];
+        final byte[] key = new byte[this.size];
+        final int length = bytes.remaining();
+        bytes.get(raw, 0, length);
+        for (int i = 0; i < length; i++) {
+            key[i] = this.collation[raw[i] & 0xFF];
+        }
+
+        int slot = InPredicate.hash(key) & this.mask;
+        while (this.keys[slot] != null) {
+            if (Arrays.equals(this.keys[slot], key)) {
+                return;
+            }
+            slot = (slot + 1) & this.mask;
+        }
+        this.keys[slot] = key;
+        this.rawKeys.add(raw);
+    }
+
+    /**
+     * Adds a numeric value.
+     *
+     * @param value
+     *            the value.
+     */
+    private void addDouble(final double value) {
+        if (Double.isNaN(value)) {
+            return;
+        }
+        // Adding zero turns -0.0 into 0.0.
+        final double number = value + 0.0;
+        this.addNumber(Double.doubleToLongBits(number));
+
+        if (RawValues.isInteger(this.type)) {
+            final long integer = (long) number;
+            if ((integer != number) || (integer < Integer.MIN_VALUE) || (integer > Integer.MAX_VALUE)) {
+                return;
+            } else if (this.type == RawValues.TYPE_SHORT) {
+                if ((integer >= Short.MIN_VALUE) && (integer <= Short.MAX_VALUE)) {
+                    this.rawKeys.add(InPredicate.toBytes(integer ^ 0x8000, 2));
+                }
+            } else if ((this.type == RawValues.TYPE_LONG) || ((integer >= 0) && (integer <= 0x0FFF_FFFF))) {
+                this.rawKeys.add(InPredicate.toBytes(integer ^ InPredicate.SIGN_BIT, 4));
+            }
+        } else {
+            long bits = Double.doubleToLongBits(number);
+            if (bits < 0) {
+                bits = ~bits;
+            } else {
+                bits |= Long.MIN_VALUE;
+            }
+            this.rawKeys.add(InPredicate.toBytes(bits, 8));
+        }
+    }
+
+    /**
+     * Adds a number to the hash table.
+     *
+     * @param value
+     *            the number, as raw value or double bits.
+     */
+    private void addNumber(final long value) {
+        int slot = InPredicate.hash(value) & this.mask;
+        while (this.used[slot]) {
+            if (this.numbers[slot] == value) {
+                return;
+            }
+            slot = (slot + 1) & this.mask;
+        }
+        this.used[slot] = true;
+        this.numbers[slot] = value;
+    }
+
+    /**
+     * Gets if a column value is in the hash table.
+     *
+     * @param data
+     *            the record data.
+     * @param position
+     *            the column position in data.
+     * @return true if the value is in the list.
+     */
+    private boolean contains(final byte[] data, final int position) {
+        if (this.type == InPredicate.TYPE_ALPHA) {
+            int hash = 0;
+            for (int i = 0; i < this.size; i++) {
+                hash = (hash * 0x1F) + (this.collation[data[position + i] & 0xFF] & 0xFF);
+            }
+            int slot = InPredicate.spread(hash) & this.mask;
+            while (this.keys[slot] != null) {
+                if (this.equals(this.keys[slot], data, position)) {
+                    return true;
+                }
+                slot = (slot + 1) & this.mask;
+            }
+            return false;
+        }
+
+        final long value;
+        if (this.type == InPredicate.TYPE_BOOLEAN) {
+            value = data[position] & 0xFF;
+        } else if (this.type == InPredicate.TYPE_DATE) {
+            value = RawValues.read(data, position, 4) & 0x0FFF_FFFFL;
+        } else {
+            value = Double.doubleToLongBits(RawValues.getDouble(data, position, this.type) + 0.0);
+        }
+        int slot = InPredicate.hash(value) & this.mask;
+        while (this.used[slot]) {
+            if (this.numbers[slot] == value) {
+                return true;
+            }
+            slot = (slot + 1) & this.mask;
+        }
+        return false;
+    }
+
+    /**
+     * Compares a key with a column value, by collation ranks.
+     *
+     * @param key
+     *            the key ranks.
+     * @param data
+     *            the record data.
+     * @param position
+     *            the column position in data.
+     * @return true if they are equal.
+     */
+    private boolean equals(final byte[] key, final byte[] data, final int position) {
+        for (int i = 0; i < this.size; i++) {
+            if (key[i] != this.collation[data[position + i] & 0xFF]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Hashes string ranks.
+     *
+     * @param key
+     *            the ranks.
+     * @return the hash code.
+     */
+    private static int hash(final byte[] key) {
+        int hash = 0;
+        for (final byte rank : key) {
+            hash = (hash * 0x1F) + (rank & 0xFF);
+        }
+        return InPredicate.spread(hash);
+    }
+
+    /**
+     * Hashes a number.
+     *
+     * @param value
+     *            the number.
+     * @return the hash code.
+     */
+    private static int hash(final long value) {
+        return (int) ((value * 0x9E37_79B9_7F4A_7C15L) >>> 32);
+    }
+
+    /**
+     * Spreads the high bits of a hash code to the low bits used by the table mask.
+     *
+     * @param hash
+     *            the hash code.
+     * @return the spread hash code.
+     */
+    private static int spread(final int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Converts a value to big endian bytes.
+     *
+     * @param value
+     *            the value.
+     * @param bytes
+     *            the number of bytes.
+     * @return the value bytes.
+     */
+    private static byte[] toBytes(final long value, final int bytes) {
+        final byte[] result = new byte[bytes];
+        for (int i = 0; i < bytes; i++) {
+            result[i] = (byte) (value >>> ((bytes - 1 - i) * 8));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,288 @@
+/*
+ * LikePredicate.java 10/19/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.predicates;
+
+import com.googlecode.paradox.data.MemoIndex;
+import com.googlecode.paradox.data.PrimaryKeyData;
+import com.googlecode.paradox.data.RawValues;
+import com.googlecode.paradox.data.TrigramIndex;
+import com.googlecode.paradox.metadata.BlobTable;
+import com.googlecode.paradox.metadata.ParadoxField;
+import com.googlecode.paradox.metadata.ParadoxTable;
+import com.googlecode.paradox.utils.LikeMatcher;
+import com.googlecode.paradox.utils.SQLStates;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.List;
+
+/**
+ * Tests a string or memo column with a LIKE pattern.
+ * <p>
+ * The pattern is compiled once and tested against the raw column bytes. Memos stored in the MB file are read when
+ * tested, unless the leader already decides the match. If the table keeps full-text indexes, a memo search lists only
+ * the blocks of the records with the pattern words, so the other blocks are not read. A pattern with a literal prefix
+ * on the first primary key field lists only the blocks in the index range of this prefix, and a column with a trigram
+ * index lists only the blocks of the records with the trigrams of the pattern. A blank column or a
+ * <code>NULL</code> pattern never satisfies the comparison.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.2
+ * @since 1.4
+ */
+public final class LikePredicate extends AbstractPredicate {
+
+    /**
+     * Alpha field type.
+     */
+    private static final int TYPE_ALPHA = 0x01;
+
+    /**
+     * Memo field type.
+     */
+    private static final int TYPE_MEMO = 0x0C;
+
+    /**
+     * The MB file (only for memo fields).
+     */
+    private final BlobTable blob;
+
+    /**
+     * The column to test.
+     */
+    private final ParadoxField field;
+
+    /**
+     * The memo full-text index, <code>null</code> if not opened yet.
+     */
+    private MemoIndex index;
+
+    /**
+     * The trigrams of the pattern literals.
+     */
+    private List<String> grams;
+
+    /**
+     * The trigram index, <code>null</code> if not opened yet.
+     */
+    private TrigramIndex trigrams;
+
+    /**
+     * The compiled pattern, <code>null</code> for <code>NULL</code>.
+     */
+    private LikeMatcher matcher;
+
+    /**
+     * If the comparison is negated (NOT LIKE).
+     */
+    private final boolean negate;
+
+    /**
+     * The column position in record.
+     */
+    private final int offset;
+
+    /**
+     * The parameter index, zero if the pattern is a constant.
+     */
+    private final int parameter;
+
+    /**
+     * The pattern, <code>null</code> for <code>NULL</code>.
+     */
+    private String pattern;
+
+    /**
+     * The column size (the leader size for memo fields).
+     */
+    private final int size;
+
+    /**
+     * The table.
+     */
+    private final ParadoxTable table;
+
+    /**
+     * The column type.
+     */
+    private final int type;
+
+    /**
+     * The lower case words of the pattern.
+     */
+    private List<String> words;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param table
+     *            the table.
+     * @param field
+     *            the column to test.
+     * @param negate
+     *            if the comparison is negated (NOT LIKE).
+     * @param parameter
+     *            the parameter index, zero if the pattern is a constant.
+     * @throws SQLException
+     *             if the column type can not be tested.
+     */
+    public LikePredicate(final ParadoxTable table, final ParadoxField field, final boolean negate,
+            final int parameter) throws SQLException {
+        this.table = table;
+        this.field = field;
+        this.negate = negate;
+        this.offset = table.getFieldOffset(field);
+        this.parameter = parameter;
+        this.size = field.getSize();
+        this.type = field.getType();
+
+        if (this.type == LikePredicate.TYPE_MEMO) {
+            this.blob = table.getBlobTable();
+        } else if (this.type == LikePredicate.TYPE_ALPHA) {
+            this.blob = null;
+        } else {
+            throw new SQLFeatureNotSupportedException(
+                    String.format("Column '%s' type can not be compared with LIKE.", field.getName()),
+                    SQLStates.INVALID_COLUMN.getValue());
+        }
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void bind(final Object[] parameters) throws SQLException {
+        if (this.parameter > 0) {
+            if ((parameters == null) || (parameters.length < this.parameter)) {
+                throw new SQLException(String.format("Parameter %d not set.", this.parameter),
+                        SQLStates.INVALID_PARAMETER.getValue());
+            }
+            this.setValue(parameters[this.parameter - 1]);
+        }
+    }
+
+    /**
+     * {@inheritDoc}.
+     * <p>
+     * Memo searches use the full-text index: the candidates are the records with, for each pattern word, a word
+     * that contains it. Searches in the first primary key field use the primary key range of the pattern prefix and
+     * other alpha columns use their trigram index, if any.
+     */
+    @Override
+    public int[] listCandidateBlocks() throws SQLException {
+        if (this.negate || (this.pattern == null)) {
+            return null;
+        }
+        if (this.type == LikePredicate.TYPE_ALPHA) {
+            final byte[] prefix = this.matcher.getPrefix();
+            if ((prefix != null) && (prefix.length > 0) && (this.table.getPrimaryFieldCount() > 0)
+                    && (this.table.getFields().get(0) == this.field)) {
+                final int[] blocks = PrimaryKeyData.listPrefixBlocks(this.table, prefix);
+                if (blocks != null) {
+                    return blocks;
+                }
+            }
+            if (this.grams.isEmpty() || !this.table.isTrigramIndex(this.field)) {
+                return null;
+            }
+            if ((this.trigrams == null) || !this.trigrams.isCurrent(this.table)) {
+                this.trigrams = TrigramIndex.open(this.table, this.field);
+            }
+            return this.trigrams.listBlocks(this.grams);
+        }
+        if (!this.table.isFullTextIndex()) {
+            return null;
+        }
+        if ((this.index == null) || !this.index.isCurrent(this.table)) {
+            this.index = MemoIndex.open(this.table, this.field);
+        }
+        return this.index.listBlocks(this.words);
+    }
+
+    /**
+     * Sets the pattern.
+     *
+     * @param value
+     *            the pattern, <code>null</code> for <code>NULL</code>.
+     */
+    public void setValue(final Object value) {
+        if (value == null) {
+            this.pattern = null;
+            this.matcher = null;
+        } else {
+            this.pattern = value.toString();
+            this.matcher = new LikeMatcher(this.pattern, this.table.getCharset());
+            this.words = MemoIndex.getWords(this.pattern);
+            this.grams = TrigramIndex.getGrams(this.pattern);
+        }
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public boolean test(final byte[] data, final int recordOffset) throws SQLException {
+        final int position = recordOffset + this.offset;
+        if ((this.pattern == null) || RawValues.isNull(data, position, this.size)) {
+            return false;
+        }
+
+        final boolean result;
+        if (this.type == LikePredicate.TYPE_MEMO) {
+            result = this.testMemo(data, position);
+        } else {
+            result = this.matcher.matches(data, position, this.size);
+        }
+        return result != this.negate;
+    }
+
+    /**
+     * Tests a memo, from the leader or from the MB file.
+     * <p>
+     * The MB file is not read if the leader does not start with the pattern prefix or if the leader alone satisfies a
+     * prefix pattern.
+     *
+     * @param data
+     *            the block data.
+     * @param position
+     *            the column position in data.
+     * @return true if the memo matches the pattern.
+     * @throws SQLException
+     *             in case of I/O errors.
+     */
+    private boolean testMemo(final byte[] data, final int position) throws SQLException {
+        final ByteBuffer buffer = ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN);
+        final long mbOffset = buffer.getInt(position + this.size) & 0xFFFF_FFFFL;
+        final int length = buffer.getInt(position + this.size + 4);
+        if (mbOffset == 0) {
+            // The entire memo is in the leader.
+            return this.matcher.matches(data, position, Math.min(length, this.size));
+        }
+
+        final byte[] prefix = this.matcher.getPrefix();
+        if (prefix != null) {
+            final int compared = Math.min(prefix.length, Math.min(length, this.size));
+            for (int i = 0; i < compared; i++) {
+                if (data[position + i] != prefix[i]) {
+                    return false;
+                }
+            }
+            if (this.matcher.isPrefix() && (compared == prefix.length)) {
+                return true;
+            }
+        }
+
+        final byte[] value = new byte[length];
+        if (this.blob.read(mbOffset, 0, ByteBuffer.wrap(value)) < length) {
+            throw new SQLException("Blob " + mbOffset + " truncated. Invalid mb file", SQLStates.LOAD_DATA.getValue());
+        }
+        return this.matcher.matches(value, 0, length);
+    }
+}
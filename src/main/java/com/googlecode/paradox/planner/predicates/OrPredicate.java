@@ -0,0 +1,92 @@
+/*
+ * OrPredicate.java 10/19/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.predicates;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Selects the records that satisfy any predicate.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.1
+ * @since 1.4
+ */
+public final class OrPredicate extends AbstractLogicalPredicate {
+
+    /**
+     * Creates a new instance.
+     *
+     * @param children
+     *            the predicates to combine.
+     */
+    public OrPredicate(final List<AbstractPredicate> children) {
+        super(children);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public boolean test(final byte[] data, final int recordOffset) throws SQLException {
+        for (final AbstractPredicate child : this.children) {
+            if (child.test(data, recordOffset)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}.
+     * <p>
+     * The candidates are the blocks of any child, only if all children can list them.
+     */
+    @Override
+    public int[] listCandidateBlocks() throws SQLException {
+        int[] blocks = new int[0];
+        for (final AbstractPredicate child : this.children) {
+            final int[] candidates = child.listCandidateBlocks();
+            if (candidates == null) {
+                return null;
+            }
+            blocks = OrPredicate.union(blocks, candidates);
+        }
+        return blocks;
+    }
+
+    /**
+     * Merges two sorted block lists.
+     *
+     * @param first
+     *            the first list.
+     * @param second
+     *            the second list.
+     * @return the blocks in any list.
+     */
+    private static int[] union(final int[] first, final int[] second) {
+        final int[] result = new int[first.length + second.length];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while ((i < first.length) || (j < second.length)) {
+            if ((j == second.length) || ((i < first.length) && (first[i] < second[j]))) {
+                result[count++] = first[i++];
+            } else if ((i == first.length) || (first[i] > second[j])) {
+                result[count++] = second[j++];
+            } else {
+                result[count++] = first[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+}
@@ -0,0 +1,322 @@
+/*
+ * PredicateCompiler.java 10/19/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.predicates;
+
+import com.googlecode.paradox.metadata.ParadoxField;
+import com.googlecode.paradox.metadata.ParadoxTable;
+import com.googlecode.paradox.parser.nodes.FieldNode;
+import com.googlecode.paradox.parser.nodes.SQLNode;
+import com.googlecode.paradox.parser.nodes.comparisons.AbstractComparisonNode;
+import com.googlecode.paradox.parser.nodes.comparisons.BetweenNode;
+import com.googlecode.paradox.parser.nodes.comparisons.EqualsNode;
+import com.googlecode.paradox.parser.nodes.comparisons.GreaterThanNode;
+import com.googlecode.paradox.parser.nodes.comparisons.InNode;
+import com.googlecode.paradox.parser.nodes.comparisons.LessThanNode;
+import com.googlecode.paradox.parser.nodes.comparisons.LikeNode;
+import com.googlecode.paradox.parser.nodes.comparisons.NotEqualsNode;
+import com.googlecode.paradox.parser.nodes.conditional.ANDNode;
+import com.googlecode.paradox.parser.nodes.conditional.NOTNode;
+import com.googlecode.paradox.parser.nodes.conditional.ORNode;
+import com.googlecode.paradox.parser.nodes.conditional.XORNode;
+import com.googlecode.paradox.parser.nodes.values.NullNode;
+import com.googlecode.paradox.parser.nodes.values.ParameterNode;
+import com.googlecode.paradox.utils.SQLStates;
+import com.googlecode.paradox.utils.Utils;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compiles the WHERE conditions of a single table into a predicate.
+ * <p>
+ * The parser keeps the conditions as a flat list with the logical operators between them. AND has the highest
+ * precedence, then XOR and then OR. A NOT is applied to the comparison operator, so a blank column never satisfies a
+ * negated comparison either.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.3
+ * @since 1.4
+ */
+public final class PredicateCompiler {
+
+    /**
+     * The logical operators, from the lowest precedence.
+     */
+    private static final Class<?>[] OPERATORS = { ORNode.class, XORNode.class, ANDNode.class };
+
+    /**
+     * Utility class.
+     */
+    private PredicateCompiler() {
+        // Utility class.
+    }
+
+    /**
+     * Compiles the WHERE conditions.
+     *
+     * @param table
+     *            the table read.
+     * @param alias
+     *            the table alias.
+     * @param conditions
+     *            the condition list.
+     * @return the predicate.
+     * @throws SQLException
+     *             in case of invalid or not supported conditions.
+     */
+    public static AbstractPredicate compile(final ParadoxTable table, final String alias,
+            final List<SQLNode> conditions) throws SQLException {
+        return PredicateCompiler.compile(table, alias, conditions, 0);
+    }
+
+    /**
+     * Compiles the conditions split by the operator of a precedence level.
+     *
+     * @param table
+     *            the table read.
+     * @param alias
+     *            the table alias.
+     * @param conditions
+     *            the condition list.
+     * @param level
+     *            the operator level in {@link #OPERATORS}.
+     * @return the predicate.
+     * @throws SQLException
+     *             in case of invalid or not supported conditions.
+     */
+    private static AbstractPredicate compile(final ParadoxTable table, final String alias,
+            final List<SQLNode> conditions, final int level) throws SQLException {
+        if (level == PredicateCompiler.OPERATORS.length) {
+            if (conditions.size() != 1) {
+                throw new SQLException("Logical operator expected.", SQLStates.INVALID_SQL.getValue());
+            }
+            return PredicateCompiler.compileCondition(table, alias, conditions.get(0), false);
+        }
+
+        final List<AbstractPredicate> children = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i <= conditions.size(); i++) {
+            if ((i == conditions.size()) || PredicateCompiler.OPERATORS[level].isInstance(conditions.get(i))) {
+                if (i == start) {
+                    throw new SQLException("Condition expected.", SQLStates.INVALID_SQL.getValue());
+                }
+                children.add(PredicateCompiler.compile(table, alias, conditions.subList(start, i), level + 1));
+                start = i + 1;
+            }
+        }
+
+        if (children.size() == 1) {
+            return children.get(0);
+        } else if (level == 0) {
+            return new OrPredicate(children);
+        } else if (level == 1) {
+            return new XorPredicate(children);
+        }
+        return new AndPredicate(children);
+    }
+
+    /**
+     * Compiles a single condition.
+     *
+     * @param table
+     *            the table read.
+     * @param alias
+     *            the table alias.
+     * @param condition
+     *            the condition.
+     * @param negate
+     *            if the condition is negated.
+     * @return the predicate.
+     * @throws SQLException
+     *             in case of invalid or not supported conditions.
+     */
+    private static AbstractPredicate compileCondition(final ParadoxTable table, final String alias,
+            final SQLNode condition, final boolean negate) throws SQLException {
+        if (condition instanceof NOTNode) {
+            return PredicateCompiler.compileCondition(table, alias, condition.getChildhood().iterator().next(),
+                    !negate);
+        } else if (condition instanceof BetweenNode) {
+            final BetweenNode between = (BetweenNode) condition;
+            final ParadoxField field = PredicateCompiler.getField(table, alias, between.getField());
+            if (negate) {
+                return new OrPredicate(Arrays.asList(
+                        PredicateCompiler.compare(table, field, ComparisonOperator.LESS, between.getFirst()),
+                        PredicateCompiler.compare(table, field, ComparisonOperator.GREATER, between.getLast())));
+            }
+            return new AndPredicate(Arrays.asList(
+                    PredicateCompiler.compare(table, field, ComparisonOperator.GREATER_EQUALS, between.getFirst()),
+                    PredicateCompiler.compare(table, field, ComparisonOperator.LESS_EQUALS, between.getLast())));
+        } else if (condition instanceof LikeNode) {
+            return PredicateCompiler.like(table, alias, (LikeNode) condition, negate);
+        } else if (condition instanceof InNode) {
+            return PredicateCompiler.in(table, alias, (InNode) condition, negate);
+        }
+
+        ComparisonOperator operator;
+        if (condition instanceof EqualsNode) {
+            operator = ComparisonOperator.EQUALS;
+        } else if (condition instanceof NotEqualsNode) {
+            operator = ComparisonOperator.NOT_EQUALS;
+        } else if (condition instanceof LessThanNode) {
+            operator = ComparisonOperator.LESS;
+        } else if (condition instanceof GreaterThanNode) {
+            operator = ComparisonOperator.GREATER;
+        } else {
+            throw new SQLFeatureNotSupportedException(String.format("Unsupported condition: %s", condition),
+                    SQLStates.INVALID_SQL.getValue());
+        }
+        if (negate) {
+            operator = operator.negate();
+        }
+
+        final AbstractComparisonNode comparison = (AbstractComparisonNode) condition;
+        if ((comparison.getFirst() instanceof FieldNode) && !(comparison.getLast() instanceof FieldNode)) {
+            final ParadoxField field = PredicateCompiler.getField(table, alias, (FieldNode) comparison.getFirst());
+            return PredicateCompiler.compare(table, field, operator, comparison.getLast());
+        } else if ((comparison.getLast() instanceof FieldNode) && !(comparison.getFirst() instanceof FieldNode)) {
+            final ParadoxField field = PredicateCompiler.getField(table, alias, (FieldNode) comparison.getLast());
+            return PredicateCompiler.compare(table, field, operator.swap(), comparison.getFirst());
+        }
+        throw new SQLFeatureNotSupportedException(
+                String.format("Conditions must compare a column with a value: %s", condition),
+                SQLStates.INVALID_SQL.getValue());
+    }
+
+    /**
+     * Creates the comparison of a column with a value.
+     *
+     * @param table
+     *            the table read.
+     * @param field
+     *            the column.
+     * @param operator
+     *            the comparison operator.
+     * @param value
+     *            the value node (a literal, <code>NULL</code> or a parameter marker).
+     * @return the predicate.
+     * @throws SQLException
+     *             in case of invalid values.
+     */
+    private static AbstractPredicate compare(final ParadoxTable table, final ParadoxField field,
+            final ComparisonOperator operator, final SQLNode value) throws SQLException {
+        if (value instanceof ParameterNode) {
+            return new ComparisonPredicate(table, field, operator, ((ParameterNode) value).getIndex());
+        } else if (value instanceof FieldNode) {
+            throw new SQLFeatureNotSupportedException(
+                    String.format("Column '%s' can not be compared with other column.", field.getName()),
+                    SQLStates.INVALID_SQL.getValue());
+        }
+        final ComparisonPredicate predicate = new ComparisonPredicate(table, field, operator, 0);
+        if (!(value instanceof NullNode)) {
+            predicate.setValue(value.getName());
+        }
+        return predicate;
+    }
+
+    /**
+     * Creates the LIKE test of a column.
+     *
+     * @param table
+     *            the table read.
+     * @param alias
+     *            the table alias.
+     * @param like
+     *            the LIKE node.
+     * @param negate
+     *            if the condition is negated.
+     * @return the predicate.
+     * @throws SQLException
+     *             in case of invalid or not supported conditions.
+     */
+    private static AbstractPredicate like(final ParadoxTable table, final String alias, final LikeNode like,
+            final boolean negate) throws SQLException {
+        if (!(like.getFirst() instanceof FieldNode) || (like.getLast() instanceof FieldNode)) {
+            throw new SQLFeatureNotSupportedException(
+                    String.format("LIKE must compare a column with a pattern: %s", like),
+                    SQLStates.INVALID_SQL.getValue());
+        }
+        final ParadoxField field = PredicateCompiler.getField(table, alias, (FieldNode) like.getFirst());
+        if (like.getLast() instanceof ParameterNode) {
+            return new LikePredicate(table, field, negate, ((ParameterNode) like.getLast()).getIndex());
+        }
+        final LikePredicate predicate = new LikePredicate(table, field, negate, 0);
+        if (!(like.getLast() instanceof NullNode)) {
+            predicate.setValue(like.getLast().getName());
+        }
+        return predicate;
+    }
+
+    /**
+     * Creates the IN test of a column.
+     *
+     * @param table
+     *            the table read.
+     * @param alias
+     *            the table alias.
+     * @param in
+     *            the IN node.
+     * @param negate
+     *            if the condition is negated.
+     * @return the predicate.
+     * @throws SQLException
+     *             in case of invalid or not supported conditions.
+     */
+    private static AbstractPredicate in(final ParadoxTable table, final String alias, final InNode in,
+            final boolean negate) throws SQLException {
+        final ParadoxField field = PredicateCompiler.getField(table, alias, in.getField());
+        final List<SQLNode> nodes = in.getValues();
+        final Object[] values = new Object[nodes.size()];
+        final int[] parameters = new int[nodes.size()];
+        for (int i = 0; i < values.length; i++) {
+            final SQLNode value = nodes.get(i);
+            if (value instanceof ParameterNode) {
+                parameters[i] = ((ParameterNode) value).getIndex();
+            } else if (value instanceof FieldNode) {
+                throw new SQLFeatureNotSupportedException(
+                        String.format("Column '%s' can not be compared with other column.", field.getName()),
+                        SQLStates.INVALID_SQL.getValue());
+            } else if (!(value instanceof NullNode)) {
+                values[i] = value.getName();
+            }
+        }
+        return new InPredicate(table, field, negate, values, parameters);
+    }
+
+    /**
+     * Finds a column of the table.
+     * <p>
+     * The column can be qualified by the table alias or, if the table has no alias, by the table name.
+     *
+     * @param table
+     *            the table read.
+     * @param alias
+     *            the table alias (<code>null</code> if the table has no alias).
+     * @param node
+     *            the column node.
+     * @return the column.
+     * @throws SQLException
+     *             if the column does not exist.
+     */
+    private static ParadoxField getField(final ParadoxTable table, final String alias, final FieldNode node)
+            throws SQLException {
+        final String tableName = node.getTableName();
+        if ((tableName == null) || tableName.equalsIgnoreCase(alias)
+                || ((alias == null) && (tableName.equalsIgnoreCase(table.getName())
+                        || tableName.equalsIgnoreCase(Utils.removeDb(table.getFile().getName()))))) {
+            for (final ParadoxField field : table.getFields()) {
+                if (field.getName().equalsIgnoreCase(node.getName())) {
+                    return field;
+                }
+            }
+        }
+        throw new SQLException(String.format("Invalid column name: '%s'", node), SQLStates.INVALID_COLUMN.getValue());
+    }
+}
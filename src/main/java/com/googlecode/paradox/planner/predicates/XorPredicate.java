@@ -0,0 +1,44 @@
+/*
+ * XorPredicate.java 10/19/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.predicates;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Selects the records that satisfy an odd number of predicates.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.1
+ * @since 1.4
+ */
+public final class XorPredicate extends AbstractLogicalPredicate {
+
+    /**
+     * Creates a new instance.
+     *
+     * @param children
+     *            the predicates to combine.
+     */
+    public XorPredicate(final List<AbstractPredicate> children) {
+        super(children);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public boolean test(final byte[] data, final int recordOffset) throws SQLException {
+        boolean result = false;
+        for (final AbstractPredicate child : this.children) {
+            result ^= child.test(data, recordOffset);
+        }
+        return result;
+    }
+}
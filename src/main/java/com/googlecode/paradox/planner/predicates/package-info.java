@@ -0,0 +1,6 @@
+/**
+ * Package for the WHERE predicates evaluated over the raw records.
+ *
+ * @since 1.4
+ */
+package com.googlecode.paradox.planner.predicates;
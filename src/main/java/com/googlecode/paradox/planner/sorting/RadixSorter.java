@@ -0,0 +1,237 @@
+/*
+ * RadixSorter.java 10/19/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.sorting;
+
+import com.googlecode.paradox.data.table.value.FieldValue;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Sorts rows by fixed width byte keys using a stable MSD radix sort.
+ * <p>
+ * Keys are packed in a single byte array, so sorting does not compare decoded values.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4
+ */
+public final class RadixSorter {
+
+    /**
+     * Buckets smaller than this are sorted by insertion.
+     */
+    private static final int INSERTION_THRESHOLD = 32;
+
+    /**
+     * The packed keys.
+     */
+    private byte[] arena;
+
+    /**
+     * The key encoder.
+     */
+    private final SortKeyEncoder encoder;
+
+    /**
+     * The key width.
+     */
+    private final int keyWidth;
+
+    /**
+     * The rows to sort.
+     */
+    private final List<List<FieldValue>> rows = new ArrayList<>();
+
+    /**
+     * Creates a new instance.
+     *
+     * @param encoder
+     *            the key encoder.
+     */
+    public RadixSorter(final SortKeyEncoder encoder) {
+        this.encoder = encoder;
+        this.keyWidth = encoder.getKeyWidth();
+        this.arena = new byte[Math.max(1, this.keyWidth) * 64];
+    }
+
+    /**
+     * Compares two keys from a given byte.
+     *
+     * @param arena
+     *            the packed keys.
+     * @param width
+     *            the key width.
+     * @param first
+     *            the first key index.
+     * @param second
+     *            the second key index.
+     * @param depth
+     *            the first byte to compare.
+     * @return the comparison result.
+     */
+    private static int compareKeys(final byte[] arena, final int width, final int first, final int second,
+            final int depth) {
+        final int a = first * width;
+        final int b = second * width;
+        for (int i = depth; i < width; i++) {
+            final int diff = (arena[a + i] & 0xFF) - (arena[b + i] & 0xFF);
+            if (diff != 0) {
+                return diff;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Sorts the key indexes by insertion (stable).
+     *
+     * @param arena
+     *            the packed keys.
+     * @param width
+     *            the key width.
+     * @param index
+     *            the key indexes.
+     * @param start
+     *            the first index position.
+     * @param end
+     *            the last index position (exclusive).
+     * @param depth
+     *            the first byte to compare.
+     */
+    private static void insertionSort(final byte[] arena, final int width, final int[] index, final int start,
+            final int end, final int depth) {
+        for (int i = start + 1; i < end; i++) {
+            final int current = index[i];
+            int j = i - 1;
+            while ((j >= start) && (RadixSorter.compareKeys(arena, width, index[j], current, depth) > 0)) {
+                index[j + 1] = index[j];
+                j--;
+            }
+            index[j + 1] = current;
+        }
+    }
+
+    /**
+     * Sorts packed keys.
+     *
+     * @param arena
+     *            the packed keys.
+     * @param width
+     *            the key width.
+     * @param count
+     *            the key count.
+     * @return the key indexes in sorted order.
+     */
+    public static int[] sort(final byte[] arena, final int width, final int count) {
+        final int[] index = new int[count];
+        for (int i = 0; i < count; i++) {
+            index[i] = i;
+        }
+        if (width > 0) {
+            RadixSorter.sort(arena, width, index, new int[count], 0, count, 0);
+        }
+        return index;
+    }
+
+    /**
+     * Sorts a bucket of key indexes from a given byte.
+     *
+     * @param arena
+     *            the packed keys.
+     * @param width
+     *            the key width.
+     * @param index
+     *            the key indexes.
+     * @param temp
+     *            temporary index buffer.
+     * @param start
+     *            the first index position.
+     * @param end
+     *            the last index position (exclusive).
+     * @param depth
+     *            the byte to distribute by.
+     */
+    private static void sort(final byte[] arena, final int width, final int[] index, final int[] temp,
+            final int start, final int end, final int depth) {
+        int currentDepth = depth;
+        while ((end - start) > 1) {
+            if ((end - start) < RadixSorter.INSERTION_THRESHOLD) {
+                RadixSorter.insertionSort(arena, width, index, start, end, currentDepth);
+                return;
+            }
+            if (currentDepth >= width) {
+                return;
+            }
+
+            final int[] counts = new int[257];
+            for (int i = start; i < end; i++) {
+                counts[(arena[(index[i] * width) + currentDepth] & 0xFF) + 1]++;
+            }
+
+            // All keys with the same byte: go to the next byte without distributing.
+            if (counts[(arena[(index[start] * width) + currentDepth] & 0xFF) + 1] == (end - start)) {
+                currentDepth++;
+                continue;
+            }
+
+            for (int i = 1; i < 257; i++) {
+                counts[i] += counts[i - 1];
+            }
+            final int[] bucketStart = Arrays.copyOf(counts, 256);
+            for (int i = start; i < end; i++) {
+                final int value = arena[(index[i] * width) + currentDepth] & 0xFF;
+                temp[start + counts[value]++] = index[i];
+            }
+            System.arraycopy(temp, start, index, start, end - start);
+
+            for (int i = 0; i < 256; i++) {
+                final int bucketEnd = (i < 255) ? bucketStart[i + 1] : (end - start);
+                if ((bucketEnd - bucketStart[i]) > 1) {
+                    RadixSorter.sort(arena, width, index, temp, start + bucketStart[i], start + bucketEnd,
+                            currentDepth + 1);
+                }
+            }
+            return;
+        }
+    }
+
+    /**
+     * Adds a row to sort.
+     *
+     * @param row
+     *            the row values.
+     * @param data
+     *            the block data with the row record.
+     * @param recordOffset
+     *            the record position in block data.
+     */
+    public void add(final List<FieldValue> row, final byte[] data, final int recordOffset) {
+        final int position = this.rows.size() * this.keyWidth;
+        if ((position + this.keyWidth) > this.arena.length) {
+            this.arena = Arrays.copyOf(this.arena, Math.max(this.arena.length * 2, position + this.keyWidth));
+        }
+        this.encoder.encode(data, recordOffset, this.arena, position);
+        this.rows.add(row);
+    }
+
+    /**
+     * Gets the rows in key order.
+     *
+     * @return the sorted rows.
+     */
+    public List<List<FieldValue>> getRows() {
+        final int[] order = RadixSorter.sort(this.arena, this.keyWidth, this.rows.size());
+        final List<List<FieldValue>> sorted = new ArrayList<>(order.length);
+        for (final int i : order) {
+            sorted.add(this.rows.get(i));
+        }
+        return sorted;
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * RowComparator.java 10/19/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.sorting;
+
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.parser.nodes.OrderType;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Compares rows by the ORDER BY columns.
+ * <p>
+ * NULL values are lower than any other value.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4
+ */
+public final class RowComparator implements Comparator<List<FieldValue>> {
+
+    /**
+     * The column indexes in row to compare.
+     */
+    private final int[] indexes;
+
+    /**
+     * The order direction of each column.
+     */
+    private final OrderType[] types;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param indexes
+     *            the column indexes in row to compare.
+     * @param types
+     *            the order direction of each column.
+     */
+    public RowComparator(final int[] indexes, final OrderType[] types) {
+        this.indexes = indexes.clone();
+        this.types = types.clone();
+    }
+
+    /**
+     * Compares two field values.
+     *
+     * @param first
+     *            the first value.
+     * @param second
+     *            the second value.
+     * @return the comparison result.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    static int compareValues(final FieldValue first, final FieldValue second) {
+        final Object a = (first == null) ? null : first.getValue();
+        final Object b = (second == null) ? null : second.getValue();
+        if (a == null) {
+            return (b == null) ? 0 : -1;
+        } else if (b == null) {
+            return 1;
+        }
+
+        if ((a instanceof Number) && (b instanceof Number) && (a.getClass() != b.getClass())) {
+            return Double.compare(((Number) a).doubleValue(), ((Number) b).doubleValue());
+        } else if ((a instanceof Date) && (b instanceof Date)) {
+            final long diff = ((Date) a).getTime() - ((Date) b).getTime();
+            return (diff < 0) ? -1 : ((diff > 0) ? 1 : 0);
+        } else if ((a instanceof Comparable) && (a.getClass() == b.getClass())) {
+            return ((Comparable) a).compareTo(b);
+        }
+        return a.toString().compareTo(b.toString());
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public int compare(final List<FieldValue> first, final List<FieldValue> second) {
+        for (int i = 0; i < this.indexes.length; i++) {
+            int result = RowComparator.compareValues(first.get(this.indexes[i]), second.get(this.indexes[i]));
+            if (result != 0) {
+                if (this.types[i] == OrderType.DESC) {
+                    result = -result;
+                }
+                return result;
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,399 @@
+/*
+ * SortKeyEncoder.java 10/19/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.sorting;
+
+import com.googlecode.paradox.metadata.ParadoxField;
+import com.googlecode.paradox.metadata.ParadoxTable;
+import com.googlecode.paradox.parser.nodes.OrderType;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Builds byte comparable sort keys from the table records.
+ * <p>
+ * The keys are compared as unsigned bytes and give the same order as {@link RowComparator} over the decoded values.
+ * Integer, long, date and auto increment fields are already stored in a comparable format; numbers and times need a
+ * small transformation and strings are mapped to the collation rank of each character.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.2
+ * @since 1.4
+ */
+public final class SortKeyEncoder {
+
+    /**
+     * Alpha field type.
+     */
+    private static final int TYPE_ALPHA = 0x01;
+
+    /**
+     * Auto increment field type.
+     */
+    private static final int TYPE_AUTO_INCREMENT = 0x16;
+
+    /**
+     * Boolean field type.
+     */
+    private static final int TYPE_BOOLEAN = 0x09;
+
+    /**
+     * Currency field type.
+     */
+    private static final int TYPE_CURRENCY = 0x05;
+
+    /**
+     * Date field type.
+     */
+    private static final int TYPE_DATE = 0x02;
+
+    /**
+     * Long field type.
+     */
+    private static final int TYPE_LONG = 0x04;
+
+    /**
+     * Number field type.
+     */
+    private static final int TYPE_NUMBER = 0x06;
+
+    /**
+     * Short field type.
+     */
+    private static final int TYPE_SHORT = 0x03;
+
+    /**
+     * Time field type.
+     */
+    private static final int TYPE_TIME = 0x14;
+
+    /**
+     * Collation rank of each byte, for string fields.
+     */
+    private final byte[] collation;
+
+    /**
+     * If the column is in descending order.
+     */
+    private final boolean[] descending;
+
+    /**
+     * The total key width.
+     */
+    private final int keyWidth;
+
+    /**
+     * The field offsets in record.
+     */
+    private final int[] offsets;
+
+    /**
+     * The field sizes in record.
+     */
+    private final int[] sizes;
+
+    /**
+     * The field types.
+     */
+    private final int[] types;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param fields
+     *            the ORDER BY fields.
+     * @param offsets
+     *            the field offsets in record.
+     * @param orderTypes
+     *            the ORDER BY directions.
+     * @param collation
+     *            the collation rank of each byte.
+     */
+    private SortKeyEncoder(final List<ParadoxField> fields, final int[] offsets, final List<OrderType> orderTypes,
+            final byte[] collation) {
+        this.collation = collation;
+        this.descending = new boolean[fields.size()];
+        this.offsets = offsets;
+        this.sizes = new int[fields.size()];
+        this.types = new int[fields.size()];
+        int width = 0;
+        for (int i = 0; i < fields.size(); i++) {
+            final ParadoxField field = fields.get(i);
+            this.descending[i] = orderTypes.get(i) == OrderType.DESC;
+            this.sizes[i] = field.getSize();
+            this.types[i] = field.getType();
+            width += SortKeyEncoder.getKeySize(this.types[i], this.sizes[i]);
+        }
+        this.keyWidth = width;
+    }
+
+    /**
+     * Creates a key encoder for the ORDER BY fields.
+     *
+     * @param table
+     *            the table to read.
+     * @param fields
+     *            the ORDER BY fields.
+     * @param orderTypes
+     *            the ORDER BY directions.
+     * @return the key encoder or <code>null</code> if some field has no byte comparable format.
+     */
+    public static SortKeyEncoder create(final ParadoxTable table, final List<ParadoxField> fields,
+            final List<OrderType> orderTypes) {
+        final int[] offsets = new int[fields.size()];
+        for (int i = 0; i < offsets.length; i++) {
+            offsets[i] = table.getFieldOffset(fields.get(i));
+        }
+        return SortKeyEncoder.create(fields, offsets, orderTypes, table.getCharset());
+    }
+    
+    /**
+     * Creates an ascending key encoder for a single field value.
+     * <p>
+     * The field value is expected at the position given to {@link #encode(byte[], int, byte[], int)}.
+     *
+     * @param field
+     *            the field to encode.
+     * @param charset
+     *            the field charset.
+     * @return the key encoder or <code>null</code> if the field has no byte comparable format.
+     */
+    public static SortKeyEncoder create(final ParadoxField field, final Charset charset) {
+        return SortKeyEncoder.create(Collections.singletonList(field), new int[1],
+                Collections.singletonList(OrderType.ASC), charset);
+    }
+    
+    /**
+     * Creates a key encoder for fields in given offsets.
+     *
+     * @param fields
+     *            the fields to encode.
+     * @param offsets
+     *            the field offsets in record.
+     * @param orderTypes
+     *            the field directions.
+     * @param charset
+     *            the string charset.
+     * @return the key encoder or <code>null</code> if some field has no byte comparable format.
+     */
+    private static SortKeyEncoder create(final List<ParadoxField> fields, final int[] offsets,
+            final List<OrderType> orderTypes, final Charset charset) {
+        boolean hasString = false;
+        for (final ParadoxField field : fields) {
+            if (SortKeyEncoder.getKeySize(field.getType(), field.getSize()) < 0) {
+                return null;
+            }
+            hasString |= field.getType() == SortKeyEncoder.TYPE_ALPHA;
+        }
+
+        byte[] collation = null;
+        if (hasString) {
+            collation = SortKeyEncoder.createCollation(charset);
+            if (collation == null) {
+                return null;
+            }
+        }
+        return new SortKeyEncoder(fields, offsets, orderTypes, collation);
+    }
+
+    /**
+     * Creates the collation rank table for a single byte charset.
+     * <p>
+     * Byte zero (the string padding) is always the lowest rank, so shorter strings come first as in
+     * {@link String#compareTo(String)}.
+     *
+     * @param charset
+     *            the table charset.
+     * @return the rank of each byte or <code>null</code> if the charset is not single byte.
+     */
+    public static byte[] createCollation(final Charset charset) {
+        final char[] chars = new char[256];
+        final Integer[] order = new Integer[256];
+        for (int i = 0; i < 256; i++) {
+            final String value = charset.decode(ByteBuffer.wrap(new byte[] { (byte) i })).toString();
+            if (value.length() != 1) {
+                return null;
+            }
+            chars[i] = value.charAt(0);
+            order[i] = i;
+        }
+        Arrays.sort(order, 1, 256, new Comparator<Integer>() {
+            @Override
+            public int compare(final Integer first, final Integer second) {
+                return Character.compare(chars[first], chars[second]);
+            }
+        });
+
+        final byte[] collation = new byte[256];
+        int rank = 0;
+        for (int i = 1; i < 256; i++) {
+            if ((i == 1) || (chars[order[i]] != chars[order[i - 1]])) {
+                rank++;
+            }
+            collation[order[i]] = (byte) rank;
+        }
+        return collation;
+    }
+
+    /**
+     * Gets the key size of a field.
+     *
+     * @param type
+     *            the field type.
+     * @param size
+     *            the field size.
+     * @return the key size or -1 if the field has no byte comparable format.
+     */
+    private static int getKeySize(final int type, final int size) {
+        switch (type) {
+            case TYPE_ALPHA:
+                return size;
+            case TYPE_BOOLEAN:
+                return 1;
+            case TYPE_SHORT:
+                return 2;
+            case TYPE_AUTO_INCREMENT:
+            case TYPE_DATE:
+            case TYPE_LONG:
+                return 4;
+            case TYPE_TIME:
+                // Null flag and value.
+                return 5;
+            case TYPE_CURRENCY:
+            case TYPE_NUMBER:
+                return 8;
+            default:
+                return -1;
+        }
+    }
+
+    /**
+     * Writes a big endian value in key.
+     *
+     * @param value
+     *            the value to write.
+     * @param bytes
+     *            the value size.
+     * @param key
+     *            the key buffer.
+     * @param position
+     *            the key position.
+     */
+    private static void putValue(final long value, final int bytes, final byte[] key, final int position) {
+        for (int i = 0; i < bytes; i++) {
+            key[position + i] = (byte) (value >>> ((bytes - i - 1) * 8));
+        }
+    }
+
+    /**
+     * Reads a big endian value from record.
+     *
+     * @param data
+     *            the record data.
+     * @param position
+     *            the value position.
+     * @param bytes
+     *            the value size.
+     * @return the value read.
+     */
+    private static long readValue(final byte[] data, final int position, final int bytes) {
+        long value = 0;
+        for (int i = 0; i < bytes; i++) {
+            value = (value << 8) | (data[position + i] & 0xFF);
+        }
+        return value;
+    }
+
+    /**
+     * Writes the record key.
+     *
+     * @param data
+     *            the block data.
+     * @param recordOffset
+     *            the record position in block data.
+     * @param key
+     *            the key buffer.
+     * @param keyOffset
+     *            the key position in buffer.
+     */
+    public void encode(final byte[] data, final int recordOffset, final byte[] key, final int keyOffset) {
+        int position = keyOffset;
+        for (int i = 0; i < this.types.length; i++) {
+            final int start = position;
+            final int offset = recordOffset + this.offsets[i];
+            switch (this.types[i]) {
+                case TYPE_ALPHA:
+                    for (int c = 0; c < this.sizes[i]; c++) {
+                        key[position++] = this.collation[data[offset + c] & 0xFF];
+                    }
+                    break;
+                case TYPE_AUTO_INCREMENT:
+                case TYPE_DATE:
+                    // Only the lower 28 bits are used.
+                    System.arraycopy(data, offset, key, position, 4);
+                    key[position] &= 0x0F;
+                    position += 4;
+                    break;
+                case TYPE_TIME:
+                    // Same sign handling of time values decoding.
+                    final int time = (data[offset] << 24) | (data[offset + 1] << 16) | (data[offset + 2] << 8)
+                            | data[offset + 3];
+                    if (time == 0) {
+                        SortKeyEncoder.putValue(0, 5, key, position);
+                    } else {
+                        key[position] = 1;
+                        SortKeyEncoder.putValue(time ^ 0x8000_0000L, 4, key, position + 1);
+                    }
+                    position += 5;
+                    break;
+                case TYPE_CURRENCY:
+                case TYPE_NUMBER:
+                    long bits = SortKeyEncoder.readValue(data, offset, 8);
+                    if ((bits >>> 63) == 1) {
+                        bits &= 0x7FFF_FFFF_FFFF_FFFFL;
+                    } else {
+                        bits = ~bits;
+                    }
+                    // Same order of Double.compare.
+                    bits = Double.doubleToLongBits(Double.longBitsToDouble(bits));
+                    if (bits < 0) {
+                        bits = ~bits;
+                    } else {
+                        bits |= 0x8000_0000_0000_0000L;
+                    }
+                    SortKeyEncoder.putValue(bits, 8, key, position);
+                    position += 8;
+                    break;
+                default:
+                    // Boolean, short and long values are already comparable.
+                    System.arraycopy(data, offset, key, position, this.sizes[i]);
+                    position += this.sizes[i];
+                    break;
+            }
+
+            if (this.descending[i]) {
+                for (int p = start; p < position; p++) {
+                    key[p] = (byte) ~key[p];
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the key width.
+     *
+     * @return the key width.
+     */
+    public int getKeyWidth() {
+        return this.keyWidth;
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * TopNHeap.java 10/19/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.sorting;
+
+import com.googlecode.paradox.data.table.value.FieldValue;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Bounded heap that keeps only the first N rows in ORDER BY order.
+ * <p>
+ * The heap root is the worst row kept, so each new row costs one comparison when it does not qualify. Rows with the
+ * same sort key keep their reading order, as a stable sort would do.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4
+ */
+public final class TopNHeap {
+
+    /**
+     * The maximum rows to keep.
+     */
+    private final int capacity;
+
+    /**
+     * The row comparator (ORDER BY order).
+     */
+    private final Comparator<List<FieldValue>> comparator;
+
+    /**
+     * The kept rows, worst first.
+     */
+    private final PriorityQueue<Entry> heap;
+
+    /**
+     * Reading sequence of rows.
+     */
+    private long sequence;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param capacity
+     *            the maximum rows to keep.
+     * @param comparator
+     *            the row comparator.
+     */
+    public TopNHeap(final int capacity, final Comparator<List<FieldValue>> comparator) {
+        this.capacity = capacity;
+        this.comparator = comparator;
+        this.heap = new PriorityQueue<>(Math.max(1, Math.min(capacity, 1_024)), new Comparator<Entry>() {
+            @Override
+            public int compare(final Entry first, final Entry second) {
+                return TopNHeap.this.compareEntries(second, first);
+            }
+        });
+    }
+
+    /**
+     * Offers a row to the heap.
+     *
+     * @param row
+     *            the row to offer.
+     */
+    public void add(final List<FieldValue> row) {
+        if (this.capacity <= 0) {
+            return;
+        }
+        final Entry entry = new Entry(row, this.sequence++);
+        if (this.heap.size() < this.capacity) {
+            this.heap.add(entry);
+        } else if (this.compareEntries(entry, this.heap.peek()) < 0) {
+            this.heap.poll();
+            this.heap.add(entry);
+        }
+    }
+
+    /**
+     * Gets the kept rows in ORDER BY order.
+     *
+     * @return the kept rows.
+     */
+    public List<List<FieldValue>> getRows() {
+        final List<Entry> entries = new ArrayList<>(this.heap);
+        Collections.sort(entries, new Comparator<Entry>() {
+            @Override
+            public int compare(final Entry first, final Entry second) {
+                return TopNHeap.this.compareEntries(first, second);
+            }
+        });
+        final List<List<FieldValue>> rows = new ArrayList<>(entries.size());
+        for (final Entry entry : entries) {
+            rows.add(entry.row);
+        }
+        return rows;
+    }
+
+    /**
+     * Compares two entries using the reading order for ties.
+     *
+     * @param first
+     *            the first entry.
+     * @param second
+     *            the second entry.
+     * @return the comparison result.
+     */
+    private int compareEntries(final Entry first, final Entry second) {
+        final int result = this.comparator.compare(first.row, second.row);
+        if (result != 0) {
+            return result;
+        }
+        return (first.sequence < second.sequence) ? -1 : ((first.sequence > second.sequence) ? 1 : 0);
+    }
+
+    /**
+     * A row kept in heap.
+     *
+     * @author Leonardo Alves da Costa
+     * @version 1.0
+     * @since 1.4
+     */
+    private static final class Entry {
+
+        /**
+         * The row values.
+         */
+        private final List<FieldValue> row;
+
+        /**
+         * The reading sequence.
+         */
+        private final long sequence;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param row
+         *            the row values.
+         * @param sequence
+         *            the reading sequence.
+         */
+        Entry(final List<FieldValue> row, final long sequence) {
+            this.row = row;
+            this.sequence = sequence;
+        }
+    }
+}
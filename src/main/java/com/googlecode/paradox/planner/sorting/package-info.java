@@ -0,0 +1,6 @@
+/**
+ * Package for the ORDER BY sorting operators.
+ *
+ * @since 1.4
+ */
+package com.googlecode.paradox.planner.sorting;
@@ -0,0 +1,69 @@
+/*
+ * AbstractAggregateProcedure.java 10/19/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.procedures.math;
+
+import com.googlecode.paradox.data.RawValues;
+import com.googlecode.paradox.metadata.ParadoxField;
+import com.googlecode.paradox.planner.aggregation.AbstractAccumulator;
+import com.googlecode.paradox.procedures.AbstractCallableProcedure;
+import com.googlecode.paradox.utils.SQLStates;
+import java.sql.SQLException;
+import java.util.Locale;
+
+/**
+ * Aggregate function that can be executed over the rows of a GROUP BY.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4
+ */
+public abstract class AbstractAggregateProcedure extends AbstractCallableProcedure {
+
+    /**
+     * Checks if the argument field is numeric.
+     *
+     * @param field
+     *            the argument field.
+     * @throws SQLException
+     *             if the field is not numeric.
+     */
+    protected final void checkNumeric(final ParadoxField field) throws SQLException {
+        this.checkField(field);
+        if (!RawValues.isNumeric(field.getType())) {
+            throw new SQLException(String.format("Invalid field type for %s: '%s'",
+                    this.getName().toUpperCase(Locale.US), field.getName()), SQLStates.INVALID_COLUMN.getValue());
+        }
+    }
+
+    /**
+     * Checks if there is an argument field.
+     *
+     * @param field
+     *            the argument field.
+     * @throws SQLException
+     *             if there is no argument field.
+     */
+    protected final void checkField(final ParadoxField field) throws SQLException {
+        if (field == null) {
+            throw new SQLException(String.format("Invalid argument for %s: '*'", this.getName().toUpperCase(Locale.US)),
+                    SQLStates.INVALID_PARAMETER.getValue());
+        }
+    }
+
+    /**
+     * Creates the accumulator to execute this function.
+     *
+     * @param field
+     *            the argument field, <code>null</code> for all rows (<code>*</code>).
+     * @return the accumulator.
+     * @throws SQLException
+     *             if the argument is invalid for this function.
+     */
+    public abstract AbstractAccumulator createAccumulator(ParadoxField field) throws SQLException;
+}
@@ -8,16 +8,27 @@
  */
 package com.googlecode.paradox.procedures.math;
 
-import com.googlecode.paradox.procedures.AbstractCallableProcedure;
+import com.googlecode.paradox.metadata.ParadoxField;
+import com.googlecode.paradox.planner.aggregation.AbstractAccumulator;
+import com.googlecode.paradox.planner.aggregation.CountAccumulator;
+import java.sql.SQLException;
 
 /**
  * The COUNT function.
  *
  * @author Leonardo Alves da Costa
- * @version 1.0
+ * @version 1.1
  * @since 1.1
  */
-public final class Count extends AbstractCallableProcedure {
+public final class Count extends AbstractAggregateProcedure {
+    
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public AbstractAccumulator createAccumulator(final ParadoxField field) throws SQLException {
+        return new CountAccumulator(field);
+    }
     
     /**
      * {@inheritDoc}.
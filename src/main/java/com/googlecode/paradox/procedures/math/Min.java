@@ -8,16 +8,28 @@
  */
 package com.googlecode.paradox.procedures.math;
 
-import com.googlecode.paradox.procedures.AbstractCallableProcedure;
+import com.googlecode.paradox.metadata.ParadoxField;
+import com.googlecode.paradox.planner.aggregation.AbstractAccumulator;
+import com.googlecode.paradox.planner.aggregation.MinMaxAccumulator;
+import java.sql.SQLException;
 
 /**
  * The MIN function.
  *
  * @author Leonardo Alves da Costa
- * @version 1.0
+ * @version 1.1
  * @since 1.1
  */
-public final class Min extends AbstractCallableProcedure {
+public final class Min extends AbstractAggregateProcedure {
+    
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public AbstractAccumulator createAccumulator(final ParadoxField field) throws SQLException {
+        this.checkField(field);
+        return new MinMaxAccumulator(field, false);
+    }
     
     /**
      * {@inheritDoc}.
@@ -8,16 +8,28 @@
  */
 package com.googlecode.paradox.procedures.math;
 
-import com.googlecode.paradox.procedures.AbstractCallableProcedure;
+import com.googlecode.paradox.metadata.ParadoxField;
+import com.googlecode.paradox.planner.aggregation.AbstractAccumulator;
+import com.googlecode.paradox.planner.aggregation.SumAccumulator;
+import java.sql.SQLException;
 
 /**
  * The SUM function.
  *
  * @author Leonardo Alves da Costa
- * @version 1.0
+ * @version 1.1
  * @since 1.1
  */
-public final class Sum extends AbstractCallableProcedure {
+public final class Sum extends AbstractAggregateProcedure {
+    
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public AbstractAccumulator createAccumulator(final ParadoxField field) throws SQLException {
+        this.checkNumeric(field);
+        return new SumAccumulator(field);
+    }
     
     /**
      * {@inheritDoc}.
@@ -16,7 +16,7 @@ import java.sql.Types;
  * Stores the Paradox field types and SQL Types.
  *
  * @author Leonardo Alves da Costa
- * @version 1.0
+ * @version 1.1
  * @since 1.3
  */
 public enum ParadoxFieldType {
@@ -26,9 +26,14 @@ public enum ParadoxFieldType {
     AUTO_INCREMENT(0x16, Types.INTEGER),
     
     /**
-     * The binary type.
+     * The BCD type.
      */
-    BINARY(0x17, Types.BINARY),
+    BCD(0x17, Types.NUMERIC),
+    
+    /**
+     * The binary type, stored in the record.
+     */
+    BINARY(0x18, Types.BINARY),
     
     /**
      * the BLOB type.
@@ -40,11 +45,6 @@ public enum ParadoxFieldType {
      */
     BLOB2(0xF, Types.BLOB),
     
-    /**
-     * the BLOB type. Variant 3.
-     */
-    BLOB3(0x18, Types.BLOB),
-    
     /**
      * The boolean type.
      */
@@ -20,11 +20,16 @@ import java.sql.Types;
  * Stores the SQL type names.
  *
  * @author Leonardo Alves da Costa
- * @version 1.1
+ * @version 1.2
  * @since 1.3
  */
 public enum TypeName {
     
+    /**
+     * The big integer type.
+     */
+    BIGINT(Types.BIGINT, "BIGINT", Long.class.getName()),
+    
     /**
      * The binary type.
      */
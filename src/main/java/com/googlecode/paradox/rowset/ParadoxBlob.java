@@ -0,0 +1,347 @@
+/*
+ * ParadoxBlob.java 10/19/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.rowset;
+
+import com.googlecode.paradox.data.table.value.BlobDescriptor;
+import com.googlecode.paradox.metadata.BlobTable;
+import com.googlecode.paradox.utils.ByteSearch;
+import com.googlecode.paradox.utils.SQLStates;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.sql.Blob;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Arrays;
+
+/**
+ * BLOB for paradox file (MB).
+ * <p>
+ * The data is not loaded: each read goes to the MB file, so large images can be streamed.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.1
+ * @since 1.4
+ */
+public final class ParadoxBlob implements Blob {
+    
+    /**
+     * Size of the reads of {@link #position(byte[], long)}.
+     */
+    private static final int SEARCH_BUFFER_SIZE = 0x2000;
+    
+    /**
+     * The blob table, <code>null</code> if the data is in memory.
+     */
+    private BlobTable file;
+    
+    /**
+     * The blob length.
+     */
+    private final long length;
+    
+    /**
+     * The blob offset in MB file.
+     */
+    private final long offset;
+    
+    /**
+     * The blob data, if the blob is entirely stored in the record.
+     */
+    private byte[] value;
+    
+    /**
+     * Creates a new instance.
+     *
+     * @param descriptor
+     *            the blob descriptor.
+     */
+    public ParadoxBlob(final BlobDescriptor descriptor) {
+        this.offset = descriptor.getOffset();
+        this.length = descriptor.getLength();
+        // If MB_Offset = 0 then the entire blob is contained in the leader.
+        if (this.offset == 0) {
+            this.value = Arrays.copyOf(descriptor.getLeaderData(), (int) this.length);
+        } else {
+            this.file = descriptor.getFile();
+        }
+    }
+    
+    /**
+     * Creates a new instance with data in memory.
+     *
+     * @param value
+     *            the blob data.
+     */
+    public ParadoxBlob(final byte[] value) {
+        this.offset = 0;
+        this.length = value.length;
+        this.value = value.clone();
+    }
+    
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void free() {
+        this.file = null;
+        this.value = null;
+    }
+    
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public InputStream getBinaryStream() throws SQLException {
+        this.isValid();
+        return new BlobStream(0, this.length);
+    }
+    
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public InputStream getBinaryStream(final long pos, final long length) throws SQLException {
+        this.isValid();
+        this.checkRange(pos, length);
+        return new BlobStream(pos - 1, length);
+    }
+    
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public byte[] getBytes(final long pos, final int length) throws SQLException {
+        this.isValid();
+        if (length < 0) {
+            throw new SQLException("Invalid length specified", SQLStates.INVALID_PARAMETER.getValue());
+        }
+        this.checkRange(pos, Math.min(length, (this.length - pos) + 1));
+        final byte[] data = new byte[(int) Math.min(length, (this.length - pos) + 1)];
+        this.read(pos - 1, data, 0, data.length);
+        return data;
+    }
+    
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public long length() throws SQLException {
+        this.isValid();
+        return this.length;
+    }
+    
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public long position(final Blob pattern, final long start) throws SQLException {
+        return this.position(pattern.getBytes(1, (int) pattern.length()), start);
+    }
+    
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public long position(final byte[] pattern, final long start) throws SQLException {
+        this.isValid();
+        if ((start < 1) || (start > (this.length + 1))) {
+            throw new SQLException("Invalid position '" + start + "' in Blob object set",
+                    SQLStates.INVALID_PARAMETER.getValue());
+        }
+        if (pattern.length == 0) {
+            return start;
+        }
+        
+        // Windows overlapping by the pattern length, so matches across windows are found.
+        final ByteSearch search = new ByteSearch(pattern);
+        final byte[] window = new byte[ParadoxBlob.SEARCH_BUFFER_SIZE + pattern.length];
+        long windowStart = start - 1;
+        while ((windowStart + pattern.length) <= this.length) {
+            final int size = (int) Math.min(window.length, this.length - windowStart);
+            this.read(windowStart, window, 0, size);
+            final int index = search.indexOf(window, 0, size);
+            if (index >= 0) {
+                return windowStart + index + 1;
+            }
+            windowStart += ParadoxBlob.SEARCH_BUFFER_SIZE;
+        }
+        return -1;
+    }
+    
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public OutputStream setBinaryStream(final long pos) throws SQLException {
+        throw new SQLFeatureNotSupportedException();
+    }
+    
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public int setBytes(final long pos, final byte[] bytes) throws SQLException {
+        throw new SQLFeatureNotSupportedException();
+    }
+    
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public int setBytes(final long pos, final byte[] bytes, final int offset, final int len) throws SQLException {
+        throw new SQLFeatureNotSupportedException();
+    }
+    
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void truncate(final long len) throws SQLException {
+        throw new SQLFeatureNotSupportedException();
+    }
+    
+    /**
+     * Check for a valid range in blob.
+     *
+     * @param pos
+     *            the first byte position, starting at one.
+     * @param length
+     *            the number of bytes.
+     * @throws SQLException
+     *             in case of invalid range.
+     */
+    private void checkRange(final long pos, final long length) throws SQLException {
+        if ((pos < 1) || (pos > this.length)) {
+            throw new SQLException("Invalid position '" + pos + "' in Blob object set",
+                    SQLStates.INVALID_PARAMETER.getValue());
+        } else if ((length < 0) || (((pos - 1) + length) > this.length)) {
+            throw new SQLException("Invalid position and length", SQLStates.INVALID_PARAMETER.getValue());
+        }
+    }
+    
+    /**
+     * Check for the blob validate.
+     *
+     * @throws SQLException
+     *             in case of freed blob.
+     */
+    private void isValid() throws SQLException {
+        if ((this.value == null) && (this.file == null)) {
+            throw new SQLException("Invalid BLOB descriptor.", SQLStates.INVALID_STATE.getValue());
+        }
+    }
+    
+    /**
+     * Reads blob data.
+     *
+     * @param position
+     *            the position in blob, starting at zero.
+     * @param target
+     *            the array to fill.
+     * @param targetOffset
+     *            the first position in array.
+     * @param count
+     *            the number of bytes to read.
+     * @throws SQLException
+     *             in case of I/O errors.
+     */
+    private void read(final long position, final byte[] target, final int targetOffset, final int count)
+            throws SQLException {
+        if (this.value != null) {
+            System.arraycopy(this.value, (int) position, target, targetOffset, count);
+        } else if (this.file.read(this.offset, position, ByteBuffer.wrap(target, targetOffset, count)) < count) {
+            throw new SQLException("Blob data truncated in MB file.", SQLStates.LOAD_DATA.getValue());
+        }
+    }
+    
+    /**
+     * Stream reading the blob data on demand.
+     *
+     * @author Leonardo Alves da Costa
+     * @version 1.0
+     * @since 1.4
+     */
+    private final class BlobStream extends InputStream {
+        
+        /**
+         * The end position in blob.
+         */
+        private final long end;
+        
+        /**
+         * The next position to read in blob.
+         */
+        private long position;
+        
+        /**
+         * Creates a new instance.
+         *
+         * @param position
+         *            the first position in blob, starting at zero.
+         * @param length
+         *            the number of bytes to read.
+         */
+        BlobStream(final long position, final long length) {
+            this.position = position;
+            this.end = position + length;
+        }
+        
+        /**
+         * {@inheritDoc}.
+         */
+        @Override
+        public int available() {
+            return (int) Math.min(Integer.MAX_VALUE, this.end - this.position);
+        }
+        
+        /**
+         * {@inheritDoc}.
+         */
+        @Override
+        public int read() throws IOException {
+            final byte[] data = new byte[1];
+            if (this.read(data, 0, 1) < 0) {
+                return -1;
+            }
+            return data[0] & 0xFF;
+        }
+        
+        /**
+         * {@inheritDoc}.
+         */
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            } else if (this.position >= this.end) {
+                return -1;
+            }
+            final int count = (int) Math.min(len, this.end - this.position);
+            try {
+                ParadoxBlob.this.read(this.position, b, off, count);
+            } catch (final SQLException e) {
+                throw new IOException(e.getMessage(), e);
+            }
+            this.position += count;
+            return count;
+        }
+        
+        /**
+         * {@inheritDoc}.
+         */
+        @Override
+        public long skip(final long n) {
+            final long count = Math.max(0, Math.min(n, this.end - this.position));
+            this.position += count;
+            return count;
+        }
+    }
+}
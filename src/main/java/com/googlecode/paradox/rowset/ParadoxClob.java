@@ -10,12 +10,15 @@ package com.googlecode.paradox.rowset;
 
 import com.googlecode.paradox.data.table.value.ClobDescriptor;
 import com.googlecode.paradox.metadata.BlobTable;
+import com.googlecode.paradox.utils.ByteSearch;
+import com.googlecode.paradox.utils.SQLStates;
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStream;
 import java.io.Reader;
 import java.io.Writer;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.sql.Clob;
 import java.sql.SQLException;
@@ -25,7 +28,7 @@ import java.sql.SQLException;
  *
  * @author Leonardo Alves da Costa
  * @author Andre Mikhaylov
- * @version 1.2
+ * @version 1.5
  * @since 1.2
  */
 public final class ParadoxClob implements Clob {
@@ -35,11 +38,21 @@ public final class ParadoxClob implements Clob {
      */
     private static final Charset DEFAULT_CHARSET = Charset.forName("cp1251");
     
+    /**
+     * Size of the reads of {@link #position(String, long)}.
+     */
+    private static final int SEARCH_BUFFER_SIZE = 0x2000;
+    
     /**
      * The blob table.
      */
     private BlobTable blob;
     
+    /**
+     * The first bytes of the memo stored in the record, used while the MB file is not read.
+     */
+    private byte[] leader;
+    
     /**
      * The blob length.
      */
@@ -75,9 +88,17 @@ public final class ParadoxClob implements Clob {
                 this.length = this.value.length;
             }
             this.parsed = true;
+        } else if (descriptor.getData() != null) {
+            // Already read with the other memos of the rows fetched.
+            this.value = descriptor.getData();
+            this.length = this.value.length;
+            this.parsed = true;
         } else {
             this.offset = descriptor.getOffset();
             this.blob = descriptor.getFile();
+            // The record keeps the memo length and its first bytes.
+            this.length = descriptor.getLength();
+            this.leader = descriptor.getLeaderData();
         }
     }
     
@@ -116,6 +137,10 @@ public final class ParadoxClob implements Clob {
      */
     @Override
     public Reader getCharacterStream(final long pos, final long length) throws SQLException {
+        if (this.isInLeader(pos, length)) {
+            return new InputStreamReader(new ByteArrayInputStream(this.leader, (int) pos - 1, (int) length),
+                    ParadoxClob.DEFAULT_CHARSET);
+        }
         this.parse();
         this.isValid();
         if ((pos < 1) || (pos > this.length)) {
@@ -134,6 +159,9 @@ public final class ParadoxClob implements Clob {
      */
     @Override
     public String getSubString(final long pos, final int length) throws SQLException {
+        if (this.isInLeader(pos, length)) {
+            return new String(this.leader, (int) pos - 1, length, ParadoxClob.DEFAULT_CHARSET);
+        }
         this.parse();
         this.isValid();
         if ((pos < 1) || (pos > this.length)) {
@@ -151,8 +179,11 @@ public final class ParadoxClob implements Clob {
      */
     @Override
     public long length() throws SQLException {
-        this.parse();
-        this.isValid();
+        // The length in record saves reading the MB file.
+        if (this.length == 0) {
+            this.parse();
+            this.isValid();
+        }
         return this.length;
     }
     
@@ -160,16 +191,56 @@ public final class ParadoxClob implements Clob {
      * {@inheritDoc}.
      */
     @Override
-    public long position(final Clob search, final long start) {
-        return 0;
+    public long position(final Clob search, final long start) throws SQLException {
+        if (search == null) {
+            throw new SQLException("Invalid search value", SQLStates.INVALID_PARAMETER.getValue());
+        } else if (search.length() == 0) {
+            return this.position("", start);
+        }
+        return this.position(search.getSubString(1, (int) search.length()), start);
     }
     
     /**
      * {@inheritDoc}.
+     * <p>
+     * The memo bytes are searched a window at a time, without decoding the memo.
      */
     @Override
-    public long position(final String search, final long start) {
-        return 0;
+    public long position(final String search, final long start) throws SQLException {
+        if (search == null) {
+            throw new SQLException("Invalid search value", SQLStates.INVALID_PARAMETER.getValue());
+        }
+        final long size = this.length();
+        if ((start < 1) || (start > (size + 1))) {
+            throw new SQLException("Invalid position '" + start + "' in Clob object set",
+                    SQLStates.INVALID_PARAMETER.getValue());
+        }
+        final ByteSearch pattern = new ByteSearch(search.getBytes(ParadoxClob.DEFAULT_CHARSET));
+        if (pattern.getLength() == 0) {
+            return start;
+        } else if (this.parsed) {
+            final int index = pattern.indexOf(this.value, (int) start - 1, (int) this.length);
+            if (index < 0) {
+                return -1;
+            }
+            return index + 1;
+        }
+        
+        // Windows overlapping by the pattern length, so matches across windows are found.
+        final byte[] window = new byte[ParadoxClob.SEARCH_BUFFER_SIZE + pattern.getLength()];
+        long windowStart = start - 1;
+        while ((windowStart + pattern.getLength()) <= size) {
+            final int count = (int) Math.min(window.length, size - windowStart);
+            if (this.blob.read(this.offset, windowStart, ByteBuffer.wrap(window, 0, count)) < count) {
+                throw new SQLException("Clob data truncated in MB file.", SQLStates.LOAD_DATA.getValue());
+            }
+            final int index = pattern.indexOf(window, 0, count);
+            if (index >= 0) {
+                return windowStart + index + 1;
+            }
+            windowStart += ParadoxClob.SEARCH_BUFFER_SIZE;
+        }
+        return -1;
     }
     
     /**
@@ -222,6 +293,20 @@ public final class ParadoxClob implements Clob {
         this.length = this.value.length;
     }
     
+    /**
+     * Gets if a part of the memo is in the leader and the MB file is not read yet.
+     *
+     * @param pos
+     *            the first character position, starting at one.
+     * @param length
+     *            the number of characters.
+     * @return true if the part can be read from the leader.
+     */
+    private boolean isInLeader(final long pos, final long length) {
+        return !this.parsed && (this.leader != null) && (pos >= 1) && (length > 0)
+                && (((pos - 1) + length) <= Math.min(this.leader.length, this.length));
+    }
+    
     /**
      * Check for the blob validate.
      *
@@ -0,0 +1,163 @@
+/*
+ * ParadoxRowId.java 10/19/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.rowset;
+
+import com.googlecode.paradox.utils.SQLStates;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.sql.RowId;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+/**
+ * Locates a table row by its table file, data block and slot in block.
+ * <p>
+ * The locator stays valid until the table is changed, and can be stored with {@link #getBytes()} and restored with
+ * {@link #valueOf(byte[])}.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4
+ * @see com.googlecode.paradox.ParadoxConnection#getRow(RowId)
+ */
+public final class ParadoxRowId implements RowId {
+
+    /**
+     * The charset of the table name.
+     */
+    private static final Charset CHARSET = Charset.forName("UTF-8");
+
+    /**
+     * Size of the block and slot numbers in bytes.
+     */
+    private static final int LOCATION_SIZE = 6;
+
+    /**
+     * The data block number.
+     */
+    private final int block;
+
+    /**
+     * The record position in block.
+     */
+    private final int slot;
+
+    /**
+     * The table file name.
+     */
+    private final String tableName;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param tableName
+     *            the table file name.
+     * @param block
+     *            the data block number.
+     * @param slot
+     *            the record position in block.
+     */
+    public ParadoxRowId(final String tableName, final int block, final int slot) {
+        this.tableName = tableName;
+        this.block = block;
+        this.slot = slot;
+    }
+
+    /**
+     * Restores a locator from its bytes.
+     *
+     * @param bytes
+     *            the locator bytes.
+     * @return the locator.
+     * @throws SQLException
+     *             if the bytes are not a locator.
+     * @see #getBytes()
+     */
+    public static ParadoxRowId valueOf(final byte[] bytes) throws SQLException {
+        if ((bytes == null) || (bytes.length <= ParadoxRowId.LOCATION_SIZE)) {
+            throw new SQLException("Invalid ROWID.", SQLStates.INVALID_PARAMETER.getValue());
+        }
+        final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        final int block = buffer.getInt();
+        final int slot = buffer.getShort() & 0xFFFF;
+        final String tableName = new String(bytes, ParadoxRowId.LOCATION_SIZE,
+                bytes.length - ParadoxRowId.LOCATION_SIZE, ParadoxRowId.CHARSET);
+        return new ParadoxRowId(tableName, block, slot);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if ((obj == null) || (this.getClass() != obj.getClass())) {
+            return false;
+        }
+        return Arrays.equals(this.getBytes(), ((ParadoxRowId) obj).getBytes());
+    }
+
+    /**
+     * Gets the data block number.
+     *
+     * @return the data block number.
+     */
+    public int getBlock() {
+        return this.block;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public byte[] getBytes() {
+        final byte[] name = this.tableName.getBytes(ParadoxRowId.CHARSET);
+        final ByteBuffer buffer = ByteBuffer.allocate(ParadoxRowId.LOCATION_SIZE + name.length);
+        buffer.putInt(this.block);
+        buffer.putShort((short) this.slot);
+        buffer.put(name);
+        return buffer.array();
+    }
+
+    /**
+     * Gets the record position in block.
+     *
+     * @return the record position in block.
+     */
+    public int getSlot() {
+        return this.slot;
+    }
+
+    /**
+     * Gets the table file name.
+     *
+     * @return the table file name.
+     */
+    public String getTableName() {
+        return this.tableName;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(this.getBytes());
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public String toString() {
+        return this.tableName + ":" + this.block + ":" + this.slot;
+    }
+}
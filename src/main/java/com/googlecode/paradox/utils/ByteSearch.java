@@ -0,0 +1,88 @@
+/*
+ * ByteSearch.java 10/19/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.utils;
+
+import java.util.Arrays;
+
+/**
+ * Searches a byte pattern with the Boyer-Moore-Horspool algorithm.
+ * <p>
+ * The pattern is prepared once and can be searched in many buffers, so large values can be searched a window at a
+ * time.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4
+ */
+public final class ByteSearch {
+
+    /**
+     * The pattern to search.
+     */
+    private final byte[] pattern;
+
+    /**
+     * The shift for each byte value found at the last pattern position.
+     */
+    private final int[] shift;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param pattern
+     *            the pattern to search.
+     */
+    public ByteSearch(final byte[] pattern) {
+        this.pattern = pattern.clone();
+        this.shift = new int[0x100];
+        Arrays.fill(this.shift, Math.max(1, pattern.length));
+        for (int i = 0; i < (pattern.length - 1); i++) {
+            this.shift[pattern[i] & 0xFF] = pattern.length - 1 - i;
+        }
+    }
+
+    /**
+     * Gets the pattern length.
+     *
+     * @return the pattern length.
+     */
+    public int getLength() {
+        return this.pattern.length;
+    }
+
+    /**
+     * Finds the first occurrence of the pattern in part of a buffer.
+     *
+     * @param data
+     *            the buffer to search.
+     * @param from
+     *            the first position to search.
+     * @param to
+     *            the end of the part to search (exclusive).
+     * @return the pattern position or -1 if not found.
+     */
+    public int indexOf(final byte[] data, final int from, final int to) {
+        if (this.pattern.length == 0) {
+            return from;
+        }
+        final int last = this.pattern.length - 1;
+        int i = from;
+        while ((i + last) < to) {
+            int j = last;
+            while (data[i + j] == this.pattern[j]) {
+                if (j == 0) {
+                    return i;
+                }
+                j--;
+            }
+            i += this.shift[data[i + last] & 0xFF];
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Cancellation.java 10/19/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.utils;
+
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.Timer;
+import java.util.TimerTask;
+
+/**
+ * Cancels a running statement on request or when the query timeout expires.
+ * <p>
+ * The scans check this state at each block read, so a statement stops at the next block after it was canceled. The
+ * state is cleared once per statement execution; the rows read on demand later are operations of the same execution,
+ * so a cancel requested between them is kept.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.1
+ * @since 1.4
+ */
+public final class Cancellation {
+
+    /**
+     * The timer shared by all statements.
+     */
+    private static final Timer TIMER = new Timer("Paradox query timeout", true);
+
+    /**
+     * If the running operation was canceled.
+     */
+    private volatile boolean canceled;
+
+    /**
+     * The query timeout in seconds, zero if there is no timeout.
+     */
+    private int timeout;
+
+    /**
+     * If the running operation timed out.
+     */
+    private volatile boolean timedOut;
+
+    /**
+     * The pending timeout task, <code>null</code> if there is no running operation.
+     */
+    private TimerTask timeoutTask;
+
+    /**
+     * Cancels the running operation.
+     */
+    public void cancel() {
+        this.canceled = true;
+    }
+
+    /**
+     * Checks if the running operation must stop.
+     *
+     * @throws SQLException
+     *             if the operation was canceled or timed out.
+     */
+    public void check() throws SQLException {
+        if (this.timedOut) {
+            throw new SQLTimeoutException("Query timeout expired.", SQLStates.QUERY_TIMEOUT.getValue());
+        } else if (this.canceled) {
+            throw new SQLException("Statement canceled.", SQLStates.QUERY_CANCELED.getValue());
+        }
+    }
+
+    /**
+     * Gets the query timeout.
+     *
+     * @return the query timeout in seconds, zero if there is no timeout.
+     */
+    public int getTimeout() {
+        return this.timeout;
+    }
+
+    /**
+     * Sets the query timeout.
+     *
+     * @param timeout
+     *            the query timeout in seconds, zero if there is no timeout.
+     */
+    public void setTimeout(final int timeout) {
+        this.timeout = timeout;
+    }
+
+    /**
+     * Clears the canceled and timed out state for a new statement execution.
+     */
+    public synchronized void reset() {
+        this.canceled = false;
+        this.timedOut = false;
+    }
+
+    /**
+     * Starts an operation, scheduling its timeout.
+     * <p>
+     * A previous cancel or timeout of the same execution is kept.
+     *
+     * @see #reset()
+     */
+    public synchronized void start() {
+        this.stop();
+        if (this.timeout > 0) {
+            this.timeoutTask = new TimerTask() {
+                @Override
+                public void run() {
+                    Cancellation.this.timedOut = true;
+                }
+            };
+            Cancellation.TIMER.schedule(this.timeoutTask, this.timeout * 1000L);
+        }
+    }
+
+    /**
+     * Ends an operation, removing its timeout.
+     */
+    public synchronized void stop() {
+        if (this.timeoutTask != null) {
+            this.timeoutTask.cancel();
+            this.timeoutTask = null;
+            Cancellation.TIMER.purge();
+        }
+    }
+}
@@ -12,11 +12,26 @@ package com.googlecode.paradox.utils;
  * Stores the driver constants.
  *
  * @author Leonardo Alves da Costa
- * @version 1.0
+ * @version 1.7
  * @since 1.0
  */
 public final class Constants {
     
+    /**
+     * Default maximum groups kept in memory by GROUP BY.
+     */
+    public static final int DEFAULT_MAX_GROUPS_IN_MEMORY = 100_000;
+    
+    /**
+     * Default maximum SQL texts in the plan cache of a connection.
+     */
+    public static final int DEFAULT_PLAN_CACHE_SIZE = 256;
+    
+    /**
+     * Default maximum blocks read ahead by a scan pipeline.
+     */
+    public static final int DEFAULT_SCAN_QUEUE_DEPTH = 16;
+    
     /**
      * Driver Name.
      */
@@ -45,6 +60,57 @@ public final class Constants {
      * Minor version of the Driver.
      */
     public static final int MINOR_VERSION = 3;
+    /**
+     * Connection property with the maximum threads used by aggregate functions.
+     */
+    public static final String PROPERTY_AGGREGATION_THREADS = "aggregationThreads";
+    
+    /**
+     * Connection property to decode the values of streamed rows only when read.
+     */
+    public static final String PROPERTY_LAZY_DECODING = "lazyDecoding";
+    
+    /**
+     * Connection property to read the memos of each fetched batch of rows in MB file order.
+     */
+    public static final String PROPERTY_MEMO_PREFETCH = "memoPrefetch";
+    
+    /**
+     * Connection property with the directory to keep the MB block directories.
+     */
+    public static final String PROPERTY_BLOB_INDEX_DIR = "blobIndexDir";
+    
+    /**
+     * Connection property to keep full-text indexes of the memo columns searched with LIKE.
+     */
+    public static final String PROPERTY_FULL_TEXT_INDEX = "fullTextIndex";
+    
+    /**
+     * Connection property with the alpha columns, as <code>table.column</code> separated by commas, that keep trigram
+     * indexes for LIKE searches.
+     */
+    public static final String PROPERTY_TRIGRAM_INDEX = "trigramIndex";
+    
+    /**
+     * Connection property with the maximum groups kept in memory by GROUP BY.
+     */
+    public static final String PROPERTY_MAX_GROUPS_IN_MEMORY = "maxGroupsInMemory";
+    
+    /**
+     * Connection property with the maximum SQL texts in the plan cache (zero disables the cache).
+     */
+    public static final String PROPERTY_PLAN_CACHE_SIZE = "planCacheSize";
+    
+    /**
+     * Connection property with the maximum blocks read ahead by a scan pipeline.
+     */
+    public static final String PROPERTY_SCAN_QUEUE_DEPTH = "scanQueueDepth";
+    
+    /**
+     * Connection property with the decoder threads of unsorted scans (zero reads and decodes in the caller thread).
+     */
+    public static final String PROPERTY_SCAN_THREADS = "scanThreads";
+    
     /**
      * Driver prefix.
      */
@@ -15,14 +15,18 @@ package com.googlecode.paradox.utils;
 import java.sql.Date;
 import java.util.Calendar;
 import java.util.GregorianCalendar;
+import java.util.TimeZone;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
  * Utility class for date formats.
+ * <p>
+ * Dates are converted to milliseconds with integer math, keeping a small memo of the recent days per thread. Days
+ * before the Gregorian calendar or near a time zone transition are still converted by {@link GregorianCalendar}.
  *
  * @author Leonardo Alves da Costa
- * @version 1.0
+ * @version 1.2
  * @since 1.0
  */
 public final class DateUtils {
@@ -42,6 +46,36 @@ public final class DateUtils {
      */
     private static final int DAYS_PER_5_MONTHS = 153;
     
+    /**
+     * Milliseconds in a day.
+     */
+    private static final long DAY_MILLIS = 86_400_000L;
+    
+    /**
+     * The SDN of January 1, 1970.
+     */
+    private static final long EPOCH_SDN = 2_440_588L;
+    
+    /**
+     * The SDN of October 15, 1582, the first day of the Gregorian calendar.
+     */
+    private static final long GREGORIAN_SDN = 2_299_161L;
+    
+    /**
+     * The recent days converted by each thread.
+     */
+    private static final ThreadLocal<Memo> MEMO = new ThreadLocal<Memo>() {
+        @Override
+        protected Memo initialValue() {
+            return new Memo(TimeZone.getDefault());
+        }
+    };
+    
+    /**
+     * Number of days in memo (a power of two).
+     */
+    private static final int MEMO_SIZE = 64;
+    
     /**
      * Used for debug purposes.
      */
@@ -107,7 +141,95 @@ public final class DateUtils {
         if (sdn <= 0) {
             return null;
         }
+        return new Date(DateUtils.sdnToMillis(sdn));
+    }
+    
+    /**
+     * Convert the Paradox date to milliseconds since January 1, 1970, at midnight in the default time zone.
+     *
+     * @param sdn
+     *            the Paradox date to convert, greater than zero.
+     * @return the date milliseconds.
+     */
+    public static long sdnToMillis(final long sdn) {
+        final Memo memo = DateUtils.getMemo();
+        final int slot = (int) (sdn & (DateUtils.MEMO_SIZE - 1));
+        if (memo.days[slot] == sdn) {
+            return memo.millis[slot];
+        }
         
+        final TimeZone zone = memo.zone;
+        long millis;
+        final long local = (sdn - DateUtils.EPOCH_SDN) * DateUtils.DAY_MILLIS;
+        final int offset = zone.getOffset(local - DateUtils.DAY_MILLIS);
+        if ((sdn >= DateUtils.GREGORIAN_SDN) && (offset == zone.getOffset(local + DateUtils.DAY_MILLIS))) {
+            millis = local - offset;
+        } else {
+            millis = DateUtils.sdnToCalendar(sdn).getTimeInMillis();
+        }
+        memo.days[slot] = sdn;
+        memo.millis[slot] = millis;
+        return millis;
+    }
+    
+    /**
+     * Convert a Paradox date and a wall clock time of that day to milliseconds.
+     * <p>
+     * The time is not an elapsed time since midnight: on the days the time zone offset changes, the offset of the time
+     * is used.
+     *
+     * @param sdn
+     *            the Paradox date to convert, greater than zero.
+     * @param time
+     *            the wall clock milliseconds since midnight.
+     * @return the milliseconds.
+     */
+    public static long sdnToMillis(final long sdn, final long time) {
+        final long midnight = DateUtils.sdnToMillis(sdn);
+        final TimeZone zone = DateUtils.getMemo().zone;
+        final long millis = midnight + time;
+        if (zone.getOffset(midnight) == zone.getOffset(millis)) {
+            return millis;
+        }
+        final Calendar calendar = DateUtils.sdnToCalendar(sdn);
+        calendar.set(Calendar.MILLISECOND, (int) time);
+        return calendar.getTimeInMillis();
+    }
+    
+    /**
+     * Convert the Paradox time to the milliseconds of a {@link java.sql.Time}.
+     *
+     * @param time
+     *            the milliseconds since midnight.
+     * @return the time milliseconds.
+     */
+    public static long timeToMillis(final long time) {
+        return DateUtils.getMemo().timeBase + time;
+    }
+    
+    /**
+     * Gets the memo of current thread, cleared if the default time zone changed.
+     *
+     * @return the memo of current thread.
+     */
+    private static Memo getMemo() {
+        Memo memo = DateUtils.MEMO.get();
+        final TimeZone zone = TimeZone.getDefault();
+        if (!zone.getID().equals(memo.zone.getID())) {
+            memo = new Memo(zone);
+            DateUtils.MEMO.set(memo);
+        }
+        return memo;
+    }
+    
+    /**
+     * Convert the Paradox date to a calendar.
+     *
+     * @param sdn
+     *            the Paradox date to convert, greater than zero.
+     * @return the calendar at midnight of the date.
+     */
+    private static Calendar sdnToCalendar(final long sdn) {
         long temp = ((sdn + DateUtils.SDN_OFFSET) * 4) - 1;
         
         /* Calculate the century (year/100). */
@@ -136,8 +258,7 @@ public final class DateUtils {
         if (year <= 0) {
             year--;
         }
-        final Calendar calendar = new GregorianCalendar((int) year, (int) month - 1, (int) day);
-        return new Date(calendar.getTime().getTime());
+        return new GregorianCalendar((int) year, (int) month - 1, (int) day);
     }
     
     /**
@@ -204,4 +325,48 @@ public final class DateUtils {
         }
         return year;
     }
+    
+    /**
+     * The recent days converted by a thread.
+     *
+     * @author Leonardo Alves da Costa
+     * @version 1.0
+     * @since 1.4
+     */
+    private static final class Memo {
+        
+        /**
+         * The SDN of each memo slot, zero if empty.
+         */
+        private final long[] days = new long[DateUtils.MEMO_SIZE];
+        
+        /**
+         * The milliseconds of each memo slot.
+         */
+        private final long[] millis = new long[DateUtils.MEMO_SIZE];
+        
+        /**
+         * The milliseconds of time zero.
+         */
+        private final long timeBase;
+        
+        /**
+         * The time zone of the converted days.
+         */
+        private final TimeZone zone;
+        
+        /**
+         * Creates a new instance.
+         *
+         * @param zone
+         *            the time zone of the converted days.
+         */
+        Memo(final TimeZone zone) {
+            this.zone = zone;
+            final Calendar calendar = new GregorianCalendar(zone);
+            calendar.clear();
+            calendar.set(1, 0, 0);
+            this.timeBase = calendar.getTimeInMillis();
+        }
+    }
 }
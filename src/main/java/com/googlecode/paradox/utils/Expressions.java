@@ -8,25 +8,15 @@
  */
 package com.googlecode.paradox.utils;
 
-import java.sql.SQLException;
-import java.util.Locale;
-import java.util.logging.Level;
-import java.util.logging.Logger;
-
 /**
  * Utility class to parse SQL expressions.
  *
  * @author Leonardo Alves da Costa
- * @version 1.0
+ * @version 1.2
  * @since 1.1
  */
 public final class Expressions {
     
-    /**
-     * The class logger.
-     */
-    private static final Logger LOGGER = Logger.getLogger(Expressions.class.getName());
-    
     /**
      * Utility class.
      */
@@ -48,28 +38,50 @@ public final class Expressions {
     }
     
     /**
-     * Test for an expression.
+     * Tests a value with a SQL LIKE pattern.
+     * <p>
+     * In the pattern, <code>%</code> matches any sequence of chars and <code>_</code> matches a single char. The
+     * comparison is case sensitive.
      *
-     * @param expression
-     *            the expression to test for.
-     * @param criteria
-     *            the criteria to use.
-     * @param caseSensitive
-     *            true if this validation processes is case sensitive.
-     * @return true if the expression is valid.
+     * @param value
+     *            the value to test.
+     * @param pattern
+     *            the LIKE pattern.
+     * @return true if the value matches the pattern.
      */
-    public static boolean accept(final String expression, final String criteria, final boolean caseSensitive) {
-        try {
-            Expressions.acceptExpression(expression, criteria, caseSensitive);
-        } catch (final SQLException e) {
-            Expressions.LOGGER.log(Level.FINER, e.getMessage(), e);
-            return false;
+    public static boolean like(final String value, final String pattern) {
+        int index = 0;
+        int loop = 0;
+        // Position after the last % and the value position it is matching to.
+        int star = -1;
+        int starIndex = 0;
+        while (index < value.length()) {
+            if ((loop < pattern.length()) && (pattern.charAt(loop) == '%')) {
+                star = ++loop;
+                starIndex = index;
+            } else if ((loop < pattern.length())
+                    && ((pattern.charAt(loop) == '_') || (pattern.charAt(loop) == value.charAt(index)))) {
+                loop++;
+                index++;
+            } else if (star >= 0) {
+                // Let the last % match one more char.
+                loop = star;
+                index = ++starIndex;
+            } else {
+                return false;
+            }
+        }
+        while ((loop < pattern.length()) && (pattern.charAt(loop) == '%')) {
+            loop++;
         }
-        return true;
+        return loop == pattern.length();
     }
     
     /**
      * Test for an expression.
+     * <p>
+     * In the criteria, <code>%</code> matches any sequence of chars up to the next criteria char and <code>?</code>
+     * matches a single char.
      *
      * @param expression
      *            the expression to test for.
@@ -77,116 +89,57 @@ public final class Expressions {
      *            the criteria to use.
      * @param caseSensitive
      *            true if this validation processes is case sensitive.
-     * @throws SQLException
-     *             in case of invalid expression.
+     * @return true if the expression is valid.
      */
-    private static void acceptExpression(final String expression, final String criteria, final boolean caseSensitive)
-            throws SQLException {
-        final char[] criterion = Expressions.getCharArrayWithCase(criteria, caseSensitive);
-        final char[] exp = Expressions.getCharArrayWithCase(expression, caseSensitive);
-        final int limit = exp.length - 1;
+    public static boolean accept(final String expression, final String criteria, final boolean caseSensitive) {
+        final int limit = expression.length() - 1;
         int index = 0;
         
-        for (int loop = 0; loop < criterion.length; loop++) {
+        for (int loop = 0; loop < criteria.length(); loop++) {
             if (index > limit) {
-                throw new SQLException();
+                return false;
             }
-            final char c = criterion[loop];
+            final char c = Expressions.charAt(criteria, loop, caseSensitive);
             
             if (c == '?') {
                 index++;
             } else if (c == '%') {
                 // Has others chars
-                if ((loop + 1) < criterion.length) {
-                    final char next = criterion[loop + 1];
-                    index = Expressions.fixIndex(exp, limit, index, next);
-                    Expressions.checkBounds(exp, limit, index, next);
+                if ((loop + 1) < criteria.length()) {
+                    final char next = Expressions.charAt(criteria, loop + 1, caseSensitive);
+                    while ((index <= limit) && (next != Expressions.charAt(expression, index, caseSensitive))) {
+                        index++;
+                    }
+                    if (index > limit) {
+                        return false;
+                    }
                 } else {
-                    return;
+                    return true;
                 }
+            } else if (c != Expressions.charAt(expression, index, caseSensitive)) {
+                return false;
             } else {
-                Expressions.checkIndexBoundaries(exp, index, c);
                 ++index;
             }
         }
-        if (index <= limit) {
-            throw new SQLException();
-        }
+        return index > limit;
     }
     
     /**
-     * Check for expressions limit boundaries.
-     *
-     * @param exp
-     *            the expression to check.
-     * @param limit
-     *            the value limits.
-     * @param index
-     *            the current index.
-     * @param next
-     *            the next char in criteria.
-     * @throws SQLException
-     *             in case of invalid expression.
-     */
-    private static void checkBounds(final char[] exp, final int limit, final int index, final char next)
-            throws SQLException {
-        if ((index > limit) || (next != exp[index])) {
-            throw new SQLException();
-        }
-    }
-    
-    /**
-     * Check for index boundaries.
-     *
-     * @param exp
-     *            the expression to check.
-     * @param index
-     *            the current index.
-     * @param c
-     *            the current char in expression.
-     * @throws SQLException
-     *             in case of invalid expression.
-     */
-    private static void checkIndexBoundaries(final char[] exp, final int index, final char c) throws SQLException {
-        if (c != exp[index]) {
-            throw new SQLException();
-        }
-    }
-    
-    /**
-     * Fix index based on % position.
-     *
-     * @param exp
-     *            the expression to test.
-     * @param limit
-     *            the expression max size.
-     * @param offset
-     *            the offset to start of.
-     * @param next
-     *            the next char on criteria.
-     * @return new index.
-     */
-    private static int fixIndex(final char[] exp, final int limit, final int offset, final char next) {
-        int index = offset;
-        while ((index <= limit) && (next != exp[index])) {
-            index++;
-        }
-        return index;
-    }
-    
-    /**
-     * Gets a char array with case option.
+     * Gets a char with case option.
      *
      * @param str
-     *            the string to convert.
+     *            the string.
+     * @param index
+     *            the char index.
      * @param caseSensitive
      *            if use case sensitive option.
-     * @return the char array.
+     * @return the char, in upper case if not case sensitive.
      */
-    private static char[] getCharArrayWithCase(final String str, final boolean caseSensitive) {
+    private static char charAt(final String str, final int index, final boolean caseSensitive) {
         if (caseSensitive) {
-            return str.toCharArray();
+            return str.charAt(index);
         }
-        return str.toUpperCase(Locale.US).toCharArray();
+        return Character.toUpperCase(str.charAt(index));
     }
 }
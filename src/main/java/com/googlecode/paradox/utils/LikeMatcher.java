@@ -0,0 +1,358 @@
+/*
+ * LikeMatcher.java 10/19/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.utils;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A SQL LIKE pattern compiled to match encoded strings.
+ * <p>
+ * The pattern is split once in the literal segments between <code>%</code> wildcards. With a single byte charset the
+ * segments are encoded in the charset and values are matched by their bytes, with no decoding: a literal, a prefix or
+ * a suffix is compared in place, a contained segment is found with a {@link ByteSearch} and any other pattern places
+ * each segment at its leftmost match. Other charsets decode the value and use {@link Expressions#like(String, String)}.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4
+ */
+public final class LikeMatcher {
+
+    /**
+     * The pattern forms.
+     */
+    enum Kind {
+        /**
+         * A pattern without <code>%</code>.
+         */
+        LITERAL,
+
+        /**
+         * A literal followed by <code>%</code>.
+         */
+        PREFIX,
+
+        /**
+         * A literal after <code>%</code>.
+         */
+        SUFFIX,
+
+        /**
+         * A literal between <code>%</code>.
+         */
+        CONTAINS,
+
+        /**
+         * Any other pattern.
+         */
+        GENERAL
+    }
+
+    /**
+     * The charset of the values.
+     */
+    private final Charset charset;
+
+    /**
+     * The pattern form.
+     */
+    private final Kind kind;
+
+    /**
+     * If no value can match, because the pattern has chars not in the charset.
+     */
+    private final boolean never;
+
+    /**
+     * The pattern.
+     */
+    private final String pattern;
+
+    /**
+     * The encoded segments between <code>%</code>, <code>null</code> if values are decoded.
+     */
+    private final Segment[] segments;
+
+    /**
+     * Compiles a pattern.
+     *
+     * @param pattern
+     *            the LIKE pattern.
+     * @param charset
+     *            the charset of the values.
+     */
+    public LikeMatcher(final String pattern, final Charset charset) {
+        this.pattern = pattern;
+        this.charset = charset;
+
+        final List<String> parts = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i <= pattern.length(); i++) {
+            if ((i == pattern.length()) || (pattern.charAt(i) == '%')) {
+                parts.add(pattern.substring(start, i));
+                start = i + 1;
+            }
+        }
+        this.kind = LikeMatcher.getKind(pattern, parts);
+
+        final CharsetEncoder encoder = charset.newEncoder();
+        if (encoder.maxBytesPerChar() > 1) {
+            this.segments = null;
+            this.never = false;
+            return;
+        }
+        this.segments = new Segment[parts.size()];
+        boolean unmappable = false;
+        for (int i = 0; i < this.segments.length; i++) {
+            try {
+                this.segments[i] = new Segment(parts.get(i), encoder);
+            } catch (final CharacterCodingException e) {
+                // Values in this charset never have this segment.
+                unmappable = true;
+                this.segments[i] = null;
+            }
+        }
+        this.never = unmappable;
+    }
+
+    /**
+     * Gets the form of a pattern.
+     *
+     * @param pattern
+     *            the pattern.
+     * @param parts
+     *            the segments between <code>%</code>.
+     * @return the pattern form.
+     */
+    private static Kind getKind(final String pattern, final List<String> parts) {
+        if (pattern.indexOf('_') >= 0) {
+            if (parts.size() == 1) {
+                return Kind.LITERAL;
+            }
+            return Kind.GENERAL;
+        } else if (parts.size() == 1) {
+            return Kind.LITERAL;
+        } else if (parts.size() == 2) {
+            if (parts.get(1).isEmpty()) {
+                return Kind.PREFIX;
+            } else if (parts.get(0).isEmpty()) {
+                return Kind.SUFFIX;
+            }
+        } else if ((parts.size() == 3) && parts.get(0).isEmpty() && parts.get(2).isEmpty()) {
+            return Kind.CONTAINS;
+        }
+        return Kind.GENERAL;
+    }
+
+    /**
+     * Gets the pattern form.
+     *
+     * @return the pattern form.
+     */
+    Kind getKind() {
+        return this.kind;
+    }
+
+    /**
+     * Gets the encoded literal before the first wildcard.
+     *
+     * @return the encoded literal prefix, <code>null</code> if the values are decoded or the pattern has chars not in
+     *         the charset.
+     */
+    public byte[] getPrefix() {
+        if ((this.segments == null) || this.never) {
+            return null;
+        }
+        final Segment first = this.segments[0];
+        int length = 0;
+        while ((length < first.bytes.length) && ((first.any == null) || !first.any[length])) {
+            length++;
+        }
+        final byte[] prefix = new byte[length];
+        System.arraycopy(first.bytes, 0, prefix, 0, length);
+        return prefix;
+    }
+
+    /**
+     * Gets if the pattern is a literal followed by <code>%</code>, so the values match if they start with the
+     * literal.
+     *
+     * @return true if the pattern is a literal followed by <code>%</code>.
+     */
+    public boolean isPrefix() {
+        return this.kind == Kind.PREFIX;
+    }
+
+    /**
+     * Tests an encoded value, that ends at the first zero byte.
+     *
+     * @param data
+     *            the value data.
+     * @param start
+     *            the value position in data.
+     * @param maxLength
+     *            the value size.
+     * @return true if the value matches the pattern.
+     */
+    public boolean matches(final byte[] data, final int start, final int maxLength) {
+        if (this.never) {
+            return false;
+        }
+        int end = start;
+        final int limit = start + maxLength;
+        while ((end < limit) && (data[end] != 0)) {
+            end++;
+        }
+        if (this.segments == null) {
+            return Expressions.like(new String(data, start, end - start, this.charset), this.pattern);
+        }
+
+        final Segment first = this.segments[0];
+        final Segment last = this.segments[this.segments.length - 1];
+        switch (this.kind) {
+            case LITERAL:
+                return ((end - start) == first.bytes.length) && first.matchesAt(data, start);
+            case PREFIX:
+                return ((end - start) >= first.bytes.length) && first.matchesAt(data, start);
+            case SUFFIX:
+                return ((end - start) >= last.bytes.length) && last.matchesAt(data, end - last.bytes.length);
+            case CONTAINS:
+                return this.segments[1].search.indexOf(data, start, end) >= 0;
+            default:
+                return this.matchesGeneral(data, start, end);
+        }
+    }
+
+    /**
+     * Tests a value with any pattern with <code>%</code>.
+     * <p>
+     * The first and the last segments are anchored to the value ends. The other segments have a fixed length, so each
+     * one is placed at its leftmost match after the previous.
+     *
+     * @param data
+     *            the value data.
+     * @param start
+     *            the value start.
+     * @param end
+     *            the value end.
+     * @return true if the value matches the pattern.
+     */
+    private boolean matchesGeneral(final byte[] data, final int start, final int end) {
+        final Segment first = this.segments[0];
+        final Segment last = this.segments[this.segments.length - 1];
+        final int tail = end - last.bytes.length;
+        if (((start + first.bytes.length) > tail) || !first.matchesAt(data, start)
+                || !last.matchesAt(data, tail)) {
+            return false;
+        }
+        int position = start + first.bytes.length;
+        for (int i = 1; i < (this.segments.length - 1); i++) {
+            final int found = this.segments[i].find(data, position, tail);
+            if (found < 0) {
+                return false;
+            }
+            position = found + this.segments[i].bytes.length;
+        }
+        return true;
+    }
+
+    /**
+     * A pattern segment between <code>%</code>, encoded in the value charset.
+     */
+    private static final class Segment {
+
+        /**
+         * The positions of <code>_</code>, <code>null</code> if there is none.
+         */
+        private final boolean[] any;
+
+        /**
+         * The encoded segment (the <code>_</code> positions have any value).
+         */
+        private final byte[] bytes;
+
+        /**
+         * The segment search, <code>null</code> if it has <code>_</code>.
+         */
+        private final ByteSearch search;
+
+        /**
+         * Encodes a segment.
+         *
+         * @param value
+         *            the segment.
+         * @param encoder
+         *            the single byte charset encoder.
+         * @throws CharacterCodingException
+         *             if the segment has chars not in the charset.
+         */
+        Segment(final String value, final CharsetEncoder encoder) throws CharacterCodingException {
+            final ByteBuffer encoded = encoder.encode(CharBuffer.wrap(value.replace('_', ' ')));
+            this.bytes = new byte[encoded.remaining()];
+            encoded.get(this.bytes);
+            if (value.indexOf('_') >= 0) {
+                this.any = new boolean[this.bytes.length];
+                for (int i = 0; i < value.length(); i++) {
+                    this.any[i] = value.charAt(i) == '_';
+                }
+                this.search = null;
+            } else {
+                this.any = null;
+                this.search = new ByteSearch(this.bytes);
+            }
+        }
+
+        /**
+         * Finds the leftmost match of this segment.
+         *
+         * @param data
+         *            the value data.
+         * @param from
+         *            the first position to try.
+         * @param to
+         *            the position where the segment must end before.
+         * @return the match position or -1 if not found.
+         */
+        int find(final byte[] data, final int from, final int to) {
+            if (this.search != null) {
+                return this.search.indexOf(data, from, to);
+            }
+            for (int i = from; (i + this.bytes.length) <= to; i++) {
+                if (this.matchesAt(data, i)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * Tests this segment in a position.
+         *
+         * @param data
+         *            the value data.
+         * @param position
+         *            the segment position.
+         * @return true if the segment matches.
+         */
+        boolean matchesAt(final byte[] data, final int position) {
+            for (int i = 0; i < this.bytes.length; i++) {
+                if ((data[position + i] != this.bytes[i]) && ((this.any == null) || !this.any[i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
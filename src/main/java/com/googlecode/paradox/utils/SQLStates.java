@@ -14,7 +14,7 @@ import java.sql.ResultSet;
  * Store the SQL States.
  *
  * @author Leonardo Alves da Costa
- * @version 1.1
+ * @version 1.2
  * @since 1.0
  */
 public enum SQLStates {
@@ -84,6 +84,16 @@ public enum SQLStates {
      */
     LOAD_DATA("1100"),
     
+    /**
+     * The statement was canceled.
+     */
+    QUERY_CANCELED("1017"),
+    
+    /**
+     * The query timeout expired.
+     */
+    QUERY_TIMEOUT("1018"),
+    
     /**
      * {@link ResultSet} not open for use.
      */
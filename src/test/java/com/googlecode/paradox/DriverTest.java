@@ -21,7 +21,7 @@ import org.junit.Test;
  * Unit test for {@link Driver}.
  *
  * @author Leonardo Alves da Costa
- * @version 1.0
+ * @version 1.6
  * @since 1.3
  */
 public final class DriverTest {
@@ -129,9 +129,19 @@ public final class DriverTest {
     public void testPropertyInfo() throws SQLException {
         final Driver driver = new Driver();
         final DriverPropertyInfo[] info = driver.getPropertyInfo("jdbc:paradox:target/test-classes/", new Properties());
-        Assert.assertEquals(2, info.length);
+        Assert.assertEquals(12, info.length);
         Assert.assertEquals("DBNAME", info[0].name);
         Assert.assertEquals("password", info[1].name);
+        Assert.assertEquals("maxGroupsInMemory", info[2].name);
+        Assert.assertEquals("aggregationThreads", info[3].name);
+        Assert.assertEquals("planCacheSize", info[4].name);
+        Assert.assertEquals("scanThreads", info[5].name);
+        Assert.assertEquals("scanQueueDepth", info[6].name);
+        Assert.assertEquals("lazyDecoding", info[7].name);
+        Assert.assertEquals("memoPrefetch", info[8].name);
+        Assert.assertEquals("blobIndexDir", info[9].name);
+        Assert.assertEquals("fullTextIndex", info[10].name);
+        Assert.assertEquals("trigramIndex", info[11].name);
     }
     
     /**
@@ -0,0 +1,153 @@
+/*
+ * ParadoxPreparedStatementTest.java 10/19/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free
+ * software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your option) any later version. This program is
+ * distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should
+ * have received a copy of the GNU General Public License along with this program. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox;
+
+import com.googlecode.paradox.integration.MainTest;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link ParadoxPreparedStatement} class.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4
+ */
+public class ParadoxPreparedStatementTest {
+
+    /**
+     * The database connection.
+     */
+    private Connection conn;
+
+    /**
+     * Register the database driver.
+     *
+     * @throws ClassNotFoundException
+     *             in case of failures.
+     */
+    @BeforeClass
+    public static void setUp() throws ClassNotFoundException {
+        Class.forName(Driver.class.getName());
+    }
+
+    /**
+     * Counts the rows of a result set.
+     *
+     * @param rs
+     *            the result set.
+     * @return the row count.
+     * @throws SQLException
+     *             in case of failures.
+     */
+    private static int count(final ResultSet rs) throws SQLException {
+        int count = 0;
+        while (rs.next()) {
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Close the test connection.
+     *
+     * @throws Exception
+     *             in case of failures.
+     */
+    @After
+    public void closeConnection() throws Exception {
+        if (this.conn != null) {
+            this.conn.close();
+        }
+    }
+
+    /**
+     * Connect to the test database.
+     *
+     * @throws Exception
+     *             in case of failures.
+     */
+    @Before
+    public void connect() throws Exception {
+        this.conn = DriverManager.getConnection(MainTest.CONNECTION_STRING + "db");
+    }
+
+    /**
+     * Test for executions with different parameter values.
+     *
+     * @throws SQLException
+     *             in case of failures.
+     */
+    @Test
+    public void testExecuteWithParameters() throws SQLException {
+        try (PreparedStatement stmt = this.conn.prepareStatement(
+                "SELECT \"Order No\" FROM orders WHERE \"Ship VIA\" = ? AND \"Order No\" < ?")) {
+            stmt.setString(1, "UPS");
+            stmt.setInt(2, 1010);
+            try (ResultSet rs = stmt.executeQuery()) {
+                Assert.assertEquals("Invalid row count.", 4, ParadoxPreparedStatementTest.count(rs));
+            }
+
+            stmt.setString(1, "DHL");
+            try (ResultSet rs = stmt.executeQuery()) {
+                Assert.assertEquals("Invalid row count.", 1, ParadoxPreparedStatementTest.count(rs));
+            }
+        }
+    }
+
+    /**
+     * Test for invalid parameter index.
+     *
+     * @throws SQLException
+     *             if there is no errors.
+     */
+    @Test(expected = SQLException.class)
+    public void testInvalidIndex() throws SQLException {
+        try (PreparedStatement stmt = this.conn.prepareStatement("SELECT * FROM orders WHERE \"Ship VIA\" = ?")) {
+            stmt.setString(2, "UPS");
+        }
+    }
+
+    /**
+     * Test for SQL text in prepared statement execution.
+     *
+     * @throws SQLException
+     *             if there is no errors.
+     */
+    @Test(expected = SQLException.class)
+    public void testSqlNotAllowed() throws SQLException {
+        try (PreparedStatement stmt = this.conn.prepareStatement("SELECT * FROM orders")) {
+            stmt.executeQuery("SELECT * FROM orders");
+        }
+    }
+
+    /**
+     * Test for execution with a parameter not set.
+     *
+     * @throws SQLException
+     *             if there is no errors.
+     */
+    @Test(expected = SQLException.class)
+    public void testParameterNotSet() throws SQLException {
+        try (PreparedStatement stmt = this.conn.prepareStatement("SELECT * FROM orders WHERE \"Ship VIA\" = ?")) {
+            stmt.setString(1, "UPS");
+            stmt.clearParameters();
+            stmt.executeQuery();
+        }
+    }
+}
@@ -11,11 +11,16 @@ package com.googlecode.paradox;
 
 import com.googlecode.paradox.data.table.value.FieldValue;
 import com.googlecode.paradox.results.Column;
+import com.googlecode.paradox.rowset.ParadoxRowId;
+import com.googlecode.paradox.utils.SQLStates;
 import java.sql.Connection;
+import java.sql.Date;
 import java.sql.DriverManager;
 import java.sql.ResultSet;
+import java.sql.RowId;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.sql.Timestamp;
 import java.sql.Types;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -30,7 +35,7 @@ import org.junit.Test;
  * Unit test for {@link ParadoxResultSet} class.
  *
  * @author Leonardo Alves da Costa
- * @version 1.0
+ * @version 1.6
  * @since 1.3
  */
 public class ParadoxResultSetTest {
@@ -186,6 +191,189 @@ public class ParadoxResultSetTest {
         }
     }
 
+    /**
+     * Test for statement max rows.
+     *
+     * @throws Exception
+     *             in case of failures.
+     */
+    @Test
+    public void testMaxRows() throws Exception {
+        try (Statement stmt = this.conn.createStatement()) {
+            stmt.setMaxRows(5);
+            try (ResultSet rs = stmt.executeQuery("SELECT AC FROM AREACODES")) {
+                int count = 0;
+                while (rs.next()) {
+                    count++;
+                    Assert.assertEquals("Invalid last row.", count == 5, rs.isLast());
+                }
+                Assert.assertEquals("Invalid row count.", 5, count);
+            }
+            try (ResultSet rs = stmt.executeQuery("SELECT AC FROM AREACODES ORDER BY AC DESC")) {
+                Assert.assertTrue("Invalid last row.", rs.last());
+                Assert.assertEquals("Invalid row count.", 5, rs.getRow());
+            }
+        }
+    }
+
+    /**
+     * Test for scrolling in rows read on demand.
+     *
+     * @throws Exception
+     *             in case of failures.
+     */
+    @Test
+    public void testScrollWithFetchSize() throws Exception {
+        try (Statement stmt = this.conn.createStatement()) {
+            stmt.setFetchSize(3);
+            try (ResultSet rs = stmt.executeQuery("SELECT AC FROM AREACODES")) {
+                Assert.assertTrue("No first row.", rs.next());
+                Assert.assertTrue("No second row.", rs.next());
+                Assert.assertFalse("Invalid last row.", rs.isLast());
+                Assert.assertFalse("Invalid after last.", rs.isAfterLast());
+                Assert.assertTrue("No last row.", rs.last());
+                Assert.assertEquals("Invalid row count.", 370, rs.getRow());
+                Assert.assertTrue("No first row.", rs.absolute(1));
+                Assert.assertEquals("Invalid first row.", "201", rs.getString("ac"));
+            }
+        }
+    }
+
+    /**
+     * Test for a cancel between the rows read on demand.
+     *
+     * @throws Exception
+     *             in case of failures.
+     */
+    @Test
+    public void testCancelBetweenFetches() throws Exception {
+        try (Statement stmt = this.conn.createStatement()) {
+            stmt.setFetchSize(5);
+            try (ResultSet rs = stmt.executeQuery("SELECT AC FROM AREACODES")) {
+                for (int i = 0; i < 3; i++) {
+                    Assert.assertTrue("No row.", rs.next());
+                }
+                stmt.cancel();
+                int rows = 3;
+                try {
+                    while (rs.next()) {
+                        rows++;
+                    }
+                    Assert.fail("Statement not canceled.");
+                } catch (final SQLException e) {
+                    Assert.assertEquals("Invalid state.", SQLStates.QUERY_CANCELED.getValue(), e.getSQLState());
+                }
+                Assert.assertTrue("Rows read after the cancel.", rows <= 5);
+            }
+
+            // A new execution is not canceled.
+            try (ResultSet rs = stmt.executeQuery("SELECT AC FROM AREACODES")) {
+                Assert.assertTrue("No first row.", rs.next());
+            }
+        }
+    }
+
+    /**
+     * Test for moving to any row without reading the rows before it.
+     *
+     * @throws Exception
+     *             in case of failures.
+     */
+    @Test
+    public void testScrollWithSeek() throws Exception {
+        final List<String> expected = new ArrayList<>();
+        try (Statement stmt = this.conn.createStatement()) {
+            try (ResultSet rs = stmt.executeQuery("SELECT AC FROM AREACODES")) {
+                while (rs.next()) {
+                    expected.add(rs.getString(1));
+                }
+            }
+
+            stmt.setFetchSize(5);
+            try (ResultSet rs = stmt.executeQuery("SELECT AC FROM AREACODES")) {
+                Assert.assertTrue("No row 300.", rs.absolute(300));
+                Assert.assertEquals("Invalid row 300.", expected.get(299), rs.getString(1));
+                Assert.assertTrue("No previous row.", rs.previous());
+                Assert.assertEquals("Invalid row 299.", expected.get(298), rs.getString(1));
+                Assert.assertTrue("No row 49.", rs.relative(-250));
+                Assert.assertEquals("Invalid row 49.", expected.get(48), rs.getString(1));
+                Assert.assertTrue("No row from the end.", rs.absolute(-2));
+                Assert.assertEquals("Invalid row from the end.", expected.get(368), rs.getString(1));
+                Assert.assertTrue("No last row.", rs.next());
+                Assert.assertTrue("Invalid last row.", rs.isLast());
+                Assert.assertFalse("Row after last.", rs.next());
+                Assert.assertTrue("Invalid after last.", rs.isAfterLast());
+                Assert.assertFalse("Row after last.", rs.relative(10));
+                Assert.assertTrue("No first row.", rs.first());
+                Assert.assertEquals("Invalid first row.", expected.get(0), rs.getString(1));
+                Assert.assertTrue("No last row.", rs.last());
+                Assert.assertEquals("Invalid row count.", 370, rs.getRow());
+            }
+        }
+    }
+
+    /**
+     * Test for the date conversions.
+     *
+     * @throws SQLException
+     *             in case of failures.
+     */
+    @Test
+    public void testDateConversions() throws SQLException {
+        try (Statement stmt = this.conn.createStatement();
+                ResultSet rs = stmt.executeQuery("SELECT \"Sale Date\" FROM orders")) {
+            Assert.assertTrue("No first row.", rs.next());
+            final Date date = rs.getDate(1);
+            Assert.assertNotNull("Null date.", date);
+            Assert.assertEquals("Invalid milliseconds.", date.getTime(), rs.getLong(1));
+            Assert.assertEquals("Invalid date.", date, rs.getObject(1, Date.class));
+            Assert.assertEquals("Invalid milliseconds.", Long.valueOf(date.getTime()), rs.getObject(1, Long.class));
+            Assert.assertEquals("Invalid timestamp.", date.getTime(), rs.getObject(1, Timestamp.class).getTime());
+            Assert.assertEquals("Invalid timestamp.", date.getTime(), rs.getTimestamp(1).getTime());
+            Assert.assertEquals("Invalid string.", date.toString(), rs.getObject("Sale Date", String.class));
+        }
+    }
+
+    /**
+     * Test for rows read again by ROWID.
+     *
+     * @throws Exception
+     *             in case of failures.
+     */
+    @Test
+    public void testRowId() throws Exception {
+        final List<RowId> rowIds = new ArrayList<>();
+        final List<String> expected = new ArrayList<>();
+        try (Statement stmt = this.conn.createStatement();
+                ResultSet rs = stmt.executeQuery("SELECT AC FROM AREACODES")) {
+            while (rs.next()) {
+                if ((rs.getRow() == 1) || (rs.getRow() == 200) || (rs.getRow() == 370)) {
+                    rowIds.add(rs.getRowId(1));
+                    expected.add(rs.getString(1));
+                }
+            }
+        }
+
+        final ParadoxConnection paradoxConnection = this.conn.unwrap(ParadoxConnection.class);
+        for (int i = 0; i < rowIds.size(); i++) {
+            final RowId rowId = ParadoxRowId.valueOf(rowIds.get(i).getBytes());
+            try (ResultSet rs = paradoxConnection.getRow(rowId)) {
+                Assert.assertTrue("Row not found.", rs.next());
+                Assert.assertEquals("Invalid row.", expected.get(i), rs.getString("ac"));
+                Assert.assertFalse("More than one row.", rs.next());
+            }
+        }
+
+        try (ResultSet rs = paradoxConnection.getRow(new ParadoxRowId("areacodes.db", 1, 5_000))) {
+            Assert.assertFalse("Row out of block.", rs.next());
+        }
+        try (Statement stmt = this.conn.createStatement();
+                ResultSet rs = stmt.executeQuery("SELECT AC FROM AREACODES ORDER BY AC")) {
+            Assert.assertTrue("No first row.", rs.next());
+            Assert.assertNull("ROWID in sorted rows.", rs.getRowId(1));
+        }
+    }
+
     /**
      * Test for first result.
      *
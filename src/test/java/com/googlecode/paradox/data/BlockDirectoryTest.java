@@ -0,0 +1,112 @@
+/*
+ * BlockDirectoryTest.java 10/19/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data;
+
+import com.googlecode.paradox.Driver;
+import com.googlecode.paradox.ParadoxConnection;
+import com.googlecode.paradox.integration.MainTest;
+import com.googlecode.paradox.metadata.ParadoxTable;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link BlockDirectory}.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4
+ */
+public class BlockDirectoryTest {
+
+    /**
+     * The database connection.
+     */
+    private ParadoxConnection conn;
+
+    /**
+     * Register the driver.
+     *
+     * @throws ClassNotFoundException
+     *             in case of connection errors.
+     */
+    @BeforeClass
+    public static void initClass() throws ClassNotFoundException {
+        Class.forName(Driver.class.getName());
+    }
+
+    /**
+     * Used to close the test connection.
+     *
+     * @throws Exception
+     *             in case closing of errors.
+     */
+    @After
+    public void closeConnection() throws Exception {
+        if (this.conn != null) {
+            this.conn.close();
+        }
+    }
+
+    /**
+     * Connect to test database.
+     *
+     * @throws Exception
+     *             in case of connection errors.
+     */
+    @Before
+    public void connect() throws Exception {
+        this.conn = (ParadoxConnection) DriverManager.getConnection(MainTest.CONNECTION_STRING + "db");
+    }
+
+    /**
+     * Test for the directory cached in table.
+     *
+     * @throws SQLException
+     *             in case of read errors.
+     */
+    @Test
+    public void testCached() throws SQLException {
+        final ParadoxTable table = TableData.listTables(this.conn, "areacodes.db").get(0);
+        Assert.assertSame("Directory not cached.", table.getBlockDirectory(), table.getBlockDirectory());
+    }
+
+    /**
+     * Test for block lookup by row.
+     *
+     * @throws SQLException
+     *             in case of read errors.
+     */
+    @Test
+    public void testFind() throws SQLException {
+        final ParadoxTable table = TableData.listTables(this.conn, "areacodes.db").get(0);
+        final BlockDirectory directory = table.getBlockDirectory();
+        Assert.assertEquals("Invalid row count.", table.getRowCount(), directory.getRowCount());
+        Assert.assertEquals("Invalid block count.", table.getUsedBlocks(), directory.getBlockCount());
+
+        Assert.assertEquals("Invalid first block.", 0, directory.find(0));
+        Assert.assertEquals("Invalid last block.", directory.getBlockCount() - 1,
+                directory.find(directory.getRowCount() - 1));
+        Assert.assertEquals("Row after last.", -1, directory.find(directory.getRowCount()));
+        Assert.assertEquals("Negative row.", -1, directory.find(-1));
+
+        for (int i = 0; i < directory.getBlockCount(); i++) {
+            final int first = directory.getFirstRow(i);
+            Assert.assertEquals("Invalid block.", i, directory.find(first));
+            Assert.assertEquals("Invalid rows.", directory.getFirstRow(i + 1) - first,
+                    directory.getBlockRows(directory.getBlock(i)));
+            Assert.assertEquals("Invalid offset.", table.getHeaderSize()
+                    + ((long) (directory.getBlock(i) - 1) * table.getBlockSizeBytes()), directory.getOffset(i));
+        }
+    }
+}
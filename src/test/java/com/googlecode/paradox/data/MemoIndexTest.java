@@ -0,0 +1,169 @@
+/*
+ * MemoIndexTest.java 10/19/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data;
+
+import com.googlecode.paradox.ParadoxConnection;
+import com.googlecode.paradox.integration.MainTest;
+import com.googlecode.paradox.metadata.ParadoxField;
+import com.googlecode.paradox.metadata.ParadoxTable;
+import com.googlecode.paradox.utils.TestUtil;
+import java.io.File;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Properties;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link MemoIndex} class.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.1
+ * @since 1.4
+ */
+public class MemoIndexTest {
+    
+    /**
+     * The database connection.
+     */
+    private ParadoxConnection conn;
+    
+    /**
+     * The database directory, also used as index directory.
+     */
+    private File dir;
+    
+    /**
+     * Used to close the test connection and remove the database copy.
+     *
+     * @throws Exception
+     *             in case closing of errors.
+     */
+    @After
+    public void closeConnection() throws Exception {
+        if (this.conn != null) {
+            this.conn.close();
+        }
+        TestUtil.deleteDatabase(this.dir);
+    }
+    
+    /**
+     * Connect to a copy of the test table.
+     *
+     * @throws Exception
+     *             in case of connection errors.
+     */
+    @Before
+    public void connect() throws Exception {
+        this.dir = TestUtil.copyDatabase("db", "CUSTOMER.DB", "CUSTOMER.MB");
+        final Properties info = new Properties();
+        info.setProperty("blobIndexDir", this.dir.getPath());
+        info.setProperty("fullTextIndex", "true");
+        this.conn = new ParadoxConnection(this.dir, MainTest.CONNECTION_STRING, info);
+    }
+    
+    /**
+     * Gets the test table.
+     *
+     * @return the test table.
+     * @throws SQLException
+     *             in case of read errors.
+     */
+    private ParadoxTable getTable() throws SQLException {
+        return TableData.listTables(this.conn, "CUSTOMER").get(0);
+    }
+    
+    /**
+     * Gets the memo column of the test table.
+     *
+     * @param table
+     *            the test table.
+     * @return the memo column.
+     */
+    private static ParadoxField getMemo(final ParadoxTable table) {
+        for (final ParadoxField field : table.getFields()) {
+            if ("Comments".equalsIgnoreCase(field.getName())) {
+                return field;
+            }
+        }
+        throw new AssertionError("Memo column not found.");
+    }
+    
+    /**
+     * Test for the index built by reading the memos.
+     *
+     * @throws Exception
+     *             in case of failures.
+     */
+    @Test
+    public void testBuild() throws Exception {
+        final ParadoxTable table = this.getTable();
+        final MemoIndex index = MemoIndex.open(table, MemoIndexTest.getMemo(table));
+        
+        Assert.assertTrue("Invalid memos read.", index.getReadCount() > 0);
+        Assert.assertTrue("Invalid word count.", index.getWordCount() > 0);
+        Assert.assertTrue("Index not current.", index.isCurrent(table));
+        Assert.assertEquals("Invalid candidate blocks.", 1, index.listBlocks(Collections.singleton("compan")).length);
+        Assert.assertEquals("Invalid candidate blocks.", 0, index.listBlocks(Arrays.asList("compan", "zzqx")).length);
+        Assert.assertArrayEquals("Invalid candidate blocks.", TableCursor.listBlocksByOffset(table),
+                index.listBlocks(Collections.<String> emptyList()));
+    }
+    
+    /**
+     * Test for the index loaded from the index file.
+     *
+     * @throws Exception
+     *             in case of failures.
+     */
+    @Test
+    public void testLoad() throws Exception {
+        final ParadoxTable table = this.getTable();
+        final MemoIndex built = MemoIndex.open(table, MemoIndexTest.getMemo(table));
+        final MemoIndex loaded = MemoIndex.open(table, MemoIndexTest.getMemo(table));
+        
+        Assert.assertEquals("Invalid memos read.", 0, loaded.getReadCount());
+        Assert.assertEquals("Invalid word count.", built.getWordCount(), loaded.getWordCount());
+        Assert.assertArrayEquals("Invalid candidate blocks.", built.listBlocks(Collections.singleton("the")),
+                loaded.listBlocks(Collections.singleton("the")));
+    }
+    
+    /**
+     * Test for the index refreshed after the MB file changes.
+     *
+     * @throws Exception
+     *             in case of failures.
+     */
+    @Test
+    public void testRefresh() throws Exception {
+        final ParadoxTable table = this.getTable();
+        final MemoIndex built = MemoIndex.open(table, MemoIndexTest.getMemo(table));
+        
+        final File blobFile = new File(this.dir, "CUSTOMER.MB");
+        Assert.assertTrue("Error changing file.", blobFile.setLastModified(blobFile.lastModified() + 10_000));
+        Assert.assertFalse("Index still current.", built.isCurrent(table));
+        
+        final MemoIndex refreshed = MemoIndex.open(table, MemoIndexTest.getMemo(table));
+        Assert.assertTrue("Index not current.", refreshed.isCurrent(table));
+        // The memo descriptors did not change, so no memo is read again.
+        Assert.assertEquals("Invalid memos read.", 0, refreshed.getReadCount());
+        Assert.assertEquals("Invalid word count.", built.getWordCount(), refreshed.getWordCount());
+    }
+    
+    /**
+     * Test for the words of a text.
+     */
+    @Test
+    public void testWords() {
+        Assert.assertEquals(Arrays.asList("the", "company", "x1"), MemoIndex.getWords("The company, (X1)!"));
+        Assert.assertEquals(Collections.<String> emptyList(), MemoIndex.getWords("%_ "));
+    }
+}
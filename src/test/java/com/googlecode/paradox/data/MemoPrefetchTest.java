@@ -0,0 +1,126 @@
+/*
+ * MemoPrefetchTest.java 10/19/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data;
+
+import com.googlecode.paradox.Driver;
+import com.googlecode.paradox.ParadoxConnection;
+import com.googlecode.paradox.data.table.value.ClobDescriptor;
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.integration.MainTest;
+import com.googlecode.paradox.metadata.ParadoxTable;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.List;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link MemoPrefetch}.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4
+ */
+public class MemoPrefetchTest {
+
+    /**
+     * The database connection.
+     */
+    private ParadoxConnection conn;
+
+    /**
+     * Register the driver.
+     *
+     * @throws ClassNotFoundException
+     *             in case of connection errors.
+     */
+    @BeforeClass
+    public static void initClass() throws ClassNotFoundException {
+        Class.forName(Driver.class.getName());
+    }
+
+    /**
+     * Used to close the test connection.
+     *
+     * @throws Exception
+     *             in case closing of errors.
+     */
+    @After
+    public void closeConnection() throws Exception {
+        if (this.conn != null) {
+            this.conn.close();
+        }
+    }
+
+    /**
+     * Connect to test database.
+     *
+     * @throws Exception
+     *             in case of connection errors.
+     */
+    @Before
+    public void connect() throws Exception {
+        this.conn = (ParadoxConnection) DriverManager.getConnection(MainTest.CONNECTION_STRING + "db");
+    }
+
+    /**
+     * Test for memos read ahead equal to the memos read one by one.
+     *
+     * @throws SQLException
+     *             in case of read errors.
+     */
+    @Test
+    public void testPrefetch() throws SQLException {
+        final ParadoxTable table = TableData.listTables(this.conn, "customer.db").get(0);
+        final List<List<FieldValue>> rows = TableData.loadData(table, table.getFields());
+        MemoPrefetch.prefetch(rows);
+
+        int memos = 0;
+        for (final List<FieldValue> row : rows) {
+            for (final FieldValue value : row) {
+                if (value.getValue() instanceof ClobDescriptor) {
+                    final ClobDescriptor descriptor = (ClobDescriptor) value.getValue();
+                    if (descriptor.getOffset() != 0) {
+                        Assert.assertArrayEquals("Invalid memo data.",
+                                descriptor.getFile().read(descriptor.getOffset()), descriptor.getData());
+                        memos++;
+                    }
+                }
+            }
+        }
+        Assert.assertTrue("No memos read.", memos > 0);
+    }
+
+    /**
+     * Test for memos already read kept.
+     *
+     * @throws SQLException
+     *             in case of read errors.
+     */
+    @Test
+    public void testPrefetchOnce() throws SQLException {
+        final ParadoxTable table = TableData.listTables(this.conn, "customer.db").get(0);
+        final List<List<FieldValue>> rows = TableData.loadData(table, table.getFields());
+        MemoPrefetch.prefetch(rows);
+        ClobDescriptor descriptor = null;
+        for (final FieldValue value : rows.get(1)) {
+            if (value.getValue() instanceof ClobDescriptor) {
+                descriptor = (ClobDescriptor) value.getValue();
+            }
+        }
+        Assert.assertNotNull("No memo field.", descriptor);
+        final byte[] data = descriptor.getData();
+        Assert.assertNotNull("Memo not read.", data);
+        MemoPrefetch.prefetch(rows);
+        Assert.assertSame("Memo read again.", data, descriptor.getData());
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * PrimaryKeyDataTest.java 10/19/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data;
+
+import com.googlecode.paradox.Driver;
+import com.googlecode.paradox.ParadoxConnection;
+import com.googlecode.paradox.integration.MainTest;
+import com.googlecode.paradox.metadata.ParadoxTable;
+import java.nio.charset.Charset;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link PrimaryKeyData}.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.1
+ * @since 1.4
+ */
+public class PrimaryKeyDataTest {
+    
+    /**
+     * The database connection.
+     */
+    private ParadoxConnection conn;
+    
+    /**
+     * Register the driver.
+     *
+     * @throws ClassNotFoundException
+     *             in case of connection errors.
+     */
+    @BeforeClass
+    public static void setUp() throws ClassNotFoundException {
+        Class.forName(Driver.class.getName());
+    }
+    
+    /**
+     * Used to close the test connection.
+     *
+     * @throws Exception
+     *             in case closing of errors.
+     */
+    @After
+    public void closeConnection() throws Exception {
+        if (this.conn != null) {
+            this.conn.close();
+        }
+    }
+    
+    /**
+     * Connect to test database.
+     *
+     * @throws Exception
+     *             in case of connection errors.
+     */
+    @Before
+    public void connect() throws Exception {
+        this.conn = (ParadoxConnection) DriverManager.getConnection(MainTest.CONNECTION_STRING + "geog");
+    }
+    
+    /**
+     * Test for the first and last key blocks.
+     *
+     * @throws SQLException
+     *             in case of failures.
+     */
+    @Test
+    public void testKeyBlock() throws SQLException {
+        final ParadoxTable table = TableData.listTables(this.conn, "County").get(0);
+        final int[] blocks = TableCursor.listBlocks(table);
+        Assert.assertEquals("Invalid first block.", blocks[0], PrimaryKeyData.getKeyBlock(this.conn, table, false));
+        Assert.assertEquals("Invalid last block.", blocks[blocks.length - 1],
+                PrimaryKeyData.getKeyBlock(this.conn, table, true));
+    }
+    
+    /**
+     * Test for the blocks of a key prefix.
+     *
+     * @throws SQLException
+     *             in case of failures.
+     */
+    @Test
+    public void testPrefixBlocks() throws SQLException {
+        final ParadoxTable table = TableData.listTables(this.conn, "tblAC").get(0);
+        final Charset charset = table.getCharset();
+        Assert.assertArrayEquals("Invalid blocks.", new int[] { 2 },
+                PrimaryKeyData.listPrefixBlocks(table, "5".getBytes(charset)));
+        Assert.assertArrayEquals("Invalid blocks.", new int[] { 1, 2 },
+                PrimaryKeyData.listPrefixBlocks(table, "4".getBytes(charset)));
+        Assert.assertArrayEquals("Invalid blocks.", new int[] { 2 },
+                PrimaryKeyData.listPrefixBlocks(table, "41".getBytes(charset)));
+        
+        table.setSortOrderID("DBWINUS0");
+        Assert.assertNull("Invalid blocks.", PrimaryKeyData.listPrefixBlocks(table, "5".getBytes(charset)));
+    }
+    
+    /**
+     * Test for table without primary key.
+     *
+     * @throws SQLException
+     *             in case of failures.
+     */
+    @Test
+    public void testWithoutPrimaryKey() throws SQLException {
+        final ParadoxTable table = TableData.listTables(this.conn, "County").get(0);
+        table.setName("Missing");
+        Assert.assertEquals("Invalid block.", 0, PrimaryKeyData.getKeyBlock(this.conn, table, false));
+    }
+}
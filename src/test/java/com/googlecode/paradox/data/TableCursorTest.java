@@ -0,0 +1,203 @@
+/*
+ * TableCursorTest.java 10/19/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data;
+
+import com.googlecode.paradox.Driver;
+import com.googlecode.paradox.ParadoxConnection;
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.integration.MainTest;
+import com.googlecode.paradox.metadata.ParadoxTable;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link TableCursor}.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.1
+ * @since 1.4
+ */
+public class TableCursorTest {
+
+    /**
+     * The database connection.
+     */
+    private ParadoxConnection conn;
+
+    /**
+     * Register the driver.
+     *
+     * @throws ClassNotFoundException
+     *             in case of connection errors.
+     */
+    @BeforeClass
+    public static void initClass() throws ClassNotFoundException {
+        Class.forName(Driver.class.getName());
+    }
+
+    /**
+     * Reads the first field of all rows in a block list.
+     *
+     * @param table
+     *            the table to read.
+     * @param blocks
+     *            the blocks to read.
+     * @return the first field values.
+     * @throws SQLException
+     *             in case of read errors.
+     */
+    private static List<Object> read(final ParadoxTable table, final int[] blocks) throws SQLException {
+        final List<Object> values = new ArrayList<>();
+        try (TableCursor cursor = new TableCursor(table, table.getFields(), blocks)) {
+            while (cursor.next()) {
+                values.add(cursor.getRow().get(0).getValue());
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Used to close the test connection.
+     *
+     * @throws Exception
+     *             in case closing of errors.
+     */
+    @After
+    public void closeConnection() throws Exception {
+        if (this.conn != null) {
+            this.conn.close();
+        }
+    }
+
+    /**
+     * Connect to test database.
+     *
+     * @throws Exception
+     *             in case of connection errors.
+     */
+    @Before
+    public void connect() throws Exception {
+        this.conn = (ParadoxConnection) DriverManager.getConnection(MainTest.CONNECTION_STRING + "db");
+    }
+
+    /**
+     * Test for the blocks in file order.
+     *
+     * @throws SQLException
+     *             in case of read errors.
+     */
+    @Test
+    public void testListBlocksByOffset() throws SQLException {
+        final ParadoxTable table = TableData.listTables(this.conn, "areacodes.db").get(0);
+        final int[] chain = TableCursor.listBlocks(table);
+        final int[] blocks = TableCursor.listBlocksByOffset(table);
+        for (int i = 1; i < blocks.length; i++) {
+            Assert.assertTrue("Blocks out of file order.", blocks[i - 1] < blocks[i]);
+        }
+        Arrays.sort(chain);
+        Assert.assertArrayEquals("Invalid blocks.", chain, blocks);
+    }
+
+    /**
+     * Test for rows decoded after the cursor moved to other blocks.
+     *
+     * @throws SQLException
+     *             in case of read errors.
+     */
+    @Test
+    public void testLazyRows() throws SQLException {
+        final ParadoxTable table = TableData.listTables(this.conn, "areacodes.db").get(0);
+        final List<List<FieldValue>> expected = TableData.loadData(table, table.getFields());
+        final List<List<FieldValue>> rows = new ArrayList<>();
+        try (TableCursor cursor = new TableCursor(table, table.getFields())) {
+            cursor.setLazy(true);
+            while (cursor.next()) {
+                rows.add(cursor.getRow());
+            }
+        }
+
+        Assert.assertEquals("Invalid row count.", expected.size(), rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            for (int j = 0; j < rows.get(i).size(); j++) {
+                Assert.assertEquals("Invalid value.", expected.get(i).get(j).getValue(), rows.get(i).get(j)
+                        .getValue());
+            }
+        }
+    }
+
+    /**
+     * Test for moving to a row.
+     *
+     * @throws SQLException
+     *             in case of read errors.
+     */
+    @Test
+    public void testSeek() throws SQLException {
+        final ParadoxTable table = TableData.listTables(this.conn, "areacodes.db").get(0);
+        final List<Object> expected = TableCursorTest.read(table, null);
+        final int[] reversed = TableCursor.listBlocks(table);
+        for (int i = 0; i < (reversed.length / 2); i++) {
+            final int block = reversed[i];
+            reversed[i] = reversed[reversed.length - 1 - i];
+            reversed[reversed.length - 1 - i] = block;
+        }
+        final List<Object> reversedValues = TableCursorTest.read(table, reversed);
+
+        try (TableCursor cursor = new TableCursor(table, table.getFields())) {
+            for (final int row : new int[] { 300, 0, 369, 150 }) {
+                Assert.assertTrue("Row not found.", cursor.seek(row));
+                Assert.assertTrue("No row.", cursor.next());
+                Assert.assertEquals("Invalid row.", expected.get(row), cursor.getRow().get(0).getValue());
+            }
+            Assert.assertFalse("Row after last.", cursor.seek(expected.size()));
+            Assert.assertFalse("Row after last.", cursor.next());
+        }
+        try (TableCursor cursor = new TableCursor(table, table.getFields(), reversed)) {
+            Assert.assertTrue("Row not found.", cursor.seek(10));
+            Assert.assertTrue("No row.", cursor.next());
+            Assert.assertEquals("Invalid row.", reversedValues.get(10), cursor.getRow().get(0).getValue());
+        }
+    }
+
+    /**
+     * Test for adjacent blocks read together.
+     *
+     * @throws SQLException
+     *             in case of read errors.
+     */
+    @Test
+    public void testReadRuns() throws SQLException {
+        final ParadoxTable table = TableData.listTables(this.conn, "areacodes.db").get(0);
+        final List<Object> expected = new ArrayList<>();
+        for (final List<FieldValue> row : TableData.loadData(table, table.getFields())) {
+            expected.add(row.get(0).getValue());
+        }
+
+        final int[] blocks = TableCursor.listBlocksByOffset(table);
+        Assert.assertTrue("Table without adjacent blocks.", blocks.length > 1);
+        Assert.assertEquals("Invalid rows.", expected, TableCursorTest.read(table, blocks));
+
+        // Without adjacent blocks, each block is read alone.
+        final int[] reversed = new int[blocks.length];
+        for (int i = 0; i < blocks.length; i++) {
+            reversed[i] = blocks[blocks.length - 1 - i];
+        }
+        final List<Object> values = TableCursorTest.read(table, reversed);
+        Assert.assertEquals("Invalid row count.", expected.size(), values.size());
+        Assert.assertTrue("Invalid rows.", values.containsAll(expected));
+    }
+}
@@ -13,7 +13,10 @@ import com.googlecode.paradox.data.table.value.FieldValue;
 import com.googlecode.paradox.integration.MainTest;
 import com.googlecode.paradox.metadata.ParadoxField;
 import com.googlecode.paradox.metadata.ParadoxTable;
+import com.googlecode.paradox.utils.Cancellation;
 import com.googlecode.paradox.utils.TestUtil;
+import java.io.File;
+import java.io.RandomAccessFile;
 import java.lang.reflect.InvocationTargetException;
 import java.sql.Driver;
 import java.sql.DriverManager;
@@ -30,7 +33,7 @@ import org.junit.Test;
  * Unit test for {@link TableData}.
  *
  * @author Leonardo Alves da Costa
- * @version 1.1
+ * @version 1.3
  * @since 1.0
  */
 public class TableDataTest {
@@ -103,6 +106,65 @@ public class TableDataTest {
         Assert.assertEquals("Error in load table.", table.getRowCount(), data.size());
     }
     
+    /**
+     * Test for a row loaded by reading only its block.
+     *
+     * @throws Exception
+     *             in case of failures.
+     */
+    @Test
+    public void testLoadRowReadsOneBlock() throws Exception {
+        final File dir = TestUtil.copyDatabase("db", "areacodes.DB");
+        try {
+            ParadoxTable table;
+            int block;
+            Object expected;
+            try (ParadoxConnection copy = new ParadoxConnection(dir, MainTest.CONNECTION_STRING)) {
+                table = TableData.listTables(copy, "areacodes").get(0);
+                final int[] blocks = TableCursor.listBlocks(table);
+                Assert.assertTrue("Only one block.", blocks.length > 1);
+                block = blocks[blocks.length - 1];
+                try (TableCursor cursor = new TableCursor(table, table.getFields(), new int[] { block })) {
+                    Assert.assertTrue("No row.", cursor.next() && cursor.next());
+                    expected = cursor.getRow().get(0).getValue();
+                }
+            }
+            
+            // Ends the block chain at the first block, so the other blocks can only be read by number.
+            try (RandomAccessFile file = new RandomAccessFile(new File(dir, "areacodes.DB"), "rw")) {
+                file.seek(table.getHeaderSize() + ((long) ((table.getFirstBlock() & 0xFFFF) - 1)
+                        * table.getBlockSizeBytes()));
+                file.writeShort(0);
+            }
+            
+            try (ParadoxConnection copy = new ParadoxConnection(dir, MainTest.CONNECTION_STRING)) {
+                table = TableData.listTables(copy, "areacodes").get(0);
+                final List<FieldValue> row = TableData.loadRow(table, block, 1);
+                Assert.assertNotNull("Row not found.", row);
+                Assert.assertEquals("Invalid row.", expected, row.get(0).getValue());
+                Assert.assertNull("Block out of file.", TableData.loadRow(table, table.getTotalBlocks() + 1, 0));
+                Assert.assertEquals("Block chain not changed.", 1, TableCursor.listBlocks(table).length);
+            }
+        } finally {
+            TestUtil.deleteDatabase(dir);
+        }
+    }
+    
+    /**
+     * Test for a load of a canceled statement.
+     *
+     * @throws SQLException
+     *             if there is no errors.
+     */
+    @Test(expected = SQLException.class)
+    public void testLoadCanceled() throws SQLException {
+        final ParadoxTable table = TableData.listTables(this.conn, "areacodes.db").get(0);
+        final Cancellation cancellation = new Cancellation();
+        cancellation.start();
+        cancellation.cancel();
+        TableData.loadData(table, table.getFields(), cancellation);
+    }
+    
     /**
      * Test for contact table.
      *
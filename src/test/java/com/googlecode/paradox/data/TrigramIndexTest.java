@@ -0,0 +1,205 @@
+/*
+ * TrigramIndexTest.java 10/19/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data;
+
+import com.googlecode.paradox.ParadoxConnection;
+import com.googlecode.paradox.integration.MainTest;
+import com.googlecode.paradox.metadata.ParadoxField;
+import com.googlecode.paradox.metadata.ParadoxTable;
+import com.googlecode.paradox.utils.TestUtil;
+import java.io.File;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Properties;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link TrigramIndex} class.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.2
+ * @since 1.4
+ */
+public class TrigramIndexTest {
+    
+    /**
+     * The database connection.
+     */
+    private ParadoxConnection conn;
+    
+    /**
+     * The database directory.
+     */
+    private File dir;
+    
+    /**
+     * Used to close the test connection and remove the database copy.
+     *
+     * @throws Exception
+     *             in case closing of errors.
+     */
+    @After
+    public void closeConnection() throws Exception {
+        if (this.conn != null) {
+            this.conn.close();
+        }
+        TestUtil.deleteDatabase(this.dir);
+    }
+    
+    /**
+     * Connect to a copy of the test table.
+     *
+     * @throws Exception
+     *             in case of connection errors.
+     */
+    @Before
+    public void connect() throws Exception {
+        this.dir = TestUtil.copyDatabase("geog", "County.DB");
+        final Properties info = new Properties();
+        info.setProperty("trigramIndex", "county.County");
+        this.conn = new ParadoxConnection(this.dir, MainTest.CONNECTION_STRING, info);
+    }
+    
+    /**
+     * Gets the test table.
+     *
+     * @return the test table.
+     * @throws SQLException
+     *             in case of read errors.
+     */
+    private ParadoxTable getTable() throws SQLException {
+        return TableData.listTables(this.conn, "County").get(0);
+    }
+    
+    /**
+     * Test for the index built by a table scan.
+     *
+     * @throws Exception
+     *             in case of failures.
+     */
+    @Test
+    public void testBuild() throws Exception {
+        final ParadoxTable table = this.getTable();
+        final ParadoxField field = table.findField("County");
+        Assert.assertTrue("Column without index.", table.isTrigramIndex(field));
+        
+        final TrigramIndex index = TrigramIndex.open(table, field);
+        Assert.assertTrue("Invalid trigram count.", index.getGramCount() > 0);
+        Assert.assertTrue("Index not current.", index.isCurrent(table));
+        Assert.assertTrue("Index file not saved.", new File(this.dir, "County.County.tri").isFile());
+        
+        final int blocks = TableCursor.listBlocks(table).length;
+        final int found = index.listBlocks(TrigramIndex.getGrams("%ingto%")).length;
+        Assert.assertTrue("Invalid candidate blocks.", (found > 0) && (found < blocks));
+        Assert.assertEquals("Invalid candidate blocks.", 0, index.listBlocks(TrigramIndex.getGrams("%zzq%")).length);
+        Assert.assertNull("Invalid candidate blocks.", index.listBlocks(Collections.<String> emptyList()));
+    }
+    
+    /**
+     * Test for the index loaded from the index file.
+     *
+     * @throws Exception
+     *             in case of failures.
+     */
+    @Test
+    public void testLoad() throws Exception {
+        final ParadoxTable table = this.getTable();
+        final TrigramIndex built = TrigramIndex.open(table, table.findField("County"));
+        final TrigramIndex loaded = TrigramIndex.open(this.getTable(), table.findField("County"));
+        
+        Assert.assertEquals("Invalid trigram count.", built.getGramCount(), loaded.getGramCount());
+        Assert.assertArrayEquals("Invalid candidate blocks.", built.listBlocks(TrigramIndex.getGrams("%son%")),
+                loaded.listBlocks(TrigramIndex.getGrams("%son%")));
+    }
+    
+    /**
+     * Test for the index invalidated when the table header changes.
+     *
+     * @throws Exception
+     *             in case of failures.
+     */
+    @Test
+    public void testHeaderChanged() throws Exception {
+        final ParadoxTable table = this.getTable();
+        final TrigramIndex index = TrigramIndex.open(table, table.findField("County"));
+        
+        final byte[] header = table.getHeader().clone();
+        header[6]++;
+        table.setHeader(header);
+        Assert.assertFalse("Index still current.", index.isCurrent(table));
+        Assert.assertTrue("Index not current.",
+                TrigramIndex.open(table, table.findField("County")).isCurrent(table));
+    }
+    
+    /**
+     * Test for the trigrams of a pattern.
+     */
+    @Test
+    public void testGrams() {
+        Assert.assertEquals(Arrays.asList("son", "ing", "ngt"), TrigramIndex.getGrams("%son_ingt%"));
+        Assert.assertEquals(Arrays.asList("aaa"), TrigramIndex.getGrams("aaaa%"));
+        Assert.assertEquals(Collections.<String> emptyList(), TrigramIndex.getGrams("%so%n_"));
+    }
+    
+    /**
+     * Test for the blocks of ROWIDs from block 0x8000.
+     */
+    @Test
+    public void testHighBlocks() {
+        final int[] rowIds = { (0x8001 << 0x10) | 2, (0x8001 << 0x10) | 5, 3 << 0x10, (0x7FFF << 0x10) | 1,
+            0x8000 << 0x10 };
+        Arrays.sort(rowIds);
+        Assert.assertArrayEquals(new int[] { 3, 0x7FFF, 0x8000, 0x8001 }, TrigramIndex.toBlocks(rowIds));
+    }
+    
+    /**
+     * Test for a LIKE search using the index.
+     *
+     * @throws Exception
+     *             in case of failures.
+     */
+    @Test
+    public void testLike() throws Exception {
+        final String sql = "select CountyID from County where County like '%son%'";
+        final int expected;
+        try (ParadoxConnection plain = new ParadoxConnection(this.dir, MainTest.CONNECTION_STRING)) {
+            expected = TrigramIndexTest.count(plain, sql);
+        }
+        Assert.assertTrue("Invalid row count.", expected > 0);
+        Assert.assertEquals("Invalid row count.", expected, TrigramIndexTest.count(this.conn, sql));
+        Assert.assertTrue("Index file not saved.", new File(this.dir, "County.County.tri").isFile());
+    }
+    
+    /**
+     * Counts the rows of a query.
+     *
+     * @param conn
+     *            the database connection.
+     * @param sql
+     *            the query.
+     * @return the number of rows.
+     * @throws SQLException
+     *             in case of failures.
+     */
+    private static int count(final ParadoxConnection conn, final String sql) throws SQLException {
+        int rows = 0;
+        try (Statement stmt = conn.createStatement(); ResultSet rs = stmt.executeQuery(sql)) {
+            while (rs.next()) {
+                rows++;
+            }
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * BcdFieldTest.java 10/19/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data.field;
+
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.metadata.ParadoxField;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.sql.SQLException;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link BcdField} class.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4
+ */
+public class BcdFieldTest {
+    
+    /**
+     * Creates a BCD field with two decimals.
+     *
+     * @return the BCD field.
+     * @throws SQLException
+     *             in case of errors.
+     */
+    private static ParadoxField createField() throws SQLException {
+        final ParadoxField field = new ParadoxField();
+        field.setType((byte) 0x17);
+        field.setSize(2);
+        return field;
+    }
+    
+    /**
+     * Test for invalid match.
+     */
+    @Test
+    public void testInvalidMatch() {
+        final BcdField field = new BcdField();
+        Assert.assertFalse(field.match(0));
+    }
+    
+    /**
+     * Test for negative values.
+     *
+     * @throws SQLException
+     *             in case of parse errors.
+     */
+    @Test
+    public void testParseNegative() throws SQLException {
+        final byte[] data = new byte[17];
+        data[0] = (byte) 0x82;
+        data[14] = 0x01;
+        data[15] = 0x23;
+        data[16] = 0x45;
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) ~data[i];
+        }
+        final FieldValue value = new BcdField().parse(null, ByteBuffer.wrap(data), BcdFieldTest.createField());
+        Assert.assertEquals("Invalid value.", new BigDecimal("-123.45"), value.getValue());
+    }
+    
+    /**
+     * Test for null values.
+     *
+     * @throws SQLException
+     *             in case of parse errors.
+     */
+    @Test
+    public void testParseNull() throws SQLException {
+        final FieldValue value = new BcdField().parse(null, ByteBuffer.wrap(new byte[17]), BcdFieldTest.createField());
+        Assert.assertTrue("Value is not null.", value.isNull());
+    }
+    
+    /**
+     * Test for positive values.
+     *
+     * @throws SQLException
+     *             in case of parse errors.
+     */
+    @Test
+    public void testParsePositive() throws SQLException {
+        final byte[] data = new byte[17];
+        data[0] = (byte) 0x82;
+        data[14] = 0x01;
+        data[15] = 0x23;
+        data[16] = 0x45;
+        final FieldValue value = new BcdField().parse(null, ByteBuffer.wrap(data), BcdFieldTest.createField());
+        Assert.assertEquals("Invalid value.", new BigDecimal("123.45"), value.getNumber());
+    }
+    
+    /**
+     * Test for valid match.
+     */
+    @Test
+    public void testValidMatch() {
+        final BcdField field = new BcdField();
+        Assert.assertTrue(field.match(0x17));
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * BinaryFieldTest.java 10/19/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data.field;
+
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.metadata.ParadoxField;
+import java.nio.ByteBuffer;
+import java.sql.SQLException;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link BinaryField} class.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4
+ */
+public class BinaryFieldTest {
+    
+    /**
+     * Test for invalid match.
+     */
+    @Test
+    public void testInvalidMatch() {
+        final BinaryField field = new BinaryField();
+        Assert.assertFalse(field.match(0));
+    }
+    
+    /**
+     * Test for parse method.
+     *
+     * @throws SQLException
+     *             in case of parse errors.
+     */
+    @Test
+    public void testParse() throws SQLException {
+        final ParadoxField field = new ParadoxField();
+        field.setType((byte) 0x18);
+        field.setSize(3);
+        final ByteBuffer buffer = ByteBuffer.wrap(new byte[] { 1, 0, 2, 3 });
+        
+        final FieldValue value = new BinaryField().parse(null, buffer, field);
+        Assert.assertArrayEquals("Invalid value.", new byte[] { 1, 0, 2 }, (byte[]) value.getValue());
+        Assert.assertEquals("Invalid position.", 3, buffer.position());
+        
+        Assert.assertTrue("Value is not null.",
+                new BinaryField().parse(null, ByteBuffer.wrap(new byte[3]), field).isNull());
+    }
+    
+    /**
+     * Test for valid match.
+     */
+    @Test
+    public void testValidMatch() {
+        final BinaryField field = new BinaryField();
+        Assert.assertTrue(field.match(0x18));
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * BlobFieldTest.java 10/19/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data.field;
+
+import com.googlecode.paradox.data.table.value.BlobDescriptor;
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.metadata.ParadoxField;
+import com.googlecode.paradox.metadata.ParadoxTable;
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.sql.SQLException;
+import java.sql.Types;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link BlobField} class.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4
+ */
+public class BlobFieldTest {
+    
+    /**
+     * Test for invalid match.
+     */
+    @Test
+    public void testInvalidMatch() {
+        final BlobField field = new BlobField();
+        Assert.assertFalse(field.match(0xC));
+    }
+    
+    /**
+     * Test for parse method.
+     *
+     * @throws SQLException
+     *             in case of parse errors.
+     */
+    @Test
+    public void testParse() throws SQLException {
+        final ParadoxField field = new ParadoxField();
+        field.setType((byte) 0x10);
+        field.setSize(14);
+        final ByteBuffer buffer = ByteBuffer.allocate(28);
+        buffer.put(new byte[] { 1, 2, 3, 0 });
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(0x20FF);
+        buffer.putInt(56_864);
+        buffer.putShort((short) 1);
+        buffer.flip();
+        buffer.order(ByteOrder.BIG_ENDIAN);
+        
+        final FieldValue value = new BlobField().parse(new ParadoxTable(new File("test.db"), "test"), buffer, field);
+        Assert.assertEquals("Invalid type.", Types.BLOB, value.getType());
+        final BlobDescriptor descriptor = (BlobDescriptor) value.getValue();
+        Assert.assertEquals("Invalid offset.", 0x20FF, descriptor.getOffset());
+        Assert.assertEquals("Invalid length.", 56_864, descriptor.getLength());
+        Assert.assertArrayEquals("Invalid leader.", new byte[] { 1, 2, 3, 0 }, descriptor.getLeaderData());
+        Assert.assertEquals("Invalid position.", 14, buffer.position());
+        Assert.assertEquals("Invalid byte order.", ByteOrder.BIG_ENDIAN, buffer.order());
+    }
+    
+    /**
+     * Test for empty blobs.
+     *
+     * @throws SQLException
+     *             in case of parse errors.
+     */
+    @Test
+    public void testParseNull() throws SQLException {
+        final ParadoxField field = new ParadoxField();
+        field.setType((byte) 0xD);
+        field.setSize(14);
+        final FieldValue value = new BlobField().parse(null, ByteBuffer.wrap(new byte[14]), field);
+        Assert.assertTrue("Value is not null.", value.isNull());
+    }
+    
+    /**
+     * Test for valid match.
+     */
+    @Test
+    public void testValidMatch() {
+        final BlobField field = new BlobField();
+        Assert.assertTrue(field.match(0xD));
+        Assert.assertTrue(field.match(0xF));
+        Assert.assertTrue(field.match(0x10));
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * TimestampFieldTest.java 10/19/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data.field;
+
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.utils.DateUtils;
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.util.GregorianCalendar;
+import java.util.TimeZone;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link TimestampField} class.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.1
+ * @since 1.4
+ */
+public class TimestampFieldTest {
+    
+    /**
+     * Test for invalid match.
+     */
+    @Test
+    public void testInvalidMatch() {
+        final TimestampField field = new TimestampField();
+        Assert.assertFalse(field.match(0));
+    }
+    
+    /**
+     * Test for parse method.
+     */
+    @Test
+    public void testParse() {
+        final long days = DateUtils.gregorianToSdn(2016, 6, 26) - 1_721_425;
+        final double millis = (days * 86_400_000d) + 45_030_000d;
+        final ByteBuffer buffer = ByteBuffer.allocate(8);
+        buffer.putLong(Double.doubleToLongBits(millis) | 0x8000_0000_0000_0000L);
+        buffer.flip();
+        
+        final TimestampField field = new TimestampField();
+        final FieldValue value = field.parse(null, buffer, null);
+        Assert.assertEquals("Invalid timestamp.",
+                new Timestamp(new GregorianCalendar(2016, 5, 26, 12, 30, 30).getTimeInMillis()), value.getValue());
+    }
+    
+    /**
+     * Test for parse method on the days the daylight saving time starts and ends.
+     */
+    @Test
+    public void testParseDaylightSaving() {
+        final TimeZone zone = TimeZone.getDefault();
+        TimeZone.setDefault(TimeZone.getTimeZone("America/New_York"));
+        try {
+            Assert.assertEquals("Invalid time after DST start.",
+                    new Timestamp(new GregorianCalendar(2016, 2, 13, 10, 0, 0).getTimeInMillis()),
+                    TimestampFieldTest.parse(2016, 3, 13, 36_000_000d));
+            Assert.assertEquals("Invalid time before DST start.",
+                    new Timestamp(new GregorianCalendar(2016, 2, 13, 1, 30, 0).getTimeInMillis()),
+                    TimestampFieldTest.parse(2016, 3, 13, 5_400_000d));
+            Assert.assertEquals("Invalid time after DST end.",
+                    new Timestamp(new GregorianCalendar(2016, 10, 6, 10, 0, 0).getTimeInMillis()),
+                    TimestampFieldTest.parse(2016, 11, 6, 36_000_000d));
+        } finally {
+            TimeZone.setDefault(zone);
+        }
+    }
+    
+    /**
+     * Test for null timestamp.
+     */
+    @Test
+    public void testParseNull() {
+        final TimestampField field = new TimestampField();
+        final FieldValue value = field.parse(null, ByteBuffer.wrap(new byte[8]), null);
+        Assert.assertTrue("Value is not null.", value.isNull());
+    }
+    
+    /**
+     * Test for valid match.
+     */
+    @Test
+    public void testValidMatch() {
+        final TimestampField field = new TimestampField();
+        Assert.assertTrue(field.match(0x15));
+    }
+    
+    /**
+     * Parses a timestamp.
+     *
+     * @param year
+     *            the year.
+     * @param month
+     *            the month, from one.
+     * @param day
+     *            the day of month.
+     * @param time
+     *            the milliseconds of the day.
+     * @return the timestamp parsed.
+     */
+    private static Object parse(final int year, final int month, final int day, final double time) {
+        final long days = DateUtils.gregorianToSdn(year, month, day) - 1_721_425;
+        final ByteBuffer buffer = ByteBuffer.allocate(8);
+        buffer.putLong(Double.doubleToLongBits((days * 86_400_000d) + time) | 0x8000_0000_0000_0000L);
+        buffer.flip();
+        return new TimestampField().parse(null, buffer, null).getValue();
+    }
+}
@@ -8,6 +8,8 @@
  */
 package com.googlecode.paradox.data.table.value;
 
+import com.googlecode.paradox.data.field.IntegerField;
+import com.googlecode.paradox.metadata.ParadoxField;
 import java.sql.SQLDataException;
 import java.sql.Types;
 import org.junit.Assert;
@@ -17,7 +19,7 @@ import org.junit.Test;
  * Unit test for {@link FieldValue} class.
  *
  * @author Leonardo Alves da Costa
- * @version 1.0
+ * @version 1.1
  * @since 1.3
  */
 public class FieldValueTest {
@@ -36,6 +38,24 @@ public class FieldValueTest {
         Assert.assertNull("Testing for invalid field.", fieldValue.getField());
     }
     
+    /**
+     * Test for a value decoded when first read.
+     *
+     * @throws SQLDataException
+     *             in case of errors.
+     */
+    @Test
+    public void testLazyValue() throws SQLDataException {
+        final ParadoxField field = new ParadoxField();
+        field.setType((byte) 3);
+        final byte[] data = new byte[] { 0, 0, (byte) 0x80, 5 };
+        final FieldValue fieldValue = new FieldValue(null, field, new IntegerField(), data, 2);
+        Assert.assertEquals("Invalid field.", field, fieldValue.getField());
+        Assert.assertEquals("Invalid type.", Types.INTEGER, fieldValue.getType());
+        data[3] = 6;
+        Assert.assertEquals("Invalid value.", 5, fieldValue.getNumber().intValue());
+    }
+    
     /**
      * Test for invalid {@link Boolean} value.
      *
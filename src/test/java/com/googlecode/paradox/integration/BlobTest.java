@@ -13,7 +13,11 @@ import java.sql.Clob;
 import java.sql.Driver;
 import java.sql.DriverManager;
 import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
 import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
@@ -27,7 +31,7 @@ import org.junit.experimental.categories.Category;
  * @author Leonardo Alves da Costa
  * @author Andre Mikhaylov
  * @since 1.2
- * @version 1.1
+ * @version 1.4
  */
 @Category(IntegrationTest.class)
 public class BlobTest {
@@ -48,6 +52,43 @@ public class BlobTest {
         Class.forName(Driver.class.getName());
     }
     
+    /**
+     * Reads all the text of a clob.
+     *
+     * @param clob
+     *            the clob to read.
+     * @return the clob text.
+     * @throws SQLException
+     *             in case of read errors.
+     */
+    private static String read(final Clob clob) throws SQLException {
+        if (clob.length() == 0) {
+            return "";
+        }
+        return clob.getSubString(1, (int) clob.length());
+    }
+    
+    /**
+     * Reads the first column of a query.
+     *
+     * @param conn
+     *            the connection to use.
+     * @param sql
+     *            the query.
+     * @return the values.
+     * @throws SQLException
+     *             in case of failures.
+     */
+    private static List<String> query(final ParadoxConnection conn, final String sql) throws SQLException {
+        final List<String> values = new ArrayList<>();
+        try (Statement stmt = conn.createStatement(); ResultSet rs = stmt.executeQuery(sql)) {
+            while (rs.next()) {
+                values.add(rs.getString(1));
+            }
+        }
+        return values;
+    }
+    
     /**
      * Used to close the test connection.
      *
@@ -126,6 +167,71 @@ public class BlobTest {
         }
     }
     
+    /**
+     * Test for memos read ahead by batch of rows.
+     *
+     * @throws Exception
+     *             in case of failures.
+     */
+    @Test
+    public void testReadBlobPrefetch() throws Exception {
+        final List<String> expected = new ArrayList<>();
+        try (Statement stmt = this.conn.createStatement();
+                ResultSet rs = stmt.executeQuery("SELECT comments FROM customer")) {
+            while (rs.next()) {
+                expected.add(BlobTest.read(rs.getClob("comments")));
+            }
+        }
+
+        final Properties info = new Properties();
+        info.setProperty("memoPrefetch", "true");
+        try (ParadoxConnection prefetch =
+                (ParadoxConnection) DriverManager.getConnection(MainTest.CONNECTION_STRING + "db", info);
+                Statement stmt = prefetch.createStatement();
+                ResultSet rs = stmt.executeQuery("SELECT comments FROM customer")) {
+            rs.setFetchSize(2);
+            int row = 0;
+            while (rs.next()) {
+                Assert.assertEquals("Invalid memo.", expected.get(row), BlobTest.read(rs.getClob("comments")));
+                row++;
+            }
+            Assert.assertEquals("Invalid row count.", expected.size(), row);
+        }
+    }
+    
+    /**
+     * Test for memos read by the MB block directory.
+     *
+     * @throws Exception
+     *             in case of failures.
+     */
+    @Test
+    public void testReadBlobIndexed() throws Exception {
+        final List<String> expected = new ArrayList<>();
+        try (Statement stmt = this.conn.createStatement();
+                ResultSet rs = stmt.executeQuery("SELECT comments FROM customer")) {
+            while (rs.next()) {
+                expected.add(BlobTest.read(rs.getClob("comments")));
+            }
+        }
+
+        final Properties info = new Properties();
+        info.setProperty("blobIndexDir", "target/blob-index");
+        for (int i = 0; i < 2; i++) {
+            try (ParadoxConnection indexed =
+                    (ParadoxConnection) DriverManager.getConnection(MainTest.CONNECTION_STRING + "db", info);
+                    Statement stmt = indexed.createStatement();
+                    ResultSet rs = stmt.executeQuery("SELECT comments FROM customer")) {
+                int row = 0;
+                while (rs.next()) {
+                    Assert.assertEquals("Invalid memo.", expected.get(row), BlobTest.read(rs.getClob("comments")));
+                    row++;
+                }
+                Assert.assertEquals("Invalid row count.", expected.size(), row);
+            }
+        }
+    }
+    
     /**
      * Test for CLOB with cp1251 charset.
      *
@@ -140,7 +246,7 @@ public class BlobTest {
         try {
             stmt = this.conn.createStatement();
             
-            rs = stmt.executeQuery("SELECT note FROM note1251 WHERE id=2");
+            rs = stmt.executeQuery("SELECT note FROM note1251 WHERE id=1");
             
             Assert.assertTrue("Nation locale: record not exists", rs.next());
             final Clob c = rs.getClob("note");
@@ -165,4 +271,29 @@ public class BlobTest {
             }
         }
     }
+    
+    /**
+     * Test for LIKE on memos with full-text indexes.
+     *
+     * @throws Exception
+     *             in case of failures.
+     */
+    @Test
+    public void testLikeFullTextIndex() throws Exception {
+        final String[] queries = { "SELECT custno FROM customer WHERE comments LIKE '%the%'",
+            "SELECT custno FROM customer WHERE comments LIKE '%compan%' or comments LIKE '%zzqx%'",
+            "SELECT custno FROM customer WHERE comments NOT LIKE '%the%'",
+            "SELECT template FROM hercules WHERE html LIKE '%HTML%'" };
+        final Properties info = new Properties();
+        info.setProperty("blobIndexDir", "target/blob-index");
+        info.setProperty("fullTextIndex", "true");
+        try (ParadoxConnection indexed =
+                (ParadoxConnection) DriverManager.getConnection(MainTest.CONNECTION_STRING + "db", info)) {
+            for (final String sql : queries) {
+                final List<String> expected = BlobTest.query(this.conn, sql);
+                Assert.assertFalse("No rows selected.", expected.isEmpty());
+                Assert.assertEquals("Invalid rows.", expected, BlobTest.query(indexed, sql));
+            }
+        }
+    }
 }
@@ -0,0 +1,226 @@
+/*
+ * BlobDirectoryTest.java 10/19/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.metadata;
+
+import com.googlecode.paradox.Driver;
+import com.googlecode.paradox.ParadoxConnection;
+import com.googlecode.paradox.data.TableData;
+import com.googlecode.paradox.data.table.value.ClobDescriptor;
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.integration.MainTest;
+import java.io.File;
+import java.io.FileInputStream;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link BlobDirectory}.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4
+ */
+public class BlobDirectoryTest {
+
+    /**
+     * The MB file used in tests.
+     */
+    private static final File MB_FILE = new File("target/test-classes/db/CUSTOMER.MB");
+
+    /**
+     * The database connection.
+     */
+    private ParadoxConnection conn;
+
+    /**
+     * Register the driver.
+     *
+     * @throws ClassNotFoundException
+     *             in case of connection errors.
+     */
+    @BeforeClass
+    public static void initClass() throws ClassNotFoundException {
+        Class.forName(Driver.class.getName());
+    }
+
+    /**
+     * Builds the directory of a MB file.
+     *
+     * @param file
+     *            the MB file.
+     * @return the MB block directory.
+     * @throws Exception
+     *             in case of read errors.
+     */
+    private static BlobDirectory build(final File file) throws Exception {
+        try (FileInputStream stream = new FileInputStream(file)) {
+            return BlobDirectory.build(stream.getChannel());
+        }
+    }
+
+    /**
+     * Used to close the test connection.
+     *
+     * @throws Exception
+     *             in case closing of errors.
+     */
+    @After
+    public void closeConnection() throws Exception {
+        if (this.conn != null) {
+            this.conn.close();
+        }
+    }
+
+    /**
+     * Connect to test database.
+     *
+     * @throws Exception
+     *             in case of connection errors.
+     */
+    @Before
+    public void connect() throws Exception {
+        this.conn = (ParadoxConnection) DriverManager.getConnection(MainTest.CONNECTION_STRING + "db");
+    }
+
+    /**
+     * Lists the memos stored in the MB file of a table.
+     *
+     * @param name
+     *            the table name.
+     * @return the memo descriptors.
+     * @throws SQLException
+     *             in case of read errors.
+     */
+    private List<ClobDescriptor> listMemos(final String name) throws SQLException {
+        final ParadoxTable table = TableData.listTables(this.conn, name).get(0);
+        final List<ClobDescriptor> memos = new ArrayList<>();
+        for (final List<FieldValue> row : TableData.loadData(table, table.getFields())) {
+            for (final FieldValue value : row) {
+                if ((value.getValue() instanceof ClobDescriptor)
+                        && (((ClobDescriptor) value.getValue()).getOffset() != 0)) {
+                    memos.add((ClobDescriptor) value.getValue());
+                }
+            }
+        }
+        return memos;
+    }
+
+    /**
+     * Test for the blocks in file order.
+     *
+     * @throws Exception
+     *             in case of read errors.
+     */
+    @Test
+    public void testBlocks() throws Exception {
+        final BlobDirectory directory = BlobDirectoryTest.build(BlobDirectoryTest.MB_FILE);
+        Assert.assertTrue("No blocks.", directory.getBlockCount() > 0);
+        Assert.assertEquals("Invalid first block.", BlobDirectory.BLOCK_SIZE, directory.getAddress(0));
+        for (int i = 1; i < directory.getBlockCount(); i++) {
+            Assert.assertTrue("Blocks out of file order.", directory.getAddress(i - 1) < directory.getAddress(i));
+        }
+    }
+
+    /**
+     * Test for the blob positions.
+     *
+     * @throws Exception
+     *             in case of read errors.
+     */
+    @Test
+    public void testDataStart() throws Exception {
+        final BlobDirectory directory = BlobDirectoryTest.build(BlobDirectoryTest.MB_FILE);
+        final List<ClobDescriptor> memos = this.listMemos("customer.db");
+        Assert.assertFalse("No memos.", memos.isEmpty());
+        for (final ClobDescriptor memo : memos) {
+            Assert.assertEquals("Invalid blob length.", memo.getLength(), directory.getLength(memo.getOffset()));
+            Assert.assertTrue("Invalid blob position.", directory.getDataStart(memo.getOffset()) > 0);
+        }
+        Assert.assertEquals("Invalid blob.", -1, directory.getDataStart(0x10FE));
+    }
+
+    /**
+     * Test for the blobs read by MB block directory.
+     *
+     * @throws Exception
+     *             in case of read errors.
+     */
+    @Test
+    public void testIndexedRead() throws Exception {
+        final File dir = new File("target/blob-index");
+        final File index = new File(dir, "CUSTOMER.MB.dir");
+        if (index.exists()) {
+            Assert.assertTrue("Index not deleted.", index.delete());
+        }
+
+        final ParadoxTable table = TableData.listTables(this.conn, "customer.db").get(0);
+        final BlobTable indexed = new BlobTable(table.getFile(), table.getName());
+        indexed.setIndexDir(dir);
+        for (final ClobDescriptor memo : this.listMemos("customer.db")) {
+            Assert.assertArrayEquals("Invalid blob data.", memo.getFile().read(memo.getOffset()),
+                    indexed.read(memo.getOffset()));
+        }
+        indexed.close();
+        Assert.assertTrue("Index not written.", index.isFile());
+    }
+
+    /**
+     * Test for the blobs stored after the first half of a sub block.
+     *
+     * @throws Exception
+     *             in case of read errors.
+     */
+    @Test
+    public void testIndexedReadSubBlock() throws Exception {
+        final ParadoxTable table = TableData.listTables(this.conn, "hercules.db").get(0);
+        final BlobTable indexed = new BlobTable(table.getFile(), table.getName());
+        indexed.setIndexDir(new File("target/blob-index"));
+        for (final ClobDescriptor memo : this.listMemos("hercules.db")) {
+            final byte[] data = indexed.read(memo.getOffset());
+            Assert.assertArrayEquals("Invalid blob data.", memo.getFile().read(memo.getOffset()), data);
+            Assert.assertNotEquals("Blank blob data.", ' ', data[0]);
+        }
+        indexed.close();
+    }
+
+    /**
+     * Test for the index file.
+     *
+     * @throws Exception
+     *             in case of read errors.
+     */
+    @Test
+    public void testSaveLoad() throws Exception {
+        final File index = new File("target/CUSTOMER.MB.test.dir");
+        final BlobDirectory directory = BlobDirectoryTest.build(BlobDirectoryTest.MB_FILE);
+        directory.save(index, BlobDirectoryTest.MB_FILE);
+        try {
+            final BlobDirectory loaded = BlobDirectory.load(index, BlobDirectoryTest.MB_FILE);
+            Assert.assertNotNull("Index not loaded.", loaded);
+            Assert.assertEquals("Invalid block count.", directory.getBlockCount(), loaded.getBlockCount());
+            for (final ClobDescriptor memo : this.listMemos("customer.db")) {
+                Assert.assertEquals("Invalid blob position.", directory.getDataStart(memo.getOffset()),
+                        loaded.getDataStart(memo.getOffset()));
+                Assert.assertEquals("Invalid blob length.", directory.getLength(memo.getOffset()),
+                        loaded.getLength(memo.getOffset()));
+            }
+            Assert.assertNull("Index of other file loaded.",
+                    BlobDirectory.load(index, new File("target/test-classes/db/HERCULES.MB")));
+        } finally {
+            Assert.assertTrue("Index not deleted.", index.delete());
+        }
+    }
+}
@@ -16,7 +16,7 @@ import org.junit.Test;
  * Unit test for {@link ParadoxField} class.
  *
  * @author Leonardo Alves da Costa
- * @version 1.0
+ * @version 1.1
  * @since 1.3
  */
 public class ParadoxFieldTest {
@@ -176,6 +176,21 @@ public class ParadoxFieldTest {
         Assert.assertEquals("Field size invalid.", 10, field.getSize());
     }
     
+    /**
+     * Test for BCD field size.
+     *
+     * @throws SQLException
+     *             in case of errors.
+     */
+    @Test
+    public void testSizeBcd() throws SQLException {
+        final ParadoxField field = new ParadoxField();
+        field.setType((byte) 0x17);
+        field.setSize(2);
+        Assert.assertEquals("Field size invalid.", 2, field.getSize());
+        Assert.assertEquals("Physical field size invalid.", 17, field.getPhysicsSize());
+    }
+    
     /**
      * Test for {@link ParadoxField#toString()} method.
      *
@@ -198,10 +213,15 @@ public class ParadoxFieldTest {
         field.setSize(20);
         Assert.assertEquals("Field size invalid.", 10, field.getSize());
         
-        field.setType((byte) 0x18);
+        field.setType((byte) 0x10);
         field.setSize(20);
         Assert.assertEquals("Field size invalid.", 10, field.getSize());
         
+        // Bytes fields are stored in the record.
+        field.setType((byte) 0x18);
+        field.setSize(20);
+        Assert.assertEquals("Field size invalid.", 20, field.getSize());
+        
         // Not changed by type
         field.setType((byte) 0xF);
         field.setSize(20);
@@ -9,14 +9,23 @@
 package com.googlecode.paradox.parser;
 
 import com.googlecode.paradox.parser.nodes.FieldNode;
+import com.googlecode.paradox.parser.nodes.FunctionNode;
+import com.googlecode.paradox.parser.nodes.OrderType;
 import com.googlecode.paradox.parser.nodes.SQLNode;
 import com.googlecode.paradox.parser.nodes.SelectNode;
 import com.googlecode.paradox.parser.nodes.StatementNode;
+import com.googlecode.paradox.parser.nodes.comparisons.BetweenNode;
 import com.googlecode.paradox.parser.nodes.comparisons.EqualsNode;
+import com.googlecode.paradox.parser.nodes.comparisons.InNode;
+import com.googlecode.paradox.parser.nodes.comparisons.LikeNode;
 import com.googlecode.paradox.parser.nodes.comparisons.NotEqualsNode;
 import com.googlecode.paradox.parser.nodes.conditional.ANDNode;
+import com.googlecode.paradox.parser.nodes.conditional.NOTNode;
 import com.googlecode.paradox.parser.nodes.values.CharacterNode;
+import com.googlecode.paradox.parser.nodes.values.NullNode;
 import com.googlecode.paradox.parser.nodes.values.NumericNode;
+import com.googlecode.paradox.parser.nodes.values.ParameterNode;
+import java.sql.SQLException;
 import java.util.List;
 import org.junit.Assert;
 import org.junit.Test;
@@ -26,7 +35,7 @@ import org.junit.Test;
  *
  * @author Leonardo Alves da Costa
  * @since 1.0
- * @version 1.1
+ * @version 1.4
  */
 public class SQLParserTest {
     
@@ -183,6 +192,78 @@ public class SQLParserTest {
         Assert.assertEquals("STATE", select.getTables().get(1).getAlias());
     }
     
+    /**
+     * Test for ORDER BY with LIMIT and OFFSET.
+     *
+     * @throws Exception
+     *             in case of failures.
+     */
+    @Test
+    public void testOrderByWithLimit() throws Exception {
+        final SQLParser parser = new SQLParser(
+                "SELECT * FROM client c WHERE a = b ORDER BY a DESC, c.b LIMIT 10 OFFSET 5");
+        final SelectNode select = (SelectNode) parser.parse().get(0);
+        
+        Assert.assertEquals(1, select.getConditions().size());
+        Assert.assertEquals(2, select.getOrder().size());
+        Assert.assertEquals("a", select.getOrder().get(0).getName());
+        Assert.assertEquals(OrderType.DESC, select.getOrderTypes().get(0));
+        Assert.assertEquals("c.b", select.getOrder().get(1).getName());
+        Assert.assertEquals(OrderType.ASC, select.getOrderTypes().get(1));
+        Assert.assertEquals(Integer.valueOf(10), select.getLimit());
+        Assert.assertEquals(Integer.valueOf(5), select.getOffset());
+    }
+    
+    /**
+     * Test for TOP token.
+     *
+     * @throws Exception
+     *             in case of failures.
+     */
+    @Test
+    public void testTop() throws Exception {
+        final SQLParser parser = new SQLParser("SELECT TOP 3 a FROM client ORDER BY a");
+        final SelectNode select = (SelectNode) parser.parse().get(0);
+        
+        Assert.assertEquals(1, select.getFields().size());
+        Assert.assertEquals(1, select.getOrder().size());
+        Assert.assertEquals(Integer.valueOf(3), select.getLimit());
+        Assert.assertNull(select.getOffset());
+    }
+    
+    /**
+     * Test for GROUP BY with aggregate functions.
+     *
+     * @throws Exception
+     *             in case of failures.
+     */
+    @Test
+    public void testGroupBy() throws Exception {
+        final SQLParser parser = new SQLParser(
+                "SELECT a, COUNT(*) AS total, SUM(c.b) FROM client c GROUP BY a, c.d ORDER BY total DESC");
+        final SelectNode select = (SelectNode) parser.parse().get(0);
+        
+        Assert.assertEquals(3, select.getFields().size());
+        Assert.assertTrue(select.getFields().get(1) instanceof FunctionNode);
+        Assert.assertEquals("COUNT(*) AS total", select.getFields().get(1).toString());
+        Assert.assertEquals("SUM(c.b)", select.getFields().get(2).toString());
+        Assert.assertEquals(2, select.getGroups().size());
+        Assert.assertEquals("c.d", select.getGroups().get(1).getName());
+        Assert.assertEquals(1, select.getOrder().size());
+    }
+    
+    /**
+     * Test for invalid LIMIT value.
+     *
+     * @throws Exception
+     *             in case of failures.
+     */
+    @Test(expected = SQLException.class)
+    public void testInvalidLimit() throws Exception {
+        final SQLParser parser = new SQLParser("SELECT * FROM client LIMIT a");
+        parser.parse();
+    }
+    
     /**
      * Test for where token.
      *
@@ -216,6 +297,34 @@ public class SQLParserTest {
         Assert.assertEquals("t", ((NotEqualsNode) select.getConditions().get(2)).getLast().getName());
     }
     
+    /**
+     * Test for parameter markers and literal values in WHERE.
+     *
+     * @throws Exception
+     *             in case of failures.
+     */
+    @Test
+    public void testWhereWithParameters() throws Exception {
+        final SQLParser parser = new SQLParser(
+                "SELECT * FROM client WHERE a = ? and b <> 'x''y' and c between ? and -5");
+        final SelectNode select = (SelectNode) parser.parse().get(0);
+        
+        Assert.assertEquals(2, select.getParameterCount());
+        Assert.assertEquals(5, select.getConditions().size());
+        
+        final EqualsNode equals = (EqualsNode) select.getConditions().get(0);
+        Assert.assertTrue(equals.getLast() instanceof ParameterNode);
+        Assert.assertEquals(1, ((ParameterNode) equals.getLast()).getIndex());
+        
+        final NotEqualsNode notEquals = (NotEqualsNode) select.getConditions().get(2);
+        Assert.assertTrue(notEquals.getLast() instanceof CharacterNode);
+        Assert.assertEquals("x'y", notEquals.getLast().getName());
+        
+        final BetweenNode between = (BetweenNode) select.getConditions().get(4);
+        Assert.assertEquals(2, ((ParameterNode) between.getFirst()).getIndex());
+        Assert.assertEquals("-5", between.getLast().getName());
+    }
+    
     /**
      * Test a where with alias.
      *
@@ -241,9 +350,79 @@ public class SQLParserTest {
         
         Assert.assertEquals(1, select.getConditions().size());
         Assert.assertTrue(select.getConditions().get(0) instanceof EqualsNode);
-        Assert.assertEquals("test", ((EqualsNode) select.getConditions().get(0)).getFirst().getTableName());
+        Assert.assertEquals("test",
+                ((FieldNode) ((EqualsNode) select.getConditions().get(0)).getFirst()).getTableName());
         Assert.assertEquals("a", ((EqualsNode) select.getConditions().get(0)).getFirst().getName());
-        Assert.assertEquals("c", ((EqualsNode) select.getConditions().get(0)).getLast().getTableName());
+        Assert.assertEquals("c", ((FieldNode) ((EqualsNode) select.getConditions().get(0)).getLast()).getTableName());
         Assert.assertEquals("b", ((EqualsNode) select.getConditions().get(0)).getLast().getName());
     }
+    
+    /**
+     * Test for LIKE and NOT LIKE in WHERE.
+     *
+     * @throws Exception
+     *             in case of failures.
+     */
+    @Test
+    public void testWhereLike() throws Exception {
+        final SQLParser parser = new SQLParser("SELECT * FROM client WHERE a LIKE 'x%' and b NOT LIKE ?");
+        final SelectNode select = (SelectNode) parser.parse().get(0);
+        
+        Assert.assertEquals(3, select.getConditions().size());
+        final LikeNode like = (LikeNode) select.getConditions().get(0);
+        Assert.assertEquals("a", like.getFirst().getName());
+        Assert.assertEquals("x%", like.getLast().getName());
+        
+        final NOTNode not = (NOTNode) select.getConditions().get(2);
+        final LikeNode notLike = (LikeNode) not.getChildhood().iterator().next();
+        Assert.assertEquals("b", notLike.getFirst().getName());
+        Assert.assertTrue(notLike.getLast() instanceof ParameterNode);
+    }
+    
+    /**
+     * Test for NOT without LIKE after a column.
+     *
+     * @throws SQLException
+     *             if there is no errors.
+     */
+    @Test(expected = SQLException.class)
+    public void testWhereNotWithoutLike() throws SQLException {
+        new SQLParser("SELECT * FROM client WHERE a NOT = 'x'").parse();
+    }
+    
+    /**
+     * Test for IN and NOT IN in WHERE.
+     *
+     * @throws Exception
+     *             in case of failures.
+     */
+    @Test
+    public void testWhereIn() throws Exception {
+        final SQLParser parser = new SQLParser("SELECT * FROM client WHERE a IN ('x', 1, ?) and b NOT IN (null)");
+        final SelectNode select = (SelectNode) parser.parse().get(0);
+        
+        Assert.assertEquals(3, select.getConditions().size());
+        final InNode in = (InNode) select.getConditions().get(0);
+        Assert.assertEquals("a", in.getField().getName());
+        Assert.assertEquals(3, in.getValues().size());
+        Assert.assertTrue(in.getValues().get(0) instanceof CharacterNode);
+        Assert.assertTrue(in.getValues().get(1) instanceof NumericNode);
+        Assert.assertTrue(in.getValues().get(2) instanceof ParameterNode);
+        
+        final NOTNode not = (NOTNode) select.getConditions().get(2);
+        final InNode notIn = (InNode) not.getChildhood().iterator().next();
+        Assert.assertEquals("b", notIn.getField().getName());
+        Assert.assertTrue(notIn.getValues().get(0) instanceof NullNode);
+    }
+    
+    /**
+     * Test for IN without the closing parenthesis.
+     *
+     * @throws SQLException
+     *             if there is no errors.
+     */
+    @Test(expected = SQLException.class)
+    public void testWhereInWithoutParenthesis() throws SQLException {
+        new SQLParser("SELECT * FROM client WHERE a IN ('x', 'y'").parse();
+    }
 }
@@ -24,7 +24,8 @@ public class TokenTypeTest {
      * Used to test the conditional breaks.
      */
     private static final TokenType[] CONDITIONAL_BREAKS = { TokenType.ORDER, TokenType.HAVING, TokenType.RPAREN,
-            TokenType.LEFT, TokenType.RIGHT, TokenType.OUTER, TokenType.INNER, TokenType.JOIN };
+            TokenType.LEFT, TokenType.RIGHT, TokenType.OUTER, TokenType.INNER, TokenType.JOIN, TokenType.LIMIT,
+            TokenType.OFFSET, TokenType.GROUP };
     
     /**
      * Used to test the operator values.
@@ -119,6 +119,21 @@ public class SelectNodeTest {
                 node.toString());
     }
     
+    /**
+     * Test for {@link SelectNode#toString()} method with order and limit.
+     */
+    @Test
+    public void testToStringWithLimit() {
+        final SelectNode node = new SelectNode();
+        node.addField(new FieldNode("t", "field", "f"));
+        node.addTable(new TableNode("table1", "t"));
+        node.addOrderBy(new IdentifierNode("f"), OrderType.DESC);
+        node.setLimit(10);
+        node.setOffset(2);
+        
+        Assert.assertEquals("SELECT t.field AS f FROM table1 AS t ORDER BY f DESC LIMIT 10 OFFSET 2", node.toString());
+    }
+    
     /**
      * Test for {@link SelectNode#toString()} method with empty where.
      */
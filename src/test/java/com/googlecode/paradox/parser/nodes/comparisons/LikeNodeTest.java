@@ -0,0 +1,34 @@
+/*
+ * LikeNodeTest.java 10/19/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.parser.nodes.comparisons;
+
+import com.googlecode.paradox.parser.nodes.FieldNode;
+import com.googlecode.paradox.parser.nodes.values.CharacterNode;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link LikeNode} class.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4
+ */
+public class LikeNodeTest {
+    
+    /**
+     * Test for {@link LikeNode#toString()} method.
+     */
+    @Test
+    public void testToString() {
+        final FieldNode first = new FieldNode("table", "first", "first");
+        final LikeNode node = new LikeNode(first, new CharacterNode("a%", null));
+        Assert.assertEquals("table.first LIKE 'a%'", node.toString());
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * PlanCacheTest.java 10/19/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner;
+
+import com.googlecode.paradox.ParadoxConnection;
+import com.googlecode.paradox.integration.MainTest;
+import com.googlecode.paradox.parser.nodes.SelectNode;
+import com.googlecode.paradox.parser.nodes.StatementNode;
+import com.googlecode.paradox.planner.plan.SelectPlan;
+import com.googlecode.paradox.utils.TestUtil;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.sql.SQLException;
+import java.util.List;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link PlanCache} class.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.1
+ * @since 1.4
+ */
+public class PlanCacheTest {
+    
+    /**
+     * The SQL used in tests.
+     */
+    private static final String SQL = "select state from areacodes";
+    
+    /**
+     * The database connection.
+     */
+    private ParadoxConnection conn;
+    
+    /**
+     * The database directory.
+     */
+    private File dir;
+    
+    /**
+     * Used to close the test connection and remove the database copy.
+     *
+     * @throws Exception
+     *             in case closing of errors.
+     */
+    @After
+    public void closeConnection() throws Exception {
+        if (this.conn != null) {
+            this.conn.close();
+        }
+        TestUtil.deleteDatabase(this.dir);
+    }
+    
+    /**
+     * Connect to a copy of the test table.
+     *
+     * @throws Exception
+     *             in case of connection errors.
+     */
+    @Before
+    public void connect() throws Exception {
+        this.dir = TestUtil.copyDatabase("db", "areacodes.DB");
+        this.conn = new ParadoxConnection(this.dir, MainTest.CONNECTION_STRING);
+    }
+    
+    /**
+     * Test for the least recently used eviction.
+     *
+     * @throws SQLException
+     *             in case of failures.
+     */
+    @Test
+    public void testEviction() throws SQLException {
+        final PlanCache cache = new PlanCache(this.conn, 2);
+        final List<StatementNode> first = cache.parse(PlanCacheTest.SQL);
+        final List<StatementNode> second = cache.parse("select ac from areacodes");
+        Assert.assertSame("Statement not cached.", first, cache.parse(PlanCacheTest.SQL));
+        
+        cache.parse("select * from areacodes");
+        Assert.assertEquals("Invalid cache size.", 2, cache.size());
+        Assert.assertSame("Recently used statement removed.", first, cache.parse(PlanCacheTest.SQL));
+        Assert.assertNotSame("Eldest statement not removed.", second, cache.parse("select ac from areacodes"));
+    }
+    
+    /**
+     * Test for plan invalidation after a table header change.
+     *
+     * @throws IOException
+     *             in case of I/O errors.
+     * @throws SQLException
+     *             in case of failures.
+     */
+    @Test
+    public void testHeaderChange() throws IOException, SQLException {
+        final PlanCache cache = this.conn.getPlanCache();
+        final SelectNode node = (SelectNode) cache.parse(PlanCacheTest.SQL).get(0);
+        final SelectPlan plan = cache.getPlan(PlanCacheTest.SQL, node);
+        Assert.assertSame("Plan not cached.", plan, cache.getPlan(PlanCacheTest.SQL, node));
+        
+        try (RandomAccessFile file = new RandomAccessFile(new File(this.dir, "areacodes.DB"), "rw")) {
+            // Unused header byte.
+            file.seek(0x12);
+            final int value = file.read();
+            file.seek(0x12);
+            file.write(value ^ 1);
+        }
+        Assert.assertNotSame("Plan not invalidated.", plan, cache.getPlan(PlanCacheTest.SQL, node));
+    }
+    
+    /**
+     * Test for disabled cache.
+     *
+     * @throws SQLException
+     *             in case of failures.
+     */
+    @Test
+    public void testDisabled() throws SQLException {
+        final PlanCache cache = new PlanCache(this.conn, 0);
+        final SelectNode node = (SelectNode) cache.parse(PlanCacheTest.SQL).get(0);
+        Assert.assertEquals("Invalid cache size.", 0, cache.size());
+        Assert.assertNotSame("Plan cached.", cache.getPlan(PlanCacheTest.SQL, node),
+                cache.getPlan(PlanCacheTest.SQL, node));
+    }
+}
@@ -10,15 +10,18 @@ package com.googlecode.paradox.planner;
 
 import com.googlecode.paradox.Driver;
 import com.googlecode.paradox.ParadoxConnection;
+import com.googlecode.paradox.data.table.value.FieldValue;
 import com.googlecode.paradox.integration.MainTest;
 import com.googlecode.paradox.parser.SQLParser;
 import com.googlecode.paradox.parser.nodes.IdentifierNode;
 import com.googlecode.paradox.parser.nodes.SelectNode;
 import com.googlecode.paradox.parser.nodes.StatementNode;
 import com.googlecode.paradox.planner.plan.SelectPlan;
+import java.math.BigDecimal;
 import java.sql.DriverManager;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
+import java.util.List;
 import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
@@ -29,7 +32,7 @@ import org.junit.Test;
  * Unit test for {@link Planner}.
  *
  * @author Leonardo Alves da Costa
- * @version 1.1
+ * @version 1.7
  * @since 1.1
  */
 public class PlannerTest {
@@ -97,6 +100,360 @@ public class PlannerTest {
         Assert.assertEquals("Third column not 'Cities'.", "CITIES", plan.getColumns().get(2).getName());
     }
     
+    /**
+     * Test for LIMIT and OFFSET without ORDER BY.
+     *
+     * @throws SQLException
+     *             in case of failures.
+     */
+    @Test
+    public void testLimitWithOffset() throws SQLException {
+        final Planner planner = new Planner(this.conn);
+        final SelectPlan all = (SelectPlan) planner.create(new SQLParser("select ac from areacodes").parse().get(0));
+        all.execute();
+        final SelectPlan plan = (SelectPlan) planner
+                .create(new SQLParser("select ac from areacodes limit 5 offset 2").parse().get(0));
+        plan.execute();
+        
+        Assert.assertEquals("Invalid row count.", 5, plan.getValues().size());
+        for (int i = 0; i < 5; i++) {
+            Assert.assertEquals("Invalid row value.", all.getValues().get(i + 2).get(0).getValue(),
+                    plan.getValues().get(i).get(0).getValue());
+        }
+    }
+    
+    /**
+     * Test for ORDER BY with TOP (top N heap).
+     *
+     * @throws SQLException
+     *             in case of failures.
+     */
+    @Test
+    public void testOrderByWithTop() throws SQLException {
+        final Planner planner = new Planner(this.conn);
+        final SelectPlan sorted = (SelectPlan) planner
+                .create(new SQLParser("select state, ac from areacodes order by state desc, ac").parse().get(0));
+        sorted.execute();
+        final SelectPlan plan = (SelectPlan) planner
+                .create(new SQLParser("select top 10 state, ac from areacodes order by state desc, ac").parse().get(0));
+        plan.execute();
+        
+        Assert.assertEquals("Invalid row count.", 10, plan.getValues().size());
+        for (int i = 0; i < 10; i++) {
+            Assert.assertEquals("Invalid state.", sorted.getValues().get(i).get(0).getValue(),
+                    plan.getValues().get(i).get(0).getValue());
+            Assert.assertEquals("Invalid area code.", sorted.getValues().get(i).get(1).getValue(),
+                    plan.getValues().get(i).get(1).getValue());
+        }
+        
+        final String first = (String) sorted.getValues().get(0).get(0).getValue();
+        final String last = (String) sorted.getValues().get(sorted.getValues().size() - 1).get(0).getValue();
+        Assert.assertTrue("Invalid order.", first.compareTo(last) > 0);
+    }
+    
+    /**
+     * Test for ORDER BY on numeric and date columns.
+     *
+     * @throws SQLException
+     *             in case of failures.
+     */
+    @Test
+    public void testOrderByNumberAndDate() throws SQLException {
+        final Planner planner = new Planner(this.conn);
+        final SelectPlan plan = (SelectPlan) planner.create(new SQLParser(
+                "select \"Sale Date\", \"Total Invoice\" from orders order by \"Sale Date\", \"Total Invoice\" desc")
+                        .parse().get(0));
+        plan.execute();
+        
+        Assert.assertEquals("Invalid row count.", 224, plan.getValues().size());
+        for (int i = 1; i < plan.getValues().size(); i++) {
+            final List<FieldValue> previous = plan.getValues().get(i - 1);
+            final List<FieldValue> current = plan.getValues().get(i);
+            final int date = previous.get(0).getDate().compareTo(current.get(0).getDate());
+            Assert.assertTrue("Invalid date order.", date <= 0);
+            if (date == 0) {
+                Assert.assertTrue("Invalid number order.",
+                        previous.get(1).getNumber().doubleValue() >= current.get(1).getNumber().doubleValue());
+            }
+        }
+    }
+    
+    /**
+     * Test for GROUP BY with aggregate functions.
+     *
+     * @throws SQLException
+     *             in case of failures.
+     */
+    @Test
+    public void testGroupBy() throws SQLException {
+        final Planner planner = new Planner(this.conn);
+        final SelectPlan plan = (SelectPlan) planner.create(new SQLParser("select \"Ship VIA\", count(*) as total, "
+                + "sum(\"Total Invoice\"), max(\"Sale Date\") from orders group by \"Ship VIA\" order by total desc")
+                        .parse().get(0));
+        plan.execute();
+        
+        Assert.assertEquals("Invalid column count.", 4, plan.getColumns().size());
+        Assert.assertEquals("Invalid column name.", "total", plan.getColumns().get(1).getName());
+        Assert.assertEquals("Invalid group count.", 5, plan.getValues().size());
+        Assert.assertEquals("Invalid group.", "UPS", plan.getValues().get(0).get(0).getValue());
+        Assert.assertEquals("Invalid count.", 87L, plan.getValues().get(0).get(1).getValue());
+        
+        long count = 0;
+        for (final List<FieldValue> row : plan.getValues()) {
+            count += row.get(1).getNumber().longValue();
+        }
+        Assert.assertEquals("Invalid total count.", 224L, count);
+    }
+    
+    /**
+     * Test for aggregate functions without GROUP BY.
+     *
+     * @throws SQLException
+     *             in case of failures.
+     */
+    @Test
+    public void testAggregateWithoutGroupBy() throws SQLException {
+        final Planner planner = new Planner(this.conn);
+        final SelectPlan plan = (SelectPlan) planner.create(new SQLParser(
+                "select count(*), count(state), min(state), max(state) from areacodes").parse().get(0));
+        plan.execute();
+        
+        Assert.assertEquals("Invalid row count.", 1, plan.getValues().size());
+        final List<FieldValue> row = plan.getValues().get(0);
+        Assert.assertEquals("Invalid count.", 370L, row.get(0).getValue());
+        Assert.assertTrue("Invalid minimum.", ((String) row.get(2).getValue()).compareTo((String) row.get(3)
+                .getValue()) < 0);
+    }
+    
+    /**
+     * Test for aggregates answered by the table header and the primary key index.
+     *
+     * @throws SQLException
+     *             in case of failures.
+     */
+    @Test
+    public void testKeyBounds() throws SQLException {
+        final Planner planner = new Planner(this.conn);
+        final SelectPlan plan = (SelectPlan) planner.create(new SQLParser(
+                "select count(*) as total, min(\"Order No\"), max(\"Order No\") from orders").parse().get(0));
+        plan.execute();
+        
+        Assert.assertEquals("Invalid row count.", 1, plan.getValues().size());
+        final List<FieldValue> row = plan.getValues().get(0);
+        Assert.assertEquals("Invalid count.", 224L, row.get(0).getValue());
+        Assert.assertEquals("Invalid minimum.", 1001.0, row.get(1).getNumber().doubleValue(), 0.0);
+        Assert.assertEquals("Invalid maximum.", 1669.0, row.get(2).getNumber().doubleValue(), 0.0);
+    }
+    
+    /**
+     * Test for SELECT DISTINCT.
+     *
+     * @throws SQLException
+     *             in case of failures.
+     */
+    @Test
+    public void testDistinct() throws SQLException {
+        final Planner planner = new Planner(this.conn);
+        final SelectPlan plan = (SelectPlan) planner.create(new SQLParser(
+                "select distinct \"Ship VIA\" from orders order by \"Ship VIA\"").parse().get(0));
+        plan.execute();
+        
+        Assert.assertEquals("Invalid row count.", 5, plan.getValues().size());
+        Assert.assertEquals("Invalid first row.", "DHL", plan.getValues().get(0).get(0).getValue());
+        Assert.assertEquals("Invalid last row.", "US Mail", plan.getValues().get(4).get(0).getValue());
+    }
+    
+    /**
+     * Test for WHERE evaluated over the raw records.
+     *
+     * @throws SQLException
+     *             in case of failures.
+     */
+    @Test
+    public void testWhere() throws SQLException {
+        final Planner planner = new Planner(this.conn);
+        final SelectPlan plan = (SelectPlan) planner.create(new SQLParser(
+                "select \"Order No\" from orders where \"Order No\" between 1001 and 1010 and not \"Ship VIA\" = 'UPS'")
+                        .parse().get(0));
+        plan.execute();
+        
+        Assert.assertEquals("Invalid row count.", 5, plan.getValues().size());
+        for (final List<FieldValue> row : plan.getValues()) {
+            final double value = row.get(0).getNumber().doubleValue();
+            Assert.assertTrue("Invalid value.", (value >= 1001) && (value <= 1010));
+        }
+    }
+    
+    /**
+     * Test for IN and NOT IN in WHERE.
+     *
+     * @throws SQLException
+     *             in case of failures.
+     */
+    @Test
+    public void testWhereIn() throws SQLException {
+        final Planner planner = new Planner(this.conn);
+        SelectPlan plan = (SelectPlan) planner.create(new SQLParser(
+                "select count(*) from orders where \"Ship VIA\" in ('UPS', 'DHL', 'none')").parse().get(0));
+        plan.execute();
+        Assert.assertEquals("Invalid count.", 127L, plan.getValues().get(0).get(0).getValue());
+        
+        plan = (SelectPlan) planner.create(new SQLParser(
+                "select CustNo from customer where City in ('Soquel', null) order by CustNo").parse().get(0));
+        plan.execute();
+        Assert.assertEquals("Invalid row count.", 2, plan.getValues().size());
+        Assert.assertEquals("Invalid first row.", 18, plan.getValues().get(0).get(0).getNumber().intValue());
+        
+        plan = (SelectPlan) planner.create(new SQLParser(
+                "select CustNo from customer where CustNo in (2, 7.0, 7.5, 9999)").parse().get(0));
+        plan.execute();
+        Assert.assertEquals("Invalid row count.", 2, plan.getValues().size());
+        
+        plan = (SelectPlan) planner.create(new SQLParser(
+                "select count(*) from customer where City not in ('Soquel', 'Aptos')").parse().get(0));
+        plan.execute();
+        Assert.assertEquals("Invalid count.", 15L, plan.getValues().get(0).get(0).getValue());
+        
+        plan = (SelectPlan) planner.create(new SQLParser(
+                "select count(*) from customer where City not in ('Soquel', null)").parse().get(0));
+        plan.execute();
+        Assert.assertEquals("Invalid count.", 0L, plan.getValues().get(0).get(0).getValue());
+    }
+    
+    /**
+     * Test for WHERE with columns qualified by the table name.
+     *
+     * @throws SQLException
+     *             in case of failures.
+     */
+    @Test
+    public void testWhereQualifiedByTableName() throws SQLException {
+        final Planner planner = new Planner(this.conn);
+        SelectPlan plan = (SelectPlan) planner.create(new SQLParser(
+                "select CustNo from customer where customer.CustNo = 2").parse().get(0));
+        plan.execute();
+        Assert.assertEquals("Invalid row count.", 1, plan.getValues().size());
+        
+        plan = (SelectPlan) planner.create(new SQLParser(
+                "select CustNo from customer where CUSTOMER.City in ('Soquel') or customer.City like 'Apt%'")
+                        .parse().get(0));
+        plan.execute();
+        Assert.assertEquals("Invalid row count.", 5, plan.getValues().size());
+    }
+    
+    /**
+     * Test for WHERE with a column qualified by other table name.
+     *
+     * @throws SQLException
+     *             if there is no errors.
+     */
+    @Test(expected = SQLException.class)
+    public void testWhereQualifiedByOtherTable() throws SQLException {
+        final Planner planner = new Planner(this.conn);
+        planner.create(new SQLParser("select CustNo from customer c where customer.CustNo = 2").parse().get(0));
+    }
+    
+    /**
+     * Test for DISTINCT with a BCD column, stored wider than its size.
+     *
+     * @throws SQLException
+     *             in case of failures.
+     */
+    @Test
+    public void testDistinctBcd() throws SQLException {
+        final Planner planner = new Planner(this.conn);
+        SelectPlan plan = (SelectPlan) planner.create(new SQLParser("select distinct amount from bcd").parse().get(0));
+        plan.execute();
+        Assert.assertEquals("Invalid row count.", 5, plan.getValues().size());
+        Assert.assertEquals("Invalid first row.", new BigDecimal("12.50"), plan.getValues().get(0).get(0).getValue());
+        
+        plan = (SelectPlan) planner.create(new SQLParser("select distinct amount, name from bcd").parse().get(0));
+        plan.execute();
+        Assert.assertEquals("Invalid row count.", 6, plan.getValues().size());
+        Assert.assertEquals("Invalid last row.", "C", plan.getValues().get(5).get(1).getValue());
+    }
+    
+    /**
+     * Test for GROUP BY with a BCD column, stored wider than its size.
+     *
+     * @throws SQLException
+     *             in case of failures.
+     */
+    @Test
+    public void testGroupByBcd() throws SQLException {
+        final Planner planner = new Planner(this.conn);
+        SelectPlan plan = (SelectPlan) planner.create(new SQLParser(
+                "select amount, count(*), max(name) from bcd group by amount").parse().get(0));
+        plan.execute();
+        Assert.assertEquals("Invalid group count.", 5, plan.getValues().size());
+        final List<FieldValue> first = plan.getValues().get(0);
+        Assert.assertEquals("Invalid group.", new BigDecimal("12.50"), first.get(0).getValue());
+        Assert.assertEquals("Invalid count.", 3L, first.get(1).getValue());
+        Assert.assertEquals("Invalid maximum.", "B", first.get(2).getValue());
+        
+        plan = (SelectPlan) planner.create(new SQLParser(
+                "select name, count(amount) from bcd group by name order by name").parse().get(0));
+        plan.execute();
+        Assert.assertEquals("Invalid group count.", 3, plan.getValues().size());
+        Assert.assertEquals("Invalid count.", 1L, plan.getValues().get(1).get(1).getValue());
+    }
+    
+    /**
+     * Test for WHERE with aggregate functions and DISTINCT.
+     *
+     * @throws SQLException
+     *             in case of failures.
+     */
+    @Test
+    public void testWhereWithAggregate() throws SQLException {
+        final Planner planner = new Planner(this.conn);
+        SelectPlan plan = (SelectPlan) planner.create(new SQLParser(
+                "select count(*) from orders where \"Ship VIA\" = 'UPS' or \"Ship VIA\" = 'DHL'").parse().get(0));
+        plan.execute();
+        Assert.assertEquals("Invalid count.", 127L, plan.getValues().get(0).get(0).getValue());
+        
+        plan = (SelectPlan) planner.create(new SQLParser(
+                "select distinct \"Ship VIA\" from orders where \"Ship VIA\" <> 'UPS'").parse().get(0));
+        plan.execute();
+        Assert.assertEquals("Invalid row count.", 4, plan.getValues().size());
+    }
+    
+    /**
+     * Test for WHERE with more than one table.
+     *
+     * @throws SQLException
+     *             if there is no errors.
+     */
+    @Test(expected = SQLFeatureNotSupportedException.class)
+    public void testWhereWithJoin() throws SQLException {
+        final Planner planner = new Planner(this.conn);
+        planner.create(new SQLParser("select * from orders, areacodes where ac = 1").parse().get(0));
+    }
+    
+    /**
+     * Test for DISTINCT ordered by a column outside the select list.
+     *
+     * @throws SQLException
+     *             if there is no errors.
+     */
+    @Test(expected = SQLException.class)
+    public void testDistinctOrderByNotSelected() throws SQLException {
+        final Planner planner = new Planner(this.conn);
+        planner.create(new SQLParser("select distinct state from areacodes order by ac").parse().get(0));
+    }
+    
+    /**
+     * Test for column outside GROUP BY.
+     *
+     * @throws SQLException
+     *             if there is no errors.
+     */
+    @Test(expected = SQLException.class)
+    public void testColumnNotInGroupBy() throws SQLException {
+        final Planner planner = new Planner(this.conn);
+        planner.create(new SQLParser("select state, ac, count(*) from areacodes group by state").parse().get(0));
+    }
+    
     /**
      * Test for valid column name.
      *
@@ -0,0 +1,138 @@
+/*
+ * HashAggregatorTest.java 10/19/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.aggregation;
+
+import com.googlecode.paradox.Driver;
+import com.googlecode.paradox.ParadoxConnection;
+import com.googlecode.paradox.data.TableCursor;
+import com.googlecode.paradox.data.TableData;
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.integration.MainTest;
+import com.googlecode.paradox.metadata.ParadoxField;
+import com.googlecode.paradox.metadata.ParadoxTable;
+import com.googlecode.paradox.procedures.math.Count;
+import com.googlecode.paradox.procedures.math.Max;
+import com.googlecode.paradox.procedures.math.Sum;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link HashAggregator} class.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4
+ */
+public class HashAggregatorTest {
+
+    /**
+     * The database connection.
+     */
+    private ParadoxConnection conn;
+
+    /**
+     * Register the driver.
+     *
+     * @throws ClassNotFoundException
+     *             in case of connection errors.
+     */
+    @BeforeClass
+    public static void setUp() throws ClassNotFoundException {
+        Class.forName(Driver.class.getName());
+    }
+
+    /**
+     * Used to close the test connection.
+     *
+     * @throws Exception
+     *             in case closing of errors.
+     */
+    @After
+    public void closeConnection() throws Exception {
+        if (this.conn != null) {
+            this.conn.close();
+        }
+    }
+
+    /**
+     * Connect to test database.
+     *
+     * @throws Exception
+     *             in case of connection errors.
+     */
+    @Before
+    public void connect() throws Exception {
+        this.conn = (ParadoxConnection) DriverManager.getConnection(MainTest.CONNECTION_STRING + "geog");
+    }
+
+    /**
+     * Aggregates the county table by state.
+     *
+     * @param maxGroups
+     *            the maximum groups in memory.
+     * @return the result rows by state.
+     * @throws SQLException
+     *             in case of failures.
+     */
+    private Map<Object, List<Object>> aggregate(final int maxGroups) throws SQLException {
+        final ParadoxTable table = TableData.listTables(this.conn, "County").get(0);
+        final ParadoxField countyId = table.findField("CountyID");
+        final List<AggregateFunction> functions = new ArrayList<>();
+        functions.add(new AggregateFunction(new Count(), null));
+        functions.add(new AggregateFunction(new Max(), countyId));
+        functions.add(new AggregateFunction(new Sum(), countyId));
+
+        final Map<Object, List<Object>> result = new HashMap<>();
+        try (HashAggregator aggregator = new HashAggregator(table,
+                Collections.singletonList(table.findField("StateID")), functions, maxGroups);
+                TableCursor cursor = new TableCursor(table, Collections.<ParadoxField> emptyList())) {
+            while (cursor.next()) {
+                aggregator.add(cursor.getBlockData(), cursor.getRecordOffset());
+            }
+            for (final List<FieldValue> row : aggregator.getRows()) {
+                final List<Object> values = new ArrayList<>();
+                for (final FieldValue value : row.subList(1, row.size())) {
+                    values.add(value.getValue());
+                }
+                Assert.assertNull("Duplicated group.", result.put(row.get(0).getValue(), values));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Test for groups spilled to temporary files.
+     *
+     * @throws SQLException
+     *             in case of failures.
+     */
+    @Test
+    public void testSpill() throws SQLException {
+        final Map<Object, List<Object>> memory = this.aggregate(100_000);
+        final Map<Object, List<Object>> spilled = this.aggregate(2);
+        Assert.assertFalse("No groups.", memory.isEmpty());
+        Assert.assertEquals("Invalid groups.", memory, spilled);
+
+        long count = 0;
+        for (final List<Object> values : memory.values()) {
+            count += (Long) values.get(0);
+        }
+        Assert.assertEquals("Invalid row count.", 3218L, count);
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * HashDistinctTest.java 10/19/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.aggregation;
+
+import com.googlecode.paradox.Driver;
+import com.googlecode.paradox.ParadoxConnection;
+import com.googlecode.paradox.data.TableCursor;
+import com.googlecode.paradox.data.TableData;
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.integration.MainTest;
+import com.googlecode.paradox.metadata.ParadoxField;
+import com.googlecode.paradox.metadata.ParadoxTable;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link HashDistinct} class.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4
+ */
+public class HashDistinctTest {
+
+    /**
+     * The database connection.
+     */
+    private ParadoxConnection conn;
+
+    /**
+     * Register the driver.
+     *
+     * @throws ClassNotFoundException
+     *             in case of connection errors.
+     */
+    @BeforeClass
+    public static void setUp() throws ClassNotFoundException {
+        Class.forName(Driver.class.getName());
+    }
+
+    /**
+     * Used to close the test connection.
+     *
+     * @throws Exception
+     *             in case closing of errors.
+     */
+    @After
+    public void closeConnection() throws Exception {
+        if (this.conn != null) {
+            this.conn.close();
+        }
+    }
+
+    /**
+     * Connect to test database.
+     *
+     * @throws Exception
+     *             in case of connection errors.
+     */
+    @Before
+    public void connect() throws Exception {
+        this.conn = (ParadoxConnection) DriverManager.getConnection(MainTest.CONNECTION_STRING + "geog");
+    }
+
+    /**
+     * Reads the distinct states of the county table.
+     *
+     * @param maxKeys
+     *            the maximum key count in memory.
+     * @return the distinct states.
+     * @throws SQLException
+     *             in case of failures.
+     */
+    private Set<Object> distinct(final int maxKeys) throws SQLException {
+        final ParadoxTable table = TableData.listTables(this.conn, "County").get(0);
+        final List<ParadoxField> fields = Collections.singletonList(table.findField("StateID"));
+        final Set<Object> result = new HashSet<>();
+        try (HashDistinct distinct = new HashDistinct(table, fields, maxKeys);
+                TableCursor cursor = new TableCursor(table, Collections.<ParadoxField> emptyList())) {
+            while (cursor.next()) {
+                final List<FieldValue> row = distinct.add(cursor.getBlockData(), cursor.getRecordOffset());
+                if (row != null) {
+                    Assert.assertTrue("Duplicated row.", result.add(row.get(0).getValue()));
+                }
+            }
+            for (List<FieldValue> row = distinct.nextSpilled(); row != null; row = distinct.nextSpilled()) {
+                Assert.assertTrue("Duplicated spilled row.", result.add(row.get(0).getValue()));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Test for keys spilled to disk.
+     *
+     * @throws SQLException
+     *             in case of failures.
+     */
+    @Test
+    public void testSpill() throws SQLException {
+        final Set<Object> memory = this.distinct(100_000);
+        Assert.assertEquals("Invalid row count.", 52, memory.size());
+        Assert.assertEquals("Invalid spilled result.", memory, this.distinct(3));
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * ParallelAggregatorTest.java 10/19/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.aggregation;
+
+import com.googlecode.paradox.Driver;
+import com.googlecode.paradox.ParadoxConnection;
+import com.googlecode.paradox.data.TableData;
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.integration.MainTest;
+import com.googlecode.paradox.metadata.ParadoxField;
+import com.googlecode.paradox.metadata.ParadoxTable;
+import com.googlecode.paradox.procedures.math.Average;
+import com.googlecode.paradox.procedures.math.Count;
+import com.googlecode.paradox.procedures.math.Min;
+import com.googlecode.paradox.procedures.math.Sum;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link ParallelAggregator} class.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4
+ */
+public class ParallelAggregatorTest {
+
+    /**
+     * The database connection.
+     */
+    private ParadoxConnection conn;
+
+    /**
+     * The table to read.
+     */
+    private ParadoxTable table;
+
+    /**
+     * Register the driver.
+     *
+     * @throws ClassNotFoundException
+     *             in case of connection errors.
+     */
+    @BeforeClass
+    public static void setUp() throws ClassNotFoundException {
+        Class.forName(Driver.class.getName());
+    }
+
+    /**
+     * Used to close the test connection.
+     *
+     * @throws Exception
+     *             in case closing of errors.
+     */
+    @After
+    public void closeConnection() throws Exception {
+        if (this.conn != null) {
+            this.conn.close();
+        }
+    }
+
+    /**
+     * Connect to test database.
+     *
+     * @throws Exception
+     *             in case of connection errors.
+     */
+    @Before
+    public void connect() throws Exception {
+        this.conn = (ParadoxConnection) DriverManager.getConnection(MainTest.CONNECTION_STRING + "geog");
+        this.table = TableData.listTables(this.conn, "County").get(0);
+    }
+
+    /**
+     * Aggregates the county table.
+     *
+     * @param groupFields
+     *            the GROUP BY fields.
+     * @param maxGroups
+     *            the maximum groups in memory.
+     * @param threads
+     *            the worker count.
+     * @return the result rows by group.
+     * @throws SQLException
+     *             in case of failures.
+     */
+    private Map<List<Object>, List<Object>> aggregate(final List<ParadoxField> groupFields, final int maxGroups,
+            final int threads) throws SQLException {
+        final ParadoxField countyId = this.table.findField("CountyID");
+        final List<AggregateFunction> functions = new ArrayList<>();
+        functions.add(new AggregateFunction(new Count(), null));
+        functions.add(new AggregateFunction(new Sum(), countyId));
+        functions.add(new AggregateFunction(new Average(), countyId));
+        functions.add(new AggregateFunction(new Min(), this.table.findField("County")));
+
+        final Map<List<Object>, List<Object>> result = new HashMap<>();
+        for (final List<FieldValue> row : new ParallelAggregator(this.table, groupFields, functions, maxGroups,
+                threads, null, 1).execute()) {
+            final List<Object> key = new ArrayList<>();
+            final List<Object> values = new ArrayList<>();
+            for (int i = 0; i < row.size(); i++) {
+                if (i < groupFields.size()) {
+                    key.add(row.get(i).getValue());
+                } else if (row.get(i).getValue() instanceof Double) {
+                    // Partial sums may be added in other order.
+                    values.add(Math.round((Double) row.get(i).getValue() * 1_000_000));
+                } else {
+                    values.add(row.get(i).getValue());
+                }
+            }
+            Assert.assertNull("Duplicated group.", result.put(key, values));
+        }
+        return result;
+    }
+
+    /**
+     * Test for aggregates without GROUP BY.
+     *
+     * @throws SQLException
+     *             in case of failures.
+     */
+    @Test
+    public void testGlobal() throws SQLException {
+        final List<ParadoxField> groupFields = Collections.emptyList();
+        final Map<List<Object>, List<Object>> single = this.aggregate(groupFields, 100_000, 1);
+        Assert.assertEquals("Invalid row count.", 1, single.size());
+        Assert.assertEquals("Invalid count.", 3218L, single.values().iterator().next().get(0));
+        Assert.assertEquals("Invalid result.", single, this.aggregate(groupFields, 100_000, 4));
+    }
+
+    /**
+     * Test for GROUP BY with parallel workers.
+     *
+     * @throws SQLException
+     *             in case of failures.
+     */
+    @Test
+    public void testGroupBy() throws SQLException {
+        final List<ParadoxField> groupFields = Collections.singletonList(this.table.findField("StateID"));
+        final Map<List<Object>, List<Object>> single = this.aggregate(groupFields, 100_000, 1);
+        Assert.assertEquals("Invalid result.", single, this.aggregate(groupFields, 100_000, 4));
+        Assert.assertEquals("Invalid spilled result.", single, this.aggregate(groupFields, 3, 4));
+    }
+}
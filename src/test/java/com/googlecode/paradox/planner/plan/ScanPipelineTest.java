@@ -0,0 +1,271 @@
+/*
+ * ScanPipelineTest.java 10/19/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.plan;
+
+import com.googlecode.paradox.Driver;
+import com.googlecode.paradox.ParadoxConnection;
+import com.googlecode.paradox.data.TableData;
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.integration.MainTest;
+import com.googlecode.paradox.metadata.ParadoxTable;
+import com.googlecode.paradox.utils.Constants;
+import com.googlecode.paradox.utils.TestUtil;
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.RowId;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link ScanPipeline} class.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.3
+ * @since 1.4
+ */
+public class ScanPipelineTest {
+
+    /**
+     * The database connection.
+     */
+    private ParadoxConnection conn;
+
+    /**
+     * Register the driver.
+     *
+     * @throws ClassNotFoundException
+     *             in case of connection errors.
+     */
+    @BeforeClass
+    public static void setUp() throws ClassNotFoundException {
+        Class.forName(Driver.class.getName());
+    }
+
+    /**
+     * Reads the first column of a query.
+     *
+     * @param conn
+     *            the connection to use.
+     * @param sql
+     *            the query.
+     * @return the first column values.
+     * @throws SQLException
+     *             in case of failures.
+     */
+    private static List<String> query(final Connection conn, final String sql) throws SQLException {
+        final List<String> values = new ArrayList<>();
+        try (Statement stmt = conn.createStatement(); ResultSet rs = stmt.executeQuery(sql)) {
+            while (rs.next()) {
+                values.add(rs.getString(1));
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Reads the ROWID of all rows of a query.
+     *
+     * @param conn
+     *            the connection to use.
+     * @param sql
+     *            the query.
+     * @return the ROWID of each row.
+     * @throws SQLException
+     *             in case of failures.
+     */
+    private static List<RowId> queryRowIds(final Connection conn, final String sql) throws SQLException {
+        final List<RowId> rowIds = new ArrayList<>();
+        try (Statement stmt = conn.createStatement(); ResultSet rs = stmt.executeQuery(sql)) {
+            while (rs.next()) {
+                Assert.assertNotNull("No ROWID.", rs.getRowId(1));
+                rowIds.add(rs.getRowId(1));
+            }
+        }
+        return rowIds;
+    }
+
+    /**
+     * Used to close the test connection.
+     *
+     * @throws Exception
+     *             in case closing of errors.
+     */
+    @After
+    public void closeConnection() throws Exception {
+        if (this.conn != null) {
+            this.conn.close();
+        }
+    }
+
+    /**
+     * Connect to test database.
+     *
+     * @throws Exception
+     *             in case of connection errors.
+     */
+    @Before
+    public void connect() throws Exception {
+        this.conn = (ParadoxConnection) DriverManager.getConnection(MainTest.CONNECTION_STRING + "geog");
+    }
+
+    /**
+     * Test for pipeline closed before the last block.
+     *
+     * @throws SQLException
+     *             in case of failures.
+     */
+    @Test
+    public void testCloseEarly() throws SQLException {
+        final ParadoxTable table = TableData.listTables(this.conn, "County").get(0);
+        try (ScanPipeline pipeline = new ScanPipeline(table, null, null, null, 1, 1, false)) {
+            Assert.assertNotNull("No first block.", pipeline.next());
+        }
+    }
+
+    /**
+     * Test for a truncated block, failing the reader thread.
+     *
+     * @throws Exception
+     *             if there is no errors.
+     */
+    @Test(expected = SQLException.class, timeout = 10_000)
+    public void testTruncatedBlock() throws Exception {
+        final File dir = TestUtil.copyDatabase("geog", "County.DB");
+        try (ParadoxConnection copy = new ParadoxConnection(dir, MainTest.CONNECTION_STRING)) {
+            ParadoxTable table = TableData.listTables(copy, "County").get(0);
+            try (RandomAccessFile file = new RandomAccessFile(new File(dir, "County.DB"), "rw")) {
+                // Keeps only the first bytes of the last block header.
+                file.setLength(table.getHeaderSize() + ((long) ((table.getLastBlock() & 0xFFFF) - 1)
+                        * table.getBlockSizeBytes()) + 3);
+            }
+            table = TableData.listTables(copy, "County").get(0);
+            try (ScanPipeline pipeline = new ScanPipeline(table, null, null, null, 2, 1, false)) {
+                while (pipeline.next() != null) {
+                    // Reads all blocks.
+                }
+            }
+        } finally {
+            TestUtil.deleteDatabase(dir);
+        }
+    }
+
+    /**
+     * Test for a pipeline decoding the values only when read.
+     *
+     * @throws SQLException
+     *             in case of failures.
+     */
+    @Test
+    public void testLazyRows() throws SQLException {
+        final ParadoxTable table = TableData.listTables(this.conn, "County").get(0);
+        final List<List<FieldValue>> expected = TableData.loadData(table, table.getFields());
+        final List<List<FieldValue>> rows = new ArrayList<>();
+        try (ScanPipeline pipeline = new ScanPipeline(table, null, null, null, 2, 2, true)) {
+            ScanPipeline.Block block = pipeline.next();
+            while (block != null) {
+                rows.addAll(block.getRows());
+                block = pipeline.next();
+            }
+        }
+
+        Assert.assertEquals("Invalid row count.", expected.size(), rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            for (int j = 0; j < rows.get(i).size(); j++) {
+                Assert.assertEquals("Invalid value.", expected.get(i).get(j).getValue(), rows.get(i).get(j)
+                        .getValue());
+            }
+        }
+    }
+
+    /**
+     * Test for the rows read in table order.
+     *
+     * @throws SQLException
+     *             in case of failures.
+     */
+    @Test
+    public void testRowOrder() throws SQLException {
+        final ParadoxTable table = TableData.listTables(this.conn, "County").get(0);
+        final List<List<FieldValue>> expected = TableData.loadData(table, table.getFields());
+        final List<List<FieldValue>> rows = new ArrayList<>();
+        try (ScanPipeline pipeline = new ScanPipeline(table, null, null, null, 2, 3, false)) {
+            ScanPipeline.Block block = pipeline.next();
+            while (block != null) {
+                rows.addAll(block.getRows());
+                block = pipeline.next();
+            }
+            Assert.assertNull("Rows after the last block.", pipeline.next());
+        }
+
+        Assert.assertEquals("Invalid row count.", expected.size(), rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            for (int j = 0; j < rows.get(i).size(); j++) {
+                Assert.assertEquals("Invalid value.", expected.get(i).get(j).getValue(), rows.get(i).get(j)
+                        .getValue());
+            }
+        }
+    }
+
+    /**
+     * Test for a statement decoding the values only when read.
+     *
+     * @throws SQLException
+     *             in case of failures.
+     */
+    @Test
+    public void testLazyStatement() throws SQLException {
+        final Properties info = new Properties();
+        info.setProperty(Constants.PROPERTY_LAZY_DECODING, "true");
+        final Properties pipelinedInfo = new Properties();
+        pipelinedInfo.setProperty(Constants.PROPERTY_LAZY_DECODING, "true");
+        pipelinedInfo.setProperty(Constants.PROPERTY_SCAN_THREADS, "2");
+        try (Connection lazy = DriverManager.getConnection(MainTest.CONNECTION_STRING + "db", info);
+                Connection pipelined = DriverManager.getConnection(MainTest.CONNECTION_STRING + "db", pipelinedInfo);
+                Connection eager = DriverManager.getConnection(MainTest.CONNECTION_STRING + "db")) {
+            final String sql = "SELECT \"Order No\" FROM orders WHERE \"Ship VIA\" <> 'UPS'";
+            final List<String> expected = ScanPipelineTest.query(eager, sql);
+            Assert.assertFalse("No rows.", expected.isEmpty());
+            Assert.assertEquals("Invalid rows.", expected, ScanPipelineTest.query(lazy, sql));
+            Assert.assertEquals("Invalid rows.", expected, ScanPipelineTest.query(pipelined, sql));
+        }
+    }
+
+    /**
+     * Test for a statement executed with the scan pipeline.
+     *
+     * @throws SQLException
+     *             in case of failures.
+     */
+    @Test
+    public void testStatement() throws SQLException {
+        final Properties info = new Properties();
+        info.setProperty(Constants.PROPERTY_SCAN_THREADS, "2");
+        info.setProperty(Constants.PROPERTY_SCAN_QUEUE_DEPTH, "2");
+        try (Connection pipelined = DriverManager.getConnection(MainTest.CONNECTION_STRING + "db", info);
+                Connection serial = DriverManager.getConnection(MainTest.CONNECTION_STRING + "db")) {
+            final String sql = "SELECT \"Order No\" FROM orders WHERE \"Ship VIA\" <> 'UPS'";
+            final List<String> expected = ScanPipelineTest.query(serial, sql);
+            Assert.assertFalse("No rows.", expected.isEmpty());
+            Assert.assertEquals("Invalid rows.", expected, ScanPipelineTest.query(pipelined, sql));
+            Assert.assertEquals("Invalid ROWID.", ScanPipelineTest.queryRowIds(serial, sql),
+                    ScanPipelineTest.queryRowIds(pipelined, sql));
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * RadixSorterTest.java 10/19/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.sorting;
+
+import java.nio.charset.Charset;
+import java.util.Random;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link RadixSorter} class.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4
+ */
+public class RadixSorterTest {
+
+    /**
+     * Compares two keys as unsigned bytes.
+     *
+     * @param arena
+     *            the packed keys.
+     * @param width
+     *            the key width.
+     * @param first
+     *            the first key.
+     * @param second
+     *            the second key.
+     * @return the comparison result.
+     */
+    private static int compare(final byte[] arena, final int width, final int first, final int second) {
+        for (int i = 0; i < width; i++) {
+            final int diff = (arena[(first * width) + i] & 0xFF) - (arena[(second * width) + i] & 0xFF);
+            if (diff != 0) {
+                return diff;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Test for string collation.
+     */
+    @Test
+    public void testCollation() {
+        final byte[] collation = SortKeyEncoder.createCollation(Charset.forName("cp437"));
+        Assert.assertNotNull("No collation.", collation);
+        Assert.assertEquals("Invalid padding rank.", 0, collation[0]);
+        Assert.assertTrue("Invalid order.", (collation['A'] & 0xFF) < (collation['B'] & 0xFF));
+        Assert.assertTrue("Invalid order.", (collation['Z'] & 0xFF) < (collation['a'] & 0xFF));
+    }
+
+    /**
+     * Test for empty key list.
+     */
+    @Test
+    public void testEmpty() {
+        Assert.assertEquals("Invalid size.", 0, RadixSorter.sort(new byte[0], 4, 0).length);
+    }
+
+    /**
+     * Test for random keys with many duplicates.
+     */
+    @Test
+    public void testRandomKeys() {
+        final int width = 3;
+        final int count = 5_000;
+        final byte[] arena = new byte[width * count];
+        final Random random = new Random(42);
+        for (int i = 0; i < arena.length; i++) {
+            arena[i] = (byte) random.nextInt(4);
+        }
+        // Some keys with high bytes.
+        arena[0] = (byte) 0xFF;
+        arena[width] = (byte) 0x80;
+
+        final int[] order = RadixSorter.sort(arena, width, count);
+        Assert.assertEquals("Invalid size.", count, order.length);
+        for (int i = 1; i < count; i++) {
+            final int result = RadixSorterTest.compare(arena, width, order[i - 1], order[i]);
+            Assert.assertTrue("Invalid order.", result <= 0);
+            if (result == 0) {
+                Assert.assertTrue("Sort not stable.", order[i - 1] < order[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * ParadoxBlobTest.java 10/19/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.rowset;
+
+import com.googlecode.paradox.ParadoxConnection;
+import com.googlecode.paradox.data.TableData;
+import com.googlecode.paradox.data.table.value.BlobDescriptor;
+import com.googlecode.paradox.data.table.value.ClobDescriptor;
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.integration.MainTest;
+import com.googlecode.paradox.metadata.ParadoxTable;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Blob;
+import java.sql.Driver;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link ParadoxBlob} class.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4
+ */
+public class ParadoxBlobTest {
+    
+    /**
+     * The database connection.
+     */
+    private ParadoxConnection conn;
+    
+    /**
+     * Register the driver.
+     *
+     * @throws ClassNotFoundException
+     *             in case of connection errors.
+     */
+    @BeforeClass
+    public static void setUp() throws ClassNotFoundException {
+        Class.forName(Driver.class.getName());
+    }
+    
+    /**
+     * Reads a stream to the end.
+     *
+     * @param stream
+     *            the stream to read.
+     * @return the stream data.
+     * @throws IOException
+     *             in case of reading errors.
+     */
+    private static byte[] readAll(final InputStream stream) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final byte[] buffer = new byte[1000];
+        int read = stream.read(buffer);
+        while (read >= 0) {
+            out.write(buffer, 0, read);
+            read = stream.read(buffer);
+        }
+        return out.toByteArray();
+    }
+    
+    /**
+     * Used to close the test connection.
+     *
+     * @throws Exception
+     *             in case closing of errors.
+     */
+    @After
+    public void closeConnection() throws Exception {
+        if (this.conn != null) {
+            this.conn.close();
+        }
+    }
+    
+    /**
+     * Connect to test database.
+     *
+     * @throws Exception
+     *             in case of connection errors.
+     */
+    @Before
+    public void connect() throws Exception {
+        this.conn = (ParadoxConnection) DriverManager.getConnection(MainTest.CONNECTION_STRING + "db");
+    }
+    
+    /**
+     * Test for a blob in memory.
+     *
+     * @throws Exception
+     *             in case of failures.
+     */
+    @Test
+    public void testMemory() throws Exception {
+        final Blob blob = new ParadoxBlob(new byte[] { 1, 2, 3, 4, 5 });
+        Assert.assertEquals("Invalid length.", 5, blob.length());
+        Assert.assertArrayEquals("Invalid bytes.", new byte[] { 2, 3 }, blob.getBytes(2, 2));
+        Assert.assertArrayEquals("Invalid bytes.", new byte[] { 4, 5 }, blob.getBytes(4, 10));
+        Assert.assertArrayEquals("Invalid stream.", new byte[] { 3, 4 },
+                ParadoxBlobTest.readAll(blob.getBinaryStream(3, 2)));
+        Assert.assertEquals("Invalid position.", 3, blob.position(new byte[] { 3, 4 }, 1));
+        Assert.assertEquals("Invalid position.", -1, blob.position(new byte[] { 3, 4 }, 4));
+    }
+    
+    /**
+     * Test for invalid position.
+     *
+     * @throws SQLException
+     *             if there is no errors.
+     */
+    @Test(expected = SQLException.class)
+    public void testInvalidPosition() throws SQLException {
+        new ParadoxBlob(new byte[] { 1, 2, 3 }).getBytes(4, 1);
+    }
+    
+    /**
+     * Test for a freed blob.
+     *
+     * @throws SQLException
+     *             if there is no errors.
+     */
+    @Test(expected = SQLException.class)
+    public void testFree() throws SQLException {
+        final Blob blob = new ParadoxBlob(new byte[] { 1, 2, 3 });
+        blob.free();
+        blob.length();
+    }
+    
+    /**
+     * Test for a blob read from the MB file on demand.
+     *
+     * @throws Exception
+     *             in case of failures.
+     */
+    @Test
+    public void testStream() throws Exception {
+        final ParadoxTable table = TableData.listTables(this.conn, "customer").get(0);
+        ClobDescriptor memo = null;
+        for (final List<FieldValue> row : TableData.loadData(table, table.getFields())) {
+            for (final FieldValue value : row) {
+                if ((value.getValue() instanceof ClobDescriptor)
+                        && (((ClobDescriptor) value.getValue()).getLength() > 0x2000)) {
+                    memo = (ClobDescriptor) value.getValue();
+                }
+            }
+        }
+        Assert.assertNotNull("No large memo.", memo);
+        final byte[] expected = memo.getFile().read(memo.getOffset());
+        
+        final BlobDescriptor descriptor = new BlobDescriptor(memo.getFile());
+        descriptor.setOffset(memo.getOffset());
+        descriptor.setLength(memo.getLength());
+        final Blob blob = new ParadoxBlob(descriptor);
+        Assert.assertEquals("Invalid length.", expected.length, blob.length());
+        Assert.assertArrayEquals("Invalid stream.", expected, ParadoxBlobTest.readAll(blob.getBinaryStream()));
+        Assert.assertArrayEquals("Invalid bytes.", Arrays.copyOfRange(expected, 0x2000, 0x2100),
+                blob.getBytes(0x2001, 0x100));
+        
+        // Pattern across the search buffers.
+        final byte[] pattern = Arrays.copyOfRange(expected, 0x1FF0, 0x2010);
+        Assert.assertEquals("Invalid position.", 0x1FF1, blob.position(pattern, 0x1000));
+    }
+}
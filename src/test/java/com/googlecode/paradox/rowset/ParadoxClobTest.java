@@ -9,8 +9,11 @@
 package com.googlecode.paradox.rowset;
 
 import com.googlecode.paradox.ParadoxConnection;
+import com.googlecode.paradox.data.table.value.ClobDescriptor;
 import com.googlecode.paradox.integration.MainTest;
+import com.googlecode.paradox.metadata.ParadoxTable;
 import java.io.BufferedReader;
+import java.io.File;
 import java.io.InputStreamReader;
 import java.sql.Clob;
 import java.sql.Driver;
@@ -18,6 +21,7 @@ import java.sql.DriverManager;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Arrays;
 import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
@@ -28,7 +32,7 @@ import org.junit.Test;
  * Unit test for {@link ParadoxClob} class.
  *
  * @author Leonardo Alves da Costa
- * @version 1.0
+ * @version 1.2
  * @since 1.3
  */
 public class ParadoxClobTest {
@@ -247,7 +251,7 @@ public class ParadoxClobTest {
     @Test
     public void testReadBlob1251() throws Exception {
         try (Statement stmt = this.conn.createStatement();
-                ResultSet rs = stmt.executeQuery("SELECT note FROM note1251 WHERE id=2")) {
+                ResultSet rs = stmt.executeQuery("SELECT note FROM note1251 WHERE id=1")) {
             
             Assert.assertTrue("Nation locale: record not exists", rs.next());
             final Clob c = rs.getClob("note");
@@ -418,4 +422,115 @@ public class ParadoxClobTest {
             Assert.assertEquals("Testing for truncate.", 0, clob.length());
         }
     }
+    
+    /**
+     * Creates a memo stored in a MB file that does not exist.
+     *
+     * @return the memo descriptor.
+     */
+    private static ClobDescriptor createMissingMemo() {
+        final ClobDescriptor descriptor =
+                new ClobDescriptor(new ParadoxTable(new File("target/missing.db"), "missing.db").getBlobTable());
+        final byte[] leader = new byte[100];
+        Arrays.fill(leader, (byte) 'a');
+        descriptor.setLeaderData(leader);
+        descriptor.setOffset(0x103F);
+        descriptor.setLength(518);
+        return descriptor;
+    }
+    
+    /**
+     * Test for memo prefixes read from the leader.
+     *
+     * @throws Exception
+     *             in case of failures.
+     */
+    @Test
+    public void testLeaderPrefix() throws Exception {
+        final ParadoxClob clob = new ParadoxClob(ParadoxClobTest.createMissingMemo());
+        Assert.assertEquals("Invalid length.", 518, clob.length());
+        Assert.assertEquals("Invalid prefix.", "aaaa", clob.getSubString(1, 4));
+        Assert.assertEquals("Invalid prefix.", 100, clob.getSubString(1, 100).length());
+        Assert.assertEquals("Invalid reader.", 'a', clob.getCharacterStream(97, 4).read());
+    }
+    
+    /**
+     * Test for memo parts beyond the leader read from the MB file.
+     *
+     * @throws Exception
+     *             in case of failures.
+     */
+    @Test(expected = SQLException.class)
+    public void testLeaderBeyond() throws Exception {
+        final ParadoxClob clob = new ParadoxClob(ParadoxClobTest.createMissingMemo());
+        clob.getSubString(90, 20);
+    }
+    
+    /**
+     * Test for memo prefixes equal to the memo read from the MB file.
+     *
+     * @throws Exception
+     *             in case of failures.
+     */
+    @Test
+    public void testLeaderPrefixData() throws Exception {
+        try (Statement stmt = this.conn.createStatement();
+                ResultSet rs = stmt.executeQuery("SELECT comments FROM customer")) {
+            while (rs.next()) {
+                final Clob clob = rs.getClob("comments");
+                if ((clob != null) && (clob.length() > 40)) {
+                    final String prefix = clob.getSubString(1, 40);
+                    Assert.assertEquals("Invalid prefix.", clob.getSubString(1, (int) clob.length()).substring(0, 40),
+                            prefix);
+                }
+            }
+        }
+    }
+    
+    /**
+     * Test for {@link Clob#position(String, long)} in memory and in the MB file.
+     *
+     * @throws Exception
+     *             in case of failures.
+     */
+    @Test
+    public void testPosition() throws Exception {
+        try (Statement stmt = this.conn.createStatement();
+                ResultSet rs = stmt.executeQuery("SELECT comments FROM customer")) {
+            while (rs.next()) {
+                final Clob clob = rs.getClob("comments");
+                if ((clob == null) || (clob.length() < 1000)) {
+                    continue;
+                }
+                final String text = clob.getSubString(1, (int) clob.length());
+                final String search = text.substring(text.length() - 30, text.length() - 10);
+                final long expected = text.indexOf(search) + 1;
+                Assert.assertEquals("Invalid position in memory.", expected, clob.position(search, 1));
+
+                final ParadoxClob streamed = new ParadoxClob((ClobDescriptor) rs.getObject("comments"));
+                Assert.assertEquals("Invalid position in MB file.", expected, streamed.position(search, 1));
+                Assert.assertEquals("Invalid position in MB file.", text.indexOf(text.substring(0x2000, 0x2020)) + 1,
+                        streamed.position(text.substring(0x2000, 0x2020), 1));
+                Assert.assertEquals("Invalid position.", -1, streamed.position(search, expected + 1));
+                Assert.assertEquals("Invalid position.", -1, streamed.position("zzqqzzqq", 1));
+                Assert.assertEquals("Invalid position.", 5, streamed.position("", 5));
+                Assert.assertEquals("Invalid position.", 1, streamed.position(clob, 1));
+            }
+        }
+    }
+    
+    /**
+     * Test for {@link Clob#position(String, long)} with invalid start.
+     *
+     * @throws Exception
+     *             in case of failures.
+     */
+    @Test(expected = SQLException.class)
+    public void testPositionInvalidStart() throws Exception {
+        try (Statement stmt = this.conn.createStatement();
+                ResultSet rs = stmt.executeQuery("SELECT comments FROM customer")) {
+            Assert.assertTrue("First record not exists", rs.next());
+            rs.getClob("comments").position("a", 0);
+        }
+    }
 }
@@ -0,0 +1,62 @@
+/*
+ * ParadoxRowIdTest.java 10/19/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.rowset;
+
+import java.sql.SQLException;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link ParadoxRowId} class.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4
+ */
+public class ParadoxRowIdTest {
+
+    /**
+     * Test for locator restored from bytes.
+     *
+     * @throws SQLException
+     *             in case of failures.
+     */
+    @Test
+    public void testBytes() throws SQLException {
+        final ParadoxRowId rowId = new ParadoxRowId("AREACODES.DB", 70_000, 12);
+        final ParadoxRowId restored = ParadoxRowId.valueOf(rowId.getBytes());
+        Assert.assertEquals("Invalid table.", "AREACODES.DB", restored.getTableName());
+        Assert.assertEquals("Invalid block.", 70_000, restored.getBlock());
+        Assert.assertEquals("Invalid slot.", 12, restored.getSlot());
+        Assert.assertEquals("Invalid locator.", rowId, restored);
+        Assert.assertEquals("Invalid hash code.", rowId.hashCode(), restored.hashCode());
+        Assert.assertEquals("Invalid text.", "AREACODES.DB:70000:12", restored.toString());
+    }
+
+    /**
+     * Test for different locators.
+     */
+    @Test
+    public void testNotEquals() {
+        final ParadoxRowId rowId = new ParadoxRowId("AREACODES.DB", 1, 2);
+        Assert.assertNotEquals("Invalid slot.", rowId, new ParadoxRowId("AREACODES.DB", 1, 3));
+        Assert.assertNotEquals("Invalid table.", rowId, new ParadoxRowId("ORDERS.DB", 1, 2));
+    }
+
+    /**
+     * Test for invalid locator bytes.
+     *
+     * @throws SQLException
+     *             in case of failures.
+     */
+    @Test(expected = SQLException.class)
+    public void testInvalidBytes() throws SQLException {
+        ParadoxRowId.valueOf(new byte[] { 1, 2 });
+    }
+}
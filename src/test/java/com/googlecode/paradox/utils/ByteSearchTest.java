@@ -0,0 +1,91 @@
+/*
+ * ByteSearchTest.java 10/19/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link ByteSearch}.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4
+ */
+public class ByteSearchTest {
+
+    /**
+     * Test for an empty pattern.
+     */
+    @Test
+    public void testEmptyPattern() {
+        final ByteSearch search = new ByteSearch(new byte[0]);
+        Assert.assertEquals("Invalid position.", 3, search.indexOf(new byte[] { 1, 2, 3, 4 }, 3, 4));
+    }
+
+    /**
+     * Test for patterns found in text.
+     */
+    @Test
+    public void testIndexOf() {
+        final byte[] text = "here is a simple example of a sample".getBytes(StandardCharsets.US_ASCII);
+        final ByteSearch search = new ByteSearch("ample".getBytes(StandardCharsets.US_ASCII));
+        Assert.assertEquals("Invalid position.", 19, search.indexOf(text, 0, text.length));
+        Assert.assertEquals("Invalid position.", 31, search.indexOf(text, 20, text.length));
+        Assert.assertEquals("Invalid position.", -1, search.indexOf(text, 0, 23));
+        Assert.assertEquals("Invalid position.", 0, new ByteSearch(new byte[] { 'h' }).indexOf(text, 0, text.length));
+    }
+
+    /**
+     * Test for random data against a naive search.
+     */
+    @Test
+    public void testRandom() {
+        final Random random = new Random(1);
+        final byte[] data = new byte[4096];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) (0xFE + random.nextInt(3));
+        }
+        for (int test = 0; test < 200; test++) {
+            final byte[] pattern = new byte[1 + random.nextInt(6)];
+            for (int i = 0; i < pattern.length; i++) {
+                pattern[i] = (byte) (0xFE + random.nextInt(3));
+            }
+            final int from = random.nextInt(data.length);
+            Assert.assertEquals("Invalid position.", ByteSearchTest.naive(data, pattern, from),
+                    new ByteSearch(pattern).indexOf(data, from, data.length));
+        }
+    }
+
+    /**
+     * Searches a pattern comparing every position.
+     *
+     * @param data
+     *            the data to search.
+     * @param pattern
+     *            the pattern.
+     * @param from
+     *            the first position.
+     * @return the pattern position or -1 if not found.
+     */
+    private static int naive(final byte[] data, final byte[] pattern, final int from) {
+        for (int i = from; (i + pattern.length) <= data.length; i++) {
+            int j = 0;
+            while ((j < pattern.length) && (data[i + j] == pattern[j])) {
+                j++;
+            }
+            if (j == pattern.length) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
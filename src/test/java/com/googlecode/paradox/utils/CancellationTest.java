@@ -0,0 +1,111 @@
+/*
+ * CancellationTest.java 10/19/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.utils;
+
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link Cancellation}.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.1
+ * @since 1.4
+ */
+public class CancellationTest {
+
+    /**
+     * Test for a canceled operation.
+     */
+    @Test
+    public void testCancel() {
+        final Cancellation cancellation = new Cancellation();
+        cancellation.start();
+        cancellation.cancel();
+        try {
+            cancellation.check();
+            Assert.fail("Operation not canceled.");
+        } catch (final SQLException e) {
+            Assert.assertEquals("Invalid state.", SQLStates.QUERY_CANCELED.getValue(), e.getSQLState());
+        } finally {
+            cancellation.stop();
+        }
+    }
+
+    /**
+     * Test for a new execution after a cancel.
+     *
+     * @throws SQLException
+     *             in case of failures.
+     */
+    @Test
+    public void testResetAfterCancel() throws SQLException {
+        final Cancellation cancellation = new Cancellation();
+        cancellation.cancel();
+        cancellation.reset();
+        cancellation.start();
+        cancellation.check();
+        cancellation.stop();
+    }
+
+    /**
+     * Test for a new operation of the same execution after a cancel.
+     *
+     * @throws SQLException
+     *             if there is no errors.
+     */
+    @Test(expected = SQLException.class)
+    public void testStartAfterCancel() throws SQLException {
+        final Cancellation cancellation = new Cancellation();
+        cancellation.cancel();
+        cancellation.start();
+        try {
+            cancellation.check();
+        } finally {
+            cancellation.stop();
+        }
+    }
+
+    /**
+     * Test for an expired query timeout.
+     *
+     * @throws Exception
+     *             if there is no errors.
+     */
+    @Test(expected = SQLTimeoutException.class)
+    public void testTimeout() throws Exception {
+        final Cancellation cancellation = new Cancellation();
+        cancellation.setTimeout(1);
+        cancellation.start();
+        try {
+            Thread.sleep(1500);
+            cancellation.check();
+        } finally {
+            cancellation.stop();
+        }
+    }
+
+    /**
+     * Test for an operation finished before the timeout.
+     *
+     * @throws Exception
+     *             in case of failures.
+     */
+    @Test
+    public void testStopBeforeTimeout() throws Exception {
+        final Cancellation cancellation = new Cancellation();
+        cancellation.setTimeout(1);
+        cancellation.start();
+        cancellation.stop();
+        Thread.sleep(1500);
+        cancellation.check();
+    }
+}
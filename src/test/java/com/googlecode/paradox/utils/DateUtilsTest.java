@@ -10,6 +10,8 @@ package com.googlecode.paradox.utils;
 
 import java.lang.reflect.InvocationTargetException;
 import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.TimeZone;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -17,7 +19,7 @@ import org.junit.Test;
  * Unit test for {@link DateUtils}.
  *
  * @author Leonardo Alves da Costa
- * @version 1.0
+ * @version 1.1
  * @since 1.3
  */
 public class DateUtilsTest {
@@ -105,6 +107,31 @@ public class DateUtilsTest {
         Assert.assertEquals("Invalid date.", "4715-11-25", date.toString());
     }
     
+    /**
+     * Test for dates converted to milliseconds without calendar.
+     */
+    @Test
+    public void testSdnToMillis() {
+        final TimeZone zone = TimeZone.getDefault();
+        try {
+            TimeZone.setDefault(TimeZone.getTimeZone("America/Sao_Paulo"));
+            Assert.assertEquals("Invalid date.", new GregorianCalendar(2016, 5, 26).getTimeInMillis(),
+                    DateUtils.sdnToMillis(DateUtils.gregorianToSdn(2016, 6, 26)));
+            Assert.assertEquals("Invalid memo.", new GregorianCalendar(2016, 5, 26).getTimeInMillis(),
+                    DateUtils.sdnToMillis(DateUtils.gregorianToSdn(2016, 6, 26)));
+
+            // Daylight saving time started at midnight.
+            Assert.assertEquals("Invalid date.", new GregorianCalendar(2016, 9, 16).getTimeInMillis(),
+                    DateUtils.sdnToMillis(DateUtils.gregorianToSdn(2016, 10, 16)));
+
+            TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+            Assert.assertEquals("Invalid time zone.", 1_466_899_200_000L,
+                    DateUtils.sdnToMillis(DateUtils.gregorianToSdn(2016, 6, 26)));
+        } finally {
+            TimeZone.setDefault(zone);
+        }
+    }
+    
     /**
      * Test invalid SDN.
      */
@@ -16,7 +16,7 @@ import org.junit.Test;
  * Unit test for {@link Expressions}.
  *
  * @author Leonardo Alves da Costa
- * @version 1.1
+ * @version 1.2
  * @since 1.1
  */
 public class ExpressionsTest {
@@ -86,4 +86,22 @@ public class ExpressionsTest {
     public void testUnique() {
         Assert.assertTrue(Expressions.accept("TABLE", "TAB?E"));
     }
+    
+    /**
+     * Test for SQL LIKE patterns.
+     */
+    @Test
+    public void testLike() {
+        Assert.assertTrue(Expressions.like("TABLE", "TABLE"));
+        Assert.assertTrue(Expressions.like("TABLE", "T%"));
+        Assert.assertTrue(Expressions.like("TABLE", "%BLE"));
+        Assert.assertTrue(Expressions.like("TABLE", "%AB%"));
+        Assert.assertTrue(Expressions.like("TABLE", "T_B%E"));
+        Assert.assertTrue(Expressions.like("AXXB AB", "%A%B"));
+        Assert.assertTrue(Expressions.like("", "%"));
+        Assert.assertFalse(Expressions.like("TABLE", "table"));
+        Assert.assertFalse(Expressions.like("TABLE", "TAB"));
+        Assert.assertFalse(Expressions.like("TABLE", "T_E"));
+        Assert.assertFalse(Expressions.like("", "_"));
+    }
 }
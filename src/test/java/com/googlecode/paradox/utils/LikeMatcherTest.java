@@ -0,0 +1,134 @@
+/*
+ * LikeMatcherTest.java 10/19/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.utils;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link LikeMatcher}.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4
+ */
+public class LikeMatcherTest {
+    
+    /**
+     * The single byte charset used in tests.
+     */
+    private static final Charset CHARSET = Charset.forName("windows-1252");
+    
+    /**
+     * Test for the pattern forms.
+     */
+    @Test
+    public void testKind() {
+        Assert.assertEquals("Invalid kind.", LikeMatcher.Kind.LITERAL, LikeMatcherTest.kind("abc"));
+        Assert.assertEquals("Invalid kind.", LikeMatcher.Kind.PREFIX, LikeMatcherTest.kind("abc%"));
+        Assert.assertEquals("Invalid kind.", LikeMatcher.Kind.SUFFIX, LikeMatcherTest.kind("%abc"));
+        Assert.assertEquals("Invalid kind.", LikeMatcher.Kind.CONTAINS, LikeMatcherTest.kind("%abc%"));
+        Assert.assertEquals("Invalid kind.", LikeMatcher.Kind.GENERAL, LikeMatcherTest.kind("a%b%c"));
+        Assert.assertEquals("Invalid kind.", LikeMatcher.Kind.GENERAL, LikeMatcherTest.kind("a_c%"));
+    }
+    
+    /**
+     * Test for the pattern prefix.
+     */
+    @Test
+    public void testPrefix() {
+        Assert.assertArrayEquals("Invalid prefix.", "ab".getBytes(LikeMatcherTest.CHARSET),
+                new LikeMatcher("ab%c", LikeMatcherTest.CHARSET).getPrefix());
+        Assert.assertArrayEquals("Invalid prefix.", "a".getBytes(LikeMatcherTest.CHARSET),
+                new LikeMatcher("a_c%", LikeMatcherTest.CHARSET).getPrefix());
+        Assert.assertEquals("Invalid prefix.", 0, new LikeMatcher("%abc", LikeMatcherTest.CHARSET).getPrefix().length);
+        Assert.assertTrue("Invalid prefix pattern.", new LikeMatcher("abc%", LikeMatcherTest.CHARSET).isPrefix());
+        Assert.assertFalse("Invalid prefix pattern.", new LikeMatcher("abc%d", LikeMatcherTest.CHARSET).isPrefix());
+    }
+    
+    /**
+     * Test for matches.
+     */
+    @Test
+    public void testMatches() {
+        Assert.assertTrue(LikeMatcherTest.matches("abc", "abc"));
+        Assert.assertFalse(LikeMatcherTest.matches("abc", "abcd"));
+        Assert.assertTrue(LikeMatcherTest.matches("ab%", "abcd"));
+        Assert.assertFalse(LikeMatcherTest.matches("ab%", "xabcd"));
+        Assert.assertTrue(LikeMatcherTest.matches("%cd", "abcd"));
+        Assert.assertTrue(LikeMatcherTest.matches("%bc%", "abcd"));
+        Assert.assertFalse(LikeMatcherTest.matches("%bd%", "abcd"));
+        Assert.assertTrue(LikeMatcherTest.matches("a%c%d", "abcd"));
+        Assert.assertFalse(LikeMatcherTest.matches("a%d%c", "abcd"));
+        Assert.assertTrue(LikeMatcherTest.matches("a_c_", "abcd"));
+        Assert.assertFalse(LikeMatcherTest.matches("a_c", "abcd"));
+        Assert.assertTrue(LikeMatcherTest.matches("%", ""));
+        Assert.assertFalse(LikeMatcherTest.matches("ABC%", "abcd"));
+    }
+    
+    /**
+     * Test for values ended by a zero byte.
+     */
+    @Test
+    public void testZeroTerminated() {
+        final byte[] data = { 'x', 'a', 'b', 0, 'c', 'x' };
+        final LikeMatcher matcher = new LikeMatcher("ab", LikeMatcherTest.CHARSET);
+        Assert.assertTrue("Invalid match.", matcher.matches(data, 1, 4));
+        Assert.assertTrue("Invalid match.", matcher.matches(data, 1, 2));
+        Assert.assertFalse("Invalid match.", new LikeMatcher("ab%c", LikeMatcherTest.CHARSET).matches(data, 1, 4));
+    }
+    
+    /**
+     * Test for a pattern with chars not in the charset.
+     */
+    @Test
+    public void testUnmappable() {
+        final LikeMatcher matcher = new LikeMatcher("\u0416%", LikeMatcherTest.CHARSET);
+        Assert.assertNull("Invalid prefix.", matcher.getPrefix());
+        Assert.assertFalse("Invalid match.", matcher.matches("?abc".getBytes(LikeMatcherTest.CHARSET), 0, 4));
+    }
+    
+    /**
+     * Test for a multi-byte charset.
+     */
+    @Test
+    public void testMultiByte() {
+        final LikeMatcher matcher = new LikeMatcher("%\u00e7\u00e3o", StandardCharsets.UTF_8);
+        final byte[] data = "a\u00e7\u00e3o".getBytes(StandardCharsets.UTF_8);
+        Assert.assertNull("Invalid prefix.", matcher.getPrefix());
+        Assert.assertTrue("Invalid match.", matcher.matches(data, 0, data.length));
+    }
+    
+    /**
+     * Gets the form of a pattern.
+     *
+     * @param pattern
+     *            the pattern.
+     * @return the pattern form.
+     */
+    private static LikeMatcher.Kind kind(final String pattern) {
+        return new LikeMatcher(pattern, LikeMatcherTest.CHARSET).getKind();
+    }
+    
+    /**
+     * Test a pattern against a value.
+     *
+     * @param pattern
+     *            the pattern.
+     * @param value
+     *            the value.
+     * @return true if the value matches.
+     */
+    private static boolean matches(final String pattern, final String value) {
+        final byte[] data = value.getBytes(LikeMatcherTest.CHARSET);
+        return new LikeMatcher(pattern, LikeMatcherTest.CHARSET).matches(data, 0, data.length);
+    }
+}
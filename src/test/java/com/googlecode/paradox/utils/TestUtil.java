@@ -8,17 +8,21 @@
  */
 package com.googlecode.paradox.utils;
 
+import java.io.File;
+import java.io.IOException;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import org.junit.Assert;
 
 /**
- * Utility class for test utility class sanity.
+ * Utility class for test utility class sanity and for temporary copies of the test databases.
  *
  * @author Leonardo Alves da Costa
- * @version 1.0
+ * @version 1.1
  * @since 1.2
  */
 public class TestUtil {
@@ -56,4 +60,43 @@ public class TestUtil {
         }
         return true;
     }
+    
+    /**
+     * Copies test database files to a new temporary directory.
+     * <p>
+     * Used by the tests that write to the database directory, such as the index files.
+     *
+     * @param database
+     *            the test database directory name.
+     * @param files
+     *            the file names to copy.
+     * @return the temporary directory.
+     * @throws IOException
+     *             in case of copy errors.
+     * @see #deleteDatabase(File)
+     */
+    public static File copyDatabase(final String database, final String... files) throws IOException {
+        final File dir = Files.createTempDirectory("paradox").toFile();
+        for (final String file : files) {
+            Files.copy(Paths.get("target/test-classes", database, file), new File(dir, file).toPath());
+        }
+        return dir;
+    }
+    
+    /**
+     * Removes a temporary database directory and all its files.
+     *
+     * @param dir
+     *            the temporary directory.
+     * @see #copyDatabase(String, String...)
+     */
+    public static void deleteDatabase(final File dir) {
+        final File[] files = dir.listFiles();
+        if (files != null) {
+            for (final File file : files) {
+                Assert.assertTrue("Error removing file.", file.delete());
+            }
+        }
+        Assert.assertTrue("Error removing directory.", dir.delete());
+    }
 }